@@ -0,0 +1,56 @@
+package io.insight.collections.benchmarks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Order in which the benchmarks visit the positions of a collection.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public enum AccessPattern {
+
+    /**
+     * Positions from the head to the tail, one after the other.
+     */
+    SEQUENTIAL,
+    /**
+     * Uniformly distributed positions.
+     */
+    RANDOM,
+    /**
+     * Positions skewed to the head, about half of them fall in the first eighth of the
+     * collection. Models queue-like and most-recent-first usage.
+     */
+    HEAD_HEAVY;
+
+    /**
+     * Generate {@code count} positions for a collection of {@code size} elements. The
+     * collection size is expected to change by {@code step} after every operation, so every
+     * position is valid at the time it is used: {@code +1} for inserts, {@code -1} for removes
+     * and {@code 0} for reads.
+     *
+     * @param count number of positions to generate.
+     * @param size  initial size of the collection.
+     * @param step  change of the collection size after each operation.
+     * @param seed  of the random generator, so runs are repeatable.
+     * @return the positions.
+     */
+    public int[] indices(int count, int size, int step, long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final int[] indices = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            final int bound = Math.max(1, size + i * step);
+            indices[i] = switch (this) {
+                case SEQUENTIAL -> i % bound;
+                case RANDOM -> random.nextInt(bound);
+                case HEAD_HEAVY -> {
+                    final double u = random.nextDouble();
+                    yield (int) (bound * u * u * u);
+                }
+            };
+        }
+        return indices;
+    }
+}
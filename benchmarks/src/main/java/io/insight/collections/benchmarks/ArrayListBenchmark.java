@@ -0,0 +1,229 @@
+package io.insight.collections.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link io.insight.collections.ArrayList} with {@link java.util.ArrayList}. The positional
+ * benchmarks report the time of a single operation, the others the time of a pass over the
+ * whole list.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayListBenchmark extends CollectionState {
+
+    /**
+     * List under benchmark.
+     */
+    private io.insight.collections.ArrayList<Object> insight;
+    /**
+     * Baseline list.
+     */
+    private java.util.ArrayList<Object> jdk;
+    /**
+     * Every other element, to be removed from a copy of {@link #insight}.
+     */
+    private io.insight.collections.ArrayList<Object> insightRemovals;
+    /**
+     * Keys of every other element, to be removed from a copy of {@link #insight}.
+     */
+    private io.insight.collections.HashMap<Object, Object> insightHashedRemovals;
+    /**
+     * Every other element, to be removed from a copy of {@link #jdk}. Hashed, since
+     * {@link java.util.ArrayList#removeAll(java.util.Collection)} searches a list argument
+     * linearly for every element.
+     */
+    private java.util.Set<Object> jdkRemovals;
+
+    @Override
+    void fill() {
+        insight = new io.insight.collections.ArrayList<>();
+        jdk = new java.util.ArrayList<>();
+        insightRemovals = new io.insight.collections.ArrayList<>();
+        insightHashedRemovals = new io.insight.collections.HashMap<>();
+        jdkRemovals = new java.util.HashSet<>();
+        for (int i = 0; i < elements.length; i++) {
+            insight.add(elements[i]);
+            jdk.add(elements[i]);
+            if ((i & 1) == 0) {
+                insightRemovals.add(elements[i]);
+                insightHashedRemovals.put(elements[i], elements[i]);
+                jdkRemovals.add(elements[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object insightAdd() {
+        final io.insight.collections.ArrayList<Object> list = new io.insight.collections.ArrayList<>();
+        for (Object element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object jdkAdd() {
+        final java.util.ArrayList<Object> list = new java.util.ArrayList<>();
+        for (Object element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightGet(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume(insight.get(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkGet(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume(jdk.get(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightInsert() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            insight.add(insertIndices[i], elements[i]);
+        }
+        for (int i = 0; i < OPERATIONS; i++) {
+            insight.remove(insight.size() - 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkInsert() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            jdk.add(insertIndices[i], elements[i]);
+        }
+        for (int i = 0; i < OPERATIONS; i++) {
+            jdk.remove(jdk.size() - 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightRemove(Blackhole bh) {
+        for (int index : removeIndices) {
+            bh.consume(insight.remove(index));
+        }
+        for (int i = 0; i < OPERATIONS; i++) {
+            insight.add(elements[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkRemove(Blackhole bh) {
+        for (int index : removeIndices) {
+            bh.consume(jdk.remove(index));
+        }
+        for (int i = 0; i < OPERATIONS; i++) {
+            jdk.add(elements[i]);
+        }
+    }
+
+    @Benchmark
+    public void insightIterate(Blackhole bh) {
+        for (Object element : insight) {
+            bh.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void jdkIterate(Blackhole bh) {
+        for (Object element : jdk) {
+            bh.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void insightForEach(Blackhole bh) {
+        insight.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void jdkForEach(Blackhole bh) {
+        jdk.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public Object[] insightToArray() {
+        return insight.toArray();
+    }
+
+    @Benchmark
+    public Object[] jdkToArray() {
+        return jdk.toArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightContains(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insight.contains(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkContains(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(jdk.contains(probe));
+        }
+    }
+
+    @Benchmark
+    public long insightParallelStream() {
+        return insight.parallelStream().mapToLong(Object::hashCode).sum();
+    }
+
+    @Benchmark
+    public long jdkParallelStream() {
+        return jdk.parallelStream().mapToLong(Object::hashCode).sum();
+    }
+
+    @Benchmark
+    public Object insightRemoveAll() {
+        final io.insight.collections.List<Object> list = insight.copy();
+        list.removeAll(insightRemovals);
+        return list;
+    }
+
+    @Benchmark
+    public Object insightRemoveAllHashed() {
+        final io.insight.collections.List<Object> list = insight.copy();
+        list.removeAll(insightHashedRemovals);
+        return list;
+    }
+
+    @Benchmark
+    public Object jdkRemoveAll() {
+        final java.util.ArrayList<Object> list = new java.util.ArrayList<>(jdk);
+        list.removeAll(jdkRemovals);
+        return list;
+    }
+}
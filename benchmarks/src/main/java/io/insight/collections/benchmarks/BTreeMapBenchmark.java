@@ -0,0 +1,127 @@
+package io.insight.collections.benchmarks;
+
+import io.insight.collections.BTreeMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BTreeMap} with {@link TreeMap} for the point lookups, the range scans and
+ * the construction, from unsorted and from presorted input.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BTreeMapBenchmark extends CollectionState {
+
+    /**
+     * Number of the keys visited by a range scan.
+     */
+    private static final int RANGE = 100;
+
+    /**
+     * Map under benchmark.
+     */
+    private BTreeMap<Object, Object> btree;
+    /**
+     * Baseline map.
+     */
+    private TreeMap<Object, Object> tree;
+    /**
+     * {@link #elements} in ascending order.
+     */
+    private Object[] sorted;
+
+    @Override
+    void fill() {
+        sorted = elements.clone();
+        Arrays.sort(sorted);
+        btree = BTreeMap.fromSorted(null, sorted, sorted);
+        tree = new TreeMap<>();
+        for (Object element : elements) {
+            tree.put(element, element);
+        }
+    }
+
+    @Benchmark
+    public Object btreePut() {
+        final BTreeMap<Object, Object> map = new BTreeMap<>();
+        for (Object element : elements) {
+            map.put(element, element);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Object treePut() {
+        final TreeMap<Object, Object> map = new TreeMap<>();
+        for (Object element : elements) {
+            map.put(element, element);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Object btreeFromSorted() {
+        return BTreeMap.fromSorted(null, sorted, sorted);
+    }
+
+    @Benchmark
+    public Object treeFromSorted() {
+        return new TreeMap<>(tree);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void btreeGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(btree.get(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void treeGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(tree.get(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void btreeRangeScan(Blackhole bh) {
+        for (Object probe : probes) {
+            final Iterator<Object> keys = btree.tailMap(probe, true).iterator();
+            for (int i = 0; i < RANGE && keys.hasNext(); i++) {
+                bh.consume(keys.next());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void treeRangeScan(Blackhole bh) {
+        for (Object probe : probes) {
+            final Iterator<Object> keys = tree.tailMap(probe, true).keySet().iterator();
+            for (int i = 0; i < RANGE && keys.hasNext(); i++) {
+                bh.consume(keys.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.insight.collections.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line options and writes
+ * the results as JSON into {@code jmh-result-<timestamp>.json} unless the result format or the
+ * result file is given on the command line, so every run leaves a file to diff against the
+ * previous releases.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Not to be instantiated.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Run the benchmarks selected by {@code args}, all of them by default.
+     *
+     * @param args JMH command line options.
+     * @throws RunnerException            if a benchmark fails.
+     * @throws CommandLineOptionException if the options are invalid.
+     * @throws IOException                if the benchmark list cannot be read.
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        final CommandLineOptions cmd = new CommandLineOptions(args);
+        if (cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListWithParams()
+                || cmd.shouldListProfilers() || cmd.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd);
+        if (!cmd.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmd.getResult().hasValue()) {
+            options.result("jmh-result-%s.json".formatted(
+                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))));
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package io.insight.collections.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Parameters and pre-computed positions shared by the benchmarks. Subclasses fill the
+ * collections under benchmark in {@link #fill()}.
+ * <p>
+ * The mutating benchmarks restore the collection size before they return, inserts are
+ * followed by removes from the tail and removes by appends, which cost the same for every
+ * implementation. So the collections keep {@link #size} elements across the invocations.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+public abstract class CollectionState {
+
+    /**
+     * Number of operations every positional or lookup benchmark invocation performs.
+     */
+    static final int OPERATIONS = 100;
+    /**
+     * Seed of the access pattern generator.
+     */
+    private static final long SEED = 0x5DEECE66DL;
+
+    /**
+     * Number of elements in the collections.
+     */
+    @Param({"100", "10000", "1000000"})
+    public int size;
+    /**
+     * Type of the elements.
+     */
+    @Param
+    public ElementType type;
+    /**
+     * Order of the positions visited.
+     */
+    @Param
+    public AccessPattern pattern;
+
+    /**
+     * Elements of the collections, or the keys of the maps.
+     */
+    Object[] elements;
+    /**
+     * Elements equal to, but not the same instances as, the elements at {@link #readIndices}.
+     */
+    Object[] probes;
+    /**
+     * Positions to read.
+     */
+    int[] readIndices;
+    /**
+     * Positions to insert at, valid while the collection grows by one on every insert.
+     */
+    int[] insertIndices;
+    /**
+     * Positions to remove from, valid while the collection shrinks by one on every remove.
+     */
+    int[] removeIndices;
+
+    /**
+     * Create the elements and the positions, and fill the collections.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = type.elements(size);
+        readIndices = pattern.indices(OPERATIONS, size, 0, SEED);
+        insertIndices = pattern.indices(OPERATIONS, size, 1, SEED);
+        removeIndices = pattern.indices(OPERATIONS, size, -1, SEED);
+
+        final Object[] copies = type.elements(size);
+        probes = new Object[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            probes[i] = copies[readIndices[i]];
+        }
+
+        fill();
+    }
+
+    /**
+     * Fill the collections under benchmark with {@link #elements}.
+     */
+    abstract void fill();
+}
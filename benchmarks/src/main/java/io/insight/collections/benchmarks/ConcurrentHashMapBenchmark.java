@@ -0,0 +1,116 @@
+package io.insight.collections.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link io.insight.collections.ConcurrentHashMap} with
+ * {@link java.util.concurrent.ConcurrentHashMap}, with one thread per processor sharing the map.
+ * Run with {@code -t} to measure the scaling over a different number of threads.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class ConcurrentHashMapBenchmark extends CollectionState {
+
+    /**
+     * Map under benchmark.
+     */
+    private io.insight.collections.ConcurrentHashMap<Object, Object> insight;
+    /**
+     * Baseline map.
+     */
+    private java.util.concurrent.ConcurrentHashMap<Object, Object> jdk;
+
+    @Override
+    void fill() {
+        insight = new io.insight.collections.ConcurrentHashMap<>();
+        jdk = new java.util.concurrent.ConcurrentHashMap<>();
+        for (Object element : elements) {
+            insight.put(element, element);
+            jdk.put(element, element);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insight.get(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(jdk.get(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightPut(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insight.put(probe, probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkPut(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(jdk.put(probe, probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightCompute(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insight.compute(probe, (k, v) -> k));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkCompute(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(jdk.compute(probe, (k, v) -> k));
+        }
+    }
+
+    @Benchmark
+    public Object insightFill() {
+        final io.insight.collections.ConcurrentHashMap<Object, Object> map = new io.insight.collections.ConcurrentHashMap<>();
+        for (Object element : elements) {
+            map.put(element, element);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Object jdkFill() {
+        final java.util.concurrent.ConcurrentHashMap<Object, Object> map = new java.util.concurrent.ConcurrentHashMap<>();
+        for (Object element : elements) {
+            map.put(element, element);
+        }
+        return map;
+    }
+}
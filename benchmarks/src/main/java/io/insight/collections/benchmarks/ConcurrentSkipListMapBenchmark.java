@@ -0,0 +1,126 @@
+package io.insight.collections.benchmarks;
+
+import io.insight.collections.IndexLevelPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link io.insight.collections.ConcurrentSkipListMap}, with the default and the
+ * fanout {@code 2} level policies, with {@link java.util.concurrent.ConcurrentSkipListMap}, with
+ * one thread per processor sharing the map. Run with {@code -t} to measure the scaling over a
+ * different number of threads.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class ConcurrentSkipListMapBenchmark extends CollectionState {
+
+    /**
+     * Number of the keys visited by a range scan.
+     */
+    private static final int RANGE = 100;
+
+    /**
+     * Map under benchmark, with the default level policy.
+     */
+    private io.insight.collections.ConcurrentSkipListMap<Object, Object> insight;
+    /**
+     * Map under benchmark, with the fanout {@code 2} level policy.
+     */
+    private io.insight.collections.ConcurrentSkipListMap<Object, Object> insightDense;
+    /**
+     * Baseline map.
+     */
+    private java.util.concurrent.ConcurrentSkipListMap<Object, Object> jdk;
+
+    @Override
+    void fill() {
+        insight = new io.insight.collections.ConcurrentSkipListMap<>();
+        insightDense = new io.insight.collections.ConcurrentSkipListMap<>(null, IndexLevelPolicy.geometric(2));
+        jdk = new java.util.concurrent.ConcurrentSkipListMap<>();
+        for (Object element : elements) {
+            insight.put(element, element);
+            insightDense.put(element, element);
+            jdk.put(element, element);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insight.get(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightDenseGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insightDense.get(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(jdk.get(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightPut(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insight.put(probe, probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkPut(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(jdk.put(probe, probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightRangeScan(Blackhole bh) {
+        for (Object probe : probes) {
+            final Iterator<Object> keys = insight.tailMap(probe, true).iterator();
+            for (int i = 0; i < RANGE && keys.hasNext(); i++) {
+                bh.consume(keys.next());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkRangeScan(Blackhole bh) {
+        for (Object probe : probes) {
+            final Iterator<Object> keys = jdk.tailMap(probe, true).keySet().iterator();
+            for (int i = 0; i < RANGE && keys.hasNext(); i++) {
+                bh.consume(keys.next());
+            }
+        }
+    }
+}
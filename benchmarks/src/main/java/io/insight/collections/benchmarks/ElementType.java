@@ -0,0 +1,38 @@
+package io.insight.collections.benchmarks;
+
+/**
+ * Element types stored into the collections under benchmark.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public enum ElementType {
+
+    /**
+     * Boxed integers, cheap {@code equals} and {@code hashCode}.
+     */
+    INTEGER,
+    /**
+     * Strings of 12 to 16 characters, {@code equals} compares the content.
+     */
+    STRING;
+
+    /**
+     * Create {@code count} distinct elements. Every invocation returns new instances (the values
+     * are out of the {@link Integer} cache range), so two arrays created by this method hold
+     * equal but not identical elements.
+     *
+     * @param count number of elements to create.
+     * @return the elements.
+     */
+    public Object[] elements(int count) {
+        final Object[] elements = new Object[count];
+        for (int i = 0; i < count; i++) {
+            elements[i] = switch (this) {
+                case INTEGER -> Integer.valueOf(1_000 + i);
+                case STRING -> "element-" + (1_000 + i);
+            };
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,148 @@
+package io.insight.collections.benchmarks;
+
+import io.insight.collections.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link io.insight.collections.HashMap} with {@link java.util.HashMap}. The keys are
+ * the elements of the {@link ElementType}, looked up with equal but not identical probes in
+ * the order of the {@link AccessPattern}.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashMapBenchmark extends CollectionState {
+
+    /**
+     * Map under benchmark.
+     */
+    private io.insight.collections.HashMap<Object, Object> insight;
+    /**
+     * Baseline map.
+     */
+    private java.util.HashMap<Object, Object> jdk;
+
+    @Override
+    void fill() {
+        insight = new io.insight.collections.HashMap<>();
+        jdk = new java.util.HashMap<>();
+        for (Object element : elements) {
+            insight.put(element, element);
+            jdk.put(element, element);
+        }
+    }
+
+    @Benchmark
+    public Object insightPut() {
+        final io.insight.collections.HashMap<Object, Object> map = new io.insight.collections.HashMap<>();
+        for (Object element : elements) {
+            map.put(element, element);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Object jdkPut() {
+        final java.util.HashMap<Object, Object> map = new java.util.HashMap<>();
+        for (Object element : elements) {
+            map.put(element, element);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insight.get(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(jdk.get(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightRemove(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insight.remove(probe));
+        }
+        for (Object probe : probes) {
+            insight.put(probe, probe);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkRemove(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(jdk.remove(probe));
+        }
+        for (Object probe : probes) {
+            jdk.put(probe, probe);
+        }
+    }
+
+    @Benchmark
+    public void insightIterate(Blackhole bh) {
+        final Map.Cursor<Object, Object> cursor = insight.cursor();
+        while (cursor.advance()) {
+            bh.consume(cursor.key());
+            bh.consume(cursor.value());
+        }
+    }
+
+    @Benchmark
+    public void jdkIterate(Blackhole bh) {
+        for (java.util.Map.Entry<Object, Object> entry : jdk.entrySet()) {
+            bh.consume(entry.getKey());
+            bh.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public Object[] insightToArray() {
+        return insight.toArray();
+    }
+
+    @Benchmark
+    public Object[] jdkToArray() {
+        return jdk.keySet().toArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightContains(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insight.containsKey(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkContains(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(jdk.containsKey(probe));
+        }
+    }
+}
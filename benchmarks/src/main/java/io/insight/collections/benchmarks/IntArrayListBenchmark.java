@@ -0,0 +1,152 @@
+package io.insight.collections.benchmarks;
+
+import io.insight.collections.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the primitive {@link IntArrayList} with {@link java.util.ArrayList} of boxed
+ * {@link Integer}s, through the unboxed methods of the former.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IntArrayListBenchmark {
+
+    /**
+     * Number of elements in the lists.
+     */
+    @Param({"100", "10000", "1000000"})
+    public int size;
+    /**
+     * Order of the positions visited.
+     */
+    @Param
+    public AccessPattern pattern;
+
+    /**
+     * Positions to read.
+     */
+    private int[] readIndices;
+    /**
+     * List under benchmark.
+     */
+    private IntArrayList insight;
+    /**
+     * Baseline list.
+     */
+    private java.util.ArrayList<Integer> jdk;
+
+    /**
+     * Create the positions and fill the lists.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        readIndices = pattern.indices(CollectionState.OPERATIONS, size, 0, size);
+        insight = new IntArrayList();
+        jdk = new java.util.ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            insight.addInt(i);
+            jdk.add(i);
+        }
+    }
+
+    @Benchmark
+    public Object insightAdd() {
+        final IntArrayList list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.addInt(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object jdkAdd() {
+        final java.util.ArrayList<Integer> list = new java.util.ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CollectionState.OPERATIONS)
+    public void insightGet(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume(insight.getInt(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CollectionState.OPERATIONS)
+    public void jdkGet(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume((int) jdk.get(index));
+        }
+    }
+
+    @Benchmark
+    public long insightIterate() {
+        long sum = 0;
+        for (PrimitiveIterator.OfInt it = insight.iterator(); it.hasNext(); ) {
+            sum += it.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkIterate() {
+        long sum = 0;
+        for (int value : jdk) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int[] insightToArray() {
+        return insight.toIntArray();
+    }
+
+    @Benchmark
+    public Object[] jdkToArray() {
+        return jdk.toArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CollectionState.OPERATIONS)
+    public void insightContains(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume(insight.containsInt(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CollectionState.OPERATIONS)
+    public void jdkContains(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume(jdk.contains(index));
+        }
+    }
+}
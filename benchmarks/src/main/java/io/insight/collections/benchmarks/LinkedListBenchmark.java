@@ -0,0 +1,242 @@
+package io.insight.collections.benchmarks;
+
+import io.insight.collections.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link io.insight.collections.LinkedList} and {@link UnrolledLinkedList} with
+ * {@link java.util.LinkedList}. The positional benchmarks report the time of a single
+ * operation, the others the time of a pass over the whole list.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LinkedListBenchmark extends CollectionState {
+
+    /**
+     * List under benchmark.
+     */
+    private io.insight.collections.LinkedList<Object> insight;
+    /**
+     * Unrolled list under benchmark.
+     */
+    private UnrolledLinkedList<Object> unrolled;
+    /**
+     * Baseline list.
+     */
+    private java.util.LinkedList<Object> jdk;
+
+    @Override
+    void fill() {
+        insight = new io.insight.collections.LinkedList<>();
+        unrolled = new UnrolledLinkedList<>();
+        jdk = new java.util.LinkedList<>();
+        for (Object element : elements) {
+            insight.add(element);
+            unrolled.add(element);
+            jdk.add(element);
+        }
+    }
+
+    @Benchmark
+    public Object insightAdd() {
+        final io.insight.collections.LinkedList<Object> list = new io.insight.collections.LinkedList<>();
+        for (Object element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object jdkAdd() {
+        final java.util.LinkedList<Object> list = new java.util.LinkedList<>();
+        for (Object element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightGet(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume(insight.get(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkGet(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume(jdk.get(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightInsert() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            insight.add(insertIndices[i], elements[i]);
+        }
+        for (int i = 0; i < OPERATIONS; i++) {
+            insight.remove(insight.size() - 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkInsert() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            jdk.add(insertIndices[i], elements[i]);
+        }
+        for (int i = 0; i < OPERATIONS; i++) {
+            jdk.remove(jdk.size() - 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightRemove(Blackhole bh) {
+        for (int index : removeIndices) {
+            bh.consume(insight.remove(index));
+        }
+        for (int i = 0; i < OPERATIONS; i++) {
+            insight.add(elements[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkRemove(Blackhole bh) {
+        for (int index : removeIndices) {
+            bh.consume(jdk.remove(index));
+        }
+        for (int i = 0; i < OPERATIONS; i++) {
+            jdk.add(elements[i]);
+        }
+    }
+
+    @Benchmark
+    public void insightIterate(Blackhole bh) {
+        for (Object element : insight) {
+            bh.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void jdkIterate(Blackhole bh) {
+        for (Object element : jdk) {
+            bh.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void insightForEach(Blackhole bh) {
+        insight.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void jdkForEach(Blackhole bh) {
+        jdk.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public Object[] insightToArray() {
+        return insight.toArray();
+    }
+
+    @Benchmark
+    public Object[] jdkToArray() {
+        return jdk.toArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void insightContains(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(insight.contains(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkContains(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(jdk.contains(probe));
+        }
+    }
+
+    @Benchmark
+    public Object unrolledAdd() {
+        final UnrolledLinkedList<Object> list = new UnrolledLinkedList<>();
+        for (Object element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void unrolledGet(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume(unrolled.get(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void unrolledInsert() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            unrolled.add(insertIndices[i], elements[i]);
+        }
+        for (int i = 0; i < OPERATIONS; i++) {
+            unrolled.remove(unrolled.size() - 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void unrolledRemove(Blackhole bh) {
+        for (int index : removeIndices) {
+            bh.consume(unrolled.remove(index));
+        }
+        for (int i = 0; i < OPERATIONS; i++) {
+            unrolled.add(elements[i]);
+        }
+    }
+
+    @Benchmark
+    public void unrolledIterate(Blackhole bh) {
+        for (Object element : unrolled) {
+            bh.consume(element);
+        }
+    }
+
+    @Benchmark
+    public Object[] unrolledToArray() {
+        return unrolled.toArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void unrolledContains(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(unrolled.contains(probe));
+        }
+    }
+}
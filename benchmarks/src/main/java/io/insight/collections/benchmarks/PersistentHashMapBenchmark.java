@@ -0,0 +1,112 @@
+package io.insight.collections.benchmarks;
+
+import io.insight.collections.HashMap;
+import io.insight.collections.PersistentHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PersistentHashMap} with {@link HashMap} for the snapshot-and-modify pattern,
+ * where readers hold on to a version while the writer moves on. The hash map pays a full table
+ * copy per snapshot, the persistent map copies the path to one node.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PersistentHashMapBenchmark extends CollectionState {
+
+    /**
+     * Map under benchmark.
+     */
+    private PersistentHashMap<Object, Object> persistent;
+    /**
+     * Baseline map.
+     */
+    private HashMap<Object, Object> hash;
+
+    @Override
+    void fill() {
+        final PersistentHashMap.Builder<Object, Object> builder = PersistentHashMap.builder();
+        hash = new HashMap<>();
+        for (Object element : elements) {
+            builder.put(element, element);
+            hash.put(element, element);
+        }
+        persistent = builder.build();
+    }
+
+    @Benchmark
+    public Object persistentBuild() {
+        final PersistentHashMap.Builder<Object, Object> builder = PersistentHashMap.builder();
+        for (Object element : elements) {
+            builder.put(element, element);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Object persistentUpdated() {
+        PersistentHashMap<Object, Object> map = PersistentHashMap.empty();
+        for (Object element : elements) {
+            map = map.updated(element, element);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Object hashPut() {
+        final HashMap<Object, Object> map = new HashMap<>();
+        for (Object element : elements) {
+            map.put(element, element);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void persistentSnapshotUpdate(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            bh.consume(persistent.updated(probes[i], elements[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void hashSnapshotUpdate(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            final HashMap<Object, Object> copy = hash.copy();
+            copy.put(probes[i], elements[i]);
+            bh.consume(copy);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void persistentGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(persistent.get(probe));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void hashGet(Blackhole bh) {
+        for (Object probe : probes) {
+            bh.consume(hash.get(probe));
+        }
+    }
+}
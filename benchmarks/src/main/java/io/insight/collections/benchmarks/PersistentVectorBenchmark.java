@@ -0,0 +1,113 @@
+package io.insight.collections.benchmarks;
+
+import io.insight.collections.ArrayList;
+import io.insight.collections.PersistentVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PersistentVector} with {@link ArrayList} for the snapshot-and-modify pattern,
+ * where every modification works on a copy and leaves the previous version intact. The list pays
+ * a full array copy per snapshot, the vector copies the path to one leaf.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PersistentVectorBenchmark extends CollectionState {
+
+    /**
+     * Vector under benchmark.
+     */
+    private PersistentVector<Object> vector;
+    /**
+     * Baseline list.
+     */
+    private ArrayList<Object> list;
+
+    @Override
+    void fill() {
+        vector = PersistentVector.of(elements);
+        list = new ArrayList<>();
+        for (Object element : elements) {
+            list.add(element);
+        }
+    }
+
+    @Benchmark
+    public Object vectorCopy() {
+        return vector.copy();
+    }
+
+    @Benchmark
+    public Object listCopy() {
+        return list.copy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void vectorUpdated(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            bh.consume(vector.updated(readIndices[i], probes[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void listCopySet(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            final ArrayList<Object> copy = (ArrayList<Object>) list.copy();
+            copy.set(readIndices[i], probes[i]);
+            bh.consume(copy);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void vectorGet(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume(vector.get(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void listGet(Blackhole bh) {
+        for (int index : readIndices) {
+            bh.consume(list.get(index));
+        }
+    }
+
+    @Benchmark
+    public void vectorIterate(Blackhole bh) {
+        for (Object element : vector) {
+            bh.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void listIterate(Blackhole bh) {
+        for (Object element : list) {
+            bh.consume(element);
+        }
+    }
+
+    @Benchmark
+    public Object vectorSliceConcat() {
+        final int middle = size / 2;
+        return vector.slice(middle, size).concat(vector.slice(0, middle));
+    }
+}
@@ -0,0 +1,141 @@
+package io.insight.collections.benchmarks;
+
+import io.insight.collections.DoubleArrayList;
+import io.insight.collections.IntArrayList;
+import io.insight.collections.VectorSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the vector and the scalar paths of the searches and aggregations of the primitive
+ * lists. Both run with the {@code jdk.incubator.vector} module, the {@code scalar} benchmarks
+ * fork with the {@link VectorSupport#PROPERTY} switched off.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = PrimitiveSearchBenchmark.VECTOR_MODULE)
+@State(Scope.Benchmark)
+public class PrimitiveSearchBenchmark {
+
+    /**
+     * JVM argument to resolve the Vector API module.
+     */
+    static final String VECTOR_MODULE = "--add-modules=" + VectorSupport.MODULE;
+    /**
+     * JVM argument to switch the vector paths off.
+     */
+    static final String SCALAR = "-D" + VectorSupport.PROPERTY + "=false";
+
+    /**
+     * Number of elements in the lists.
+     */
+    @Param({"10000", "10000000"})
+    public int size;
+
+    /**
+     * List of random {@code int}s in {@code [0, size)}.
+     */
+    private IntArrayList ints;
+    /**
+     * List of random {@code double}s in {@code [0, 1)}.
+     */
+    private DoubleArrayList doubles;
+
+    /**
+     * Fill the lists.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(42);
+        ints = new IntArrayList(size);
+        doubles = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++) {
+            ints.addInt(random.nextInt(size));
+            doubles.addDouble(random.nextDouble());
+        }
+    }
+
+    @Benchmark
+    public int vectorIndexOf() {
+        return ints.indexOfInt(-1);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {VECTOR_MODULE, SCALAR})
+    public int scalarIndexOf() {
+        return ints.indexOfInt(-1);
+    }
+
+    @Benchmark
+    public int vectorCount() {
+        return ints.countInt(0);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {VECTOR_MODULE, SCALAR})
+    public int scalarCount() {
+        return ints.countInt(0);
+    }
+
+    @Benchmark
+    public int vectorMin() {
+        return ints.minInt();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {VECTOR_MODULE, SCALAR})
+    public int scalarMin() {
+        return ints.minInt();
+    }
+
+    @Benchmark
+    public int vectorSum() {
+        return ints.sumInt();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {VECTOR_MODULE, SCALAR})
+    public int scalarSum() {
+        return ints.sumInt();
+    }
+
+    @Benchmark
+    public int vectorDoubleIndexOf() {
+        return doubles.indexOfDouble(-1.0);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {VECTOR_MODULE, SCALAR})
+    public int scalarDoubleIndexOf() {
+        return doubles.indexOfDouble(-1.0);
+    }
+
+    @Benchmark
+    public double vectorDoubleSum() {
+        return doubles.sumDouble();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {VECTOR_MODULE, SCALAR})
+    public double scalarDoubleSum() {
+        return doubles.sumDouble();
+    }
+}
@@ -0,0 +1,70 @@
+package io.insight.collections;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event of a growth of the backing array of an {@link ArrayList}, timed over
+ * the allocation and the copy of the new array. The stack trace points at the call site which
+ * made the list grow, to find the lists which allocate the biggest arrays.
+ * <p>
+ * Recorded by default only if the growth took {@code 10 ms} or more, which keeps the frequent
+ * small growths out of the recordings. Lower the {@code threshold} setting of the event to see
+ * them.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@Name("io.insight.collections.ArrayGrowth")
+@Label("Collection Array Growth")
+@Category("Insight Collections")
+@Description("Growth of the backing array of a list")
+@StackTrace
+@Threshold("10 ms")
+final class ArrayGrowthEvent extends Event {
+
+    /**
+     * Class of the list which grew.
+     */
+    @Label("Collection Class")
+    Class<?> collectionClass;
+    /**
+     * Length of the array before the growth.
+     */
+    @Label("Old Capacity")
+    int oldCapacity;
+    /**
+     * Length of the array after the growth.
+     */
+    @Label("New Capacity")
+    int newCapacity;
+    /**
+     * Size of the new array, without the array header.
+     */
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+
+    /**
+     * Commit this event, if it's enabled and lasted over its threshold.
+     *
+     * @param collection  which grew.
+     * @param oldCapacity length of the array before the growth.
+     * @param newCapacity length of the array after the growth.
+     */
+    void commit(Object collection, int oldCapacity, int newCapacity) {
+        if (shouldCommit()) {
+            this.collectionClass = collection.getClass();
+            this.oldCapacity = oldCapacity;
+            this.newCapacity = newCapacity;
+            this.allocated = (long) newCapacity * CollectionStats.REFERENCE_BYTES;
+            commit();
+        }
+    }
+}
@@ -3,10 +3,19 @@ package io.insight.collections;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * @author Sachith Dickwella
@@ -22,6 +31,11 @@ public class ArrayList<T> implements List<T> {
      * Shared empty array instance used for empty instances.
      */
     private static final Object[] EMPTY_ELEMENT_DATA = {};
+    /**
+     * Size above which a list argument of a bulk removal is hashed, instead of searched
+     * linearly for every element.
+     */
+    private static final int HASH_THRESHOLD = 16;
     /**
      * Core array instance which hold all the data add into the {@link ArrayList}.
      */
@@ -30,13 +44,17 @@ public class ArrayList<T> implements List<T> {
      * Keep the current index of the latest value.
      */
     private int size;
+    /**
+     * Decides the new {@link #values} array size on growth and after removals.
+     */
+    private final GrowthPolicy growthPolicy;
 
     /**
      * Default constructor implementation initialize {@link #values} instance with
      * default configuration. Which is new {@link Object[]} with size default to {@code 10}.
      */
     public ArrayList() {
-        values = new Object[DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY);
     }
 
     /**
@@ -46,7 +64,21 @@ public class ArrayList<T> implements List<T> {
      * @param initialSize the initial array size.
      */
     public ArrayList(int initialSize) {
-        values = new Object[initialSize];
+        this(initialSize, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Overloaded constructor implementation with the parameters to initialize the
+     * {@link #values} instance with user defined size, and to grow and shrink it with
+     * the given {@link GrowthPolicy}.
+     *
+     * @param initialSize  the initial array size.
+     * @param growthPolicy to decide the array size on growth and after removals.
+     * @throws NullPointerException if the {@code growthPolicy} is null.
+     */
+    public ArrayList(int initialSize, @NotNull GrowthPolicy growthPolicy) {
+        this.values = new Object[initialSize];
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "Growth policy is null");
     }
 
     /**
@@ -59,10 +91,10 @@ public class ArrayList<T> implements List<T> {
      * @param elements to initialize an {@link ArrayList} with data.
      */
     public ArrayList(@Nullable Collection<T> elements) {
+        this.growthPolicy = GrowthPolicy.doubling();
+        this.values = EMPTY_ELEMENT_DATA;
         if (elements != null && elements.size() != 0) {
             this.addAll(elements);
-        } else {
-            values = EMPTY_ELEMENT_DATA;
         }
     }
 
@@ -70,12 +102,43 @@ public class ArrayList<T> implements List<T> {
      * Assign the parameterized {@code Object[]} to this {@link #values} array
      * and create a new {@link ArrayList} along with it.
      *
-     * @param values new {@code Object[]} with init values.
-     * @param size   current size of the {@link ArrayList}.
+     * @param values       new {@code Object[]} with init values.
+     * @param size         current size of the {@link ArrayList}.
+     * @param growthPolicy to decide the array size on growth and after removals.
      */
-    private ArrayList(Object[] values, int size) {
+    private ArrayList(Object[] values, int size, GrowthPolicy growthPolicy) {
         this.values = values;
         this.size = size;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Read a list written by {@link #writeTo(WritableByteChannel, ElementCodec)} from the
+     * {@code buffer} at its position, and move the position past it. The elements are decoded
+     * straight out of the buffer into the new backing array.
+     *
+     * @param buffer to read from.
+     * @param codec  to decode the elements, of the same size as the one they were written with.
+     * @param <T>    the type of the elements.
+     * @return the new list, sized to fit the elements.
+     * @throws NullPointerException     if the {@code buffer} or the {@code codec} is null.
+     * @throws IllegalArgumentException if the buffer does not hold a list of the codec's
+     *                                  element size at its position.
+     * @throws BufferUnderflowException if the buffer ends before the list.
+     * @see BinaryListView
+     */
+    public static <T> ArrayList<T> readFrom(@NotNull ByteBuffer buffer, @NotNull ElementCodec<T> codec) {
+        Objects.requireNonNull(buffer, "Buffer is null");
+        Objects.requireNonNull(codec, "Element codec is null");
+
+        final int elementBytes = codec.byteSize();
+        final ByteBuffer elements = BinaryFormat.sliceList(buffer, elementBytes);
+        final int size = elements.limit() / elementBytes;
+        final Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = codec.read(elements, i * elementBytes);
+        }
+        return new ArrayList<>(values, size, GrowthPolicy.doubling());
     }
 
     /**
@@ -99,7 +162,7 @@ public class ArrayList<T> implements List<T> {
             values[size++] = element;
             return true;
         } else {
-            values = doubleValuesArraySize();
+            values = growValuesArray(size + 1);
             return add(element);
         }
     }
@@ -119,15 +182,18 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean add(int index, T element) {
-        if (index >= size() || index < 0) {
+        if (index > size() || index < 0) {
             throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
         }
 
-        if (values.length < values.length + 1) {
-            values = doubleValuesArraySize();
+        if (size == values.length) {
+            values = growValuesArray(size + 1);
         }
 
-        System.arraycopy(values, index, values, index + 1, size++);
+        if (size > index) {
+            CollectionStats.shifted(size - index, CollectionStats.REFERENCE_BYTES);
+        }
+        System.arraycopy(values, index, values, index + 1, size++ - index);
         values[index] = element;
 
         return true;
@@ -137,7 +203,7 @@ public class ArrayList<T> implements List<T> {
      * Appends all the elements in the specified collection to the end of this list, in the order that
      * they are returned by the specified collection's iterator (optional operation). The behavior of this
      * operation is undefined if the specified collection is modified while the operation is in progress.
-     * (Note that this will occur if the specified collection is this list, and it's nonempty.)
+     * The specified collection may be this list.
      *
      * @param elements collection containing elements to be added to this list
      * @return {@code true} if this list changed as a result of the call
@@ -151,23 +217,7 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean addAll(@NotNull Collection<? extends T> elements) {
-        Objects.requireNonNull(elements, "Collection instance is null");
-
-        final Object[] els = elements.toArray();
-        if (els.length != 0) {
-            if (isEmpty()) {
-                values = els;
-            } else {
-                if (values.length < size + els.length) {
-                    values = doubleValuesArraySize();
-                }
-                System.arraycopy(els, 0, values, size - 1, els.length);
-            }
-            size += els.length;
-            return true;
-        } else {
-            return false;
-        }
+        return addAll(size, elements);
     }
 
     /**
@@ -176,7 +226,7 @@ public class ArrayList<T> implements List<T> {
      * elements to the right (increases their indices). The new elements will appear in this list in
      * the order that they are returned by the specified collection's iterator. The behavior of this
      * operation is undefined if the specified collection is modified while the operation is in progress.
-     * (Note that this will occur if the specified collection is this list, and it's nonempty.)
+     * The specified collection may be this list.
      *
      * @param index    index at which to insert the first element from the specified collection
      * @param elements collection containing elements to be added to this list
@@ -185,11 +235,52 @@ public class ArrayList<T> implements List<T> {
      *                                   prevents it from being added to this list
      * @throws IllegalArgumentException  if some property of an element of the specified collection
      *                                   prevents it from being added to this list
+     * @throws NullPointerException      if the specified collection is null
      * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index > size())}
+     * @implNote The {@link #values} array grows at most once and the elements after {@code index}
+     * are shifted with a single copy, straight into the new array if it grows. The backing array
+     * of another {@link ArrayList} is read directly, without the intermediate {@code toArray()} copy.
      */
     @Override
-    public boolean addAll(int index, Collection<? extends T> elements) {
-        return false;
+    public boolean addAll(int index, @NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+        }
+
+        final BulkOperationEvent event = new BulkOperationEvent();
+        event.begin();
+        final Object[] els;
+        final int length;
+        if (elements instanceof ArrayList<?> other) {
+            els = other == this ? Arrays.copyOf(values, size) : other.values;
+            length = other.size;
+        } else {
+            els = elements.toArray();
+            length = els.length;
+        }
+        if (length == 0) {
+            return false;
+        }
+
+        if (values.length - size < length) {
+            final ArrayGrowthEvent growth = new ArrayGrowthEvent();
+            growth.begin();
+            final Object[] newValues = new Object[growthPolicy.grow(values.length, size + length)];
+            System.arraycopy(values, 0, newValues, 0, index);
+            System.arraycopy(values, index, newValues, index + length, size - index);
+            growth.commit(this, values.length, newValues.length);
+            values = newValues;
+            CollectionStats.resized((long) size * CollectionStats.REFERENCE_BYTES);
+        } else if (size > index) {
+            CollectionStats.shifted(size - index, CollectionStats.REFERENCE_BYTES);
+            System.arraycopy(values, index, values, index + length, size - index);
+        }
+        System.arraycopy(els, 0, values, index, length);
+        size += length;
+        event.commit(this, "addAll", length);
+
+        return true;
     }
 
     /**
@@ -222,7 +313,12 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public int indexOf(T element) {
-        return 0;
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, values[i])) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -238,24 +334,27 @@ public class ArrayList<T> implements List<T> {
     public T remove(int index) {
         T val = get(index);
 
+        if (size > index + 1) {
+            CollectionStats.shifted(size - (index + 1), CollectionStats.REFERENCE_BYTES);
+        }
         System.arraycopy(values, index + 1, values, index, size() - (index + 1));
         values[--size] = null;
+        shrinkValuesArray();
 
         return val;
     }
 
     /**
      * Removes the matching instances in this list (optional operation). Shifts any
-     * subsequent elements to the left (subtracts one from their indices). Returns the
-     * element that was removed from the list.
+     * subsequent elements to the left (subtracts one from their indices), all in a single
+     * pass over the list.
      *
-     * @param element the index of the element to be removed
+     * @param element the element to be removed
      * @return number of elements removed
-     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index > size())}
      */
     @Override
     public int remove(T element) {
-        return 0;
+        return removeMatching(e -> Objects.equals(element, e));
     }
 
     /**
@@ -264,12 +363,65 @@ public class ArrayList<T> implements List<T> {
      *
      * @param elements collection containing elements to be removed from this list
      * @return {@code true} if this list changed as a result of the call
-     * @throws ClassCastException if the class of an element of this list is incompatible
-     *                            with the specified collection (optional)
+     * @throws ClassCastException   if the class of an element of this list is incompatible
+     *                              with the specified collection (optional)
+     * @throws NullPointerException if the specified collection is null
+     * @implNote The survivors are compacted in a single pass over the {@link #values} array,
+     * however many elements are removed. A large list argument is hashed first, so every
+     * element is tested against it in constant time instead of a linear search.
      */
     @Override
-    public boolean removeAll(Collection<? extends T> elements) {
-        return false;
+    public boolean removeAll(@NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        final BulkOperationEvent event = new BulkOperationEvent();
+        event.begin();
+        final int scanned = size;
+        final boolean changed = removeMatching(membershipOf(elements, scanned)) != 0;
+        event.commit(this, "removeAll", scanned);
+
+        return changed;
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection.
+     * In other words, removes from this list all of its elements that are not contained in
+     * the specified collection.
+     *
+     * @param elements collection containing elements to be retained in this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     * @implNote The survivors are compacted in a single pass over the {@link #values} array,
+     * the same as {@link #removeAll(Collection)}.
+     */
+    public boolean retainAll(@NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        final BulkOperationEvent event = new BulkOperationEvent();
+        event.begin();
+        final int scanned = size;
+        final boolean changed = removeMatching(membershipOf(elements, scanned).negate()) != 0;
+        event.commit(this, "retainAll", scanned);
+
+        return changed;
+    }
+
+    /**
+     * Removes all the elements of this list that satisfy the given predicate. The predicate
+     * is tested on every element before the list is modified, so the list is left unchanged
+     * if it throws.
+     *
+     * @param filter a predicate which returns {@code true} for the elements to be removed
+     * @return {@code true} if any elements were removed
+     * @throws NullPointerException if the specified filter is null
+     */
+    public boolean removeIf(@NotNull Predicate<? super T> filter) {
+        Objects.requireNonNull(filter, "Filter predicate is null");
+        final BulkOperationEvent event = new BulkOperationEvent();
+        event.begin();
+        final int scanned = size;
+        final boolean changed = removeMatching(filter) != 0;
+        event.commit(this, "removeIf", scanned);
+
+        return changed;
     }
 
     /**
@@ -293,13 +445,84 @@ public class ArrayList<T> implements List<T> {
         return val;
     }
 
+    /**
+     * Performs the given action for each element of this list, in order, in a single loop over
+     * the {@link #values} array without an {@link Iterator}.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(@NotNull Consumer<? super T> action) {
+        Objects.requireNonNull(action, "Action is null");
+        final Object[] vals = values;
+        for (int i = 0, end = size; i < end; i++) {
+            action.accept((T) vals[i]);
+        }
+    }
+
+    /**
+     * Performs the given action for each element of this list along with its index, in order,
+     * in a single loop over the {@link #values} array.
+     *
+     * @param action the action to be performed for each element and its index
+     * @throws NullPointerException if the specified action is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEachIndexed(@NotNull ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action, "Action is null");
+        final Object[] vals = values;
+        for (int i = 0, end = size; i < end; i++) {
+            action.accept((T) vals[i], i);
+        }
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the operator to that
+     * element, in place in the {@link #values} array.
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException if the specified operator is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void replaceAll(@NotNull UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator, "Operator is null");
+        final Object[] vals = values;
+        for (int i = 0, end = size; i < end; i++) {
+            vals[i] = operator.apply((T) vals[i]);
+        }
+    }
+
+    /**
+     * Replaces the elements of this list from the {@code from} index on with the elements of
+     * the {@code source} array, with a single array copy.
+     *
+     * @param from   index of the first element to replace
+     * @param source array of the elements to be stored, from the {@code from} index on
+     * @throws NullPointerException      if the specified array is null
+     * @throws IndexOutOfBoundsException if the range is out of this list,
+     *                                   {@code (from < 0 || from + source.length > size())}
+     */
+    @Override
+    public void setRange(int from, @NotNull T[] source) {
+        Objects.requireNonNull(source, "Source array is null");
+        if (from < 0 || from > size - source.length) {
+            throw new IndexOutOfBoundsException(String.format("Range out of bounds: [%d, %d)", from, (long) from + source.length));
+        }
+        System.arraycopy(source, 0, values, from, source.length);
+    }
+
     /**
      * Removes all the elements from this collection (optional operation).
      * The collection will be empty after this method returns.
      */
     @Override
     public void clear() {
-        // do-nothing
+        Arrays.fill(values, 0, size, null);
+        size = 0;
     }
 
     /**
@@ -314,7 +537,7 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
-        return false;
+        return indexOf(element) >= 0;
     }
 
     /**
@@ -337,7 +560,7 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public List<T> copy() {
-        return new ArrayList<>(Arrays.copyOf(values, size()), size());
+        return new ArrayList<>(Arrays.copyOf(values, size()), size(), growthPolicy);
     }
 
     /**
@@ -379,7 +602,12 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public Object[] toArray() {
-        return Arrays.copyOf(values, size);
+        final BulkOperationEvent event = new BulkOperationEvent();
+        event.begin();
+        final Object[] array = Arrays.copyOf(values, size);
+        event.commit(this, "toArray", size);
+
+        return array;
     }
 
     /**
@@ -423,13 +651,52 @@ public class ArrayList<T> implements List<T> {
     @Override
     public <E> E[] toArray(@NotNull E[] collector) {
         Objects.requireNonNull(collector, "Runtime type array is null");
+        final BulkOperationEvent event = new BulkOperationEvent();
+        event.begin();
+        final E[] array;
         if (size > collector.length) {
-            return (E[]) Arrays.copyOf(values, size, collector.getClass());
+            array = (E[]) Arrays.copyOf(values, size, collector.getClass());
+        } else {
+            //noinspection SuspiciousSystemArraycopy
+            System.arraycopy(values, 0, collector, 0, size);
+            array = collector;
         }
+        event.commit(this, "toArray", size);
+
+        return array;
+    }
 
-        //noinspection SuspiciousSystemArraycopy
-        System.arraycopy(values, 0, collector, 0, size);
-        return collector;
+    /**
+     * Write this list out to the {@code channel} in the compact binary format of this package,
+     * a varint length header followed by the elements encoded by the {@code codec}. The
+     * elements are encoded straight from the backing array into a small staging buffer, so
+     * the size of the list does not matter to the memory it takes. Read the list back with
+     * {@link #readFrom(ByteBuffer, ElementCodec)}, or in place with {@link BinaryListView}.
+     *
+     * @param channel to write to, not closed by this method.
+     * @param codec   to encode the elements.
+     * @throws NullPointerException if the {@code channel} or the {@code codec} is null, or the
+     *                              list contains a null element the codec does not permit.
+     * @throws IOException          if the channel fails to write.
+     */
+    @SuppressWarnings("unchecked")
+    public void writeTo(@NotNull WritableByteChannel channel, @NotNull ElementCodec<? super T> codec) throws IOException {
+        Objects.requireNonNull(channel, "Channel is null");
+        Objects.requireNonNull(codec, "Element codec is null");
+
+        final int elementBytes = codec.byteSize();
+        final ByteBuffer buffer = BinaryFormat.allocate(elementBytes, (long) size * elementBytes);
+        BinaryFormat.putListHeader(buffer, elementBytes, size);
+        int position = buffer.position();
+        for (int i = 0; i < size; i++) {
+            if (buffer.capacity() - position < elementBytes) {
+                BinaryFormat.drain(channel, buffer, position);
+                position = 0;
+            }
+            codec.write(buffer, position, (T) values[i]);
+            position += elementBytes;
+        }
+        BinaryFormat.drain(channel, buffer, position);
     }
 
     /**
@@ -467,21 +734,262 @@ public class ArrayList<T> implements List<T> {
             @SuppressWarnings("unchecked")
             @Override
             public T next() {
-                if (index < values.length) return (T) values[index++];
+                if (index < size) return (T) values[index++];
                 else throw new NoSuchElementException("List size %d exceeded, cannot access %d index."
-                        .formatted(values.length, index - 1));
+                        .formatted(size, index));
             }
         };
     }
 
     /**
-     * Double the {@link #values} array size when it's reached to overflow by one index.
+     * Creates a late-binding {@link Spliterator} over the elements in this list. It reports
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}, and
+     * splits the array range in halves without copying, so parallel streams divide the work evenly.
+     * <p>
+     * The spliterator binds to the {@link #values} array and the size on the first traversal, split
+     * or size query, structural changes after that are not reflected.
+     *
+     * @return a {@link Spliterator} over the elements in this list.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator<>(this, null, 0, -1);
+    }
+
+    /**
+     * Increases the capacity of this {@link ArrayList}, if necessary, to ensure that it can hold
+     * at least the number of elements specified by the {@code minCapacity} without further
+     * growth. Bulk loaders should call this once before adding the elements.
+     *
+     * @param minCapacity the desired minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > values.length) {
+            values = growValuesArray(minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of this {@link ArrayList} to its current size, to release the unused
+     * part of the {@link #values} array.
+     */
+    public void trimToSize() {
+        if (size < values.length) {
+            values = size == 0 ? EMPTY_ELEMENT_DATA : Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * Returns the current length of the {@link #values} array.
+     *
+     * @return the capacity of this list.
+     */
+    int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Grow the {@link #values} array to the size the {@link #growthPolicy} decides, when it's
+     * reached to overflow.
+     *
+     * @param minCapacity minimum size of the new array.
+     * @return the new array with the existing elements.
      */
     @NotNull
-    private Object[] doubleValuesArraySize() {
-        final Object[] newValues = new Object[values.length * 2];
-        System.arraycopy(values, 0, newValues, 0, values.length);
+    private Object[] growValuesArray(int minCapacity) {
+        final ArrayGrowthEvent event = new ArrayGrowthEvent();
+        event.begin();
+        final Object[] newValues = Arrays.copyOf(values, growthPolicy.grow(values.length, minCapacity));
+        event.commit(this, values.length, newValues.length);
+        CollectionStats.resized((long) size * CollectionStats.REFERENCE_BYTES);
 
         return newValues;
     }
+
+    /**
+     * Remove the elements matched by the {@code filter}, if any matches. The matches are marked
+     * in a bitmap first, from the first match on, then the survivors are compacted in a single
+     * pass and the freed slots are nulled in one sweep.
+     *
+     * @param filter returns {@code true} for the elements to be removed.
+     * @return number of elements removed.
+     */
+    @SuppressWarnings("unchecked")
+    private int removeMatching(Predicate<? super T> filter) {
+        final Object[] vals = values;
+        final int end = size;
+        int first = 0;
+        while (first < end && !filter.test((T) vals[first])) {
+            first++;
+        }
+        if (first == end) {
+            return 0;
+        }
+
+        final long[] removed = new long[((end - first) + 63) >>> 6];
+        removed[0] = 1L;
+        int count = 1;
+        for (int i = first + 1; i < end; i++) {
+            if (filter.test((T) vals[i])) {
+                removed[(i - first) >>> 6] |= 1L << (i - first);
+                count++;
+            }
+        }
+
+        int j = first;
+        for (int i = first + 1; i < end; i++) {
+            if ((removed[(i - first) >>> 6] & (1L << (i - first))) == 0) {
+                vals[j++] = vals[i];
+            }
+        }
+        Arrays.fill(vals, j, end, null);
+        if (j > first) {
+            CollectionStats.shifted(j - first, CollectionStats.REFERENCE_BYTES);
+        }
+        size = j;
+        shrinkValuesArray();
+
+        return count;
+    }
+
+    /**
+     * Returns the membership test of the {@code elements} collection. A list argument larger
+     * than {@link #HASH_THRESHOLD} is hashed first, if this list is large enough to pay for it,
+     * since its {@code contains} is a linear search.
+     *
+     * @param elements collection to test the membership of.
+     * @param scanned  number of the elements to be tested.
+     * @return the predicate which returns {@code true} for the members of the collection.
+     */
+    @SuppressWarnings("unchecked")
+    private static Predicate<Object> membershipOf(Collection<?> elements, int scanned) {
+        final Collection<Object> others = (Collection<Object>) elements;
+        if (!(elements instanceof List<?>) || elements.size() <= HASH_THRESHOLD || scanned <= HASH_THRESHOLD) {
+            return others::contains;
+        }
+
+        final HashMap<Object, Boolean> hashed = new HashMap<>(elements.size());
+        boolean hasNull = false;
+        for (Object element : others) {
+            if (element == null) {
+                hasNull = true;
+            } else {
+                hashed.put(element, Boolean.TRUE);
+            }
+        }
+
+        final boolean containsNull = hasNull;
+        return element -> element == null ? containsNull : hashed.containsKey(element);
+    }
+
+    /**
+     * Shrink the {@link #values} array, if the {@link #growthPolicy} decides so after a removal.
+     */
+    private void shrinkValuesArray() {
+        final int capacity = growthPolicy.shrink(values.length, size);
+        if (capacity < values.length) {
+            CollectionStats.resized((long) size * CollectionStats.REFERENCE_BYTES);
+            values = Arrays.copyOf(values, Math.max(capacity, size));
+        }
+    }
+
+    /**
+     * Index range based {@link Spliterator} over the {@link #values} array of an {@link ArrayList}.
+     *
+     * @param <T> the type of the elements.
+     */
+    private static final class ArrayListSpliterator<T> implements Spliterator<T> {
+
+        /**
+         * The list to bind to on first use.
+         */
+        private final ArrayList<T> list;
+        /**
+         * The array bound to, {@code null} until bound.
+         */
+        private Object[] values;
+        /**
+         * Current index, modified on advance and split.
+         */
+        private int index;
+        /**
+         * One past the last index, {@code -1} until bound.
+         */
+        private int fence;
+
+        /**
+         * Create a spliterator over the given range.
+         *
+         * @param list   the list to traverse.
+         * @param values the array bound to, or {@code null} to bind on first use.
+         * @param origin the first index.
+         * @param fence  one past the last index, or {@code -1} to bind on first use.
+         */
+        private ArrayListSpliterator(ArrayList<T> list, Object[] values, int origin, int fence) {
+            this.list = list;
+            this.values = values;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        /**
+         * Bind to the array and the size of the list, if not bound yet.
+         *
+         * @return one past the last index.
+         */
+        private int getFence() {
+            if (fence < 0) {
+                values = list.values;
+                fence = list.size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int hi = getFence();
+            final int lo = index;
+            final int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+
+            index = mid;
+            return new ArrayListSpliterator<>(list, values, lo, mid);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "Action is null");
+            final int hi = getFence();
+            if (index < hi) {
+                action.accept((T) values[index++]);
+                return true;
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "Action is null");
+            final int hi = getFence();
+            final Object[] vals = values;
+            for (int i = index; i < hi; i++) {
+                action.accept((T) vals[i]);
+            }
+            index = hi;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 }
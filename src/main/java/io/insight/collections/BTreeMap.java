@@ -0,0 +1,1497 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * B+-tree implementation of {@link SortedMap} interface. Every node keeps its keys in one array,
+ * searched with a binary search, and up to {@link #LEAF_CAPACITY} entries or
+ * {@link #BRANCH_CAPACITY} children, so a lookup visits a handful of wide nodes instead of a
+ * node per comparison. The entries are kept in the leaves only, and the leaves are linked in key
+ * order, so the range scans walk the leaves sideways without going back through the branches.
+ * <p>
+ * Insertions split the full nodes on the way down, and removals refill the nodes at the minimum
+ * size on the way down, from a sibling or by merging with one, so every update is a single pass
+ * from the root. {@link #fromSorted(Comparator, Object[], Object[])} builds a tree from presorted
+ * entries bottom up, in linear time.
+ * <p>
+ * The range views share the tree with the map they are created from. Their {@link #size()}
+ * counts the entries in the range, a leaf at a time.
+ * <p>
+ * This implementation does not permit {@code null} keys, {@code null} values are permitted.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class BTreeMap<K, V> implements SortedMap<K, V> {
+
+    /**
+     * Maximum number of entries of a leaf.
+     */
+    static final int LEAF_CAPACITY = 64;
+    /**
+     * Maximum number of children of a branch node.
+     */
+    static final int BRANCH_CAPACITY = 64;
+    /**
+     * Minimum number of entries of a leaf, except the root.
+     */
+    private static final int MIN_LEAF = LEAF_CAPACITY / 2;
+    /**
+     * Minimum number of children of a branch node, except the root.
+     */
+    private static final int MIN_BRANCH = BRANCH_CAPACITY / 2;
+    /**
+     * Search for the greatest key strictly less than the given key.
+     */
+    private static final int LOWER = 0;
+    /**
+     * Search for the greatest key less than or equal to the given key.
+     */
+    private static final int FLOOR = 1;
+    /**
+     * Search for the least key greater than or equal to the given key.
+     */
+    private static final int CEILING = 2;
+    /**
+     * Search for the least key strictly greater than the given key.
+     */
+    private static final int HIGHER = 3;
+    /**
+     * Marker of a missing key, values may be {@code null}.
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    /**
+     * Comparator of the keys, or {@code null} for the natural ordering.
+     */
+    private final Comparator<? super K> comparator;
+    /**
+     * Tree shared by this map and its views.
+     */
+    private final Tree tree;
+    /**
+     * Low endpoint of the range of a view.
+     */
+    private final K lo;
+    /**
+     * High endpoint of the range of a view.
+     */
+    private final K hi;
+    /**
+     * Whether the range has no low endpoint.
+     */
+    private final boolean fromStart;
+    /**
+     * Whether the range has no high endpoint.
+     */
+    private final boolean toEnd;
+    /**
+     * Whether the low endpoint is in the range.
+     */
+    private final boolean loInclusive;
+    /**
+     * Whether the high endpoint is in the range.
+     */
+    private final boolean hiInclusive;
+
+    /**
+     * Default constructor implementation initialize an empty {@link BTreeMap}, ordered by the
+     * natural ordering of the keys.
+     */
+    public BTreeMap() {
+        this(null);
+    }
+
+    /**
+     * Overloaded constructor implementation initialize an empty {@link BTreeMap}, ordered by the
+     * {@code comparator}.
+     *
+     * @param comparator to order the keys, or {@code null} for the natural ordering.
+     */
+    public BTreeMap(@Nullable Comparator<? super K> comparator) {
+        this(comparator, new Tree(), true, null, true, true, null, true);
+    }
+
+    /**
+     * Create a view of the {@code tree} over the range.
+     *
+     * @param comparator  of the keys.
+     * @param tree        to share.
+     * @param fromStart   whether the range has no low endpoint.
+     * @param lo          low endpoint.
+     * @param loInclusive whether the low endpoint is in the range.
+     * @param toEnd       whether the range has no high endpoint.
+     * @param hi          high endpoint.
+     * @param hiInclusive whether the high endpoint is in the range.
+     */
+    private BTreeMap(Comparator<? super K> comparator, Tree tree, boolean fromStart, K lo, boolean loInclusive,
+                     boolean toEnd, K hi, boolean hiInclusive) {
+        this.comparator = comparator;
+        this.tree = tree;
+        this.fromStart = fromStart;
+        this.lo = lo;
+        this.loInclusive = loInclusive;
+        this.toEnd = toEnd;
+        this.hi = hi;
+        this.hiInclusive = hiInclusive;
+    }
+
+    /**
+     * Returns a new {@link BTreeMap} with the specified entries, which must be in strictly
+     * ascending order of the keys. The leaves and branch nodes are filled bottom up in linear
+     * time, without any search or split.
+     *
+     * @param comparator to order the keys, or {@code null} for the natural ordering.
+     * @param keys       in strictly ascending order.
+     * @param values     index-aligned with the {@code keys}.
+     * @return a new map.
+     * @throws NullPointerException     if either array or any key is null.
+     * @throws IllegalArgumentException if the arrays differ in length, or the keys are not in
+     *                                  strictly ascending order.
+     */
+    public static <K, V> BTreeMap<K, V> fromSorted(@Nullable Comparator<? super K> comparator,
+                                                   @NotNull K[] keys, @NotNull V[] values) {
+        Objects.requireNonNull(keys, "Keys array is null");
+        Objects.requireNonNull(values, "Values array is null");
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values length mismatch: %d, %d"
+                    .formatted(keys.length, values.length));
+        }
+
+        final BTreeMap<K, V> map = new BTreeMap<>(comparator);
+        for (int i = 0; i < keys.length; i++) {
+            checkKey(keys[i]);
+            if (i > 0 && map.compare(keys[i - 1], keys[i]) >= 0) {
+                throw new IllegalArgumentException("Keys are not strictly ascending at index: %d".formatted(i));
+            }
+        }
+        map.load(keys, values, keys.length);
+        return map;
+    }
+
+    /**
+     * Returns the comparator used to order the keys in this map, or {@code null} if this map
+     * uses the natural ordering of its keys.
+     *
+     * @return the comparator used to order the keys in this map, or {@code null}
+     */
+    @Override
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the first (lowest) key currently in this map.
+     *
+     * @return the first (lowest) key currently in this map
+     * @throws NoSuchElementException if this map is empty
+     */
+    @Override
+    public K firstKey() {
+        final Walker walker = new Walker();
+        if (!seekLowest(walker)) {
+            throw new NoSuchElementException("BTreeMap is empty.");
+        }
+        return walker.key();
+    }
+
+    /**
+     * Returns the last (highest) key currently in this map.
+     *
+     * @return the last (highest) key currently in this map
+     * @throws NoSuchElementException if this map is empty
+     */
+    @Override
+    public K lastKey() {
+        final Walker walker = new Walker();
+        if (!seekHighest(walker)) {
+            throw new NoSuchElementException("BTreeMap is empty.");
+        }
+        return walker.key();
+    }
+
+    /**
+     * Returns the greatest key less than or equal to the given key, or {@code null} if there is
+     * no such key.
+     *
+     * @param key the key
+     * @return the greatest key less than or equal to {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public K floorKey(K key) {
+        return relativeKey(key, FLOOR);
+    }
+
+    /**
+     * Returns the least key greater than or equal to the given key, or {@code null} if there is
+     * no such key.
+     *
+     * @param key the key
+     * @return the least key greater than or equal to {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public K ceilingKey(K key) {
+        return relativeKey(key, CEILING);
+    }
+
+    /**
+     * Returns the greatest key strictly less than the given key, or {@code null} if there is no
+     * such key.
+     *
+     * @param key the key
+     * @return the greatest key less than {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public K lowerKey(K key) {
+        return relativeKey(key, LOWER);
+    }
+
+    /**
+     * Returns the least key strictly greater than the given key, or {@code null} if there is no
+     * such key.
+     *
+     * @param key the key
+     * @return the least key greater than {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public K higherKey(K key) {
+        return relativeKey(key, HIGHER);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys range from {@code fromKey} to
+     * {@code toKey}, backed by the same tree.
+     *
+     * @param fromKey       low endpoint of the keys in the returned map
+     * @param fromInclusive {@code true} if the low endpoint is to be included in the returned view
+     * @param toKey         high endpoint of the keys in the returned map
+     * @param toInclusive   {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys range from {@code fromKey} to {@code toKey}
+     * @throws NullPointerException     if {@code fromKey} or {@code toKey} is null
+     * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}, or if this
+     *                                  map is a view and the endpoints lie outside its range
+     */
+    @Override
+    public BTreeMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        checkKey(fromKey);
+        checkKey(toKey);
+        if (compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("Range start is greater than the range end.");
+        }
+        checkBound(fromKey, fromInclusive);
+        checkBound(toKey, toInclusive);
+        return new BTreeMap<>(comparator, tree, false, fromKey, fromInclusive, false, toKey, toInclusive);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys are less than (or equal to, if
+     * {@code inclusive} is true) {@code toKey}, backed by the same tree.
+     *
+     * @param toKey     high endpoint of the keys in the returned map
+     * @param inclusive {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys are less than {@code toKey}
+     * @throws NullPointerException     if {@code toKey} is null
+     * @throws IllegalArgumentException if this map is a view and {@code toKey} lies outside its range
+     */
+    @Override
+    public BTreeMap<K, V> headMap(K toKey, boolean inclusive) {
+        checkKey(toKey);
+        checkBound(toKey, inclusive);
+        return new BTreeMap<>(comparator, tree, fromStart, lo, loInclusive, false, toKey, inclusive);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys are greater than (or equal to, if
+     * {@code inclusive} is true) {@code fromKey}, backed by the same tree.
+     *
+     * @param fromKey   low endpoint of the keys in the returned map
+     * @param inclusive {@code true} if the low endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys are greater than {@code fromKey}
+     * @throws NullPointerException     if {@code fromKey} is null
+     * @throws IllegalArgumentException if this map is a view and {@code fromKey} lies outside its range
+     */
+    @Override
+    public BTreeMap<K, V> tailMap(K fromKey, boolean inclusive) {
+        checkKey(fromKey);
+        checkBound(fromKey, inclusive);
+        return new BTreeMap<>(comparator, tree, false, fromKey, inclusive, toEnd, hi, hiInclusive);
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return lookup(key) != NOT_FOUND;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key. Use {@link #containsKey(Object)} to distinguish a
+     * missing key from a key mapped to {@code null}.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public V get(K key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        final Object value = lookup(key);
+        return value != NOT_FOUND ? (V) value : defaultValue;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map. If the map
+     * previously contained a mapping for the key, the old value is replaced by the
+     * specified value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or {@code null} if there was
+     * no mapping for {@code key}
+     * @throws NullPointerException     if the specified key is null
+     * @throws IllegalArgumentException if this map is a view and the key lies outside its range
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V put(K key, V value) {
+        checkKey(key);
+        checkInRange(key);
+        final Object old = insert(key, value);
+        return old != NOT_FOUND ? (V) old : null;
+    }
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to {@code null})
+     * associates it with the given value and returns {@code null}, else returns the current value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or {@code null} if there was
+     * no mapping for the key
+     * @throws NullPointerException     if the specified key is null
+     * @throws IllegalArgumentException if this map is a view and the key lies outside its range
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V putIfAbsent(K key, V value) {
+        final Object old = lookup(key);
+        if (old == NOT_FOUND || old == null) {
+            put(key, value);
+            return null;
+        }
+        return (V) old;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or {@code null} if there was
+     * no mapping for {@code key}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(K key) {
+        checkKey(key);
+        if (!inRange(key)) {
+            return null;
+        }
+
+        final Object old = delete(key);
+        return old != NOT_FOUND ? (V) old : null;
+    }
+
+    /**
+     * Attempts to compute a mapping for the specified key and its current mapped value (or
+     * {@code null} if there is no current mapping). If the remapping function returns
+     * {@code null}, the mapping is removed (or remains absent if initially absent). The
+     * remapping function must not modify this map during computation.
+     *
+     * @param key               key with which the specified value is to be associated
+     * @param remappingFunction the remapping function to compute a value
+     * @return the new value associated with the specified key, or null if none
+     * @throws NullPointerException     if the specified key or the remapping function is null
+     * @throws IllegalArgumentException if this map is a view and the key lies outside its range
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V compute(K key, @NotNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+        final Object old = lookup(key);
+        final V value = remappingFunction.apply(key, old != NOT_FOUND ? (V) old : null);
+        if (value != null) {
+            put(key, value);
+        } else if (old != NOT_FOUND) {
+            delete(key);
+        }
+        return value;
+    }
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to {@code null}),
+     * attempts to compute its value using the given mapping function and enters it into this map
+     * unless {@code null}. The mapping function must not modify this map during computation.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the mapping function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or
+     * null if the computed value is null
+     * @throws NullPointerException     if the specified key or the mapping function is null
+     * @throws IllegalArgumentException if this map is a view and the key lies outside its range
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V computeIfAbsent(K key, @NotNull Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction, "Mapping function is null");
+
+        final Object old = lookup(key);
+        if (old != NOT_FOUND && old != null) {
+            return (V) old;
+        }
+
+        final V value = mappingFunction.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * If the specified key is not already associated with a value or is associated with
+     * {@code null}, associates it with the given non-null value. Otherwise, replaces the
+     * associated value with the results of the given remapping function, or removes it if the
+     * result is {@code null}. The remapping function must not modify this map during computation.
+     *
+     * @param key               key with which the resulting value is to be associated
+     * @param value             the non-null value to be merged with the existing value
+     * @param remappingFunction the remapping function to recompute a value if present
+     * @return the new value associated with the specified key, or null if no value is associated
+     * with the key
+     * @throws NullPointerException     if the specified key, value or remapping function is null
+     * @throws IllegalArgumentException if this map is a view and the key lies outside its range
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V merge(K key, @NotNull V value, @NotNull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value, "Merge value is null");
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+        final Object old = lookup(key);
+        final V merged = old == NOT_FOUND || old == null ? value : remappingFunction.apply((V) old, value);
+        if (merged != null) {
+            put(key, merged);
+        } else {
+            delete(key);
+        }
+        return merged;
+    }
+
+    /**
+     * Returns a new {@link Map.Cursor} positioned before the first entry of this map. The cursor
+     * walks the linked leaves in ascending key order, and stops at the end of the range.
+     *
+     * @return a cursor over the entries of this map.
+     */
+    @NotNull
+    @Override
+    public Map.Cursor<K, V> cursor() {
+        return new Map.Cursor<>() {
+            private final Walker walker = new Walker();
+            private boolean started;
+            private boolean positioned;
+
+            @Override
+            public boolean advance() {
+                if (!started) {
+                    started = true;
+                    positioned = seekLowest(walker);
+                } else if (positioned) {
+                    positioned = walker.next() && !tooHigh(walker.key());
+                }
+                return positioned;
+            }
+
+            @Override
+            public K key() {
+                checkPositioned();
+                return walker.key();
+            }
+
+            @Override
+            public V value() {
+                checkPositioned();
+                return walker.value();
+            }
+
+            @Override
+            public V setValue(V value) {
+                checkPositioned();
+                final V old = walker.value();
+                walker.leaf.values[walker.index] = value;
+                return old;
+            }
+
+            @Override
+            public void reset() {
+                started = false;
+                positioned = false;
+            }
+
+            private void checkPositioned() {
+                if (!positioned) {
+                    throw new IllegalStateException("Cursor is not positioned on an entry.");
+                }
+            }
+        };
+    }
+
+    /**
+     * Removes all the entries of this map, or of the range of this view.
+     */
+    @Override
+    public void clear() {
+        if (fromStart && toEnd) {
+            tree.reset();
+            return;
+        }
+
+        for (Object key : toArray()) {
+            delete(key);
+        }
+    }
+
+    /**
+     * Returns true if this map contains the specified key.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean contains(K element) {
+        return containsKey(element);
+    }
+
+    /**
+     * Returns true if this map contains all the keys in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection contains one or more null
+     *                              elements, or if the specified collection is null.
+     * @see #contains(K)
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<K> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (K element : elements) {
+            if (!containsKey(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return a new {@link BTreeMap} with the entries of this map, or of the range of this view,
+     * bulk loaded in linear time. Keys and values themselves are not cloned.
+     *
+     * @return a new instance of this {@link BTreeMap}.
+     */
+    @Override
+    public BTreeMap<K, V> copy() {
+        final int size = size();
+        final Object[] keys = new Object[size];
+        final Object[] values = new Object[size];
+        final Walker walker = new Walker();
+        for (int i = 0; i < size; i++) {
+            if (i == 0) {
+                seekLowest(walker);
+            } else {
+                walker.next();
+            }
+            keys[i] = walker.key();
+            values[i] = walker.value();
+        }
+
+        final BTreeMap<K, V> copy = new BTreeMap<>(comparator);
+        copy.load(keys, values, size);
+        return copy;
+    }
+
+    /**
+     * Returns {@code true} if this collection contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return fromStart && toEnd ? tree.size == 0 : !seekLowest(new Walker());
+    }
+
+    /**
+     * Returns the number of entries in this map. A view counts the entries in its range, a leaf
+     * at a time.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        if (fromStart && toEnd) {
+            return tree.size;
+        }
+
+        final Walker first = new Walker();
+        final Walker last = new Walker();
+        if (!seekLowest(first) || !seekHighest(last) || compare(first.key(), last.key()) > 0) {
+            return 0;
+        } else if (first.leaf == last.leaf) {
+            return last.index - first.index + 1;
+        }
+
+        int size = first.leaf.size - first.index + last.index + 1;
+        for (Leaf leaf = first.leaf.next; leaf != last.leaf; leaf = leaf.next) {
+            size += leaf.size;
+        }
+        return size;
+    }
+
+    /**
+     * Returns an array containing all the keys of this map, in ascending order.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return collectKeys(new Object[size()]);
+    }
+
+    /**
+     * Returns an array containing all the keys of this map, in ascending order; the runtime type
+     * of the returned array is that of the specified array. If the keys fit in the specified
+     * array, they are returned therein, with a {@code null} following the last key if there is
+     * room.
+     *
+     * @param collector the array into which the elements of this collection are to be stored, if it is big
+     *                  enough; otherwise, a new array of the same runtime type is allocated for this purpose.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException  if the runtime type of any element in this collection is not assignable
+     *                              to the runtime component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T[] toArray(@NotNull T[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        final int size = size();
+        if (size > collector.length) {
+            collector = (T[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        } else if (size < collector.length) {
+            collector[size] = null;
+        }
+        return collectKeys(collector);
+    }
+
+    /**
+     * Returns an iterator over the keys of this map, in ascending order.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<K> iterator() {
+        return new Iterator<>() {
+            private final Walker walker = new Walker();
+            private boolean next = seekLowest(walker);
+
+            @Override
+            public boolean hasNext() {
+                return next;
+            }
+
+            @Override
+            public K next() {
+                if (!next) {
+                    throw new NoSuchElementException("BTreeMap has no more keys to iterate.");
+                }
+
+                final K key = walker.key();
+                next = walker.next() && !tooHigh(walker.key());
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Compare two keys with the {@link #comparator}, or by their natural ordering.
+     *
+     * @param a first key.
+     * @param b second key.
+     * @return a negative integer, zero, or a positive integer as {@code a} is less than, equal
+     * to, or greater than {@code b}.
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator != null ? comparator.compare((K) a, (K) b) : ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /**
+     * Binary search of the {@code key} among the keys of the {@code node}.
+     *
+     * @param node to search in.
+     * @param key  to search for.
+     * @return index of the key, or {@code (-(insertion point) - 1)} if the key is not present.
+     */
+    private int search(Node node, Object key) {
+        final Object[] keys = node.keys;
+        int low = 0;
+        int high = node.size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int c = compare(keys[mid], key);
+            if (c < 0) {
+                low = mid + 1;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Index of the child of the {@code branch} whose range holds the {@code key}.
+     *
+     * @param branch to search in.
+     * @param key    to search for.
+     * @return index of the child.
+     */
+    private int childIndex(Branch branch, Object key) {
+        final int i = search(branch, key);
+        return i >= 0 ? i + 1 : -i - 1;
+    }
+
+    /**
+     * Leaf whose range holds the {@code key}.
+     *
+     * @param key to search for.
+     * @return the leaf.
+     */
+    private Leaf leafFor(Object key) {
+        Node node = tree.root;
+        while (node instanceof Branch branch) {
+            node = branch.children[childIndex(branch, key)];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Value of the {@code key}, within the range.
+     *
+     * @param key to search for.
+     * @return the value, or {@link #NOT_FOUND}.
+     * @throws NullPointerException if the {@code key} is null.
+     */
+    private Object lookup(Object key) {
+        checkKey(key);
+        if (!inRange(key)) {
+            return NOT_FOUND;
+        }
+
+        final Leaf leaf = leafFor(key);
+        final int i = search(leaf, key);
+        return i >= 0 ? leaf.values[i] : NOT_FOUND;
+    }
+
+    /**
+     * Insert or replace the mapping of the {@code key}, splitting the full nodes on the way down.
+     *
+     * @param key   to map, within the range.
+     * @param value to map the key to.
+     * @return the previous value, or {@link #NOT_FOUND}.
+     */
+    private Object insert(Object key, Object value) {
+        if (isFull(tree.root)) {
+            final Branch root = new Branch();
+            root.children[0] = tree.root;
+            splitChild(root, 0);
+            tree.root = root;
+        }
+
+        Node node = tree.root;
+        while (node instanceof Branch branch) {
+            int i = childIndex(branch, key);
+            if (isFull(branch.children[i])) {
+                splitChild(branch, i);
+                if (compare(key, branch.keys[i]) >= 0) {
+                    i++;
+                }
+            }
+            node = branch.children[i];
+        }
+
+        final Leaf leaf = (Leaf) node;
+        int i = search(leaf, key);
+        if (i >= 0) {
+            final Object old = leaf.values[i];
+            leaf.values[i] = value;
+            return old;
+        }
+
+        i = -i - 1;
+        System.arraycopy(leaf.keys, i, leaf.keys, i + 1, leaf.size - i);
+        System.arraycopy(leaf.values, i, leaf.values, i + 1, leaf.size - i);
+        leaf.keys[i] = key;
+        leaf.values[i] = value;
+        leaf.size++;
+        tree.size++;
+        return NOT_FOUND;
+    }
+
+    /**
+     * Remove the mapping of the {@code key}, refilling the nodes at the minimum size on the way
+     * down.
+     *
+     * @param key to remove.
+     * @return the removed value, or {@link #NOT_FOUND}.
+     */
+    private Object delete(Object key) {
+        Node node = tree.root;
+        while (node instanceof Branch branch) {
+            int i = childIndex(branch, key);
+            if (atMinimum(branch.children[i])) {
+                i = refill(branch, i);
+                if (branch.size == 0) {
+                    tree.root = branch.children[0];
+                }
+            }
+            node = branch.children[i];
+        }
+
+        final Leaf leaf = (Leaf) node;
+        final int i = search(leaf, key);
+        if (i < 0) {
+            return NOT_FOUND;
+        }
+
+        final Object old = leaf.values[i];
+        System.arraycopy(leaf.keys, i + 1, leaf.keys, i, leaf.size - i - 1);
+        System.arraycopy(leaf.values, i + 1, leaf.values, i, leaf.size - i - 1);
+        leaf.size--;
+        leaf.keys[leaf.size] = null;
+        leaf.values[leaf.size] = null;
+        tree.size--;
+        return old;
+    }
+
+    /**
+     * Whether the {@code node} has no room for another entry or child.
+     */
+    private static boolean isFull(Node node) {
+        return node instanceof Leaf ? node.size == LEAF_CAPACITY : node.size == BRANCH_CAPACITY - 1;
+    }
+
+    /**
+     * Whether the {@code node} cannot give up an entry or child.
+     */
+    private static boolean atMinimum(Node node) {
+        return node instanceof Leaf ? node.size <= MIN_LEAF : node.size < MIN_BRANCH;
+    }
+
+    /**
+     * Split the full child at {@code i} of the {@code parent} in halves, and insert the
+     * separator of the halves to the {@code parent}, which is not full.
+     *
+     * @param parent of the child.
+     * @param i      index of the child.
+     */
+    private void splitChild(Branch parent, int i) {
+        final Node child = parent.children[i];
+        final Node right;
+        final Object separator;
+        if (child instanceof Leaf leaf) {
+            final Leaf r = new Leaf();
+            final int half = LEAF_CAPACITY / 2;
+            r.size = leaf.size - half;
+            System.arraycopy(leaf.keys, half, r.keys, 0, r.size);
+            System.arraycopy(leaf.values, half, r.values, 0, r.size);
+            Arrays.fill(leaf.keys, half, leaf.size, null);
+            Arrays.fill(leaf.values, half, leaf.size, null);
+            leaf.size = half;
+
+            r.prev = leaf;
+            r.next = leaf.next;
+            if (leaf.next != null) {
+                leaf.next.prev = r;
+            } else {
+                tree.tail = r;
+            }
+            leaf.next = r;
+            separator = r.keys[0];
+            right = r;
+        } else {
+            final Branch branch = (Branch) child;
+            final Branch r = new Branch();
+            final int half = BRANCH_CAPACITY / 2;
+            separator = branch.keys[half - 1];
+            r.size = branch.size - half;
+            System.arraycopy(branch.keys, half, r.keys, 0, r.size);
+            System.arraycopy(branch.children, half, r.children, 0, r.size + 1);
+            Arrays.fill(branch.keys, half - 1, branch.size, null);
+            Arrays.fill(branch.children, half, branch.size + 1, null);
+            branch.size = half - 1;
+            right = r;
+        }
+
+        System.arraycopy(parent.keys, i, parent.keys, i + 1, parent.size - i);
+        System.arraycopy(parent.children, i + 1, parent.children, i + 2, parent.size - i);
+        parent.keys[i] = separator;
+        parent.children[i + 1] = right;
+        parent.size++;
+    }
+
+    /**
+     * Refill the child at {@code i} of the {@code parent}, which is at the minimum size, from a
+     * sibling which can spare an entry or child, or else by merging it with a sibling.
+     *
+     * @param parent of the child, above the minimum size or the root.
+     * @param i      index of the child.
+     * @return index of the child which holds the range of the former child afterwards.
+     */
+    private int refill(Branch parent, int i) {
+        if (i > 0 && !atMinimum(parent.children[i - 1])) {
+            borrowFromLeft(parent, i);
+            return i;
+        } else if (i < parent.size && !atMinimum(parent.children[i + 1])) {
+            borrowFromRight(parent, i);
+            return i;
+        } else if (i > 0) {
+            merge(parent, i - 1);
+            return i - 1;
+        }
+        merge(parent, i);
+        return i;
+    }
+
+    /**
+     * Move the last entry or child of the left sibling to the child at {@code i}.
+     *
+     * @param parent of the child.
+     * @param i      index of the child.
+     */
+    private static void borrowFromLeft(Branch parent, int i) {
+        final Node child = parent.children[i];
+        final Node left = parent.children[i - 1];
+        System.arraycopy(child.keys, 0, child.keys, 1, child.size);
+        if (child instanceof Leaf leaf) {
+            final Leaf from = (Leaf) left;
+            System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.size);
+            leaf.keys[0] = from.keys[from.size - 1];
+            leaf.values[0] = from.values[from.size - 1];
+            from.keys[from.size - 1] = null;
+            from.values[from.size - 1] = null;
+            parent.keys[i - 1] = leaf.keys[0];
+        } else {
+            final Branch branch = (Branch) child;
+            final Branch from = (Branch) left;
+            System.arraycopy(branch.children, 0, branch.children, 1, branch.size + 1);
+            branch.keys[0] = parent.keys[i - 1];
+            branch.children[0] = from.children[from.size];
+            parent.keys[i - 1] = from.keys[from.size - 1];
+            from.keys[from.size - 1] = null;
+            from.children[from.size] = null;
+        }
+        left.size--;
+        child.size++;
+    }
+
+    /**
+     * Move the first entry or child of the right sibling to the child at {@code i}.
+     *
+     * @param parent of the child.
+     * @param i      index of the child.
+     */
+    private static void borrowFromRight(Branch parent, int i) {
+        final Node child = parent.children[i];
+        final Node right = parent.children[i + 1];
+        if (child instanceof Leaf leaf) {
+            final Leaf from = (Leaf) right;
+            leaf.keys[leaf.size] = from.keys[0];
+            leaf.values[leaf.size] = from.values[0];
+            System.arraycopy(from.values, 1, from.values, 0, from.size - 1);
+            from.values[from.size - 1] = null;
+        } else {
+            final Branch branch = (Branch) child;
+            final Branch from = (Branch) right;
+            branch.keys[branch.size] = parent.keys[i];
+            branch.children[branch.size + 1] = from.children[0];
+            parent.keys[i] = from.keys[0];
+            System.arraycopy(from.children, 1, from.children, 0, from.size);
+            from.children[from.size] = null;
+        }
+        System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+        right.keys[right.size - 1] = null;
+        right.size--;
+        child.size++;
+        if (child instanceof Leaf) {
+            parent.keys[i] = right.keys[0];
+        }
+    }
+
+    /**
+     * Merge the child at {@code s + 1} of the {@code parent} into the child at {@code s}, and
+     * remove the separator between them.
+     *
+     * @param parent of the children.
+     * @param s      index of the left child.
+     */
+    private void merge(Branch parent, int s) {
+        final Node left = parent.children[s];
+        final Node right = parent.children[s + 1];
+        if (left instanceof Leaf leaf) {
+            final Leaf r = (Leaf) right;
+            System.arraycopy(r.keys, 0, leaf.keys, leaf.size, r.size);
+            System.arraycopy(r.values, 0, leaf.values, leaf.size, r.size);
+            leaf.size += r.size;
+            leaf.next = r.next;
+            if (r.next != null) {
+                r.next.prev = leaf;
+            } else {
+                tree.tail = leaf;
+            }
+        } else {
+            final Branch branch = (Branch) left;
+            final Branch r = (Branch) right;
+            branch.keys[branch.size] = parent.keys[s];
+            System.arraycopy(r.keys, 0, branch.keys, branch.size + 1, r.size);
+            System.arraycopy(r.children, 0, branch.children, branch.size + 1, r.size + 1);
+            branch.size += r.size + 1;
+        }
+
+        System.arraycopy(parent.keys, s + 1, parent.keys, s, parent.size - s - 1);
+        System.arraycopy(parent.children, s + 2, parent.children, s + 1, parent.size - s - 1);
+        parent.keys[parent.size - 1] = null;
+        parent.children[parent.size] = null;
+        parent.size--;
+    }
+
+    /**
+     * Replace the tree with the presorted entries, filling the leaves and the branch nodes
+     * evenly bottom up, so none is left under the minimum size.
+     *
+     * @param keys   in strictly ascending order.
+     * @param values index-aligned with the {@code keys}.
+     * @param size   number of the entries.
+     */
+    private void load(Object[] keys, Object[] values, int size) {
+        tree.reset();
+        if (size == 0) {
+            return;
+        }
+
+        Node[] level = new Node[(size + LEAF_CAPACITY - 1) / LEAF_CAPACITY];
+        Object[] lowest = new Object[level.length];
+        Leaf previous = null;
+        for (int l = 0, start = 0; l < level.length; l++) {
+            final Leaf leaf = new Leaf();
+            leaf.size = size / level.length + (l < size % level.length ? 1 : 0);
+            System.arraycopy(keys, start, leaf.keys, 0, leaf.size);
+            System.arraycopy(values, start, leaf.values, 0, leaf.size);
+            start += leaf.size;
+
+            leaf.prev = previous;
+            if (previous != null) {
+                previous.next = leaf;
+            }
+            previous = leaf;
+            level[l] = leaf;
+            lowest[l] = leaf.keys[0];
+        }
+        tree.head = (Leaf) level[0];
+        tree.tail = previous;
+
+        while (level.length > 1) {
+            final Node[] parents = new Node[(level.length + BRANCH_CAPACITY - 1) / BRANCH_CAPACITY];
+            final Object[] parentLowest = new Object[parents.length];
+            for (int p = 0, start = 0; p < parents.length; p++) {
+                final Branch branch = new Branch();
+                final int children = level.length / parents.length + (p < level.length % parents.length ? 1 : 0);
+                System.arraycopy(level, start, branch.children, 0, children);
+                System.arraycopy(lowest, start + 1, branch.keys, 0, children - 1);
+                branch.size = children - 1;
+                parentLowest[p] = lowest[start];
+                parents[p] = branch;
+                start += children;
+            }
+            level = parents;
+            lowest = parentLowest;
+        }
+        tree.root = level[0];
+        tree.size = size;
+    }
+
+    /**
+     * Position the {@code walker} on the entry in the given relation to the {@code key}, over
+     * the whole tree. A leaf never holds fewer entries than a neighbouring leaf can cover, so the
+     * entry is in the leaf of the key or in one of its neighbours.
+     *
+     * @param walker   to position.
+     * @param key      to search for.
+     * @param relation one of {@link #LOWER}, {@link #FLOOR}, {@link #CEILING} and {@link #HIGHER}.
+     * @return {@code true} if there is such an entry.
+     */
+    private boolean seek(Walker walker, Object key, int relation) {
+        Leaf leaf = leafFor(key);
+        int i = search(leaf, key);
+        i = switch (relation) {
+            case LOWER -> i >= 0 ? i - 1 : -i - 2;
+            case FLOOR -> i >= 0 ? i : -i - 2;
+            case CEILING -> i >= 0 ? i : -i - 1;
+            default -> i >= 0 ? i + 1 : -i - 1;
+        };
+
+        if (i < 0) {
+            leaf = leaf.prev;
+            if (leaf == null) {
+                return false;
+            }
+            i = leaf.size - 1;
+        } else if (i >= leaf.size) {
+            leaf = leaf.next;
+            if (leaf == null) {
+                return false;
+            }
+            i = 0;
+        }
+
+        walker.leaf = leaf;
+        walker.index = i;
+        return true;
+    }
+
+    /**
+     * Position the {@code walker} on the lowest entry in the range.
+     *
+     * @param walker to position.
+     * @return {@code true} if the range holds an entry.
+     */
+    private boolean seekLowest(Walker walker) {
+        if (fromStart) {
+            walker.leaf = tree.head;
+            walker.index = 0;
+            if (tree.head.size == 0) {
+                return false;
+            }
+        } else if (!seek(walker, lo, loInclusive ? CEILING : HIGHER)) {
+            return false;
+        }
+        return !tooHigh(walker.key());
+    }
+
+    /**
+     * Position the {@code walker} on the highest entry in the range.
+     *
+     * @param walker to position.
+     * @return {@code true} if the range holds an entry.
+     */
+    private boolean seekHighest(Walker walker) {
+        if (toEnd) {
+            walker.leaf = tree.tail;
+            walker.index = tree.tail.size - 1;
+            if (tree.tail.size == 0) {
+                return false;
+            }
+        } else if (!seek(walker, hi, hiInclusive ? FLOOR : LOWER)) {
+            return false;
+        }
+        return !tooLow(walker.key());
+    }
+
+    /**
+     * Key in the given relation to the {@code key}, within the range.
+     *
+     * @param key      to search for.
+     * @param relation one of {@link #LOWER}, {@link #FLOOR}, {@link #CEILING} and {@link #HIGHER}.
+     * @return the key, or {@code null} if there is no such key.
+     */
+    private K relativeKey(K key, int relation) {
+        checkKey(key);
+        final Walker walker = new Walker();
+        final boolean found;
+        if (relation == CEILING || relation == HIGHER) {
+            found = tooLow(key)
+                    ? seekLowest(walker)
+                    : seek(walker, key, relation) && !tooHigh(walker.key());
+        } else {
+            found = tooHigh(key)
+                    ? seekHighest(walker)
+                    : seek(walker, key, relation) && !tooLow(walker.key());
+        }
+        return found ? walker.key() : null;
+    }
+
+    /**
+     * Whether the {@code key} is below the range.
+     */
+    private boolean tooLow(Object key) {
+        if (!fromStart) {
+            final int c = compare(key, lo);
+            return c < 0 || (c == 0 && !loInclusive);
+        }
+        return false;
+    }
+
+    /**
+     * Whether the {@code key} is above the range.
+     */
+    private boolean tooHigh(Object key) {
+        if (!toEnd) {
+            final int c = compare(key, hi);
+            return c > 0 || (c == 0 && !hiInclusive);
+        }
+        return false;
+    }
+
+    /**
+     * Whether the {@code key} is within the range.
+     */
+    private boolean inRange(Object key) {
+        return !tooLow(key) && !tooHigh(key);
+    }
+
+    /**
+     * Check the {@code key} is within the range, for insertion.
+     *
+     * @throws IllegalArgumentException if the key is outside the range.
+     */
+    private void checkInRange(Object key) {
+        if (!inRange(key)) {
+            throw new IllegalArgumentException("Key out of range: %s".formatted(key));
+        }
+    }
+
+    /**
+     * Check the endpoint of a new view is within the range of this one. An exclusive endpoint
+     * may be equal to an exclusive endpoint of this range.
+     *
+     * @param key       endpoint of the new view.
+     * @param inclusive whether the endpoint is in the new range.
+     * @throws IllegalArgumentException if the endpoint is outside the range.
+     */
+    private void checkBound(Object key, boolean inclusive) {
+        if (!fromStart) {
+            final int c = compare(key, lo);
+            if (c < 0 || (c == 0 && !loInclusive && inclusive)) {
+                throw new IllegalArgumentException("Key out of range: %s".formatted(key));
+            }
+        }
+        if (!toEnd) {
+            final int c = compare(key, hi);
+            if (c > 0 || (c == 0 && !hiInclusive && inclusive)) {
+                throw new IllegalArgumentException("Key out of range: %s".formatted(key));
+            }
+        }
+    }
+
+    /**
+     * Copy the keys of the range into the {@code collector}.
+     *
+     * @param collector array at least as long as the range.
+     * @return the {@code collector}.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T[] collectKeys(T[] collector) {
+        final Walker walker = new Walker();
+        int i = 0;
+        for (boolean next = seekLowest(walker); next; next = walker.next() && !tooHigh(walker.key())) {
+            collector[i++] = (T) walker.key();
+        }
+        return collector;
+    }
+
+    /**
+     * Check the {@code key} is not null.
+     *
+     * @param key to check.
+     * @throws NullPointerException if the {@code key} is null.
+     */
+    private static void checkKey(Object key) {
+        Objects.requireNonNull(key, "BTreeMap key is null");
+    }
+
+    /**
+     * Root, first and last leaves and size of a tree, shared by a map and its views.
+     */
+    private static final class Tree {
+
+        Node root;
+        Leaf head;
+        Leaf tail;
+        int size;
+
+        Tree() {
+            reset();
+        }
+
+        /**
+         * Replace the tree with an empty one.
+         */
+        void reset() {
+            final Leaf leaf = new Leaf();
+            root = leaf;
+            head = leaf;
+            tail = leaf;
+            size = 0;
+        }
+    }
+
+    /**
+     * Node of the tree, with its keys in ascending order.
+     */
+    private abstract static class Node {
+
+        /**
+         * Keys of the entries of a leaf, or the separators of the children of a branch.
+         */
+        final Object[] keys;
+        /**
+         * Number of the keys.
+         */
+        int size;
+
+        Node(int capacity) {
+            this.keys = new Object[capacity];
+        }
+    }
+
+    /**
+     * Leaf of the tree, linked to its neighbours in key order.
+     */
+    private static final class Leaf extends Node {
+
+        /**
+         * Values index-aligned with the keys.
+         */
+        final Object[] values = new Object[LEAF_CAPACITY];
+        /**
+         * Previous leaf in key order.
+         */
+        Leaf prev;
+        /**
+         * Next leaf in key order.
+         */
+        Leaf next;
+
+        Leaf() {
+            super(LEAF_CAPACITY);
+        }
+    }
+
+    /**
+     * Branch node of the tree. The child at {@code i} holds the keys from the separator at
+     * {@code i - 1}, inclusive, to the separator at {@code i}, exclusive.
+     */
+    private static final class Branch extends Node {
+
+        /**
+         * Children, one more than the separators.
+         */
+        final Node[] children = new Node[BRANCH_CAPACITY];
+
+        Branch() {
+            super(BRANCH_CAPACITY - 1);
+        }
+    }
+
+    /**
+     * Position of an entry in a leaf, moved sideways over the linked leaves.
+     */
+    private final class Walker {
+
+        /**
+         * Leaf of the entry.
+         */
+        Leaf leaf;
+        /**
+         * Index of the entry in the {@link #leaf}.
+         */
+        int index;
+
+        /**
+         * Move to the next entry of the tree.
+         *
+         * @return {@code true} if there is one.
+         */
+        boolean next() {
+            if (++index < leaf.size) {
+                return true;
+            }
+
+            final Leaf next = leaf.next;
+            if (next == null) {
+                index--;
+                return false;
+            }
+            leaf = next;
+            index = 0;
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        K key() {
+            return (K) leaf.keys[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        V value() {
+            return (V) leaf.values[index];
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link SortedSet} implementation backed by a {@link BTreeMap}, with the elements as the keys
+ * of the map. The range views share the tree with the set they are created from.
+ * <p>
+ * This implementation does not permit {@code null} elements.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class BTreeSet<E> implements SortedSet<E> {
+
+    /**
+     * Value of every key of the backing map.
+     */
+    private static final Object PRESENT = Boolean.TRUE;
+
+    /**
+     * Backing map of this set.
+     */
+    private final BTreeMap<E, Object> map;
+
+    /**
+     * Default constructor implementation initialize an empty {@link BTreeSet}, ordered by the
+     * natural ordering of the elements.
+     */
+    public BTreeSet() {
+        this(new BTreeMap<>());
+    }
+
+    /**
+     * Overloaded constructor implementation initialize an empty {@link BTreeSet}, ordered by the
+     * {@code comparator}.
+     *
+     * @param comparator to order the elements, or {@code null} for the natural ordering.
+     */
+    public BTreeSet(@Nullable Comparator<? super E> comparator) {
+        this(new BTreeMap<>(comparator));
+    }
+
+    /**
+     * Create a set over the keys of the {@code map}.
+     *
+     * @param map to back the set.
+     */
+    private BTreeSet(BTreeMap<E, Object> map) {
+        this.map = map;
+    }
+
+    /**
+     * Returns a new {@link BTreeSet} with the specified elements, which must be in strictly
+     * ascending order, built in linear time.
+     *
+     * @param comparator to order the elements, or {@code null} for the natural ordering.
+     * @param elements   in strictly ascending order.
+     * @return a new set.
+     * @throws NullPointerException     if the array or any element is null.
+     * @throws IllegalArgumentException if the elements are not in strictly ascending order.
+     * @see BTreeMap#fromSorted(Comparator, Object[], Object[])
+     */
+    public static <E> BTreeSet<E> fromSorted(@Nullable Comparator<? super E> comparator, @NotNull E[] elements) {
+        Objects.requireNonNull(elements, "Elements array is null");
+        final Object[] values = new Object[elements.length];
+        Arrays.fill(values, PRESENT);
+        return new BTreeSet<>(BTreeMap.fromSorted(comparator, elements, values));
+    }
+
+    /**
+     * Adds the specified element to this set if it is not already present.
+     *
+     * @param element element to be added to this set
+     * @return {@code true} if this set did not already contain the specified element
+     * @throws NullPointerException     if the specified element is null
+     * @throws IllegalArgumentException if this set is a view and the element lies outside its range
+     */
+    @Override
+    public boolean add(E element) {
+        return map.put(element, PRESENT) == null;
+    }
+
+    /**
+     * Removes the specified element from this set if it is present.
+     *
+     * @param element element to be removed from this set, if present
+     * @return {@code true} if this set contained the specified element
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean remove(E element) {
+        return map.remove(element) != null;
+    }
+
+    /**
+     * Returns the comparator used to order the elements in this set, or {@code null} if this
+     * set uses the natural ordering of its elements.
+     *
+     * @return the comparator used to order the elements in this set, or {@code null}
+     */
+    @Override
+    public Comparator<? super E> comparator() {
+        return map.comparator();
+    }
+
+    /**
+     * Returns the first (lowest) element currently in this set.
+     *
+     * @return the first (lowest) element currently in this set
+     * @throws NoSuchElementException if this set is empty
+     */
+    @Override
+    public E first() {
+        return map.firstKey();
+    }
+
+    /**
+     * Returns the last (highest) element currently in this set.
+     *
+     * @return the last (highest) element currently in this set
+     * @throws NoSuchElementException if this set is empty
+     */
+    @Override
+    public E last() {
+        return map.lastKey();
+    }
+
+    /**
+     * Returns the greatest element in this set less than or equal to the given element, or
+     * {@code null} if there is no such element.
+     *
+     * @param element the value to match
+     * @return the greatest element less than or equal to {@code element}, or {@code null}
+     */
+    @Override
+    public E floor(E element) {
+        return map.floorKey(element);
+    }
+
+    /**
+     * Returns the least element in this set greater than or equal to the given element, or
+     * {@code null} if there is no such element.
+     *
+     * @param element the value to match
+     * @return the least element greater than or equal to {@code element}, or {@code null}
+     */
+    @Override
+    public E ceiling(E element) {
+        return map.ceilingKey(element);
+    }
+
+    /**
+     * Returns the greatest element in this set strictly less than the given element, or
+     * {@code null} if there is no such element.
+     *
+     * @param element the value to match
+     * @return the greatest element less than {@code element}, or {@code null}
+     */
+    @Override
+    public E lower(E element) {
+        return map.lowerKey(element);
+    }
+
+    /**
+     * Returns the least element in this set strictly greater than the given element, or
+     * {@code null} if there is no such element.
+     *
+     * @param element the value to match
+     * @return the least element greater than {@code element}, or {@code null}
+     */
+    @Override
+    public E higher(E element) {
+        return map.higherKey(element);
+    }
+
+    /**
+     * Returns a view of the portion of this set whose elements range from {@code fromElement}
+     * to {@code toElement}, backed by the same tree.
+     *
+     * @param fromElement   low endpoint of the returned set
+     * @param fromInclusive {@code true} if the low endpoint is to be included in the returned view
+     * @param toElement     high endpoint of the returned set
+     * @param toInclusive   {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this set whose elements range from {@code fromElement} to
+     * {@code toElement}
+     */
+    @Override
+    public BTreeSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive) {
+        return new BTreeSet<>(map.subMap(fromElement, fromInclusive, toElement, toInclusive));
+    }
+
+    /**
+     * Returns a view of the portion of this set whose elements are less than (or equal to, if
+     * {@code inclusive} is true) {@code toElement}, backed by the same tree.
+     *
+     * @param toElement high endpoint of the returned set
+     * @param inclusive {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this set whose elements are less than {@code toElement}
+     */
+    @Override
+    public BTreeSet<E> headSet(E toElement, boolean inclusive) {
+        return new BTreeSet<>(map.headMap(toElement, inclusive));
+    }
+
+    /**
+     * Returns a view of the portion of this set whose elements are greater than (or equal to,
+     * if {@code inclusive} is true) {@code fromElement}, backed by the same tree.
+     *
+     * @param fromElement low endpoint of the returned set
+     * @param inclusive   {@code true} if the low endpoint is to be included in the returned view
+     * @return a view of the portion of this set whose elements are greater than {@code fromElement}
+     */
+    @Override
+    public BTreeSet<E> tailSet(E fromElement, boolean inclusive) {
+        return new BTreeSet<>(map.tailMap(fromElement, inclusive));
+    }
+
+    /**
+     * Removes all the elements of this set, or of the range of this view.
+     */
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * Returns true if this set contains the specified element.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean contains(E element) {
+        return map.containsKey(element);
+    }
+
+    /**
+     * Returns true if this set contains all the elements in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection contains one or more null
+     *                              elements, or if the specified collection is null.
+     * @see #contains(E)
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<E> elements) {
+        return map.containsAll(elements);
+    }
+
+    /**
+     * Return a new {@link BTreeSet} with the elements of this set, or of the range of this view,
+     * bulk loaded in linear time.
+     *
+     * @return a new instance of this {@link BTreeSet}.
+     */
+    @Override
+    public BTreeSet<E> copy() {
+        return new BTreeSet<>(map.copy());
+    }
+
+    /**
+     * Returns {@code true} if this collection contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * Returns the number of elements in this set.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns an array containing all the elements of this set, in ascending order.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return map.toArray();
+    }
+
+    /**
+     * Returns an array containing all the elements of this set, in ascending order; the runtime
+     * type of the returned array is that of the specified array.
+     *
+     * @param collector the array into which the elements of this collection are to be stored, if it is big
+     *                  enough; otherwise, a new array of the same runtime type is allocated for this purpose.
+     * @return an array containing all the elements in this collection
+     * @throws NullPointerException if the specified array is null.
+     */
+    @Override
+    public <T> T[] toArray(@NotNull T[] collector) {
+        return map.toArray(collector);
+    }
+
+    /**
+     * Returns an iterator over the elements of this set, in ascending order.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<E> iterator() {
+        return map.iterator();
+    }
+}
@@ -0,0 +1,234 @@
+package io.insight.collections;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Constants and helpers of the compact binary format the collections of this package are
+ * written in and read from, without Java serialization. A list is encoded as
+ * <pre>
+ *     'L' | element bytes | size | size * element
+ * </pre>
+ * and a map as
+ * <pre>
+ *     'M' | key bytes | value bytes | size | size * (key, value)
+ * </pre>
+ * where the tag is a single byte, the lengths are unsigned LEB128 varints, and every element,
+ * key or value is encoded by an {@link ElementCodec} into its fixed width, in little endian
+ * byte order. A primitive list is encoded the same as a boxed list with the matching codec,
+ * so one can be read as the other.
+ * <p>
+ * The elements come right after the header without any padding, so a reader can slice them
+ * out of the buffer and decode any of them in place.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+final class BinaryFormat {
+
+    /**
+     * Tag of an encoded list, ASCII {@code L}.
+     */
+    static final byte LIST_TAG = 0x4C;
+    /**
+     * Tag of an encoded map, ASCII {@code M}.
+     */
+    static final byte MAP_TAG = 0x4D;
+    /**
+     * Byte order of the encoded elements.
+     */
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    /**
+     * Maximum size of a header in bytes, the tag and three varints.
+     */
+    private static final int MAX_HEADER_BYTES = 16;
+    /**
+     * Maximum size of the buffer the elements are staged in, on the way to a channel.
+     */
+    private static final int MAX_BUFFER_BYTES = 1 << 16;
+
+    /**
+     * Not to be instantiated.
+     */
+    private BinaryFormat() {
+    }
+
+    /**
+     * Allocate the buffer to stage a header and the elements in, on the way to a channel. Big
+     * enough for the whole encoding if it's small, for a header and a record at least.
+     *
+     * @param recordBytes size of a record, an element or an entry.
+     * @param dataBytes   size of all the records.
+     * @return the new buffer, in {@link #BYTE_ORDER}.
+     */
+    static ByteBuffer allocate(int recordBytes, long dataBytes) {
+        final long bytes = Math.max(MAX_HEADER_BYTES + recordBytes, Math.min(MAX_BUFFER_BYTES, MAX_HEADER_BYTES + dataBytes));
+        return ByteBuffer.allocate((int) bytes).order(BYTE_ORDER);
+    }
+
+    /**
+     * Put the header of a list into the {@code buffer} at its position.
+     *
+     * @param buffer       to write the header into.
+     * @param elementBytes size of an element.
+     * @param size         number of the elements.
+     */
+    static void putListHeader(ByteBuffer buffer, int elementBytes, int size) {
+        buffer.put(LIST_TAG);
+        putVarint(buffer, elementBytes);
+        putVarint(buffer, size);
+    }
+
+    /**
+     * Put the header of a map into the {@code buffer} at its position.
+     *
+     * @param buffer     to write the header into.
+     * @param keyBytes   size of a key.
+     * @param valueBytes size of a value.
+     * @param size       number of the entries.
+     */
+    static void putMapHeader(ByteBuffer buffer, int keyBytes, int valueBytes, int size) {
+        buffer.put(MAP_TAG);
+        putVarint(buffer, keyBytes);
+        putVarint(buffer, valueBytes);
+        putVarint(buffer, size);
+    }
+
+    /**
+     * Write the {@code buffer} up to {@code position} out to the {@code channel} in full, and
+     * clear it for the next records.
+     *
+     * @param channel  to write to.
+     * @param buffer   to be written.
+     * @param position end of the bytes to write.
+     * @throws IOException if the channel fails to write.
+     */
+    static void drain(WritableByteChannel channel, ByteBuffer buffer, int position) throws IOException {
+        buffer.limit(position).position(0);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Read the header of a list at the position of the {@code buffer}, and slice out its
+     * elements. The position of the {@code buffer} moves past the list.
+     *
+     * @param buffer       to read from.
+     * @param elementBytes expected size of an element.
+     * @return the elements, in {@link #BYTE_ORDER}.
+     * @throws IllegalArgumentException if the buffer does not hold a list of the expected
+     *                                  element size at its position.
+     * @throws BufferUnderflowException if the buffer ends before the list.
+     */
+    static ByteBuffer sliceList(ByteBuffer buffer, int elementBytes) {
+        final byte tag = buffer.get();
+        if (tag != LIST_TAG) {
+            throw new IllegalArgumentException("Invalid list tag: %d".formatted(tag));
+        }
+        checkWidth("Element", getVarint(buffer), elementBytes);
+
+        return slice(buffer, getVarint(buffer), elementBytes);
+    }
+
+    /**
+     * Read the header of a map at the position of the {@code buffer}, and slice out its
+     * entries. The position of the {@code buffer} moves past the map.
+     *
+     * @param buffer     to read from.
+     * @param keyBytes   expected size of a key.
+     * @param valueBytes expected size of a value.
+     * @return the entries, in {@link #BYTE_ORDER}.
+     * @throws IllegalArgumentException if the buffer does not hold a map of the expected key
+     *                                  and value sizes at its position.
+     * @throws BufferUnderflowException if the buffer ends before the map.
+     */
+    static ByteBuffer sliceMap(ByteBuffer buffer, int keyBytes, int valueBytes) {
+        final byte tag = buffer.get();
+        if (tag != MAP_TAG) {
+            throw new IllegalArgumentException("Invalid map tag: %d".formatted(tag));
+        }
+        checkWidth("Key", getVarint(buffer), keyBytes);
+        checkWidth("Value", getVarint(buffer), valueBytes);
+
+        return slice(buffer, getVarint(buffer), keyBytes + valueBytes);
+    }
+
+    /**
+     * Slice {@code size} records out of the {@code buffer} at its position, and move the
+     * position past them.
+     *
+     * @param buffer      to slice.
+     * @param size        number of the records.
+     * @param recordBytes size of a record.
+     * @return the records, in {@link #BYTE_ORDER}.
+     * @throws BufferUnderflowException if the buffer ends before the records.
+     */
+    private static ByteBuffer slice(ByteBuffer buffer, int size, int recordBytes) {
+        final long bytes = (long) size * recordBytes;
+        if (bytes > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        final ByteBuffer records = buffer.slice(buffer.position(), (int) bytes).order(BYTE_ORDER);
+        buffer.position(buffer.position() + (int) bytes);
+        return records;
+    }
+
+    /**
+     * Check the encoded width of a record field against the codec.
+     *
+     * @param field    name of the field, for the message.
+     * @param encoded  width read from the header.
+     * @param expected width of the codec.
+     * @throws IllegalArgumentException if the widths don't match.
+     */
+    private static void checkWidth(String field, int encoded, int expected) {
+        if (encoded != expected) {
+            throw new IllegalArgumentException("%s size %d does not match the codec size %d"
+                    .formatted(field, encoded, expected));
+        }
+    }
+
+    /**
+     * Put a non-negative {@code value} into the {@code buffer} as an unsigned LEB128 varint,
+     * seven bits per byte, least significant first.
+     *
+     * @param buffer to write into.
+     * @param value  to be written.
+     */
+    static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Get an unsigned LEB128 varint from the {@code buffer} at its position.
+     *
+     * @param buffer to read from.
+     * @return the non-negative value.
+     * @throws IllegalArgumentException if the varint is longer than five bytes or out of the
+     *                                  non-negative int range.
+     */
+    static int getVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final byte b = buffer.get();
+            if (shift == 28 && (b & 0xF8) != 0) {
+                break;
+            }
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at %d".formatted(buffer.position()));
+    }
+}
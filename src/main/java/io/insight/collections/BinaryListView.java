@@ -0,0 +1,364 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Read-only {@link List} over a list encoded in the compact binary format of this package,
+ * by {@link ArrayList#writeTo(WritableByteChannel, ElementCodec)} or the {@code writeTo} of a
+ * primitive list. Creating the view reads the header only, every element is decoded in place
+ * from the buffer on access, so a view over a {@link java.nio.MappedByteBuffer} of any size
+ * opens in constant time and the operating system loads just the pages it touches.
+ * <p>
+ * The view does not copy the buffer, it must not be modified while the view is in use. All
+ * the modifying operations throw {@link UnsupportedOperationException}, use
+ * {@link ArrayList#readFrom(ByteBuffer, ElementCodec)} for a modifiable copy.
+ *
+ * @param <T> the type of the elements
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class BinaryListView<T> implements List<T> {
+
+    /**
+     * Encoded elements, in the byte order of the format.
+     */
+    private final ByteBuffer elements;
+    /**
+     * Codec to decode the elements.
+     */
+    private final ElementCodec<T> codec;
+    /**
+     * Number of bytes every element occupies.
+     */
+    private final int elementBytes;
+    /**
+     * Number of the elements.
+     */
+    private final int size;
+
+    /**
+     * Create a view over the list encoded at the position of the {@code buffer}, and move the
+     * position past it.
+     *
+     * @param buffer to view, of up to {@code 2 GiB}.
+     * @param codec  to decode the elements, of the same size as the one they were written with.
+     * @throws NullPointerException     if the {@code buffer} or the {@code codec} is null.
+     * @throws IllegalArgumentException if the buffer does not hold a list of the codec's
+     *                                  element size at its position.
+     * @throws BufferUnderflowException if the buffer ends before the list.
+     */
+    public BinaryListView(@NotNull ByteBuffer buffer, @NotNull ElementCodec<T> codec) {
+        Objects.requireNonNull(buffer, "Buffer is null");
+        this.codec = Objects.requireNonNull(codec, "Element codec is null");
+        this.elementBytes = codec.byteSize();
+        this.elements = BinaryFormat.sliceList(buffer, elementBytes);
+        this.size = elements.limit() / elementBytes;
+    }
+
+    /**
+     * Not supported, {@link BinaryListView} is read-only.
+     *
+     * @param element element to be appended to this list
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean add(T element) {
+        throw new UnsupportedOperationException("BinaryListView is read-only");
+    }
+
+    /**
+     * Not supported, {@link BinaryListView} is read-only.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean add(int index, T element) {
+        throw new UnsupportedOperationException("BinaryListView is read-only");
+    }
+
+    /**
+     * Not supported, {@link BinaryListView} is read-only.
+     *
+     * @param elements collection containing elements to be added to this list
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        throw new UnsupportedOperationException("BinaryListView is read-only");
+    }
+
+    /**
+     * Not supported, {@link BinaryListView} is read-only.
+     *
+     * @param index    index at which to insert the first element from the specified collection
+     * @param elements collection containing elements to be added to this list
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        throw new UnsupportedOperationException("BinaryListView is read-only");
+    }
+
+    /**
+     * Returns the element at the specified position in this list, decoded from the buffer.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    @Override
+    public T get(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+        }
+        return codec.read(elements, index * elementBytes);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or
+     * {@code -1} if this list does not contain the element. Decodes the elements one by one.
+     *
+     * @param element element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if
+     * this list does not contain the element
+     */
+    @Override
+    public int indexOf(T element) {
+        for (int i = 0, offset = 0; i < size; i++, offset += elementBytes) {
+            if (Objects.equals(element, codec.read(elements, offset))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Not supported, {@link BinaryListView} is read-only.
+     *
+     * @param index the index of the element to be removed
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public T remove(int index) {
+        throw new UnsupportedOperationException("BinaryListView is read-only");
+    }
+
+    /**
+     * Not supported, {@link BinaryListView} is read-only.
+     *
+     * @param element to be removed
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public int remove(T element) {
+        throw new UnsupportedOperationException("BinaryListView is read-only");
+    }
+
+    /**
+     * Not supported, {@link BinaryListView} is read-only.
+     *
+     * @param elements collection containing elements to be removed from this list
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean removeAll(Collection<? extends T> elements) {
+        throw new UnsupportedOperationException("BinaryListView is read-only");
+    }
+
+    /**
+     * Not supported, {@link BinaryListView} is read-only.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public T set(int index, T element) {
+        throw new UnsupportedOperationException("BinaryListView is read-only");
+    }
+
+    /**
+     * Not supported, {@link BinaryListView} is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("BinaryListView is read-only");
+    }
+
+    /**
+     * Returns true if this collection contains the specified element.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     */
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Returns true if this collection contains all the elements in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (T element : elements) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns this view, in constant time. A {@link BinaryListView} is never modified, so the
+     * same instance serves as its own copy.
+     *
+     * @return this instance.
+     */
+    @Override
+    public BinaryListView<T> copy() {
+        return this;
+    }
+
+    /**
+     * Returns true if this collection contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this collection.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an array containing all the elements in this list, decoded, in the same order.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return decode(new Object[size]);
+    }
+
+    /**
+     * Returns an array containing all the elements in this list, decoded; the runtime type of
+     * the returned array is that of the specified array. If the list fits in the specified
+     * array, it is returned therein, with a {@code null} following the last element if there is
+     * room. Otherwise, a new array is allocated with the runtime type of the specified array and
+     * the size of this list.
+     *
+     * @param collector the array into which the elements of this collection are to be stored, if it
+     *                  is big enough; otherwise, a new array of the same runtime type is allocated.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException  if the runtime type of any element in this collection is not
+     *                              assignable to the runtime component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @Override
+    public <E> E[] toArray(@NotNull E[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        if (collector.length < size) {
+            return decode(Arrays.copyOf(collector, size));
+        }
+
+        if (collector.length > size) {
+            collector[size] = null;
+        }
+        return decode(collector);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list, which decodes an element per step.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Pointer to current index.
+             */
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException("List size %d exceeded, cannot access %d index."
+                            .formatted(size, index));
+                }
+                return codec.read(elements, index++ * elementBytes);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the elements in this list. It reports
+     * {@link Spliterator#IMMUTABLE}, {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and
+     * {@link Spliterator#SUBSIZED}.
+     *
+     * @return a {@link Spliterator} over the elements in this list.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    /**
+     * Decode all the elements into the {@code array}, which holds {@link #size} elements at least.
+     *
+     * @param array to decode the elements into.
+     * @param <E>   the runtime component type of the array.
+     * @return the same array.
+     */
+    private <E> E[] decode(E[] array) {
+        final Object[] target = array;
+        for (int i = 0, offset = 0; i < size; i++, offset += elementBytes) {
+            target[i] = codec.read(elements, offset);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,69 @@
+package io.insight.collections;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a bulk operation, such as {@code addAll} or {@code toArray}, over at
+ * least {@link #THRESHOLD} elements. Smaller operations are never committed, so the event stays
+ * affordable on the hot paths with the recording on.
+ * <p>
+ * The threshold is read once from the {@value #PROPERTY} system property, {@code 10000}
+ * elements by default. The duration threshold of the recording settings applies on top of it.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@Name("io.insight.collections.BulkOperation")
+@Label("Collection Bulk Operation")
+@Category("Insight Collections")
+@Description("Bulk operation over many elements of a collection")
+@StackTrace
+final class BulkOperationEvent extends Event {
+
+    /**
+     * System property to set the minimum number of elements of a recorded operation.
+     */
+    static final String PROPERTY = "io.insight.collections.jfr.bulkThreshold";
+    /**
+     * Minimum number of elements of a recorded operation.
+     */
+    static final int THRESHOLD = Integer.getInteger(PROPERTY, 10_000);
+
+    /**
+     * Class of the collection operated on.
+     */
+    @Label("Collection Class")
+    Class<?> collectionClass;
+    /**
+     * Name of the operation, such as {@code addAll}.
+     */
+    @Label("Operation")
+    String operation;
+    /**
+     * Number of the elements the operation went over.
+     */
+    @Label("Elements")
+    int elements;
+
+    /**
+     * Commit this event, if the operation went over {@link #THRESHOLD} elements or more, and
+     * the event is enabled and lasted over its duration threshold.
+     *
+     * @param collection operated on.
+     * @param operation  name of the operation.
+     * @param elements   number of the elements the operation went over.
+     */
+    void commit(Object collection, String operation, int elements) {
+        if (elements >= THRESHOLD && shouldCommit()) {
+            this.collectionClass = collection.getClass();
+            this.operation = operation;
+            this.elements = elements;
+            commit();
+        }
+    }
+}
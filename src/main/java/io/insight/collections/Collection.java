@@ -1,5 +1,9 @@
 package io.insight.collections;
 
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * @author Sachith Dickwella
  * @since 1.0
@@ -122,4 +126,39 @@ public interface Collection<E> extends Iterable<E> {
      * <p>
      */
     <T> T[] toArray(T[] collector);
+
+    /**
+     * Creates a {@link Spliterator} over the elements in this collection. The default implementation
+     * creates a late-binding spliterator, which takes the collection's {@link #iterator()} and
+     * {@link #size()} on the first traversal, split or size estimate, reports
+     * {@link Spliterator#SIZED}, and splits by copying batches of elements into arrays.
+     * Implementations backed by an indexed structure should override it with one that splits in
+     * place, and concurrent implementations, whose size is only an estimate, with one that does
+     * not report {@link Spliterator#SIZED}.
+     *
+     * @return a {@link Spliterator} over the elements in this collection.
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return new LateBindingSpliterator<>(this, this::size, 0);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} with this collection as its source.
+     *
+     * @return a sequential {@link Stream} over the elements in this collection.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link Stream} with this collection as its source. How well it
+     * scales depends on how evenly the {@link #spliterator()} splits.
+     *
+     * @return a possibly parallel {@link Stream} over the elements in this collection.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
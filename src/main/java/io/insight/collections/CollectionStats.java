@@ -0,0 +1,338 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Opt-in counters of the hidden costs of the collections of this package: the backing array
+ * resizes and the bytes they copy, the element shifts of the positional inserts and removals,
+ * the node hops of the positional lookups of {@link LinkedList}, and the probe lengths of the
+ * lookups of the open addressing hash maps.
+ * <p>
+ * Counting is switched on for the whole runtime with the {@value #PROPERTY} system property,
+ * read once into the static final {@link #ENABLED} flag. The recording methods test the flag
+ * first, so while it is off the JIT compiler folds them away, and the collections run the same
+ * code as without them. While it is on, the counters are {@link LongAdder}s, shared by all the
+ * collections and all the threads.
+ * <p>
+ * {@link #snapshot()} captures the counters, to be exported to a metrics registry with
+ * {@link #forEach(ObjLongConsumer)} or logged with {@link #toString()}, for example
+ * {@code CollectionStats.snapshot().forEach((name, value) -> registry.gauge("collections." + name, value))}.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public final class CollectionStats {
+
+    /**
+     * System property to set to {@code true} to switch the counting on.
+     */
+    public static final String PROPERTY = "io.insight.collections.stats";
+    /**
+     * Whether the counting is switched on, fixed at class initialization.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+    /**
+     * Size of an object reference in an array, {@code 4} with compressed references.
+     */
+    static final int REFERENCE_BYTES = referenceBytes();
+
+    /**
+     * Number of backing array and table resizes.
+     */
+    private static final LongAdder RESIZES = new LongAdder();
+    /**
+     * Number of bytes copied by the resizes and the shifts.
+     */
+    private static final LongAdder BYTES_COPIED = new LongAdder();
+    /**
+     * Number of positional inserts and removals which shift elements.
+     */
+    private static final LongAdder SHIFTS = new LongAdder();
+    /**
+     * Number of elements moved by the shifts.
+     */
+    private static final LongAdder SHIFT_DISTANCE = new LongAdder();
+    /**
+     * Number of positional node lookups.
+     */
+    private static final LongAdder NODE_WALKS = new LongAdder();
+    /**
+     * Number of nodes hopped over by the node lookups.
+     */
+    private static final LongAdder NODE_HOPS = new LongAdder();
+    /**
+     * Number of hash map lookups.
+     */
+    private static final LongAdder PROBES = new LongAdder();
+    /**
+     * Number of slots visited by the hash map lookups.
+     */
+    private static final LongAdder PROBE_LENGTH = new LongAdder();
+
+    /**
+     * Number of backing array and table resizes.
+     */
+    private final long resizes;
+    /**
+     * Number of bytes copied by the resizes and the shifts.
+     */
+    private final long bytesCopied;
+    /**
+     * Number of positional inserts and removals which shifted elements.
+     */
+    private final long shifts;
+    /**
+     * Number of elements moved by the shifts.
+     */
+    private final long shiftDistance;
+    /**
+     * Number of positional node lookups.
+     */
+    private final long nodeWalks;
+    /**
+     * Number of nodes hopped over by the node lookups.
+     */
+    private final long nodeHops;
+    /**
+     * Number of hash map lookups.
+     */
+    private final long probes;
+    /**
+     * Number of slots visited by the hash map lookups.
+     */
+    private final long probeLength;
+
+    /**
+     * Capture the current values of the counters.
+     */
+    private CollectionStats() {
+        this.resizes = RESIZES.sum();
+        this.bytesCopied = BYTES_COPIED.sum();
+        this.shifts = SHIFTS.sum();
+        this.shiftDistance = SHIFT_DISTANCE.sum();
+        this.nodeWalks = NODE_WALKS.sum();
+        this.nodeHops = NODE_HOPS.sum();
+        this.probes = PROBES.sum();
+        this.probeLength = PROBE_LENGTH.sum();
+    }
+
+    /**
+     * Returns the current values of the counters. All zeros unless {@link #ENABLED}. The
+     * counters are read one by one, so the snapshot is not atomic while collections are updated
+     * concurrently.
+     *
+     * @return the snapshot of the counters.
+     */
+    @NotNull
+    public static CollectionStats snapshot() {
+        return new CollectionStats();
+    }
+
+    /**
+     * Resets all the counters to zero.
+     */
+    public static void reset() {
+        RESIZES.reset();
+        BYTES_COPIED.reset();
+        SHIFTS.reset();
+        SHIFT_DISTANCE.reset();
+        NODE_WALKS.reset();
+        NODE_HOPS.reset();
+        PROBES.reset();
+        PROBE_LENGTH.reset();
+    }
+
+    /**
+     * Record a resize of a backing array or table.
+     *
+     * @param bytesCopied number of bytes copied into the new array.
+     */
+    static void resized(long bytesCopied) {
+        if (ENABLED) {
+            RESIZES.increment();
+            BYTES_COPIED.add(bytesCopied);
+        }
+    }
+
+    /**
+     * Record a shift of the elements of an array, for a positional insert or removal.
+     *
+     * @param elements     number of elements moved.
+     * @param elementBytes size of an element in the array.
+     */
+    static void shifted(int elements, int elementBytes) {
+        if (ENABLED) {
+            SHIFTS.increment();
+            SHIFT_DISTANCE.add(elements);
+            BYTES_COPIED.add((long) elements * elementBytes);
+        }
+    }
+
+    /**
+     * Record a positional lookup of a node in a linked structure.
+     *
+     * @param hops number of nodes hopped over.
+     */
+    static void walked(int hops) {
+        if (ENABLED) {
+            NODE_WALKS.increment();
+            NODE_HOPS.add(hops);
+        }
+    }
+
+    /**
+     * Record a lookup of a key in a hash table.
+     *
+     * @param length number of slots visited, at least {@code 1}.
+     */
+    static void probed(int length) {
+        if (ENABLED) {
+            PROBES.increment();
+            PROBE_LENGTH.add(length);
+        }
+    }
+
+    /**
+     * Returns the number of backing array and table resizes.
+     *
+     * @return the number of resizes.
+     */
+    public long resizes() {
+        return resizes;
+    }
+
+    /**
+     * Returns the number of bytes copied by the resizes and the shifts.
+     *
+     * @return the number of bytes copied.
+     */
+    public long bytesCopied() {
+        return bytesCopied;
+    }
+
+    /**
+     * Returns the number of positional inserts and removals which shifted elements.
+     *
+     * @return the number of shifts.
+     */
+    public long shifts() {
+        return shifts;
+    }
+
+    /**
+     * Returns the total number of elements moved by the shifts.
+     *
+     * @return the number of elements shifted.
+     */
+    public long shiftDistance() {
+        return shiftDistance;
+    }
+
+    /**
+     * Returns the number of positional node lookups.
+     *
+     * @return the number of node lookups.
+     */
+    public long nodeWalks() {
+        return nodeWalks;
+    }
+
+    /**
+     * Returns the total number of nodes hopped over by the node lookups.
+     *
+     * @return the number of nodes hopped over.
+     */
+    public long nodeHops() {
+        return nodeHops;
+    }
+
+    /**
+     * Returns the number of hash map lookups.
+     *
+     * @return the number of hash map lookups.
+     */
+    public long probes() {
+        return probes;
+    }
+
+    /**
+     * Returns the total number of slots visited by the hash map lookups.
+     *
+     * @return the number of slots visited.
+     */
+    public long probeLength() {
+        return probeLength;
+    }
+
+    /**
+     * Returns the mean number of slots visited by a hash map lookup, or {@code 0} if there was
+     * no lookup.
+     *
+     * @return the mean probe length.
+     */
+    public double averageProbeLength() {
+        return probes == 0 ? 0 : (double) probeLength / probes;
+    }
+
+    /**
+     * Passes every counter to the {@code sink} with its name, for the export to a metrics
+     * registry. The names are {@code resizes}, {@code bytes.copied}, {@code shifts},
+     * {@code shift.distance}, {@code node.walks}, {@code node.hops}, {@code probes} and
+     * {@code probe.length}.
+     *
+     * @param sink to pass the counters to.
+     * @throws NullPointerException if the {@code sink} is null.
+     */
+    public void forEach(@NotNull ObjLongConsumer<String> sink) {
+        Objects.requireNonNull(sink, "Sink is null");
+        sink.accept("resizes", resizes);
+        sink.accept("bytes.copied", bytesCopied);
+        sink.accept("shifts", shifts);
+        sink.accept("shift.distance", shiftDistance);
+        sink.accept("node.walks", nodeWalks);
+        sink.accept("node.hops", nodeHops);
+        sink.accept("probes", probes);
+        sink.accept("probe.length", probeLength);
+    }
+
+    /**
+     * Returns the counters as {@code name=value} pairs, in the order of
+     * {@link #forEach(ObjLongConsumer)}.
+     *
+     * @return the string representation of this snapshot.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("CollectionStats{");
+        forEach((name, value) -> builder.append(name).append('=').append(value).append(", "));
+        builder.setLength(builder.length() - 2);
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Look up the size of an object reference in an array from {@code sun.misc.Unsafe}.
+     *
+     * @return the reference size, or {@code 4} if the runtime does not tell.
+     */
+    private static int referenceBytes() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+
+            return (int) MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "arrayIndexScale", MethodType.methodType(int.class, Class.class))
+                    .bindTo(theUnsafe.get(null))
+                    .invokeExact(Object[].class);
+        } catch (Throwable ex) {
+            return 4;
+        }
+    }
+}
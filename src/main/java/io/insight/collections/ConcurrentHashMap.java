@@ -0,0 +1,1140 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.insight.collections.HashTables.DEFAULT_CAPACITY;
+import static io.insight.collections.HashTables.DEFAULT_LOAD_FACTOR;
+import static io.insight.collections.HashTables.MAXIMUM_CAPACITY;
+import static io.insight.collections.HashTables.tableSizeFor;
+
+/**
+ * Thread-safe hash table implementation of {@link Map} interface, for maps updated by many
+ * threads at once. Entries are chained in bins of a power of two table.
+ * <p>
+ * Lookups take no locks. A new entry is placed into an empty bin with a single compare and set,
+ * every other update locks the first node of its bin only, so threads working on different bins
+ * never wait for each other. When the table grows, the threads updating the map split the bins
+ * into the new table cooperatively, each claiming a stride of bins at a time, and leave a
+ * forwarding node behind in every bin moved. The size is kept in a {@link LongAdder}, so the
+ * updates do not contend on a single counter.
+ * <p>
+ * Iterators and cursors are weakly consistent, they reflect the state of the map at some point
+ * at or since their creation, and never throw on concurrent modification.
+ * <p>
+ * This implementation does not permit {@code null} keys or values.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class ConcurrentHashMap<K, V> implements Map<K, V> {
+
+    /**
+     * Hash code of a {@link ForwardingNode}.
+     */
+    private static final int MOVED = -1;
+    /**
+     * Hash code of a {@link ReservationNode}.
+     */
+    private static final int RESERVED = -2;
+    /**
+     * Usable bits of a normal node hash code, always non-negative.
+     */
+    private static final int HASH_BITS = 0x7FFFFFFF;
+    /**
+     * Minimum number of bins a thread claims at a time while resizing.
+     */
+    private static final int MIN_TRANSFER_STRIDE = 16;
+    /**
+     * Number of bits of the {@link #sizeCtl} to keep the resize stamp in.
+     */
+    private static final int RESIZE_STAMP_BITS = 16;
+    /**
+     * Shift of the resize stamp in the {@link #sizeCtl}.
+     */
+    private static final int RESIZE_STAMP_SHIFT = 32 - RESIZE_STAMP_BITS;
+    /**
+     * Maximum number of threads resizing a table together.
+     */
+    private static final int MAX_RESIZERS = (1 << (32 - RESIZE_STAMP_BITS)) - 1;
+    /**
+     * Number of processors, to size the strides of a resize.
+     */
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Atomic access to the bins of a table.
+     */
+    private static final VarHandle TABLE_ELEMENT = MethodHandles.arrayElementVarHandle(Node[].class);
+    /**
+     * Compare and set of the {@link #sizeCtl}.
+     */
+    private static final VarHandle SIZE_CTL;
+    /**
+     * Compare and set of the {@link #transferIndex}.
+     */
+    private static final VarHandle TRANSFER_INDEX;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            SIZE_CTL = lookup.findVarHandle(ConcurrentHashMap.class, "sizeCtl", int.class);
+            TRANSFER_INDEX = lookup.findVarHandle(ConcurrentHashMap.class, "transferIndex", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Bins of the map, allocated on the first insert. Always a power of two in length.
+     */
+    private volatile Node<K, V>[] table;
+    /**
+     * Table the bins are moved to, non-null only while resizing.
+     */
+    private volatile Node<K, V>[] nextTable;
+    /**
+     * Table initialization and resize control. Holds the initial capacity before the table is
+     * allocated, {@code -1} while it is allocated, the number of entries to resize at
+     * afterwards, and the resize stamp plus one more than the number of resizing threads while
+     * resizing.
+     */
+    private volatile int sizeCtl;
+    /**
+     * One past the last bin of the {@link #table} not claimed yet by a resizing thread.
+     */
+    private volatile int transferIndex;
+    /**
+     * Number of the entries in the map, striped across the updating threads.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Default constructor implementation initialize the map with default configuration.
+     * Which is {@code 16} bins, allocated on the first insert.
+     */
+    public ConcurrentHashMap() {
+        this.sizeCtl = DEFAULT_CAPACITY;
+    }
+
+    /**
+     * Overloaded constructor implementation to presize the table, so {@code expectedSize}
+     * entries can be added without the table being resized.
+     *
+     * @param expectedSize number of entries expected to be added.
+     * @throws IllegalArgumentException if {@code expectedSize} is negative.
+     */
+    public ConcurrentHashMap(int expectedSize) {
+        this.sizeCtl = tableSizeFor(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Removes all the elements from this collection. Entries added concurrently may remain.
+     */
+    @Override
+    public void clear() {
+        long delta = 0L;
+        Node<K, V>[] tab = table;
+        int i = 0;
+        while (tab != null && i < tab.length) {
+            final Node<K, V> f = tabAt(tab, i);
+            if (f == null) {
+                i++;
+            } else if (f.hash == MOVED) {
+                tab = helpTransfer(tab, f);
+                i = 0;
+            } else {
+                synchronized (f) {
+                    if (tabAt(tab, i) == f) {
+                        if (f.hash < 0) {
+                            throw new IllegalStateException("Recursive update");
+                        }
+                        for (Node<K, V> p = f; p != null; p = p.next) {
+                            delta--;
+                        }
+                        setTabAt(tab, i++, null);
+                    }
+                }
+            }
+        }
+        if (delta != 0L) {
+            addCount(delta, -1);
+        }
+    }
+
+    /**
+     * Returns true if this map contains the specified key.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean contains(K element) {
+        return containsKey(element);
+    }
+
+    /**
+     * Returns true if this map contains all the keys in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection contains one or more null
+     *                              elements, or if the specified collection is null.
+     * @see #contains(K)
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<K> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (K element : elements) {
+            if (!containsKey(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return a copy of this {@link ConcurrentHashMap} with new reference details. Keys and
+     * values themselves are not cloned. Entries updated concurrently may or may not be copied.
+     *
+     * @return a new instance of this {@link ConcurrentHashMap}.
+     */
+    @Override
+    public ConcurrentHashMap<K, V> copy() {
+        final ConcurrentHashMap<K, V> copy = new ConcurrentHashMap<>(size());
+        final Traverser<K, V> traverser = new Traverser<>(table);
+        for (Node<K, V> p; (p = traverser.advance()) != null; ) {
+            copy.putVal(p.key, p.val, false);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns {@code true} if this collection contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return count.sum() <= 0L;
+    }
+
+    /**
+     * Returns the number of elements in this collection. If this collection contains more than
+     * Integer.MAX_VALUE elements, returns Integer.MAX_VALUE. The value is a moment in time
+     * estimate while the map is updated concurrently.
+     *
+     * @return the number of elements in this collection.
+     * @see #mappingCount()
+     */
+    @Override
+    public int size() {
+        final long n = count.sum();
+        return n < 0L ? 0 : n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+
+    /**
+     * Returns the number of mappings, which may exceed Integer.MAX_VALUE. The value is a moment
+     * in time estimate while the map is updated concurrently.
+     *
+     * @return the number of mappings.
+     */
+    public long mappingCount() {
+        return Math.max(count.sum(), 0L);
+    }
+
+    /**
+     * Returns an array containing all the keys in this map.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return collectKeys(new Object[size()], false);
+    }
+
+    /**
+     * Returns an array containing all the keys in this map; the runtime type of the returned
+     * array is that of the specified array. If the keys fit in the specified array, it is
+     * returned therein, with a {@code null} following the last key if there is room.
+     *
+     * @param collector the array into which the keys are to be stored, if it is big enough;
+     *                  otherwise, a new array of the same runtime type is allocated.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException  if the runtime type of any key in this map is not assignable
+     *                              to the runtime component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @Override
+    public <T> T[] toArray(@NotNull T[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        return collectKeys(collector, true);
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the keys of this map.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<K> iterator() {
+        final Traverser<K, V> traverser = new Traverser<>(table);
+        return new Iterator<>() {
+            private Node<K, V> next = traverser.advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public K next() {
+                final Node<K, V> node = next;
+                if (node == null) {
+                    throw new NoSuchElementException("ConcurrentHashMap has no more keys to iterate.");
+                }
+
+                next = traverser.advance();
+                return node.key;
+            }
+        };
+    }
+
+    /**
+     * Creates a weakly consistent {@link Spliterator} over the keys of this map. It reports
+     * {@link Spliterator#CONCURRENT}, {@link Spliterator#DISTINCT} and
+     * {@link Spliterator#NONNULL}, but not {@link Spliterator#SIZED}, so streams over the map
+     * never fail while other threads update it. The {@link #mappingCount()} on first use is the
+     * size estimate.
+     *
+     * @return a {@link Spliterator} over the keys of this map.
+     */
+    @Override
+    public Spliterator<K> spliterator() {
+        return new LateBindingSpliterator<>(this, this::mappingCount,
+                Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return find(key) != null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key. Takes no locks.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public V get(K key) {
+        final Node<K, V> node = find(key);
+        return node != null ? node.val : null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        final Node<K, V> node = find(key);
+        return node != null ? node.val : defaultValue;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map. If the map
+     * previously contained a mapping for the key, the old value is replaced by the
+     * specified value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or {@code null} if there was
+     * no mapping for {@code key}
+     * @throws NullPointerException if the specified key or value is null
+     */
+    @Nullable
+    @Override
+    public V put(K key, V value) {
+        return putVal(key, value, false);
+    }
+
+    /**
+     * If the specified key is not already associated with a value associates it with the given
+     * value and returns {@code null}, else returns the current value. Atomic with respect to the
+     * other updates of the same key.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or {@code null} if there was
+     * no mapping for the key
+     * @throws NullPointerException if the specified key or value is null
+     */
+    @Nullable
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return putVal(key, value, true);
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or {@code null} if there was
+     * no mapping for {@code key}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public V remove(K key) {
+        final int hash = hash(key);
+        for (Node<K, V>[] tab = table; ; ) {
+            final Node<K, V> f;
+            final int i;
+            if (tab == null || (f = tabAt(tab, i = (tab.length - 1) & hash)) == null) {
+                return null;
+            } else if (f.hash == MOVED) {
+                tab = helpTransfer(tab, f);
+            } else {
+                V oldVal = null;
+                boolean validated = false;
+                synchronized (f) {
+                    if (tabAt(tab, i) == f) {
+                        if (f.hash < 0) {
+                            throw new IllegalStateException("Recursive update");
+                        }
+                        validated = true;
+                        for (Node<K, V> e = f, pred = null; e != null; pred = e, e = e.next) {
+                            if (e.hash == hash && key.equals(e.key)) {
+                                oldVal = e.val;
+                                if (pred != null) {
+                                    pred.next = e.next;
+                                } else {
+                                    setTabAt(tab, i, e.next);
+                                }
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (validated) {
+                    if (oldVal != null) {
+                        addCount(-1L, -1);
+                    }
+                    return oldVal;
+                }
+            }
+        }
+    }
+
+    /**
+     * Attempts to compute a mapping for the specified key and its current mapped value (or
+     * {@code null} if there is no current mapping). If the remapping function returns
+     * {@code null}, the mapping is removed (or remains absent if initially absent). The whole
+     * invocation is atomic, other updates of the keys in the same bin wait for it, so the
+     * remapping function should be short and must not update this map.
+     *
+     * @param key               key with which the specified value is to be associated
+     * @param remappingFunction the remapping function to compute a value
+     * @return the new value associated with the specified key, or null if none
+     * @throws NullPointerException  if the specified key or the remapping function is null
+     * @throws IllegalStateException if the remapping function updates this map
+     */
+    @Nullable
+    @Override
+    public V compute(K key, @NotNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+        final int hash = hash(key);
+        V val = null;
+        int delta = 0;
+        int binCount = 0;
+        for (Node<K, V>[] tab = table; ; ) {
+            final Node<K, V> f;
+            final int i;
+            if (tab == null || tab.length == 0) {
+                tab = initTable();
+            } else if ((f = tabAt(tab, i = (tab.length - 1) & hash)) == null) {
+                final Node<K, V> r = new ReservationNode<>();
+                synchronized (r) {
+                    if (casTabAt(tab, i, null, r)) {
+                        binCount = 1;
+                        Node<K, V> node = null;
+                        try {
+                            if ((val = remappingFunction.apply(key, null)) != null) {
+                                delta = 1;
+                                node = new Node<>(hash, key, val, null);
+                            }
+                        } finally {
+                            setTabAt(tab, i, node);
+                        }
+                    }
+                }
+                if (binCount != 0) {
+                    break;
+                }
+            } else if (f.hash == MOVED) {
+                tab = helpTransfer(tab, f);
+            } else {
+                synchronized (f) {
+                    if (tabAt(tab, i) == f) {
+                        if (f.hash < 0) {
+                            throw new IllegalStateException("Recursive update");
+                        }
+                        binCount = 1;
+                        for (Node<K, V> e = f, pred = null; ; binCount++) {
+                            if (e.hash == hash && key.equals(e.key)) {
+                                val = remappingFunction.apply(key, e.val);
+                                if (val != null) {
+                                    e.val = val;
+                                } else {
+                                    delta = -1;
+                                    if (pred != null) {
+                                        pred.next = e.next;
+                                    } else {
+                                        setTabAt(tab, i, e.next);
+                                    }
+                                }
+                                break;
+                            }
+                            pred = e;
+                            if ((e = e.next) == null) {
+                                val = remappingFunction.apply(key, null);
+                                if (val != null) {
+                                    delta = 1;
+                                    pred.next = new Node<>(hash, key, val, null);
+                                }
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (binCount != 0) {
+                    break;
+                }
+            }
+        }
+        if (delta != 0) {
+            addCount(delta, binCount);
+        }
+        return val;
+    }
+
+    /**
+     * If the specified key is not already associated with a value, attempts to compute its value
+     * using the given mapping function and enters it into this map unless {@code null}. The
+     * function is invoked at most once per key, atomically, and must not update this map.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the mapping function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or
+     * null if the computed value is null
+     * @throws NullPointerException  if the specified key or the mapping function is null
+     * @throws IllegalStateException if the mapping function updates this map
+     */
+    @Nullable
+    @Override
+    public V computeIfAbsent(K key, @NotNull Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction, "Mapping function is null");
+
+        final Node<K, V> node = find(key);
+        if (node != null) {
+            return node.val;
+        }
+        return compute(key, (k, v) -> v != null ? v : mappingFunction.apply(k));
+    }
+
+    /**
+     * If the specified key is not already associated with a value, associates it with the given
+     * value. Otherwise, replaces the associated value with the results of the given remapping
+     * function, or removes it if the result is {@code null}. The whole invocation is atomic, and
+     * the remapping function must not update this map.
+     *
+     * @param key               key with which the resulting value is to be associated
+     * @param value             the non-null value to be merged with the existing value
+     * @param remappingFunction the remapping function to recompute a value if present
+     * @return the new value associated with the specified key, or null if no value is associated
+     * with the key
+     * @throws NullPointerException  if the specified key, value or remapping function is null
+     * @throws IllegalStateException if the remapping function updates this map
+     */
+    @Nullable
+    @Override
+    public V merge(K key, @NotNull V value, @NotNull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value, "Merge value is null");
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+        return compute(key, (k, old) -> old == null ? value : remappingFunction.apply(old, value));
+    }
+
+    /**
+     * Returns a new weakly consistent {@link Map.Cursor} positioned before the first entry of this
+     * map. {@link Map.Cursor#setValue(Object)} is a {@link #put(Object, Object)} of the current key.
+     *
+     * @return a cursor over the entries of this map.
+     */
+    @NotNull
+    @Override
+    public Map.Cursor<K, V> cursor() {
+        return new Map.Cursor<>() {
+            private Traverser<K, V> traverser = new Traverser<>(table);
+            private Node<K, V> node;
+
+            @Override
+            public boolean advance() {
+                if (traverser == null) {
+                    return false;
+                }
+                node = traverser.advance();
+                if (node == null) {
+                    traverser = null;
+                }
+                return node != null;
+            }
+
+            @Override
+            public K key() {
+                return checkNode().key;
+            }
+
+            @Override
+            public V value() {
+                return checkNode().val;
+            }
+
+            @Override
+            public V setValue(V value) {
+                return put(checkNode().key, value);
+            }
+
+            @Override
+            public void reset() {
+                traverser = new Traverser<>(table);
+                node = null;
+            }
+
+            private Node<K, V> checkNode() {
+                if (node == null) {
+                    throw new IllegalStateException("Cursor is not positioned on an entry.");
+                }
+                return node;
+            }
+        };
+    }
+
+    /**
+     * Find the node of the {@code key}, following the forwarding nodes of a resize in progress.
+     *
+     * @param key to search for.
+     * @return the node of the {@code key} or {@code null} if the key is not present.
+     */
+    private Node<K, V> find(K key) {
+        final int hash = hash(key);
+        Node<K, V>[] tab = table;
+        while (tab != null) {
+            Node<K, V> e = tabAt(tab, (tab.length - 1) & hash);
+            if (e instanceof ForwardingNode<K, V> f) {
+                tab = f.nextTable;
+                continue;
+            }
+            for (; e != null; e = e.next) {
+                if (e.hash == hash && key.equals(e.key)) {
+                    return e;
+                }
+            }
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * Put the {@code value} for the {@code key}, with a compare and set into an empty bin or
+     * under the lock of the first node of the bin.
+     *
+     * @param key          of the entry.
+     * @param value        of the entry.
+     * @param onlyIfAbsent whether to keep the existing value.
+     * @return the previous value, or {@code null} if there wasn't any.
+     */
+    private V putVal(K key, V value, boolean onlyIfAbsent) {
+        Objects.requireNonNull(value, "ConcurrentHashMap value is null");
+        final int hash = hash(key);
+        int binCount = 0;
+        for (Node<K, V>[] tab = table; ; ) {
+            final Node<K, V> f;
+            final int i;
+            if (tab == null || tab.length == 0) {
+                tab = initTable();
+            } else if ((f = tabAt(tab, i = (tab.length - 1) & hash)) == null) {
+                if (casTabAt(tab, i, null, new Node<>(hash, key, value, null))) {
+                    break;
+                }
+            } else if (f.hash == MOVED) {
+                tab = helpTransfer(tab, f);
+            } else if (onlyIfAbsent && f.hash == hash && key.equals(f.key)) {
+                return f.val;
+            } else {
+                V oldVal = null;
+                synchronized (f) {
+                    if (tabAt(tab, i) == f) {
+                        if (f.hash < 0) {
+                            throw new IllegalStateException("Recursive update");
+                        }
+                        binCount = 1;
+                        for (Node<K, V> e = f; ; binCount++) {
+                            if (e.hash == hash && key.equals(e.key)) {
+                                oldVal = e.val;
+                                if (!onlyIfAbsent) {
+                                    e.val = value;
+                                }
+                                break;
+                            }
+                            final Node<K, V> pred = e;
+                            if ((e = e.next) == null) {
+                                pred.next = new Node<>(hash, key, value, null);
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (binCount != 0) {
+                    if (oldVal != null) {
+                        return oldVal;
+                    }
+                    break;
+                }
+            }
+        }
+        addCount(1L, binCount);
+        return null;
+    }
+
+    /**
+     * Allocate the {@link #table} with the capacity kept in the {@link #sizeCtl}, once.
+     *
+     * @return the table.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<K, V>[] initTable() {
+        Node<K, V>[] tab;
+        while ((tab = table) == null || tab.length == 0) {
+            int sc = sizeCtl;
+            if (sc < 0) {
+                Thread.yield();
+            } else if (SIZE_CTL.compareAndSet(this, sc, -1)) {
+                try {
+                    if ((tab = table) == null || tab.length == 0) {
+                        final int n = sc > 0 ? sc : DEFAULT_CAPACITY;
+                        tab = (Node<K, V>[]) new Node<?, ?>[n];
+                        table = tab;
+                        sc = n - (n >>> 2);
+                    }
+                } finally {
+                    sizeCtl = sc;
+                }
+                break;
+            }
+        }
+        return tab;
+    }
+
+    /**
+     * Add {@code x} to the {@link #count} and start or join a resize if the table is full.
+     * <p>
+     * Summing the {@link #count} reads every stripe, so the fullness is checked only after an
+     * insert into a bin which already had two or more nodes. With the hash codes spread, such
+     * bins turn common right as the table nears its load factor.
+     *
+     * @param x     to be added.
+     * @param check bin length the entry was inserted to, a negative for no check.
+     */
+    private void addCount(long x, int check) {
+        count.add(x);
+        if (check <= 1) {
+            return;
+        }
+
+        long s = count.sum();
+        Node<K, V>[] tab;
+        int n;
+        int sc;
+        while (s >= (long) (sc = sizeCtl) && (tab = table) != null && (n = tab.length) < MAXIMUM_CAPACITY) {
+            final int rs = resizeStamp(n) << RESIZE_STAMP_SHIFT;
+            if (sc < 0) {
+                final Node<K, V>[] nt = nextTable;
+                if (sc == rs + MAX_RESIZERS || sc == rs + 1 || nt == null || transferIndex <= 0) {
+                    break;
+                }
+                if (SIZE_CTL.compareAndSet(this, sc, sc + 1)) {
+                    transfer(tab, nt);
+                }
+            } else if (SIZE_CTL.compareAndSet(this, sc, rs + 2)) {
+                transfer(tab, null);
+            }
+            s = count.sum();
+        }
+    }
+
+    /**
+     * Join the resize in progress, found by an update on the forwarding node {@code f}.
+     *
+     * @param tab the table the forwarding node is in.
+     * @param f   the forwarding node.
+     * @return the table to retry the update on.
+     */
+    private Node<K, V>[] helpTransfer(Node<K, V>[] tab, Node<K, V> f) {
+        if (f instanceof ForwardingNode<K, V> fwd) {
+            final Node<K, V>[] nextTab = fwd.nextTable;
+            final int rs = resizeStamp(tab.length) << RESIZE_STAMP_SHIFT;
+            int sc;
+            while (nextTab == nextTable && table == tab && (sc = sizeCtl) < 0) {
+                if (sc == rs + MAX_RESIZERS || sc == rs + 1 || transferIndex <= 0) {
+                    break;
+                }
+                if (SIZE_CTL.compareAndSet(this, sc, sc + 1)) {
+                    transfer(tab, nextTab);
+                    break;
+                }
+            }
+            return nextTab;
+        }
+        return table;
+    }
+
+    /**
+     * Move the bins of {@code tab} into {@code nextTab} twice as long, claiming strides of bins
+     * from the {@link #transferIndex} downwards until none are left. Every bin is split into the
+     * nodes staying at the same index and the nodes moving to the index plus the old length. The
+     * trailing run of nodes going to the same side is reused as it is, the nodes before it are
+     * copied, so the readers of the old bin are never disturbed. The last thread to finish
+     * rechecks the whole table and publishes the new one.
+     *
+     * @param tab     the table to move the bins of.
+     * @param nextTab the new table, or {@code null} to allocate it.
+     */
+    @SuppressWarnings("unchecked")
+    private void transfer(Node<K, V>[] tab, Node<K, V>[] nextTab) {
+        final int n = tab.length;
+        final int stride = Math.max((NCPU > 1) ? (n >>> 3) / NCPU : n, MIN_TRANSFER_STRIDE);
+        if (nextTab == null) {
+            try {
+                nextTab = (Node<K, V>[]) new Node<?, ?>[n << 1];
+            } catch (OutOfMemoryError e) {
+                sizeCtl = Integer.MAX_VALUE;
+                return;
+            }
+            nextTable = nextTab;
+            transferIndex = n;
+        }
+
+        final int nextN = nextTab.length;
+        final ForwardingNode<K, V> fwd = new ForwardingNode<>(nextTab);
+        boolean advance = true;
+        boolean finishing = false;
+        for (int i = 0, bound = 0; ; ) {
+            while (advance) {
+                final int nextIndex;
+                final int nextBound;
+                if (--i >= bound || finishing) {
+                    advance = false;
+                } else if ((nextIndex = transferIndex) <= 0) {
+                    i = -1;
+                    advance = false;
+                } else if (TRANSFER_INDEX.compareAndSet(this, nextIndex,
+                        nextBound = (nextIndex > stride ? nextIndex - stride : 0))) {
+                    bound = nextBound;
+                    i = nextIndex - 1;
+                    advance = false;
+                }
+            }
+
+            final Node<K, V> f;
+            if (i < 0 || i >= n || i + n >= nextN) {
+                if (finishing) {
+                    nextTable = null;
+                    table = nextTab;
+                    sizeCtl = (n << 1) - (n >>> 1);
+                    return;
+                }
+                final int sc = sizeCtl;
+                if (SIZE_CTL.compareAndSet(this, sc, sc - 1)) {
+                    if ((sc - 2) != resizeStamp(n) << RESIZE_STAMP_SHIFT) {
+                        return;
+                    }
+                    finishing = advance = true;
+                    i = n;
+                }
+            } else if ((f = tabAt(tab, i)) == null) {
+                advance = casTabAt(tab, i, null, fwd);
+            } else if (f.hash == MOVED) {
+                advance = true;
+            } else {
+                synchronized (f) {
+                    if (tabAt(tab, i) == f) {
+                        if (f.hash < 0) {
+                            throw new IllegalStateException("Recursive update");
+                        }
+
+                        int runBit = f.hash & n;
+                        Node<K, V> lastRun = f;
+                        for (Node<K, V> p = f.next; p != null; p = p.next) {
+                            final int b = p.hash & n;
+                            if (b != runBit) {
+                                runBit = b;
+                                lastRun = p;
+                            }
+                        }
+
+                        Node<K, V> ln = runBit == 0 ? lastRun : null;
+                        Node<K, V> hn = runBit == 0 ? null : lastRun;
+                        for (Node<K, V> p = f; p != lastRun; p = p.next) {
+                            if ((p.hash & n) == 0) {
+                                ln = new Node<>(p.hash, p.key, p.val, ln);
+                            } else {
+                                hn = new Node<>(p.hash, p.key, p.val, hn);
+                            }
+                        }
+                        setTabAt(nextTab, i, ln);
+                        setTabAt(nextTab, i + n, hn);
+                        setTabAt(tab, i, fwd);
+                        advance = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy the keys into the {@code collector} array, or a larger one of the same type if the map
+     * has grown meanwhile.
+     *
+     * @param collector array to copy the keys into.
+     * @param keepType  whether a {@code collector} of a fitting length is returned as it is,
+     *                  otherwise the result is trimmed to the number of keys copied.
+     * @return an array with the keys.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T[] collectKeys(T[] collector, boolean keepType) {
+        final int size = size();
+        T[] target = collector.length >= size
+                ? collector
+                : (T[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        int j = 0;
+        final Traverser<K, V> traverser = new Traverser<>(table);
+        for (Node<K, V> p; (p = traverser.advance()) != null; ) {
+            if (j == target.length) {
+                target = Arrays.copyOf(target, GrowthPolicy.doubling().grow(j, j + 1));
+            }
+            target[j++] = (T) p.key;
+        }
+
+        if (keepType && target == collector) {
+            if (j < target.length) {
+                target[j] = null;
+            }
+            return target;
+        }
+        return j == target.length ? target : Arrays.copyOf(target, j);
+    }
+
+    /**
+     * Stamp of a resize of a table of {@code n} bins, shifted into the {@link #sizeCtl} it is
+     * negative.
+     *
+     * @param n length of the table.
+     * @return the resize stamp.
+     */
+    private static int resizeStamp(int n) {
+        return Integer.numberOfLeadingZeros(n) | (1 << (RESIZE_STAMP_BITS - 1));
+    }
+
+    /**
+     * Spread the {@code key} hash code, mixing the higher bits into the lower bits the bins are
+     * selected by.
+     *
+     * @param key to be hashed.
+     * @return non-negative hash code.
+     * @throws NullPointerException if the {@code key} is null.
+     */
+    private static int hash(Object key) {
+        final int h = Objects.requireNonNull(key, "ConcurrentHashMap key is null").hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & HASH_BITS;
+    }
+
+    /**
+     * Read the bin {@code i} of {@code tab} with acquire semantics, so the fields of the node are
+     * visible.
+     *
+     * @param tab the table.
+     * @param i   index of the bin.
+     * @return the first node of the bin.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V> tabAt(Node<K, V>[] tab, int i) {
+        return (Node<K, V>) TABLE_ELEMENT.getAcquire(tab, i);
+    }
+
+    /**
+     * Compare and set the bin {@code i} of {@code tab}.
+     *
+     * @param tab the table.
+     * @param i   index of the bin.
+     * @param c   expected first node.
+     * @param v   new first node.
+     * @return {@code true} if the bin was set.
+     */
+    private static <K, V> boolean casTabAt(Node<K, V>[] tab, int i, Node<K, V> c, Node<K, V> v) {
+        return TABLE_ELEMENT.compareAndSet(tab, i, c, v);
+    }
+
+    /**
+     * Set the bin {@code i} of {@code tab} with release semantics, invoked with the bin locked.
+     *
+     * @param tab the table.
+     * @param i   index of the bin.
+     * @param v   new first node.
+     */
+    private static <K, V> void setTabAt(Node<K, V>[] tab, int i, Node<K, V> v) {
+        TABLE_ELEMENT.setRelease(tab, i, v);
+    }
+
+    /**
+     * Entry of a bin. The value and the link to the next node are volatile, so the readers see
+     * them without locking.
+     */
+    private static class Node<K, V> {
+
+        final int hash;
+        final K key;
+        volatile V val;
+        volatile Node<K, V> next;
+
+        Node(int hash, K key, V val, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.val = val;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Placed in a bin of the old table once the bin has been moved to the {@link #nextTable}.
+     */
+    private static final class ForwardingNode<K, V> extends Node<K, V> {
+
+        final Node<K, V>[] nextTable;
+
+        ForwardingNode(Node<K, V>[] nextTable) {
+            super(MOVED, null, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    /**
+     * Holds an empty bin locked while {@link #compute(Object, BiFunction)} decides its first node.
+     */
+    private static final class ReservationNode<K, V> extends Node<K, V> {
+
+        ReservationNode() {
+            super(RESERVED, null, null, null);
+        }
+    }
+
+    /**
+     * Walks the nodes of a table once each, following the forwarding nodes. A forwarded bin of a
+     * table of {@code n} bins is the two bins {@code i} and {@code i + n} of the next table, which
+     * are pushed to the {@link #pending} stack.
+     */
+    private static final class Traverser<K, V> {
+
+        private final Node<K, V>[] baseTable;
+        private int baseIndex;
+        private Pending<K, V> pending;
+        private Node<K, V> next;
+
+        Traverser(Node<K, V>[] baseTable) {
+            this.baseTable = baseTable;
+        }
+
+        /**
+         * Move to the next node.
+         *
+         * @return the next node, or {@code null} at the end.
+         */
+        Node<K, V> advance() {
+            Node<K, V> e = next != null ? next.next : null;
+            while (e == null) {
+                final Node<K, V>[] tab;
+                final int i;
+                if (pending != null) {
+                    tab = pending.table;
+                    i = pending.index;
+                    pending = pending.next;
+                } else if (baseTable != null && baseIndex < baseTable.length) {
+                    tab = baseTable;
+                    i = baseIndex++;
+                } else {
+                    return next = null;
+                }
+
+                e = tabAt(tab, i);
+                if (e instanceof ForwardingNode<K, V> f) {
+                    pending = new Pending<>(f.nextTable, i + tab.length, pending);
+                    pending = new Pending<>(f.nextTable, i, pending);
+                    e = null;
+                } else if (e != null && e.hash < 0) {
+                    e = null;
+                }
+            }
+            return next = e;
+        }
+    }
+
+    /**
+     * Bin of a next table a {@link Traverser} is yet to walk.
+     */
+    private static final class Pending<K, V> {
+
+        final Node<K, V>[] table;
+        final int index;
+        final Pending<K, V> next;
+
+        Pending(Node<K, V>[] table, int index, Pending<K, V> next) {
+            this.table = table;
+            this.index = index;
+            this.next = next;
+        }
+    }
+}
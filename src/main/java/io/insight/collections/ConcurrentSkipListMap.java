@@ -0,0 +1,1469 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Thread-safe skip list implementation of {@link SortedMap} interface, for sorted maps updated
+ * by many threads at once. Entries are linked in a sorted base list, and a random subset of them
+ * in each of a stack of sparser index lists above it, which a search descends from the top.
+ * <p>
+ * No operation takes a lock. An entry is inserted with a single compare and set of its
+ * predecessor's link, and the index nodes are linked bottom up afterwards. An entry is removed
+ * by setting its value to {@code null} first, which is the linearization point, then appending
+ * a marker node to it, so no entry can be inserted after it any more, and unlinking both from
+ * its predecessor. Any thread which comes across a removed entry helps to unlink it.
+ * <p>
+ * The number of index levels of an entry is decided by an {@link IndexLevelPolicy}, which
+ * trades the memory of the index nodes against the search depth.
+ * <p>
+ * Iterators, cursors and the range views are weakly consistent, they reflect the state of the
+ * map at some point at or since their creation, never throw on concurrent modification, and
+ * always return the keys in ascending order.
+ * <p>
+ * This implementation does not permit {@code null} keys or values.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class ConcurrentSkipListMap<K, V> implements SortedMap<K, V> {
+
+    /**
+     * Relation flag of {@link #findNear(Object, int)}, an equal key matches.
+     */
+    private static final int EQ = 1;
+    /**
+     * Relation flag of {@link #findNear(Object, int)}, search for a lower key instead of a
+     * greater one.
+     */
+    private static final int LT = 2;
+    /**
+     * Maximum number of index levels of the map.
+     */
+    private static final int MAX_LEVELS = 32;
+    /**
+     * Value of the header node of the base list, never {@code null}, so the header never looks
+     * removed.
+     */
+    private static final Object BASE_HEADER = new Object();
+    /**
+     * Level policy of the maps not given one, promotes a quarter of the entries on each level.
+     */
+    private static final IndexLevelPolicy DEFAULT_LEVEL_POLICY = IndexLevelPolicy.geometric(4);
+
+    /**
+     * Compare and set of the {@link Root#head}.
+     */
+    private static final VarHandle HEAD;
+    /**
+     * Compare and set of the {@link Node#next}.
+     */
+    private static final VarHandle NEXT;
+    /**
+     * Compare and set of the {@link Node#val}.
+     */
+    private static final VarHandle VAL;
+    /**
+     * Compare and set of the {@link Index#right}.
+     */
+    private static final VarHandle RIGHT;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(Root.class, "head", Index.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            VAL = lookup.findVarHandle(Node.class, "val", Object.class);
+            RIGHT = lookup.findVarHandle(Index.class, "right", Index.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Comparator of the keys, or {@code null} for the natural ordering.
+     */
+    private final Comparator<? super K> comparator;
+    /**
+     * Policy of the number of index levels of a new entry.
+     */
+    private final IndexLevelPolicy levelPolicy;
+    /**
+     * Top of the index and the count, shared by this map and its views.
+     */
+    private final Root<K, V> root;
+    /**
+     * Low endpoint of the range of a view.
+     */
+    private final K lo;
+    /**
+     * High endpoint of the range of a view.
+     */
+    private final K hi;
+    /**
+     * Whether the range has no low endpoint.
+     */
+    private final boolean fromStart;
+    /**
+     * Whether the range has no high endpoint.
+     */
+    private final boolean toEnd;
+    /**
+     * Whether the low endpoint is in the range.
+     */
+    private final boolean loInclusive;
+    /**
+     * Whether the high endpoint is in the range.
+     */
+    private final boolean hiInclusive;
+
+    /**
+     * Default constructor implementation initialize an empty {@link ConcurrentSkipListMap},
+     * ordered by the natural ordering of the keys.
+     */
+    public ConcurrentSkipListMap() {
+        this(null);
+    }
+
+    /**
+     * Overloaded constructor implementation initialize an empty {@link ConcurrentSkipListMap},
+     * ordered by the {@code comparator}, with the default {@link IndexLevelPolicy#geometric(int)}
+     * policy of fanout {@code 4}.
+     *
+     * @param comparator to order the keys, or {@code null} for the natural ordering.
+     */
+    public ConcurrentSkipListMap(@Nullable Comparator<? super K> comparator) {
+        this(comparator, DEFAULT_LEVEL_POLICY);
+    }
+
+    /**
+     * Overloaded constructor implementation initialize an empty {@link ConcurrentSkipListMap},
+     * ordered by the {@code comparator}, with the given {@link IndexLevelPolicy}.
+     *
+     * @param comparator  to order the keys, or {@code null} for the natural ordering.
+     * @param levelPolicy to decide the number of index levels of the entries.
+     * @throws NullPointerException if the {@code levelPolicy} is null.
+     */
+    public ConcurrentSkipListMap(@Nullable Comparator<? super K> comparator, @NotNull IndexLevelPolicy levelPolicy) {
+        this(comparator, Objects.requireNonNull(levelPolicy, "Level policy is null"), new Root<>(),
+                true, null, true, true, null, true);
+    }
+
+    /**
+     * Create a view of the skip list of the {@code root} over the range.
+     *
+     * @param comparator  of the keys.
+     * @param levelPolicy of the new entries.
+     * @param root        to share.
+     * @param fromStart   whether the range has no low endpoint.
+     * @param lo          low endpoint.
+     * @param loInclusive whether the low endpoint is in the range.
+     * @param toEnd       whether the range has no high endpoint.
+     * @param hi          high endpoint.
+     * @param hiInclusive whether the high endpoint is in the range.
+     */
+    private ConcurrentSkipListMap(Comparator<? super K> comparator, IndexLevelPolicy levelPolicy, Root<K, V> root,
+                                  boolean fromStart, K lo, boolean loInclusive,
+                                  boolean toEnd, K hi, boolean hiInclusive) {
+        this.comparator = comparator;
+        this.levelPolicy = levelPolicy;
+        this.root = root;
+        this.fromStart = fromStart;
+        this.lo = lo;
+        this.loInclusive = loInclusive;
+        this.toEnd = toEnd;
+        this.hi = hi;
+        this.hiInclusive = hiInclusive;
+    }
+
+    /**
+     * Removes and returns the entry of the lowest key in this map, or of the range of this view.
+     * Threads polling concurrently never receive the same entry.
+     *
+     * @return the removed entry, or {@code null} if the map is empty.
+     */
+    @Nullable
+    public java.util.Map.Entry<K, V> pollFirst() {
+        return poll(true);
+    }
+
+    /**
+     * Removes and returns the entry of the highest key in this map, or of the range of this
+     * view. Threads polling concurrently never receive the same entry.
+     *
+     * @return the removed entry, or {@code null} if the map is empty.
+     */
+    @Nullable
+    public java.util.Map.Entry<K, V> pollLast() {
+        return poll(false);
+    }
+
+    /**
+     * Returns the comparator used to order the keys in this map, or {@code null} if this map
+     * uses the natural ordering of its keys.
+     *
+     * @return the comparator used to order the keys in this map, or {@code null}
+     */
+    @Override
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the first (lowest) key currently in this map.
+     *
+     * @return the first (lowest) key currently in this map
+     * @throws NoSuchElementException if this map is empty
+     */
+    @Override
+    public K firstKey() {
+        final Node<K, V> node = lowestNode();
+        if (node == null) {
+            throw new NoSuchElementException("ConcurrentSkipListMap is empty.");
+        }
+        return node.key;
+    }
+
+    /**
+     * Returns the last (highest) key currently in this map.
+     *
+     * @return the last (highest) key currently in this map
+     * @throws NoSuchElementException if this map is empty
+     */
+    @Override
+    public K lastKey() {
+        final Node<K, V> node = highestNode();
+        if (node == null) {
+            throw new NoSuchElementException("ConcurrentSkipListMap is empty.");
+        }
+        return node.key;
+    }
+
+    /**
+     * Returns the greatest key less than or equal to the given key, or {@code null} if there is
+     * no such key.
+     *
+     * @param key the key
+     * @return the greatest key less than or equal to {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public K floorKey(K key) {
+        return relativeKey(key, LT | EQ);
+    }
+
+    /**
+     * Returns the least key greater than or equal to the given key, or {@code null} if there is
+     * no such key.
+     *
+     * @param key the key
+     * @return the least key greater than or equal to {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public K ceilingKey(K key) {
+        return relativeKey(key, EQ);
+    }
+
+    /**
+     * Returns the greatest key strictly less than the given key, or {@code null} if there is no
+     * such key.
+     *
+     * @param key the key
+     * @return the greatest key less than {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public K lowerKey(K key) {
+        return relativeKey(key, LT);
+    }
+
+    /**
+     * Returns the least key strictly greater than the given key, or {@code null} if there is no
+     * such key.
+     *
+     * @param key the key
+     * @return the least key greater than {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public K higherKey(K key) {
+        return relativeKey(key, 0);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys range from {@code fromKey} to
+     * {@code toKey}, backed by the same skip list.
+     *
+     * @param fromKey       low endpoint of the keys in the returned map
+     * @param fromInclusive {@code true} if the low endpoint is to be included in the returned view
+     * @param toKey         high endpoint of the keys in the returned map
+     * @param toInclusive   {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys range from {@code fromKey} to {@code toKey}
+     * @throws NullPointerException     if {@code fromKey} or {@code toKey} is null
+     * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}, or if this
+     *                                  map is a view and the endpoints lie outside its range
+     */
+    @Override
+    public ConcurrentSkipListMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        checkKey(fromKey);
+        checkKey(toKey);
+        if (compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("Range start is greater than the range end.");
+        }
+        checkBound(fromKey, fromInclusive);
+        checkBound(toKey, toInclusive);
+        return new ConcurrentSkipListMap<>(comparator, levelPolicy, root,
+                false, fromKey, fromInclusive, false, toKey, toInclusive);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys are less than (or equal to, if
+     * {@code inclusive} is true) {@code toKey}, backed by the same skip list.
+     *
+     * @param toKey     high endpoint of the keys in the returned map
+     * @param inclusive {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys are less than {@code toKey}
+     * @throws NullPointerException     if {@code toKey} is null
+     * @throws IllegalArgumentException if this map is a view and {@code toKey} lies outside its range
+     */
+    @Override
+    public ConcurrentSkipListMap<K, V> headMap(K toKey, boolean inclusive) {
+        checkKey(toKey);
+        checkBound(toKey, inclusive);
+        return new ConcurrentSkipListMap<>(comparator, levelPolicy, root,
+                fromStart, lo, loInclusive, false, toKey, inclusive);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys are greater than (or equal to, if
+     * {@code inclusive} is true) {@code fromKey}, backed by the same skip list.
+     *
+     * @param fromKey   low endpoint of the keys in the returned map
+     * @param inclusive {@code true} if the low endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys are greater than {@code fromKey}
+     * @throws NullPointerException     if {@code fromKey} is null
+     * @throws IllegalArgumentException if this map is a view and {@code fromKey} lies outside its range
+     */
+    @Override
+    public ConcurrentSkipListMap<K, V> tailMap(K fromKey, boolean inclusive) {
+        checkKey(fromKey);
+        checkBound(fromKey, inclusive);
+        return new ConcurrentSkipListMap<>(comparator, levelPolicy, root,
+                false, fromKey, inclusive, toEnd, hi, hiInclusive);
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key. Takes no locks.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public V get(K key) {
+        checkKey(key);
+        if (!inRange(key)) {
+            return null;
+        }
+
+        final Node<K, V> node = findNode(key);
+        return node != null ? node.val : null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        final V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map. If the map
+     * previously contained a mapping for the key, the old value is replaced by the
+     * specified value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or {@code null} if there was
+     * no mapping for {@code key}
+     * @throws NullPointerException     if the specified key or value is null
+     * @throws IllegalArgumentException if this map is a view and the key lies outside its range
+     */
+    @Nullable
+    @Override
+    public V put(K key, V value) {
+        checkPut(key, value);
+        return doPut(key, value, false);
+    }
+
+    /**
+     * If the specified key is not already associated with a value associates it with the given
+     * value and returns {@code null}, else returns the current value. Atomic with respect to the
+     * other updates of the same key.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or {@code null} if there was
+     * no mapping for the key
+     * @throws NullPointerException     if the specified key or value is null
+     * @throws IllegalArgumentException if this map is a view and the key lies outside its range
+     */
+    @Nullable
+    @Override
+    public V putIfAbsent(K key, V value) {
+        checkPut(key, value);
+        return doPut(key, value, true);
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or {@code null} if there was
+     * no mapping for {@code key}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public V remove(K key) {
+        checkKey(key);
+        return inRange(key) ? doRemove(key, null) : null;
+    }
+
+    /**
+     * Attempts to compute a mapping for the specified key and its current mapped value (or
+     * {@code null} if there is no current mapping). If the remapping function returns
+     * {@code null}, the mapping is removed (or remains absent if initially absent). The update
+     * is applied with a compare and set, so the remapping function may be invoked more than once
+     * under contention, and must not update this map.
+     *
+     * @param key               key with which the specified value is to be associated
+     * @param remappingFunction the remapping function to compute a value
+     * @return the new value associated with the specified key, or null if none
+     * @throws NullPointerException     if the specified key or the remapping function is null
+     * @throws IllegalArgumentException if this map is a view and the key lies outside its range
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V compute(K key, @NotNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+        checkKey(key);
+        checkInRange(key);
+
+        for (; ; ) {
+            final Node<K, V> node = findNode(key);
+            final V old = node != null ? node.val : null;
+            final V value = remappingFunction.apply(key, old);
+            if (old == null) {
+                if (value == null || doPut(key, value, true) == null) {
+                    return value;
+                }
+            } else if (value != null) {
+                if (VAL.compareAndSet(node, old, value)) {
+                    return value;
+                }
+            } else if (doRemove(key, old) != null) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * If the specified key is not already associated with a value, attempts to compute its value
+     * using the given mapping function and enters it into this map unless {@code null}. The
+     * function may be invoked by more than one thread racing on an absent key, the value of the
+     * first to insert wins. It must not update this map.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the mapping function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or
+     * null if the computed value is null
+     * @throws NullPointerException     if the specified key or the mapping function is null
+     * @throws IllegalArgumentException if this map is a view and the key lies outside its range
+     */
+    @Nullable
+    @Override
+    public V computeIfAbsent(K key, @NotNull Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction, "Mapping function is null");
+        checkKey(key);
+        checkInRange(key);
+
+        final Node<K, V> node = findNode(key);
+        final V old = node != null ? node.val : null;
+        if (old != null) {
+            return old;
+        }
+
+        final V value = mappingFunction.apply(key);
+        if (value == null) {
+            return null;
+        }
+        final V previous = doPut(key, value, true);
+        return previous != null ? previous : value;
+    }
+
+    /**
+     * If the specified key is not already associated with a value, associates it with the given
+     * value. Otherwise, replaces the associated value with the results of the given remapping
+     * function, or removes it if the result is {@code null}. The update is applied with a
+     * compare and set, so the remapping function may be invoked more than once under
+     * contention, and must not update this map.
+     *
+     * @param key               key with which the resulting value is to be associated
+     * @param value             the non-null value to be merged with the existing value
+     * @param remappingFunction the remapping function to recompute a value if present
+     * @return the new value associated with the specified key, or null if no value is associated
+     * with the key
+     * @throws NullPointerException     if the specified key, value or remapping function is null
+     * @throws IllegalArgumentException if this map is a view and the key lies outside its range
+     */
+    @Nullable
+    @Override
+    public V merge(K key, @NotNull V value, @NotNull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value, "Merge value is null");
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+        checkKey(key);
+        checkInRange(key);
+
+        for (; ; ) {
+            final Node<K, V> node = findNode(key);
+            final V old = node != null ? node.val : null;
+            if (old == null) {
+                if (doPut(key, value, true) == null) {
+                    return value;
+                }
+                continue;
+            }
+
+            final V merged = remappingFunction.apply(old, value);
+            if (merged != null) {
+                if (VAL.compareAndSet(node, old, merged)) {
+                    return merged;
+                }
+            } else if (doRemove(key, old) != null) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns a new weakly consistent {@link Map.Cursor} positioned before the first entry of
+     * this map, in ascending key order. {@link Map.Cursor#value()} is the value read when the
+     * cursor advanced to the entry.
+     *
+     * @return a cursor over the entries of this map.
+     */
+    @NotNull
+    @Override
+    public Map.Cursor<K, V> cursor() {
+        return new Map.Cursor<>() {
+            private Node<K, V> node;
+            private V value;
+            private boolean started;
+
+            @Override
+            public boolean advance() {
+                if (!started) {
+                    started = true;
+                    node = lowestNode();
+                } else if (node != null) {
+                    node = successor(node);
+                }
+
+                while (node != null && (value = node.val) == null) {
+                    node = successor(node);
+                }
+                return node != null;
+            }
+
+            @Override
+            public K key() {
+                return checkNode().key;
+            }
+
+            @Override
+            public V value() {
+                checkNode();
+                return value;
+            }
+
+            @Override
+            public V setValue(V value) {
+                final V old = put(checkNode().key, value);
+                this.value = value;
+                return old;
+            }
+
+            @Override
+            public void reset() {
+                started = false;
+                node = null;
+            }
+
+            private Node<K, V> checkNode() {
+                if (node == null) {
+                    throw new IllegalStateException("Cursor is not positioned on an entry.");
+                }
+                return node;
+            }
+        };
+    }
+
+    /**
+     * Removes all the entries of this map, or of the range of this view, one at a time. Entries
+     * added concurrently may remain.
+     */
+    @Override
+    public void clear() {
+        for (Node<K, V> node; (node = lowestNode()) != null; ) {
+            doRemove(node.key, null);
+        }
+    }
+
+    /**
+     * Returns true if this map contains the specified key.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean contains(K element) {
+        return containsKey(element);
+    }
+
+    /**
+     * Returns true if this map contains all the keys in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection contains one or more null
+     *                              elements, or if the specified collection is null.
+     * @see #contains(K)
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<K> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (K element : elements) {
+            if (!containsKey(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return a new {@link ConcurrentSkipListMap} with the entries of this map, or of the range
+     * of this view, and the same comparator and level policy. Keys and values themselves are not
+     * cloned. Entries updated concurrently may or may not be copied.
+     *
+     * @return a new instance of this {@link ConcurrentSkipListMap}.
+     */
+    @Override
+    public ConcurrentSkipListMap<K, V> copy() {
+        final ConcurrentSkipListMap<K, V> copy = new ConcurrentSkipListMap<>(comparator, levelPolicy);
+        final Map.Cursor<K, V> cursor = cursor();
+        while (cursor.advance()) {
+            copy.doPut(cursor.key(), cursor.value(), false);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns {@code true} if this collection contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return lowestNode() == null;
+    }
+
+    /**
+     * Returns the number of elements in this collection. If this collection contains more than
+     * Integer.MAX_VALUE elements, returns Integer.MAX_VALUE. The value is a moment in time
+     * estimate while the map is updated concurrently. A view counts the entries of its range,
+     * in linear time.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        long n;
+        if (fromStart && toEnd) {
+            n = root.count.sum();
+        } else {
+            n = 0L;
+            for (Node<K, V> node = lowestNode(); node != null; node = successor(node)) {
+                n++;
+            }
+        }
+        return n < 0L ? 0 : n > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+    }
+
+    /**
+     * Returns an array containing all the keys in this map, in ascending order.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return collectKeys(new Object[size()], false);
+    }
+
+    /**
+     * Returns an array containing all the keys in this map, in ascending order; the runtime type
+     * of the returned array is that of the specified array. If the keys fit in the specified
+     * array, it is returned therein, with a {@code null} following the last key if there is room.
+     *
+     * @param collector the array into which the keys are to be stored, if it is big enough;
+     *                  otherwise, a new array of the same runtime type is allocated.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException  if the runtime type of any key in this map is not assignable
+     *                              to the runtime component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @Override
+    public <T> T[] toArray(@NotNull T[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        return collectKeys(collector, true);
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the keys of this map, in ascending order.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<K> iterator() {
+        return new Iterator<>() {
+            private Node<K, V> next = lowestNode();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public K next() {
+                final Node<K, V> node = next;
+                if (node == null) {
+                    throw new NoSuchElementException("ConcurrentSkipListMap has no more keys to iterate.");
+                }
+
+                next = successor(node);
+                return node.key;
+            }
+        };
+    }
+
+    /**
+     * Creates a weakly consistent {@link Spliterator} over the keys of this map, in ascending
+     * order. It reports {@link Spliterator#CONCURRENT}, {@link Spliterator#ORDERED},
+     * {@link Spliterator#SORTED}, {@link Spliterator#DISTINCT} and {@link Spliterator#NONNULL},
+     * but not {@link Spliterator#SIZED}, so streams over the map never fail while other threads
+     * update it. The size estimate of the whole map is its {@link #size()} on first use, the one
+     * of a view is unknown, so the view is not walked to count it.
+     *
+     * @return a {@link Spliterator} over the keys of this map.
+     */
+    @Override
+    public Spliterator<K> spliterator() {
+        return new LateBindingSpliterator<>(this, fromStart && toEnd ? this::size : null,
+                Spliterator.CONCURRENT | Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                        | Spliterator.NONNULL, comparator);
+    }
+
+    /**
+     * Compare two keys with the {@link #comparator}, or by their natural ordering.
+     *
+     * @param a first key.
+     * @param b second key.
+     * @return a negative integer, zero, or a positive integer as {@code a} is less than, equal
+     * to, or greater than {@code b}.
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator != null ? comparator.compare((K) a, (K) b) : ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /**
+     * Find the last node of the base list with a key less than the {@code key}, or the header.
+     * Unlinks the index nodes of the removed entries on the way.
+     *
+     * @param key to search for.
+     * @return the predecessor node.
+     */
+    private Node<K, V> findPredecessor(Object key) {
+        Index<K, V> q = root.head;
+        for (; ; ) {
+            Index<K, V> r;
+            while ((r = q.right) != null) {
+                final Node<K, V> p = r.node;
+                if (p.val == null) {
+                    RIGHT.compareAndSet(q, r, r.right);
+                } else if (compare(key, p.key) > 0) {
+                    q = r;
+                } else {
+                    break;
+                }
+            }
+
+            final Index<K, V> d = q.down;
+            if (d == null) {
+                return q.node;
+            }
+            q = d;
+        }
+    }
+
+    /**
+     * Find the node of the {@code key}, unlinking the removed nodes on the way.
+     *
+     * @param key to search for.
+     * @return the node, or {@code null} if the key is not present.
+     */
+    private Node<K, V> findNode(Object key) {
+        for (; ; ) {
+            Node<K, V> b = findPredecessor(key);
+            for (; ; ) {
+                final Node<K, V> n = b.next;
+                if (n == null) {
+                    return null;
+                } else if (n.key == null) {
+                    // b is removed, n is its marker, search again.
+                    break;
+                } else if (n.val == null) {
+                    unlinkNode(b, n);
+                } else {
+                    final int c = compare(key, n.key);
+                    if (c > 0) {
+                        b = n;
+                    } else {
+                        return c == 0 ? n : null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the node nearest to the {@code key} in the relation, which may have been removed
+     * concurrently.
+     *
+     * @param key      to search for.
+     * @param relation {@link #LT} for a lower key or else a greater one, plus {@link #EQ} if an
+     *                 equal key matches.
+     * @return the node, or {@code null} if there is no such node.
+     */
+    private Node<K, V> findNear(Object key, int relation) {
+        for (; ; ) {
+            Node<K, V> b = findPredecessor(key);
+            for (; ; ) {
+                final Node<K, V> n = b.next;
+                if (n == null) {
+                    return (relation & LT) != 0 && b.key != null ? b : null;
+                } else if (n.key == null) {
+                    break;
+                } else if (n.val == null) {
+                    unlinkNode(b, n);
+                } else {
+                    final int c = compare(key, n.key);
+                    if ((c == 0 && (relation & EQ) != 0) || (c < 0 && (relation & LT) == 0)) {
+                        return n;
+                    } else if (c <= 0 && (relation & LT) != 0) {
+                        return b.key != null ? b : null;
+                    }
+                    b = n;
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the live node nearest to the {@code key} in the relation.
+     *
+     * @param key      to search for.
+     * @param relation as of {@link #findNear(Object, int)}.
+     * @return the node, or {@code null} if there is no such node.
+     */
+    private Node<K, V> nearNode(Object key, int relation) {
+        for (; ; ) {
+            final Node<K, V> node = findNear(key, relation);
+            if (node == null || node.val != null) {
+                return node;
+            }
+        }
+    }
+
+    /**
+     * Find the first live node of the base list, unlinking the removed nodes on the way.
+     *
+     * @return the node, or {@code null} if the map is empty.
+     */
+    private Node<K, V> findFirst() {
+        final Node<K, V> b = root.head.node;
+        Node<K, V> n;
+        while ((n = b.next) != null) {
+            if (n.val != null) {
+                return n;
+            }
+            unlinkNode(b, n);
+        }
+        return null;
+    }
+
+    /**
+     * Find the last live node of the base list, following the rightmost index nodes down.
+     *
+     * @return the node, or {@code null} if the map is empty.
+     */
+    private Node<K, V> findLast() {
+        outer:
+        for (; ; ) {
+            Index<K, V> q = root.head;
+            for (; ; ) {
+                Index<K, V> r;
+                while ((r = q.right) != null) {
+                    if (r.node.val == null) {
+                        RIGHT.compareAndSet(q, r, r.right);
+                    } else {
+                        q = r;
+                    }
+                }
+                if (q.down == null) {
+                    break;
+                }
+                q = q.down;
+            }
+
+            Node<K, V> b = q.node;
+            for (; ; ) {
+                final Node<K, V> n = b.next;
+                if (n == null) {
+                    if (b.key == null) {
+                        return null;
+                    } else if (b.val != null) {
+                        return b;
+                    }
+                    continue outer;
+                } else if (n.key == null) {
+                    continue outer;
+                } else if (n.val == null) {
+                    unlinkNode(b, n);
+                } else {
+                    b = n;
+                }
+            }
+        }
+    }
+
+    /**
+     * Lowest live node of the range.
+     *
+     * @return the node, or {@code null} if the range is empty.
+     */
+    private Node<K, V> lowestNode() {
+        final Node<K, V> node = fromStart ? findFirst() : nearNode(lo, loInclusive ? EQ : 0);
+        return node == null || tooHigh(node.key) ? null : node;
+    }
+
+    /**
+     * Highest live node of the range.
+     *
+     * @return the node, or {@code null} if the range is empty.
+     */
+    private Node<K, V> highestNode() {
+        final Node<K, V> node = toEnd ? findLast() : nearNode(hi, hiInclusive ? LT | EQ : LT);
+        return node == null || tooLow(node.key) ? null : node;
+    }
+
+    /**
+     * Next live node of the range after the {@code node}, which may have been removed already.
+     *
+     * @param node to start from.
+     * @return the node, or {@code null} at the end of the range.
+     */
+    private Node<K, V> successor(Node<K, V> node) {
+        for (Node<K, V> n = node.next; n != null; n = n.next) {
+            if (n.key != null && n.val != null) {
+                return tooHigh(n.key) ? null : n;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Key in the relation to the {@code key}, within the range.
+     *
+     * @param key      to search for.
+     * @param relation as of {@link #findNear(Object, int)}.
+     * @return the key, or {@code null} if there is no such key.
+     */
+    private K relativeKey(K key, int relation) {
+        checkKey(key);
+        Node<K, V> node;
+        if ((relation & LT) == 0) {
+            node = tooLow(key) ? lowestNode() : nearNode(key, relation);
+            if (node != null && tooHigh(node.key)) {
+                node = null;
+            }
+        } else {
+            node = tooHigh(key) ? highestNode() : nearNode(key, relation);
+            if (node != null && tooLow(node.key)) {
+                node = null;
+            }
+        }
+        return node != null ? node.key : null;
+    }
+
+    /**
+     * Insert or replace the mapping of the {@code key}, and link its index nodes.
+     *
+     * @param key          to map, within the range.
+     * @param value        to map the key to.
+     * @param onlyIfAbsent whether an existing mapping is kept.
+     * @return the previous value, or {@code null} if there was no mapping.
+     */
+    private V doPut(K key, V value, boolean onlyIfAbsent) {
+        for (; ; ) {
+            final Index<K, V> h = root.head;
+            int height = 1;
+            Index<K, V> q = h;
+            for (; ; ) {
+                Index<K, V> r;
+                while ((r = q.right) != null) {
+                    final Node<K, V> p = r.node;
+                    if (p.val == null) {
+                        RIGHT.compareAndSet(q, r, r.right);
+                    } else if (compare(key, p.key) > 0) {
+                        q = r;
+                    } else {
+                        break;
+                    }
+                }
+                if (q.down == null) {
+                    break;
+                }
+                q = q.down;
+                height++;
+            }
+
+            Node<K, V> b = q.node;
+            for (; ; ) {
+                final Node<K, V> n = b.next;
+                if (n == null) {
+                    if (b.key == null) {
+                        // Check the key is comparable before it is the only one.
+                        compare(key, key);
+                    }
+                } else if (n.key == null) {
+                    break;
+                } else if (n.val == null) {
+                    unlinkNode(b, n);
+                    continue;
+                } else {
+                    final int c = compare(key, n.key);
+                    if (c > 0) {
+                        b = n;
+                        continue;
+                    } else if (c == 0) {
+                        final V v = n.val;
+                        if (v != null && (onlyIfAbsent || VAL.compareAndSet(n, v, value))) {
+                            return v;
+                        }
+                        continue;
+                    }
+                }
+
+                final Node<K, V> z = new Node<>(key, value, n);
+                if (NEXT.compareAndSet(b, n, z)) {
+                    addIndex(h, height, z);
+                    root.count.increment();
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Link the index nodes of the new node {@code z}, as many levels as the
+     * {@link #levelPolicy} decides, and add a level to the map if the node reaches above the
+     * {@code head}.
+     *
+     * @param h      head the node was inserted under.
+     * @param height index levels of the {@code head}.
+     * @param z      new node.
+     */
+    private void addIndex(Index<K, V> h, int height, Node<K, V> z) {
+        final int levels = Math.min(levelPolicy.levels(ThreadLocalRandom.current().nextInt()),
+                Math.min(height + 1, MAX_LEVELS));
+        if (levels <= 0) {
+            return;
+        }
+
+        final int tower = Math.min(levels, height);
+        Index<K, V> x = null;
+        for (int i = 0; i < tower; i++) {
+            x = new Index<>(z, x, null);
+        }
+        if (linkIndex(h, height - tower, x) && levels > height && root.head == h) {
+            final Index<K, V> top = new Index<>(h.node, h, new Index<>(z, x, null));
+            HEAD.compareAndSet(root, h, top);
+        }
+        if (z.val == null) {
+            // Removed meanwhile, unlink the index nodes linked after the removal.
+            findPredecessor(z.key);
+        }
+    }
+
+    /**
+     * Link the index tower {@code x} into the index lists, bottom up.
+     *
+     * @param q     index node to search from.
+     * @param skips number of levels to descend before linking the top of the tower.
+     * @param x     top of the tower.
+     * @return {@code true} if the whole tower is linked.
+     */
+    private boolean linkIndex(Index<K, V> q, int skips, Index<K, V> x) {
+        final K key = x.node.key;
+        boolean retrying = false;
+        for (; ; ) {
+            final Index<K, V> r = q.right;
+            int c;
+            if (r != null) {
+                final Node<K, V> p = r.node;
+                if (p.val == null) {
+                    RIGHT.compareAndSet(q, r, r.right);
+                    c = 0;
+                } else if ((c = compare(key, p.key)) > 0) {
+                    q = r;
+                } else if (c == 0) {
+                    // Another node of the key, this one has been removed.
+                    return false;
+                }
+            } else {
+                c = -1;
+            }
+
+            if (c < 0) {
+                final Index<K, V> d = q.down;
+                if (d != null && skips > 0) {
+                    skips--;
+                    q = d;
+                } else if (d != null && !retrying && !linkIndex(d, 0, x.down)) {
+                    return false;
+                } else {
+                    x.right = r;
+                    if (RIGHT.compareAndSet(q, r, x)) {
+                        return true;
+                    }
+                    retrying = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the mapping of the {@code key}, if mapped to the {@code value}.
+     *
+     * @param key   to remove.
+     * @param value to match, or {@code null} for any value.
+     * @return the removed value, or {@code null} if nothing was removed.
+     */
+    private V doRemove(Object key, Object value) {
+        for (; ; ) {
+            Node<K, V> b = findPredecessor(key);
+            for (; ; ) {
+                final Node<K, V> n = b.next;
+                if (n == null) {
+                    return null;
+                } else if (n.key == null) {
+                    break;
+                }
+
+                final V v = n.val;
+                if (v == null) {
+                    unlinkNode(b, n);
+                    continue;
+                }
+                final int c = compare(key, n.key);
+                if (c > 0) {
+                    b = n;
+                } else if (c < 0 || (value != null && !value.equals(v))) {
+                    return null;
+                } else if (VAL.compareAndSet(n, v, null)) {
+                    unlinkNode(b, n);
+                    findPredecessor(key);
+                    root.count.decrement();
+                    return v;
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the lowest or the highest entry of the range.
+     *
+     * @param first whether to remove the lowest entry.
+     * @return the removed entry, or {@code null} if the range is empty.
+     */
+    private java.util.Map.Entry<K, V> poll(boolean first) {
+        for (; ; ) {
+            final Node<K, V> node = first ? lowestNode() : highestNode();
+            if (node == null) {
+                return null;
+            }
+
+            final V value = node.val;
+            if (value != null && VAL.compareAndSet(node, value, null)) {
+                // Unlinks the node and its index nodes.
+                findNode(node.key);
+                root.count.decrement();
+                return new AbstractMap.SimpleImmutableEntry<>(node.key, value);
+            }
+        }
+    }
+
+    /**
+     * Mark the removed node {@code n} and unlink it from its predecessor {@code b}. Does
+     * nothing if either has changed meanwhile, another thread finishes the unlinking then.
+     *
+     * @param b predecessor node.
+     * @param n removed node.
+     */
+    private static <K, V> void unlinkNode(Node<K, V> b, Node<K, V> n) {
+        Node<K, V> f;
+        Node<K, V> p;
+        for (; ; ) {
+            if ((f = n.next) != null && f.key == null) {
+                p = f.next;
+                break;
+            } else if (NEXT.compareAndSet(n, f, new Node<>(f))) {
+                p = f;
+                break;
+            }
+        }
+        NEXT.compareAndSet(b, n, p);
+    }
+
+    /**
+     * Whether the {@code key} is below the range.
+     */
+    private boolean tooLow(Object key) {
+        if (!fromStart) {
+            final int c = compare(key, lo);
+            return c < 0 || (c == 0 && !loInclusive);
+        }
+        return false;
+    }
+
+    /**
+     * Whether the {@code key} is above the range.
+     */
+    private boolean tooHigh(Object key) {
+        if (!toEnd) {
+            final int c = compare(key, hi);
+            return c > 0 || (c == 0 && !hiInclusive);
+        }
+        return false;
+    }
+
+    /**
+     * Whether the {@code key} is within the range.
+     */
+    private boolean inRange(Object key) {
+        return !tooLow(key) && !tooHigh(key);
+    }
+
+    /**
+     * Check the {@code key} is within the range, for insertion.
+     *
+     * @throws IllegalArgumentException if the key is outside the range.
+     */
+    private void checkInRange(Object key) {
+        if (!inRange(key)) {
+            throw new IllegalArgumentException("Key out of range: %s".formatted(key));
+        }
+    }
+
+    /**
+     * Check the endpoint of a new view is within the range of this one. An exclusive endpoint
+     * may be equal to an exclusive endpoint of this range.
+     *
+     * @param key       endpoint of the new view.
+     * @param inclusive whether the endpoint is in the new range.
+     * @throws IllegalArgumentException if the endpoint is outside the range.
+     */
+    private void checkBound(Object key, boolean inclusive) {
+        if (!fromStart) {
+            final int c = compare(key, lo);
+            if (c < 0 || (c == 0 && !loInclusive && inclusive)) {
+                throw new IllegalArgumentException("Key out of range: %s".formatted(key));
+            }
+        }
+        if (!toEnd) {
+            final int c = compare(key, hi);
+            if (c > 0 || (c == 0 && !hiInclusive && inclusive)) {
+                throw new IllegalArgumentException("Key out of range: %s".formatted(key));
+            }
+        }
+    }
+
+    /**
+     * Check the {@code key} and the {@code value} of a new mapping.
+     *
+     * @throws NullPointerException     if either is null.
+     * @throws IllegalArgumentException if the key is outside the range.
+     */
+    private void checkPut(Object key, Object value) {
+        checkKey(key);
+        Objects.requireNonNull(value, "ConcurrentSkipListMap value is null");
+        checkInRange(key);
+    }
+
+    /**
+     * Copy the keys of the range into the {@code collector}, or a new array if the range has
+     * grown meanwhile.
+     *
+     * @param collector array to copy into.
+     * @param keepType  whether the {@code collector} is to be returned with a {@code null}
+     *                  terminator, rather than trimmed, if the keys fit.
+     * @return the array of the keys.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T[] collectKeys(T[] collector, boolean keepType) {
+        final int size = size();
+        T[] target = collector.length >= size
+                ? collector
+                : (T[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        int j = 0;
+        for (Node<K, V> node = lowestNode(); node != null; node = successor(node)) {
+            if (j == target.length) {
+                target = Arrays.copyOf(target, GrowthPolicy.doubling().grow(j, j + 1));
+            }
+            target[j++] = (T) node.key;
+        }
+
+        if (keepType && target == collector) {
+            if (j < target.length) {
+                target[j] = null;
+            }
+            return target;
+        }
+        return j == target.length ? target : Arrays.copyOf(target, j);
+    }
+
+    /**
+     * Check the {@code key} is not null.
+     *
+     * @param key to check.
+     * @throws NullPointerException if the {@code key} is null.
+     */
+    private static void checkKey(Object key) {
+        Objects.requireNonNull(key, "ConcurrentSkipListMap key is null");
+    }
+
+    /**
+     * Top of the index and the count of a skip list, shared by a map and its views.
+     */
+    private static final class Root<K, V> {
+
+        /**
+         * Leftmost index node of the top level, its node is the header of the base list.
+         */
+        volatile Index<K, V> head;
+        /**
+         * Number of the entries, striped across the updating threads.
+         */
+        final LongAdder count = new LongAdder();
+
+        @SuppressWarnings("unchecked")
+        Root() {
+            this.head = new Index<>(new Node<>(null, (V) BASE_HEADER, null), null, null);
+        }
+    }
+
+    /**
+     * Node of the base list. The header has a {@code null} key, a marker has a {@code null} key
+     * and value, and a removed node has a {@code null} value.
+     */
+    private static final class Node<K, V> {
+
+        final K key;
+        volatile V val;
+        volatile Node<K, V> next;
+
+        Node(K key, V val, Node<K, V> next) {
+            this.key = key;
+            this.val = val;
+            this.next = next;
+        }
+
+        /**
+         * Create a marker in front of the {@code next} node.
+         */
+        Node(Node<K, V> next) {
+            this(null, null, next);
+        }
+    }
+
+    /**
+     * Node of an index list, over a node of the base list.
+     */
+    private static final class Index<K, V> {
+
+        final Node<K, V> node;
+        final Index<K, V> down;
+        volatile Index<K, V> right;
+
+        Index(Node<K, V> node, Index<K, V> down, Index<K, V> right) {
+            this.node = node;
+            this.down = down;
+            this.right = right;
+        }
+    }
+}
@@ -0,0 +1,580 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe {@link List} for read-mostly data, every write copies the backing array and
+ * publishes the copy with a single volatile write.
+ * <p>
+ * Reads take a snapshot of the {@link #values} array without locking, a published array is
+ * never modified afterwards. Iterators, spliterators and {@link #copy()} are bound to the
+ * snapshot taken when they are created, and never see later writes. Writes are serialized on
+ * an internal lock, and each costs a copy of the whole array, including the bulk operations
+ * {@link #addAll(int, Collection)}, {@link #remove(Object)} and {@link #removeAll(Collection)},
+ * which copy once per call regardless of the number of elements they add or remove.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class CopyOnWriteArrayList<T> implements List<T> {
+
+    /**
+     * Shared empty array instance used for empty instances.
+     */
+    private static final Object[] EMPTY_ELEMENT_DATA = {};
+    /**
+     * Serializes the writers, readers never take it.
+     */
+    private final Object lock = new Object();
+    /**
+     * Current snapshot, exactly as long as the list. Replaced, never modified, once published.
+     */
+    private volatile Object[] values;
+
+    /**
+     * Default constructor implementation initialize an empty {@link CopyOnWriteArrayList}.
+     */
+    public CopyOnWriteArrayList() {
+        this(EMPTY_ELEMENT_DATA);
+    }
+
+    /**
+     * Overloaded constructor implementation with {@link Collection<T>} to initialize a
+     * {@link CopyOnWriteArrayList} instance with default dataset provided.
+     * <p>
+     * If the {@code elements} parameter value is null, still creates the
+     * {@link CopyOnWriteArrayList} with empty collection.
+     *
+     * @param elements to initialize a {@link CopyOnWriteArrayList} with data.
+     */
+    public CopyOnWriteArrayList(@Nullable Collection<T> elements) {
+        this(elements == null || elements.size() == 0 ? EMPTY_ELEMENT_DATA : elements.toArray());
+    }
+
+    /**
+     * Assign the parameterized {@code Object[]} to this {@link #values} array
+     * and create a new {@link CopyOnWriteArrayList} along with it.
+     *
+     * @param values snapshot with init values, not to be modified afterwards.
+     */
+    private CopyOnWriteArrayList(Object[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element element to be appended to this list
+     * @return {@code true} if append success
+     */
+    @Override
+    public boolean add(T element) {
+        synchronized (lock) {
+            final Object[] vals = values;
+            final Object[] newValues = Arrays.copyOf(vals, vals.length + 1);
+            newValues[vals.length] = element;
+            values = newValues;
+            return true;
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. Shifts the element
+     * currently at that position (if any) and any subsequent elements to the right (adds one to
+     * their indices).
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @return {@code true} if insert success
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index > size())}
+     */
+    @Override
+    public boolean add(int index, T element) {
+        synchronized (lock) {
+            final Object[] vals = values;
+            if (index > vals.length || index < 0) {
+                throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+            }
+
+            final Object[] newValues = new Object[vals.length + 1];
+            System.arraycopy(vals, 0, newValues, 0, index);
+            System.arraycopy(vals, index, newValues, index + 1, vals.length - index);
+            newValues[index] = element;
+            values = newValues;
+            return true;
+        }
+    }
+
+    /**
+     * Appends all the elements in the specified collection to the end of this list, in the order
+     * that they are returned by the specified collection's iterator. The specified collection may
+     * be this list.
+     *
+     * @param elements collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     * @see #addAll(int, Collection)
+     */
+    @Override
+    public boolean addAll(@NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        synchronized (lock) {
+            return insertAll(values.length, elements);
+        }
+    }
+
+    /**
+     * Inserts all the elements in the specified collection into this list at the specified
+     * position. Shifts the element currently at that position (if any) and any subsequent
+     * elements to the right (increases their indices). The specified collection may be this list.
+     *
+     * @param index    index at which to insert the first element from the specified collection
+     * @param elements collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException      if the specified collection is null
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index > size())}
+     * @implNote The whole batch is published with a single array copy. The snapshot of another
+     * {@link CopyOnWriteArrayList} is read directly, without the intermediate {@code toArray()} copy.
+     */
+    @Override
+    public boolean addAll(int index, @NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        synchronized (lock) {
+            if (index > values.length || index < 0) {
+                throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+            }
+            return insertAll(index, elements);
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        final Object[] vals = values;
+        if (index >= vals.length || index < 0) {
+            throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+        }
+        return (T) vals[index];
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or
+     * {@code -1} if this list does not contain the element.
+     *
+     * @param element element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if
+     * this list does not contain the element
+     */
+    @Override
+    public int indexOf(T element) {
+        return indexOf(values, element);
+    }
+
+    /**
+     * Removes the element at the specified position in this list. Shifts any subsequent elements
+     * to the left (subtracts one from their indices). Returns the element that was removed from
+     * the list.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T remove(int index) {
+        synchronized (lock) {
+            final Object[] vals = values;
+            if (index >= vals.length || index < 0) {
+                throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+            }
+
+            final Object[] newValues = new Object[vals.length - 1];
+            System.arraycopy(vals, 0, newValues, 0, index);
+            System.arraycopy(vals, index + 1, newValues, index, vals.length - index - 1);
+            values = newValues;
+            return (T) vals[index];
+        }
+    }
+
+    /**
+     * Removes all the matching instances of the {@code element} in this list, with a single
+     * array copy.
+     *
+     * @param element to be removed
+     * @return number of elements removed
+     */
+    @Override
+    public int remove(T element) {
+        synchronized (lock) {
+            return removeMatching(e -> Objects.equals(element, e));
+        }
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained in the specified collection,
+     * with a single array copy.
+     *
+     * @param elements collection containing elements to be removed from this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean removeAll(@NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        final Collection<T> others = (Collection<T>) elements;
+        synchronized (lock) {
+            return removeMatching(others::contains) != 0;
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T set(int index, T element) {
+        synchronized (lock) {
+            final Object[] vals = values;
+            if (index >= vals.length || index < 0) {
+                throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+            }
+
+            final Object[] newValues = vals.clone();
+            newValues[index] = element;
+            values = newValues;
+            return (T) vals[index];
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the current snapshot, in order. Writes
+     * made by the action or by other threads meanwhile are not seen.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(@NotNull Consumer<? super T> action) {
+        Objects.requireNonNull(action, "Action is null");
+        for (Object element : values) {
+            action.accept((T) element);
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the current snapshot along with its index,
+     * in order.
+     *
+     * @param action the action to be performed for each element and its index
+     * @throws NullPointerException if the specified action is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEachIndexed(@NotNull ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action, "Action is null");
+        final Object[] vals = values;
+        for (int i = 0; i < vals.length; i++) {
+            action.accept((T) vals[i], i);
+        }
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the operator to that
+     * element, with a single array copy. The operator runs under the write lock, and the list
+     * is left unchanged if it throws.
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException if the specified operator is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void replaceAll(@NotNull UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator, "Operator is null");
+        synchronized (lock) {
+            final Object[] newValues = values.clone();
+            for (int i = 0; i < newValues.length; i++) {
+                newValues[i] = operator.apply((T) newValues[i]);
+            }
+            values = newValues;
+        }
+    }
+
+    /**
+     * Replaces the elements of this list from the {@code from} index on with the elements of
+     * the {@code source} array, with a single array copy.
+     *
+     * @param from   index of the first element to replace
+     * @param source array of the elements to be stored, from the {@code from} index on
+     * @throws NullPointerException      if the specified array is null
+     * @throws IndexOutOfBoundsException if the range is out of this list,
+     *                                   {@code (from < 0 || from + source.length > size())}
+     */
+    @Override
+    public void setRange(int from, @NotNull T[] source) {
+        Objects.requireNonNull(source, "Source array is null");
+        synchronized (lock) {
+            final Object[] vals = values;
+            if (from < 0 || from > vals.length - source.length) {
+                throw new IndexOutOfBoundsException(String.format("Range out of bounds: [%d, %d)", from, (long) from + source.length));
+            }
+
+            final Object[] newValues = vals.clone();
+            System.arraycopy(source, 0, newValues, from, source.length);
+            values = newValues;
+        }
+    }
+
+    /**
+     * Removes all the elements from this collection. The collection will be empty after this
+     * method returns, snapshots taken before are not affected.
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            values = EMPTY_ELEMENT_DATA;
+        }
+    }
+
+    /**
+     * Returns true if this collection contains the specified element.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     */
+    @Override
+    public boolean contains(T element) {
+        return indexOf(values, element) >= 0;
+    }
+
+    /**
+     * Returns true if this collection contains all the elements in the specified collection,
+     * checked against a single snapshot.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        final Object[] vals = values;
+        for (T element : elements) {
+            if (indexOf(vals, element) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return a copy of this {@link CopyOnWriteArrayList}, in constant time. The copy shares the
+     * current snapshot, which neither list modifies in place.
+     *
+     * @return a new instance of this {@link CopyOnWriteArrayList}.
+     */
+    @Override
+    public List<T> copy() {
+        return new CopyOnWriteArrayList<>(values);
+    }
+
+    /**
+     * Returns true if this collection contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * Returns the number of elements in this collection.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns an array containing all the elements of the current snapshot, in the same order.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns an array containing all the elements of the current snapshot; the runtime type of
+     * the returned array is that of the specified array. If the snapshot fits in the specified
+     * array, it is returned therein. Otherwise, a new array is allocated with the runtime type of
+     * the specified array and the size of the snapshot.
+     *
+     * @param collector the array into which the elements of this collection are to be stored, if it
+     *                  is big enough; otherwise, a new array of the same runtime type is allocated.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException  if the runtime type of any element in this collection is not
+     *                              assignable to the runtime component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <E> E[] toArray(@NotNull E[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        final Object[] vals = values;
+        if (vals.length > collector.length) {
+            return (E[]) Arrays.copyOf(vals, vals.length, collector.getClass());
+        }
+
+        //noinspection SuspiciousSystemArraycopy
+        System.arraycopy(vals, 0, collector, 0, vals.length);
+        return collector;
+    }
+
+    /**
+     * Returns an iterator over the snapshot of the elements when this method is invoked. It
+     * needs no locking and never sees later writes.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<T> iterator() {
+        final Object[] snapshot = values;
+        return new Iterator<>() {
+            /**
+             * Pointer to current index.
+             */
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < snapshot.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next() {
+                if (index < snapshot.length) return (T) snapshot[index++];
+                else throw new NoSuchElementException("List size %d exceeded, cannot access %d index."
+                        .formatted(snapshot.length, index));
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the snapshot of the elements when this method is invoked.
+     * It reports {@link Spliterator#IMMUTABLE}, {@link Spliterator#ORDERED}, {@link Spliterator#SIZED}
+     * and {@link Spliterator#SUBSIZED}.
+     *
+     * @return a {@link Spliterator} over the elements in this list.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(values, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    /**
+     * Insert the {@code elements} at the {@code index} and publish the result, invoked with the
+     * {@link #lock} held.
+     *
+     * @param index    index at which to insert, already checked.
+     * @param elements collection containing elements to be added.
+     * @return {@code true} if this list changed.
+     */
+    private boolean insertAll(int index, Collection<? extends T> elements) {
+        final Object[] els = elements instanceof CopyOnWriteArrayList<?> other
+                ? other.values
+                : elements.toArray();
+        if (els.length == 0) {
+            return false;
+        }
+
+        final Object[] vals = values;
+        final Object[] newValues = new Object[vals.length + els.length];
+        System.arraycopy(vals, 0, newValues, 0, index);
+        System.arraycopy(els, 0, newValues, index, els.length);
+        System.arraycopy(vals, index, newValues, index + els.length, vals.length - index);
+        values = newValues;
+        return true;
+    }
+
+    /**
+     * Publish a copy of the snapshot without the elements matched by the {@code filter}, if any
+     * matches, invoked with the {@link #lock} held. The matches are marked in a bitmap first, so
+     * the new array is allocated once with the exact length.
+     *
+     * @param filter returns {@code true} for the elements to be removed.
+     * @return number of elements removed.
+     */
+    @SuppressWarnings("unchecked")
+    private int removeMatching(Predicate<? super T> filter) {
+        final Object[] vals = values;
+        final long[] removed = new long[(vals.length + 63) >>> 6];
+        int count = 0;
+        for (int i = 0; i < vals.length; i++) {
+            if (filter.test((T) vals[i])) {
+                removed[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        final Object[] newValues = count == vals.length ? EMPTY_ELEMENT_DATA : new Object[vals.length - count];
+        for (int i = 0, j = 0; j < newValues.length; i++) {
+            if ((removed[i >>> 6] & (1L << i)) == 0) {
+                newValues[j++] = vals[i];
+            }
+        }
+        values = newValues;
+        return count;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the {@code element} in the snapshot.
+     *
+     * @param vals    the snapshot to search.
+     * @param element element to search for.
+     * @return the index of the element, or {@code -1} if not found.
+     */
+    private static int indexOf(Object[] vals, Object element) {
+        for (int i = 0; i < vals.length; i++) {
+            if (Objects.equals(element, vals[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
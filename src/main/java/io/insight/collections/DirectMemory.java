@@ -0,0 +1,80 @@
+package io.insight.collections;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Allocation and explicit release of the native memory backed {@link ByteBuffer}s used by
+ * the off-heap collections of this package.
+ * <p>
+ * Direct and mapped buffers are otherwise released only when the garbage collector finds
+ * them unreachable. {@link #free(ByteBuffer)} runs the buffer cleaner straight away through
+ * {@code sun.misc.Unsafe#invokeCleaner} if the runtime provides it, and leaves the buffer to
+ * the garbage collector if not.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+final class DirectMemory {
+
+    /**
+     * {@code sun.misc.Unsafe#invokeCleaner(ByteBuffer)} bound to the unsafe instance, or
+     * {@code null} if the runtime does not provide it.
+     */
+    private static final MethodHandle INVOKE_CLEANER = lookupInvokeCleaner();
+
+    /**
+     * Not to be instantiated.
+     */
+    private DirectMemory() {
+    }
+
+    /**
+     * Allocate a new zeroed direct buffer in the native byte order.
+     *
+     * @param bytes capacity of the buffer.
+     * @return new direct buffer.
+     */
+    static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Release the native memory of a direct or mapped buffer. The buffer must not be
+     * accessed after this method returns.
+     *
+     * @param buffer to be released, must not be a slice or a duplicate.
+     */
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER != null && buffer != null && buffer.isDirect()) {
+            try {
+                INVOKE_CLEANER.invokeExact(buffer);
+            } catch (Throwable ex) {
+                // The buffer is left to the garbage collector.
+            }
+        }
+    }
+
+    /**
+     * Look up the {@code invokeCleaner} method of {@code sun.misc.Unsafe}.
+     *
+     * @return bound method handle or {@code null} if not available.
+     */
+    private static MethodHandle lookupInvokeCleaner() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+}
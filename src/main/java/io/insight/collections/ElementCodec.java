@@ -0,0 +1,104 @@
+package io.insight.collections;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes elements of a fixed byte width to and from a {@link ByteBuffer}, so
+ * collections like {@link OffHeapList} can keep their elements outside the Java heap.
+ * <p>
+ * Implementations must use the absolute {@code get/put} methods of the buffer only, must not
+ * write outside {@code [offset, offset + byteSize())} range and must not retain the buffer.
+ *
+ * @param <T> the type of the encoded elements
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Codec for {@link Integer} elements, 4 bytes each.
+     */
+    ElementCodec<Integer> INT = new ElementCodec<>() {
+        @Override
+        public int byteSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Codec for {@link Long} elements, 8 bytes each.
+     */
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int byteSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Codec for {@link Double} elements, 8 bytes each.
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int byteSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Returns the number of bytes every encoded element occupies.
+     *
+     * @return the fixed width of an element, always positive.
+     */
+    int byteSize();
+
+    /**
+     * Encodes the {@code element} into the {@code buffer} starting at {@code offset}.
+     *
+     * @param buffer  to write the element into.
+     * @param offset  absolute byte index of the first byte of the element.
+     * @param element to be encoded.
+     * @throws NullPointerException if the element is null and this codec does not permit
+     *                              null elements.
+     */
+    void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * Decodes an element from the {@code buffer} starting at {@code offset}.
+     *
+     * @param buffer to read the element from.
+     * @param offset absolute byte index of the first byte of the element.
+     * @return the decoded element.
+     */
+    T read(ByteBuffer buffer, int offset);
+}
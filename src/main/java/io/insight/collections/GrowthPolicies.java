@@ -0,0 +1,51 @@
+package io.insight.collections;
+
+/**
+ * Built-in {@link GrowthPolicy} instances and the capacity arithmetic they share.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+final class GrowthPolicies {
+
+    /**
+     * Minimum number of slots to add on a growth, so tiny arrays do not grow one slot at a
+     * time.
+     */
+    static final int MIN_GROWTH = 10;
+    /**
+     * Doubles the capacity.
+     */
+    static final GrowthPolicy DOUBLING = (capacity, minCapacity) ->
+            newCapacity(capacity, Math.max(capacity, MIN_GROWTH), minCapacity);
+    /**
+     * Grows the capacity by half.
+     */
+    static final GrowthPolicy ONE_AND_HALF = (capacity, minCapacity) ->
+            newCapacity(capacity, Math.max(capacity >> 1, MIN_GROWTH), minCapacity);
+
+    /**
+     * Not to be instantiated.
+     */
+    private GrowthPolicies() {
+    }
+
+    /**
+     * Returns {@code capacity + growth}, at least {@code minCapacity} and at most
+     * {@link GrowthPolicy#MAX_ARRAY_LENGTH} unless {@code minCapacity} itself is larger.
+     *
+     * @param capacity    current capacity.
+     * @param growth      preferred number of slots to add.
+     * @param minCapacity minimum capacity required.
+     * @return the new capacity.
+     * @throws OutOfMemoryError if the {@code minCapacity} overflowed.
+     */
+    static int newCapacity(int capacity, int growth, int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array length too large");
+        }
+
+        final long preferred = Math.min((long) capacity + growth, GrowthPolicy.MAX_ARRAY_LENGTH);
+        return (int) Math.max(preferred, minCapacity);
+    }
+}
@@ -0,0 +1,125 @@
+package io.insight.collections;
+
+/**
+ * Decides how much an array backed collection grows when it runs out of capacity, and whether
+ * it gives memory back when elements are removed. Chosen when the collection is created, for
+ * example {@code new ArrayList<>(0, GrowthPolicy.oneAndHalf().withAutoShrink(0.25f))}.
+ * <p>
+ * Implementations must be stateless, so a single instance can be shared by any number of
+ * collections.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Maximum array length, some virtual machines reserve a few header words in an array.
+     */
+    int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns the new capacity of a full array.
+     *
+     * @param capacity    current capacity of the array.
+     * @param minCapacity minimum capacity required, always greater than {@code capacity}.
+     * @return the new capacity, not less than {@code minCapacity}.
+     */
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Returns the capacity of the array after an element has been removed. Returning the
+     * {@code capacity} keeps the array as it is, which is what this default implementation
+     * does.
+     *
+     * @param capacity current capacity of the array.
+     * @param size     number of elements left in the array.
+     * @return the new capacity, not less than {@code size}.
+     */
+    default int shrink(int capacity, int size) {
+        return capacity;
+    }
+
+    /**
+     * Returns a policy which grows the same way as this one, and shrinks the array to twice the
+     * number of elements once fewer than {@code threshold} of its slots are occupied. The gap
+     * between the threshold and the half occupancy after shrinking prevents an array from
+     * shrinking and growing again on alternating removes and adds.
+     *
+     * @param threshold occupancy ratio to shrink below, between {@code 0} and {@code 0.5}
+     *                  exclusive.
+     * @return the shrinking policy.
+     * @throws IllegalArgumentException if the {@code threshold} is out of range.
+     */
+    default GrowthPolicy withAutoShrink(float threshold) {
+        if (!(threshold > 0 && threshold < 0.5f)) {
+            throw new IllegalArgumentException("Invalid shrink threshold: %s".formatted(threshold));
+        }
+
+        final GrowthPolicy growth = this;
+        return new GrowthPolicy() {
+            @Override
+            public int grow(int capacity, int minCapacity) {
+                return growth.grow(capacity, minCapacity);
+            }
+
+            @Override
+            public int shrink(int capacity, int size) {
+                return size < capacity * threshold ? size << 1 : capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the policy which doubles the capacity, the default of {@link ArrayList}.
+     * Amortized cheapest appends, at the cost of up to half of the array unused.
+     *
+     * @return the doubling policy.
+     */
+    static GrowthPolicy doubling() {
+        return GrowthPolicies.DOUBLING;
+    }
+
+    /**
+     * Returns the policy which grows the capacity by half, the same as
+     * {@link java.util.ArrayList}. Up to a third of the array unused.
+     *
+     * @return the 1.5x policy.
+     */
+    static GrowthPolicy oneAndHalf() {
+        return GrowthPolicies.ONE_AND_HALF;
+    }
+
+    /**
+     * Returns the policy which grows the capacity by a fixed number of slots. Appends cost
+     * linear time on average, suits lists with a known, slowly growing size only.
+     *
+     * @param chunk number of slots to add on every growth.
+     * @return the fixed-chunk policy.
+     * @throws IllegalArgumentException if the {@code chunk} is not positive.
+     */
+    static GrowthPolicy fixedChunk(int chunk) {
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size: %d".formatted(chunk));
+        }
+        return (capacity, minCapacity) -> GrowthPolicies.newCapacity(capacity, chunk, minCapacity);
+    }
+
+    /**
+     * Returns the policy which doubles the capacity until the growth reaches
+     * {@code maxIncrement} slots, and grows by {@code maxIncrement} slots from there on. Keeps
+     * the unused part of large arrays bounded.
+     *
+     * @param maxIncrement maximum number of slots to add on a single growth.
+     * @return the capped-doubling policy.
+     * @throws IllegalArgumentException if the {@code maxIncrement} is not positive.
+     */
+    static GrowthPolicy cappedDoubling(int maxIncrement) {
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Invalid maximum increment: %d".formatted(maxIncrement));
+        }
+        return (capacity, minCapacity) -> GrowthPolicies.newCapacity(capacity,
+                Math.min(Math.max(capacity, GrowthPolicies.MIN_GROWTH), maxIncrement), minCapacity);
+    }
+}
@@ -1,14 +1,152 @@
 package io.insight.collections;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.insight.collections.HashTables.DEFAULT_CAPACITY;
+import static io.insight.collections.HashTables.DEFAULT_LOAD_FACTOR;
+import static io.insight.collections.HashTables.mix;
+import static io.insight.collections.HashTables.nextCapacity;
+import static io.insight.collections.HashTables.probeDistance;
+import static io.insight.collections.HashTables.tableSizeFor;
+import static io.insight.collections.HashTables.threshold;
 
 /**
+ * Open addressing hash table implementation of {@link Map} interface. Keys, values and
+ * cached hash codes are kept in three flat arrays (no per-entry node objects) and
+ * collisions are resolved with linear probing under the Robin Hood scheme, where an
+ * inserting entry takes the slot of any resident entry which is closer to its ideal
+ * slot. That keeps the variance of probe lengths low, so a lookup can stop as soon as
+ * it meets an entry closer to home than itself.
+ * <p>
+ * Removals use backward-shift deletion instead of tombstones, hence the table never
+ * degrades with the number of removals.
+ * <p>
+ * This implementation does not permit {@code null} keys, {@code null} values are
+ * permitted.
+ *
  * @author Sachith Dickwella
+ * @since 1.0
  */
 public class HashMap<K, V> implements Map<K, V> {
 
+    /**
+     * Cached hash codes of the keys, {@code 0} for an empty slot.
+     */
+    private int[] hashes;
+    /**
+     * Core array instance which hold all the keys add into the {@link HashMap}.
+     */
+    private Object[] keys;
+    /**
+     * Core array instance which hold all the values add into the {@link HashMap}.
+     * Index-aligned with {@link #keys}.
+     */
+    private Object[] vals;
+    /**
+     * Maximum fraction of the table slots allowed to be occupied before the table grows.
+     */
+    private final float loadFactor;
+    /**
+     * Number of entries the table can hold before it grows.
+     */
+    private int threshold;
+    /**
+     * Number of the entries in the table.
+     */
+    private int size;
+
+    /**
+     * Default constructor implementation initialize the table with default configuration.
+     * Which is {@code 16} slots with {@code 0.75} load factor.
+     */
+    public HashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, true);
+    }
+
+    /**
+     * Overloaded constructor implementation to presize the table, so {@code expectedSize}
+     * entries can be added without the table being rehashed.
+     *
+     * @param expectedSize number of entries expected to be added.
+     * @throws IllegalArgumentException if {@code expectedSize} is negative.
+     */
+    public HashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Overloaded constructor implementation to presize the table with a user defined load
+     * factor, so {@code expectedSize} entries can be added without the table being rehashed.
+     *
+     * @param expectedSize number of entries expected to be added.
+     * @param loadFactor   fraction of the slots allowed to be occupied, {@code (0, 1)} exclusive.
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or the
+     *                                  {@code loadFactor} is out of range.
+     */
+    public HashMap(int expectedSize, float loadFactor) {
+        this(tableSizeFor(expectedSize, loadFactor), loadFactor, true);
+    }
+
+    /**
+     * Allocate the table arrays with given {@code capacity}.
+     *
+     * @param capacity   power of two slots count.
+     * @param loadFactor fraction of the slots allowed to be occupied.
+     * @param ignored    to distinguish from the public constructors.
+     */
+    private HashMap(int capacity, float loadFactor, @SuppressWarnings("unused") boolean ignored) {
+        this.loadFactor = loadFactor;
+        allocate(capacity);
+    }
+
+    /**
+     * Read a map written by {@link #writeTo(WritableByteChannel, ElementCodec, ElementCodec)}
+     * from the {@code buffer} at its position, and move the position past it. The table is
+     * presized for the entries, so it's never rehashed while they are inserted.
+     *
+     * @param buffer     to read from.
+     * @param keyCodec   to decode the keys, of the same size as the one they were written with.
+     * @param valueCodec to decode the values, of the same size as the one they were written with.
+     * @param <K>        the type of the keys.
+     * @param <V>        the type of the values.
+     * @return the new map.
+     * @throws NullPointerException     if the {@code buffer} or a codec is null, or a decoded
+     *                                  key is null.
+     * @throws IllegalArgumentException if the buffer does not hold a map of the codecs' key and
+     *                                  value sizes at its position.
+     * @throws BufferUnderflowException if the buffer ends before the map.
+     */
+    public static <K, V> HashMap<K, V> readFrom(@NotNull ByteBuffer buffer,
+                                                @NotNull ElementCodec<K> keyCodec,
+                                                @NotNull ElementCodec<V> valueCodec) {
+        Objects.requireNonNull(buffer, "Buffer is null");
+        Objects.requireNonNull(keyCodec, "Key codec is null");
+        Objects.requireNonNull(valueCodec, "Value codec is null");
+
+        final int keyBytes = keyCodec.byteSize();
+        final int entryBytes = keyBytes + valueCodec.byteSize();
+        final ByteBuffer entries = BinaryFormat.sliceMap(buffer, keyBytes, valueCodec.byteSize());
+        final int size = entries.limit() / entryBytes;
+        final HashMap<K, V> map = new HashMap<>(size);
+        for (int i = 0, offset = 0; i < size; i++, offset += entryBytes) {
+            map.put(keyCodec.read(entries, offset), valueCodec.read(entries, offset + keyBytes));
+        }
+        return map;
+    }
+
     /**
      * Removes all the elements from this collection (optional operation).
      * The collection will be empty after this method returns.
@@ -18,7 +156,12 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     @Override
     public void clear() {
-
+        if (size != 0) {
+            Arrays.fill(hashes, 0);
+            Arrays.fill(keys, null);
+            Arrays.fill(vals, null);
+            size = 0;
+        }
     }
 
     /**
@@ -35,7 +178,7 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     @Override
     public boolean contains(K element) {
-        return false;
+        return containsKey(element);
     }
 
     /**
@@ -51,18 +194,31 @@ public class HashMap<K, V> implements Map<K, V> {
      * @see #contains(K)
      */
     @Override
-    public boolean containsAll(Collection<K> elements) {
-        return false;
+    public boolean containsAll(@NotNull Collection<K> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (K element : elements) {
+            if (!containsKey(element)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Return an exact copy of this {@link Collection<K>} with new reference details.
+     * Return an exact copy of this {@link HashMap} with new reference details. Keys and
+     * values themselves are not cloned.
      *
-     * @return a new instance of this {@link Collection<K>}.
+     * @return a new instance of this {@link HashMap}.
      */
     @Override
-    public Collection<K> copy() {
-        return null;
+    public HashMap<K, V> copy() {
+        final HashMap<K, V> copy = new HashMap<>(hashes.length, loadFactor, true);
+        System.arraycopy(hashes, 0, copy.hashes, 0, hashes.length);
+        System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+        System.arraycopy(vals, 0, copy.vals, 0, vals.length);
+        copy.size = size;
+
+        return copy;
     }
 
     /**
@@ -72,7 +228,7 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     @Override
     public boolean isEmpty() {
-        return false;
+        return size == 0;
     }
 
     /**
@@ -83,7 +239,7 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     @Override
     public int size() {
-        return 0;
+        return size;
     }
 
     /**
@@ -104,7 +260,7 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     @Override
     public Object[] toArray() {
-        return new Object[0];
+        return collectKeys(new Object[size]);
     }
 
     /**
@@ -144,9 +300,57 @@ public class HashMap<K, V> implements Map<K, V> {
      * Note that toArray(new Object[0]) is identical in function to toArray().
      * <p>
      */
+    @SuppressWarnings("unchecked")
     @Override
-    public <T> T[] toArray(T[] collector) {
-        return null;
+    public <T> T[] toArray(@NotNull T[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        if (size > collector.length) {
+            collector = (T[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        } else if (size < collector.length) {
+            collector[size] = null;
+        }
+        return collectKeys(collector);
+    }
+
+    /**
+     * Write this map out to the {@code channel} in the compact binary format of this package,
+     * a varint length header followed by the entries, each a key encoded by the
+     * {@code keyCodec} and its value encoded by the {@code valueCodec}. The entries are
+     * encoded straight from the table into a small staging buffer, in table order. Read the
+     * map back with {@link #readFrom(ByteBuffer, ElementCodec, ElementCodec)}.
+     *
+     * @param channel    to write to, not closed by this method.
+     * @param keyCodec   to encode the keys.
+     * @param valueCodec to encode the values.
+     * @throws NullPointerException if the {@code channel} or a codec is null, or the map
+     *                              contains a null value the value codec does not permit.
+     * @throws IOException          if the channel fails to write.
+     */
+    @SuppressWarnings("unchecked")
+    public void writeTo(@NotNull WritableByteChannel channel,
+                        @NotNull ElementCodec<? super K> keyCodec,
+                        @NotNull ElementCodec<? super V> valueCodec) throws IOException {
+        Objects.requireNonNull(channel, "Channel is null");
+        Objects.requireNonNull(keyCodec, "Key codec is null");
+        Objects.requireNonNull(valueCodec, "Value codec is null");
+
+        final int keyBytes = keyCodec.byteSize();
+        final int entryBytes = keyBytes + valueCodec.byteSize();
+        final ByteBuffer buffer = BinaryFormat.allocate(entryBytes, (long) size * entryBytes);
+        BinaryFormat.putMapHeader(buffer, keyBytes, valueCodec.byteSize(), size);
+        int position = buffer.position();
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] != 0) {
+                if (buffer.capacity() - position < entryBytes) {
+                    BinaryFormat.drain(channel, buffer, position);
+                    position = 0;
+                }
+                keyCodec.write(buffer, position, (K) keys[i]);
+                valueCodec.write(buffer, position + keyBytes, (V) vals[i]);
+                position += entryBytes;
+            }
+        }
+        BinaryFormat.drain(channel, buffer, position);
     }
 
     /**
@@ -157,6 +361,492 @@ public class HashMap<K, V> implements Map<K, V> {
     @NotNull
     @Override
     public Iterator<K> iterator() {
+        return new Iterator<>() {
+            private int index = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < hashes.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public K next() {
+                if (index >= hashes.length) {
+                    throw new NoSuchElementException("HashMap has no more keys to iterate.");
+                }
+
+                final K key = (K) keys[index];
+                index = nextOccupied(index + 1);
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return slotOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key. Use {@link #containsKey(Object)} to distinguish a
+     * missing key from a key mapped to {@code null}.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(K key) {
+        final int slot = slotOf(key);
+        return slot >= 0 ? (V) vals[slot] : null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        final int slot = slotOf(key);
+        return slot >= 0 ? (V) vals[slot] : defaultValue;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map. If the map
+     * previously contained a mapping for the key, the old value is replaced by the
+     * specified value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or {@code null} if there was
+     * no mapping for {@code key}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V put(K key, V value) {
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot >= 0) {
+            final V old = (V) vals[slot];
+            vals[slot] = value;
+            return old;
+        }
+
+        insertNew(hash, key, value);
         return null;
     }
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to {@code null})
+     * associates it with the given value and returns {@code null}, else returns the current value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or {@code null} if there was
+     * no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V putIfAbsent(K key, V value) {
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot < 0) {
+            insertNew(hash, key, value);
+            return null;
+        }
+
+        final V old = (V) vals[slot];
+        if (old == null) {
+            vals[slot] = value;
+        }
+        return old;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present. The following entries
+     * of the same probe run are shifted back by one slot, so no tombstone is left behind.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or {@code null} if there was
+     * no mapping for {@code key}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(K key) {
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+
+        final V old = (V) vals[slot];
+        deleteSlot(slot);
+        return old;
+    }
+
+    /**
+     * Attempts to compute a mapping for the specified key and its current mapped value (or
+     * {@code null} if there is no current mapping). If the remapping function returns
+     * {@code null}, the mapping is removed (or remains absent if initially absent). The
+     * remapping function must not modify this map during computation.
+     *
+     * @param key               key with which the specified value is to be associated
+     * @param remappingFunction the remapping function to compute a value
+     * @return the new value associated with the specified key, or null if none
+     * @throws NullPointerException if the specified key or the remapping function is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V compute(K key, @NotNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        final V value = remappingFunction.apply(key, slot >= 0 ? (V) vals[slot] : null);
+
+        if (slot >= 0) {
+            if (value == null) {
+                deleteSlot(slot);
+            } else {
+                vals[slot] = value;
+            }
+        } else if (value != null) {
+            insertNew(hash, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to {@code null}),
+     * attempts to compute its value using the given mapping function and enters it into this map
+     * unless {@code null}. The mapping function must not modify this map during computation.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the mapping function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or
+     * null if the computed value is null
+     * @throws NullPointerException if the specified key or the mapping function is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V computeIfAbsent(K key, @NotNull Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction, "Mapping function is null");
+
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot >= 0 && vals[slot] != null) {
+            return (V) vals[slot];
+        }
+
+        final V value = mappingFunction.apply(key);
+        if (value != null) {
+            if (slot >= 0) {
+                vals[slot] = value;
+            } else {
+                insertNew(hash, key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * If the specified key is not already associated with a value or is associated with
+     * {@code null}, associates it with the given non-null value. Otherwise, replaces the
+     * associated value with the results of the given remapping function, or removes it if the
+     * result is {@code null}. The remapping function must not modify this map during computation.
+     *
+     * @param key               key with which the resulting value is to be associated
+     * @param value             the non-null value to be merged with the existing value
+     * @param remappingFunction the remapping function to recompute a value if present
+     * @return the new value associated with the specified key, or null if no value is associated
+     * with the key
+     * @throws NullPointerException if the specified key, value or remapping function is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V merge(K key, @NotNull V value, @NotNull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value, "Merge value is null");
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot < 0) {
+            insertNew(hash, key, value);
+            return value;
+        }
+
+        final V old = (V) vals[slot];
+        final V merged = old == null ? value : remappingFunction.apply(old, value);
+        if (merged == null) {
+            deleteSlot(slot);
+        } else {
+            vals[slot] = merged;
+        }
+        return merged;
+    }
+
+    /**
+     * Returns a new {@link Map.Cursor} positioned before the first entry of this map. The cursor
+     * walks the table slots in order and reads the keys and values straight from the backing
+     * arrays.
+     *
+     * @return a cursor over the entries of this map.
+     */
+    @NotNull
+    @Override
+    public Map.Cursor<K, V> cursor() {
+        return new Map.Cursor<>() {
+            private int index = -1;
+
+            @Override
+            public boolean advance() {
+                index = nextOccupied(index + 1);
+                return index < hashes.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public K key() {
+                return (K) keys[checkIndex()];
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public V value() {
+                return (V) vals[checkIndex()];
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public V setValue(V value) {
+                final int slot = checkIndex();
+                final V old = (V) vals[slot];
+                vals[slot] = value;
+                return old;
+            }
+
+            @Override
+            public void reset() {
+                index = -1;
+            }
+
+            private int checkIndex() {
+                if (index < 0 || index >= hashes.length) {
+                    throw new IllegalStateException("Cursor is not positioned on an entry.");
+                }
+                return index;
+            }
+        };
+    }
+
+    /**
+     * Get the slot index of the specified {@code key}.
+     *
+     * @param key to search for.
+     * @return slot index of the {@code key} or {@code -1} if the key is not present.
+     */
+    private int slotOf(K key) {
+        return slotOf(hash(key), key);
+    }
+
+    /**
+     * Get the slot index of the specified {@code key} with its precomputed {@code hash}.
+     *
+     * @param hash of the {@code key}.
+     * @param key  to search for.
+     * @return slot index of the {@code key} or {@code -1} if the key is not present.
+     */
+    private int slotOf(int hash, K key) {
+        final int mask = hashes.length - 1;
+
+        for (int slot = hash & mask, distance = 0; ; slot = (slot + 1) & mask, distance++) {
+            final int h = hashes[slot];
+            if (h == 0 || probeDistance(h, slot, mask) < distance) {
+                CollectionStats.probed(distance + 1);
+                return -1;
+            } else if (h == hash && key.equals(keys[slot])) {
+                CollectionStats.probed(distance + 1);
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Add an entry for a {@code key} known to be absent and grow the table if the
+     * {@link #threshold} is exceeded.
+     *
+     * @param hash  of the {@code key}.
+     * @param key   of the new entry.
+     * @param value of the new entry.
+     */
+    private void insertNew(int hash, K key, V value) {
+        insert(hash, key, value);
+        if (++size > threshold) {
+            rehash(nextCapacity(hashes.length));
+        }
+    }
+
+    /**
+     * Place a new entry into the table, displacing the resident entries which are closer
+     * to their ideal slot than the one being placed. The key must not be present in the
+     * table already and the table must have at least one empty slot.
+     *
+     * @param hash  of the {@code key}.
+     * @param key   of the new entry.
+     * @param value of the new entry.
+     */
+    private void insert(int hash, Object key, Object value) {
+        final int mask = hashes.length - 1;
+
+        for (int slot = hash & mask, distance = 0; ; slot = (slot + 1) & mask, distance++) {
+            final int h = hashes[slot];
+            if (h == 0) {
+                hashes[slot] = hash;
+                keys[slot] = key;
+                vals[slot] = value;
+                return;
+            }
+
+            final int residentDistance = probeDistance(h, slot, mask);
+            if (residentDistance < distance) {
+                final Object k = keys[slot];
+                final Object v = vals[slot];
+
+                hashes[slot] = hash;
+                keys[slot] = key;
+                vals[slot] = value;
+
+                hash = h;
+                key = k;
+                value = v;
+                distance = residentDistance;
+            }
+        }
+    }
+
+    /**
+     * Empty the given {@code slot} and shift the following entries of the same probe run
+     * back by one slot.
+     *
+     * @param slot to be emptied.
+     */
+    private void deleteSlot(int slot) {
+        final int mask = hashes.length - 1;
+
+        for (int next = (slot + 1) & mask; ; slot = next, next = (next + 1) & mask) {
+            final int h = hashes[next];
+            if (h == 0 || probeDistance(h, next, mask) == 0) {
+                break;
+            }
+            hashes[slot] = h;
+            keys[slot] = keys[next];
+            vals[slot] = vals[next];
+        }
+
+        hashes[slot] = 0;
+        keys[slot] = null;
+        vals[slot] = null;
+        size--;
+    }
+
+    /**
+     * Grow the table to {@code capacity} slots and reinsert all the entries.
+     *
+     * @param capacity power of two new slots count.
+     */
+    private void rehash(int capacity) {
+        final int[] oldHashes = hashes;
+        final Object[] oldKeys = keys;
+        final Object[] oldVals = vals;
+
+        CollectionStats.resized(size * (Integer.BYTES + 2L * CollectionStats.REFERENCE_BYTES));
+        final RehashEvent event = new RehashEvent();
+        event.begin();
+        allocate(capacity);
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                insert(oldHashes[i], oldKeys[i], oldVals[i]);
+            }
+        }
+        event.commit(this, size, oldHashes.length, capacity);
+    }
+
+    /**
+     * Allocate new table arrays and recalculate the {@link #threshold}.
+     *
+     * @param capacity power of two slots count.
+     */
+    private void allocate(int capacity) {
+        hashes = new int[capacity];
+        keys = new Object[capacity];
+        vals = new Object[capacity];
+        threshold = threshold(capacity, loadFactor);
+    }
+
+    /**
+     * Copy all the keys in slot order into the {@code collector} array.
+     *
+     * @param collector array with at least {@link #size} length.
+     * @return the same {@code collector} array.
+     */
+    private <T> T[] collectKeys(T[] collector) {
+        final Object[] target = collector;
+        for (int i = 0, j = 0; j < size; i++) {
+            if (hashes[i] != 0) {
+                target[j++] = keys[i];
+            }
+        }
+        return collector;
+    }
+
+    /**
+     * Get the next occupied slot index starting from {@code index}.
+     *
+     * @param index to start the search from.
+     * @return the next occupied slot index or the table length if there isn't any.
+     */
+    private int nextOccupied(int index) {
+        while (index < hashes.length && hashes[index] == 0) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Hash the {@code key} with {@link HashTables#mix(int)}.
+     *
+     * @param key to be hashed.
+     * @return never zero hash code.
+     * @throws NullPointerException if the {@code key} is null.
+     */
+    private static int hash(Object key) {
+        return mix(Objects.requireNonNull(key, "HashMap key is null").hashCode());
+    }
 }
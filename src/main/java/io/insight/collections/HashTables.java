@@ -0,0 +1,113 @@
+package io.insight.collections;
+
+/**
+ * Constants and helpers shared by the open addressing hash tables of this package
+ * ({@link HashMap}, {@link IntObjectMap}, {@link LongLongMap} and {@link ObjectIntMap}).
+ * <p>
+ * Every table keeps a cached hash code per slot with the {@link #OCCUPIED} bit set, so a
+ * {@code 0} marks an empty slot regardless of the key type, and resolves collisions with
+ * linear probing under the Robin Hood scheme.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+final class HashTables {
+
+    /**
+     * Default capacity of a table if an expected size is not defined. Must be a power of two.
+     */
+    static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Maximum capacity of a table. Must be a power of two.
+     */
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+    /**
+     * Default load factor of a table if one is not defined.
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /**
+     * Bit set on every cached hash code, so a {@code 0} always marks an empty slot.
+     */
+    static final int OCCUPIED = 0x80000000;
+
+    /**
+     * Not to be instantiated.
+     */
+    private HashTables() {
+    }
+
+    /**
+     * Spread the higher bits of a hash code to the lower bits and mark it with {@link #OCCUPIED}
+     * bit.
+     *
+     * @param hashCode of the key.
+     * @return never zero hash code.
+     */
+    static int mix(int hashCode) {
+        final int h = hashCode * 0x9E3779B9;
+        return (h ^ (h >>> 16)) | OCCUPIED;
+    }
+
+    /**
+     * Distance of an entry from its ideal slot.
+     *
+     * @param hash of the entry.
+     * @param slot current slot of the entry.
+     * @param mask of the table.
+     * @return the probe distance.
+     */
+    static int probeDistance(int hash, int slot, int mask) {
+        return (slot - hash) & mask;
+    }
+
+    /**
+     * Number of entries a table of {@code capacity} slots can hold before it grows. Always
+     * leaves at least one slot empty, so the probing loops terminate.
+     *
+     * @param capacity   power of two slots count.
+     * @param loadFactor of the table.
+     * @return the resize threshold.
+     */
+    static int threshold(int capacity, float loadFactor) {
+        return Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    /**
+     * Calculate the power of two table size which can hold {@code expectedSize} entries
+     * under the {@code loadFactor}.
+     *
+     * @param expectedSize number of entries.
+     * @param loadFactor   of the table.
+     * @return power of two table size.
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or the
+     *                                  {@code loadFactor} is not in {@code (0, 1)} range.
+     */
+    static int tableSizeFor(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Invalid expected size: %d".formatted(expectedSize));
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Invalid load factor: %s".formatted(loadFactor));
+        }
+
+        final long slots = Math.max(2L, (long) Math.ceil(expectedSize / (double) loadFactor) + 1);
+        if (slots >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Integer.highestOneBit((int) slots - 1) << 1;
+    }
+
+    /**
+     * Capacity of the next table when a table of {@code capacity} slots is full.
+     *
+     * @param capacity current slots count.
+     * @return doubled slots count.
+     * @throws IllegalStateException if the table is already at {@link #MAXIMUM_CAPACITY}.
+     */
+    static int nextCapacity(int capacity) {
+        if (capacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Hash table capacity exceeded: %d".formatted(MAXIMUM_CAPACITY));
+        }
+        return capacity << 1;
+    }
+}
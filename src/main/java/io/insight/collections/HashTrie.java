@@ -0,0 +1,784 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Common implementation of the maps on a compressed hash array mapped trie (CHAMP variant of
+ * the HAMT), {@link PersistentHashMap} and its {@link PersistentHashMap.Builder}.
+ * <p>
+ * Every node consumes {@link #BITS} bits of the hash code, and keeps two bitmaps of the 32
+ * possible branches: one for the entries stored in the node itself and one for the sub-nodes.
+ * The content array holds only the branches present, the keys and values from the front and
+ * the sub-nodes from the back, so a node with {@code n} branches costs an array of at most
+ * {@code 2n} slots. Keys which share all the bits of their hash codes end up in a collision
+ * node below the last level.
+ * <p>
+ * Nodes are never modified once they are reachable from a {@link PersistentHashMap}. A builder
+ * tags the nodes it creates with its owner token and updates them in place until the token is
+ * replaced, and copies the path to any other node it updates.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+abstract class HashTrie<K, V> implements Map<K, V> {
+
+    /**
+     * Number of hash code bits every level consumes.
+     */
+    static final int BITS = 5;
+    /**
+     * Mask of the hash code bits of a level.
+     */
+    static final int MASK = (1 << BITS) - 1;
+    /**
+     * Shift beyond the last bits of the hash code, where the collision nodes are.
+     */
+    static final int HASH_BITS = 32;
+    /**
+     * Maximum depth of the trie, the bitmap levels and the collision level.
+     */
+    static final int MAX_DEPTH = (HASH_BITS + BITS - 1) / BITS + 1;
+    /**
+     * Marker of a missing key, values may be {@code null}.
+     */
+    static final Object NOT_FOUND = new Object();
+    /**
+     * Shared empty root node.
+     */
+    static final Node EMPTY_NODE = new BitmapNode(null, 0, 0, new Object[0]);
+
+    /**
+     * Root node of the trie.
+     *
+     * @return the root node.
+     */
+    abstract Node root();
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return root().find(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key. Use {@link #containsKey(Object)} to distinguish a
+     * missing key from a key mapped to {@code null}.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public V get(K key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key
+     * @throws NullPointerException if the specified key is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        final Object value = root().find(key, hash(key), 0);
+        return value != NOT_FOUND ? (V) value : defaultValue;
+    }
+
+    /**
+     * Returns true if this map contains the specified key.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean contains(K element) {
+        return containsKey(element);
+    }
+
+    /**
+     * Returns true if this map contains all the keys in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection contains one or more null
+     *                              elements, or if the specified collection is null.
+     * @see #contains(K)
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<K> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (K element : elements) {
+            if (!containsKey(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if this collection contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns an array containing all the keys of this map, in the order of the trie.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return collectKeys(new Object[size()]);
+    }
+
+    /**
+     * Returns an array containing all the keys of this map; the runtime type of the returned
+     * array is that of the specified array. If the keys fit in the specified array, they are
+     * returned therein, with a {@code null} following the last key if there is room.
+     *
+     * @param collector the array into which the elements of this collection are to be stored, if it is big
+     *                  enough; otherwise, a new array of the same runtime type is allocated for this purpose.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException  if the runtime type of any element in this collection is not assignable
+     *                              to the runtime component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T[] toArray(@NotNull T[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        final int size = size();
+        if (size > collector.length) {
+            collector = (T[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        } else if (size < collector.length) {
+            collector[size] = null;
+        }
+        return collectKeys(collector);
+    }
+
+    /**
+     * Returns an iterator over the keys of this map, in the order of the trie.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<K> iterator() {
+        final Traversal traversal = new Traversal(root());
+        return new Iterator<>() {
+            private boolean next = traversal.advance();
+
+            @Override
+            public boolean hasNext() {
+                return next;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public K next() {
+                if (!next) {
+                    throw new NoSuchElementException("Map has no more keys to iterate.");
+                }
+
+                final K key = (K) traversal.key();
+                next = traversal.advance();
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@link Map.Cursor} positioned before the first entry of this map. The cursor
+     * walks the trie depth first, over the root node the map has when the cursor is created.
+     * {@link Map.Cursor#setValue(Object)} delegates to {@link #put(Object, Object)}.
+     *
+     * @return a cursor over the entries of this map.
+     */
+    @NotNull
+    @Override
+    public Map.Cursor<K, V> cursor() {
+        return new Map.Cursor<>() {
+            private final Node start = root();
+            private Traversal traversal = new Traversal(start);
+            private boolean positioned;
+
+            @Override
+            public boolean advance() {
+                return positioned = traversal.advance();
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public K key() {
+                checkPositioned();
+                return (K) traversal.key();
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public V value() {
+                checkPositioned();
+                return (V) traversal.value();
+            }
+
+            @Override
+            public V setValue(V value) {
+                return put(key(), value);
+            }
+
+            @Override
+            public void reset() {
+                traversal = new Traversal(start);
+                positioned = false;
+            }
+
+            private void checkPositioned() {
+                if (!positioned) {
+                    throw new IllegalStateException("Cursor is not positioned on an entry.");
+                }
+            }
+        };
+    }
+
+    /**
+     * Copy the keys into the {@code collector}.
+     *
+     * @param collector array at least as long as this map.
+     * @return the {@code collector}.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T[] collectKeys(T[] collector) {
+        final Traversal traversal = new Traversal(root());
+        for (int i = 0; traversal.advance(); i++) {
+            collector[i] = (T) traversal.key();
+        }
+        return collector;
+    }
+
+    /**
+     * Spread the bits of the hash code of the {@code key}, the trie consumes the lower bits
+     * first.
+     *
+     * @param key to be hashed.
+     * @return the hash code.
+     * @throws NullPointerException if the {@code key} is null.
+     */
+    static int hash(Object key) {
+        final int h = Objects.requireNonNull(key, "Map key is null").hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Result of an update, filled in by the nodes on the way down.
+     */
+    static final class Change {
+
+        /**
+         * Whether the key was present before the update.
+         */
+        boolean found;
+        /**
+         * Previous value of the key, if it was present.
+         */
+        Object oldValue;
+
+        /**
+         * Clear the result for the next update.
+         *
+         * @return this instance.
+         */
+        Change reset() {
+            found = false;
+            oldValue = null;
+            return this;
+        }
+    }
+
+    /**
+     * Node of the trie. The {@link #content} holds the keys and values in pairs, followed by
+     * the sub-nodes if any.
+     */
+    abstract static class Node {
+
+        /**
+         * Token of the builder which may update this node in place, or {@code null}.
+         */
+        final Object owner;
+        /**
+         * Keys and values in pairs, followed by the sub-nodes.
+         */
+        final Object[] content;
+
+        Node(Object owner, Object[] content) {
+            this.owner = owner;
+            this.content = content;
+        }
+
+        /**
+         * Value of the {@code key}.
+         *
+         * @param key   to search for.
+         * @param hash  of the {@code key}.
+         * @param shift of this node.
+         * @return the value, or {@link #NOT_FOUND}.
+         */
+        abstract Object find(Object key, int hash, int shift);
+
+        /**
+         * Map the {@code key} to the {@code value}.
+         *
+         * @param owner  token of the builder, or {@code null} to copy every node updated.
+         * @param key    to map.
+         * @param value  to map the key to.
+         * @param hash   of the {@code key}.
+         * @param shift  of this node.
+         * @param change to report the previous mapping.
+         * @return the updated node, or this node if the key is mapped to the same value already.
+         */
+        abstract Node put(Object owner, Object key, Object value, int hash, int shift, Change change);
+
+        /**
+         * Remove the mapping of the {@code key}.
+         *
+         * @param owner  token of the builder, or {@code null} to copy every node updated.
+         * @param key    to remove.
+         * @param hash   of the {@code key}.
+         * @param shift  of this node.
+         * @param change to report the removed mapping.
+         * @return the updated node, or this node if the key is not present.
+         */
+        abstract Node remove(Object owner, Object key, int hash, int shift, Change change);
+
+        /**
+         * Number of entries stored in this node itself.
+         *
+         * @return number of the entries.
+         */
+        abstract int entryCount();
+
+        /**
+         * Number of sub-nodes of this node.
+         *
+         * @return number of the sub-nodes.
+         */
+        abstract int nodeCount();
+
+        /**
+         * Sub-node at the {@code index}, in the order of the branches.
+         *
+         * @param index of the sub-node.
+         * @return the sub-node.
+         */
+        Node nodeAt(int index) {
+            return (Node) content[content.length - 1 - index];
+        }
+
+        /**
+         * Whether this node holds one entry and nothing else, and can be inlined to its parent.
+         *
+         * @return {@code true} if this node holds a single entry.
+         */
+        boolean hasSingleEntry() {
+            return entryCount() == 1 && nodeCount() == 0;
+        }
+
+        /**
+         * Whether this node can be updated in place by the {@code owner}.
+         *
+         * @param owner token of the builder, or {@code null}.
+         * @return {@code true} if this node is owned by the {@code owner}.
+         */
+        boolean ownedBy(Object owner) {
+            return owner != null && this.owner == owner;
+        }
+    }
+
+    /**
+     * Node with a bitmap of the entries and a bitmap of the sub-nodes.
+     */
+    static final class BitmapNode extends Node {
+
+        /**
+         * Branches which hold an entry.
+         */
+        final int dataMap;
+        /**
+         * Branches which hold a sub-node.
+         */
+        final int nodeMap;
+
+        BitmapNode(Object owner, int dataMap, int nodeMap, Object[] content) {
+            super(owner, content);
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            final int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                final int i = index(dataMap, bit) << 1;
+                return key.equals(content[i]) ? content[i + 1] : NOT_FOUND;
+            } else if ((nodeMap & bit) != 0) {
+                return nodeAt(index(nodeMap, bit)).find(key, hash, shift + BITS);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object owner, Object key, Object value, int hash, int shift, Change change) {
+            final int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                final int i = index(dataMap, bit) << 1;
+                final Object current = content[i];
+                if (key.equals(current)) {
+                    change.found = true;
+                    change.oldValue = content[i + 1];
+                    if (content[i + 1] == value) {
+                        return this;
+                    }
+                    return replace(owner, i + 1, value);
+                }
+
+                final Node sub = merge(owner, current, content[i + 1], hash(current), key, value, hash, shift + BITS);
+                return migrateToNode(owner, bit, sub);
+            } else if ((nodeMap & bit) != 0) {
+                final int j = content.length - 1 - index(nodeMap, bit);
+                final Node sub = (Node) content[j];
+                final Node updated = sub.put(owner, key, value, hash, shift + BITS, change);
+                return updated == sub ? this : replace(owner, j, updated);
+            }
+
+            final int i = index(dataMap, bit) << 1;
+            final Object[] newContent = new Object[content.length + 2];
+            System.arraycopy(content, 0, newContent, 0, i);
+            newContent[i] = key;
+            newContent[i + 1] = value;
+            System.arraycopy(content, i, newContent, i + 2, content.length - i);
+            return new BitmapNode(owner, dataMap | bit, nodeMap, newContent);
+        }
+
+        @Override
+        Node remove(Object owner, Object key, int hash, int shift, Change change) {
+            final int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                final int i = index(dataMap, bit) << 1;
+                if (!key.equals(content[i])) {
+                    return this;
+                }
+
+                change.found = true;
+                change.oldValue = content[i + 1];
+                final Object[] newContent = new Object[content.length - 2];
+                System.arraycopy(content, 0, newContent, 0, i);
+                System.arraycopy(content, i + 2, newContent, i, content.length - i - 2);
+                return new BitmapNode(owner, dataMap ^ bit, nodeMap, newContent);
+            } else if ((nodeMap & bit) != 0) {
+                final int j = content.length - 1 - index(nodeMap, bit);
+                final Node sub = (Node) content[j];
+                final Node updated = sub.remove(owner, key, hash, shift + BITS, change);
+                if (updated == sub) {
+                    return this;
+                } else if (!updated.hasSingleEntry()) {
+                    return replace(owner, j, updated);
+                } else if (shift != 0 && dataMap == 0 && Integer.bitCount(nodeMap) == 1) {
+                    return updated;
+                }
+                return migrateToData(owner, bit, updated.content[0], updated.content[1]);
+            }
+            return this;
+        }
+
+        @Override
+        int entryCount() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        int nodeCount() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        /**
+         * Replace the content slot at index {@code i}, in place if the node is owned by the
+         * {@code owner}.
+         *
+         * @param owner token of the builder, or {@code null}.
+         * @param i     index of the slot.
+         * @param item  new value or sub-node.
+         * @return this node, or the updated copy.
+         */
+        private Node replace(Object owner, int i, Object item) {
+            if (ownedBy(owner)) {
+                content[i] = item;
+                return this;
+            }
+
+            final Object[] newContent = content.clone();
+            newContent[i] = item;
+            return new BitmapNode(owner, dataMap, nodeMap, newContent);
+        }
+
+        /**
+         * Replace the entry of the {@code bit} branch with the {@code sub} node.
+         *
+         * @param owner token of the builder, or {@code null}.
+         * @param bit   of the branch.
+         * @param sub   node with the entry and the new one.
+         * @return the updated copy.
+         */
+        private Node migrateToNode(Object owner, int bit, Node sub) {
+            final int i = index(dataMap, bit) << 1;
+            final int j = content.length - 2 - index(nodeMap, bit);
+            final Object[] newContent = new Object[content.length - 1];
+            System.arraycopy(content, 0, newContent, 0, i);
+            System.arraycopy(content, i + 2, newContent, i, j - i);
+            newContent[j] = sub;
+            System.arraycopy(content, j + 2, newContent, j + 1, content.length - j - 2);
+            return new BitmapNode(owner, dataMap ^ bit, nodeMap | bit, newContent);
+        }
+
+        /**
+         * Replace the sub-node of the {@code bit} branch with its single entry.
+         *
+         * @param owner token of the builder, or {@code null}.
+         * @param bit   of the branch.
+         * @param key   of the entry.
+         * @param value of the entry.
+         * @return the updated copy.
+         */
+        private Node migrateToData(Object owner, int bit, Object key, Object value) {
+            final int j = content.length - 1 - index(nodeMap, bit);
+            final int i = index(dataMap, bit) << 1;
+            final Object[] newContent = new Object[content.length + 1];
+            System.arraycopy(content, 0, newContent, 0, i);
+            newContent[i] = key;
+            newContent[i + 1] = value;
+            System.arraycopy(content, i, newContent, i + 2, j - i);
+            System.arraycopy(content, j + 1, newContent, j + 2, content.length - j - 1);
+            return new BitmapNode(owner, dataMap | bit, nodeMap ^ bit, newContent);
+        }
+
+        /**
+         * Create the node, or the path of nodes, which holds two entries of different keys.
+         *
+         * @param owner token of the builder, or {@code null}.
+         * @param shift of the node.
+         * @return the new node.
+         */
+        private static Node merge(Object owner, Object key0, Object value0, int hash0,
+                                  Object key1, Object value1, int hash1, int shift) {
+            if (shift >= HASH_BITS) {
+                return new CollisionNode(owner, hash0, new Object[]{key0, value0, key1, value1});
+            }
+
+            final int mask0 = (hash0 >>> shift) & MASK;
+            final int mask1 = (hash1 >>> shift) & MASK;
+            if (mask0 != mask1) {
+                final Object[] content = mask0 < mask1
+                        ? new Object[]{key0, value0, key1, value1}
+                        : new Object[]{key1, value1, key0, value0};
+                return new BitmapNode(owner, (1 << mask0) | (1 << mask1), 0, content);
+            }
+
+            final Node sub = merge(owner, key0, value0, hash0, key1, value1, hash1, shift + BITS);
+            return new BitmapNode(owner, 0, 1 << mask0, new Object[]{sub});
+        }
+
+        /**
+         * Bit of the branch of the {@code hash} at the {@code shift}.
+         */
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        /**
+         * Index of the {@code bit} branch among the branches of the {@code bitmap}.
+         */
+        private static int index(int bitmap, int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    /**
+     * Node of the keys with identical hash codes, searched linearly.
+     */
+    static final class CollisionNode extends Node {
+
+        /**
+         * Hash code of all the keys.
+         */
+        final int hash;
+
+        CollisionNode(Object owner, int hash, Object[] content) {
+            super(owner, content);
+            this.hash = hash;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            final int i = indexOf(key);
+            return i >= 0 ? content[i + 1] : NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object owner, Object key, Object value, int hash, int shift, Change change) {
+            final int i = indexOf(key);
+            if (i >= 0) {
+                change.found = true;
+                change.oldValue = content[i + 1];
+                if (content[i + 1] == value) {
+                    return this;
+                } else if (ownedBy(owner)) {
+                    content[i + 1] = value;
+                    return this;
+                }
+
+                final Object[] newContent = content.clone();
+                newContent[i + 1] = value;
+                return new CollisionNode(owner, hash, newContent);
+            }
+
+            final Object[] newContent = Arrays.copyOf(content, content.length + 2);
+            newContent[content.length] = key;
+            newContent[content.length + 1] = value;
+            return new CollisionNode(owner, hash, newContent);
+        }
+
+        @Override
+        Node remove(Object owner, Object key, int hash, int shift, Change change) {
+            final int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+
+            change.found = true;
+            change.oldValue = content[i + 1];
+            final Object[] newContent = new Object[content.length - 2];
+            System.arraycopy(content, 0, newContent, 0, i);
+            System.arraycopy(content, i + 2, newContent, i, content.length - i - 2);
+            return new CollisionNode(owner, hash, newContent);
+        }
+
+        @Override
+        int entryCount() {
+            return content.length >> 1;
+        }
+
+        @Override
+        int nodeCount() {
+            return 0;
+        }
+
+        /**
+         * Index of the {@code key} in the {@link #content}.
+         *
+         * @param key to search for.
+         * @return the index, or {@code -1} if the key is not present.
+         */
+        private int indexOf(Object key) {
+            for (int i = 0; i < content.length; i += 2) {
+                if (key.equals(content[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Depth first walk over the entries of a trie, the entries of a node before its sub-nodes.
+     */
+    static final class Traversal {
+
+        /**
+         * Nodes on the path from the root to the current node.
+         */
+        private final Node[] nodes = new Node[MAX_DEPTH];
+        /**
+         * Next entry or sub-node of the nodes on the path, entries first.
+         */
+        private final int[] positions = new int[MAX_DEPTH];
+        /**
+         * Depth of the current node, {@code -1} once the walk is over.
+         */
+        private int depth;
+        /**
+         * Node of the current entry.
+         */
+        private Node current;
+        /**
+         * Index of the key of the current entry in the content of the {@link #current} node.
+         */
+        private int index;
+
+        Traversal(Node root) {
+            nodes[0] = root;
+        }
+
+        /**
+         * Move to the next entry.
+         *
+         * @return {@code true} if there is an entry.
+         */
+        boolean advance() {
+            while (depth >= 0) {
+                final Node node = nodes[depth];
+                final int position = positions[depth]++;
+                final int entries = node.entryCount();
+                if (position < entries) {
+                    current = node;
+                    index = position << 1;
+                    return true;
+                } else if (position < entries + node.nodeCount()) {
+                    nodes[++depth] = node.nodeAt(position - entries);
+                    positions[depth] = 0;
+                } else {
+                    nodes[depth--] = null;
+                }
+            }
+            current = null;
+            return false;
+        }
+
+        /**
+         * Key of the current entry.
+         */
+        Object key() {
+            return current.content[index];
+        }
+
+        /**
+         * Value of the current entry.
+         */
+        Object value() {
+            return current.content[index + 1];
+        }
+    }
+}
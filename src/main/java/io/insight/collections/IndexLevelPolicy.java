@@ -0,0 +1,73 @@
+package io.insight.collections;
+
+/**
+ * Decides how many index levels a new entry of a {@link ConcurrentSkipListMap} gets, which
+ * trades the memory of the index nodes against the number of nodes a search visits. Chosen when
+ * the map is created, for example
+ * {@code new ConcurrentSkipListMap<>(null, IndexLevelPolicy.geometric(2).withMaxLevels(20))}.
+ * <p>
+ * Implementations must be stateless, so a single instance can be shared by any number of maps.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface IndexLevelPolicy {
+
+    /**
+     * Returns the number of index levels of a new entry, {@code 0} for an entry linked in the
+     * base list only. A map adds at most one level above its current height per entry, so the
+     * result is an upper bound.
+     *
+     * @param random uniformly distributed random bits, fresh for every entry.
+     * @return the number of index levels, not negative.
+     */
+    int levels(int random);
+
+    /**
+     * Returns a policy which gives the same levels as this one, at most {@code maxLevels}.
+     * Bounds the height of the index, and the search depth of a map with few entries.
+     *
+     * @param maxLevels maximum number of index levels of an entry.
+     * @return the capped policy.
+     * @throws IllegalArgumentException if the {@code maxLevels} is negative.
+     */
+    default IndexLevelPolicy withMaxLevels(int maxLevels) {
+        if (maxLevels < 0) {
+            throw new IllegalArgumentException("Invalid maximum levels: %d".formatted(maxLevels));
+        }
+
+        final IndexLevelPolicy policy = this;
+        return random -> Math.min(policy.levels(random), maxLevels);
+    }
+
+    /**
+     * Returns the policy which promotes an entry to each next index level with a probability of
+     * {@code 1 / fanout}, so every index level holds about {@code 1 / fanout} of the nodes of
+     * the level below. A search visits about {@code fanout / 2} nodes per level. A fanout of
+     * {@code 2} searches the fastest and takes about one index node per entry, a fanout of
+     * {@code 4}, the default of {@link ConcurrentSkipListMap}, takes about a third of that.
+     *
+     * @param fanout power of two from {@code 2} to {@code 256}.
+     * @return the geometric policy.
+     * @throws IllegalArgumentException if the {@code fanout} is not a power of two in range.
+     */
+    static IndexLevelPolicy geometric(int fanout) {
+        if (fanout < 2 || fanout > 256 || Integer.bitCount(fanout) != 1) {
+            throw new IllegalArgumentException("Invalid fanout: %d".formatted(fanout));
+        }
+
+        final int bits = Integer.numberOfTrailingZeros(fanout);
+        return random -> Integer.numberOfTrailingZeros(random) / bits;
+    }
+
+    /**
+     * Returns the policy which adds no index at all, the map degrades to a sorted linked list
+     * with linear time searches. Suits small maps scanned in order only.
+     *
+     * @return the no-index policy.
+     */
+    static IndexLevelPolicy none() {
+        return random -> 0;
+    }
+}
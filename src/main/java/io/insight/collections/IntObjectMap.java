@@ -0,0 +1,798 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.insight.collections.HashTables.DEFAULT_CAPACITY;
+import static io.insight.collections.HashTables.DEFAULT_LOAD_FACTOR;
+import static io.insight.collections.HashTables.mix;
+import static io.insight.collections.HashTables.nextCapacity;
+import static io.insight.collections.HashTables.probeDistance;
+import static io.insight.collections.HashTables.tableSizeFor;
+import static io.insight.collections.HashTables.threshold;
+
+/**
+ * {@link HashMap} specialization with {@code int} keys. Keys are stored unboxed in an
+ * {@code int[]}, the {@link Map} contract methods box the keys on the way in and out and
+ * the {@code int} overloads access the table without boxing.
+ * <p>
+ * Every {@code int} value is a valid key, {@code null} values are permitted. Since
+ * {@code null} is the value returned for a missing key, use {@link #containsKey(int)} to
+ * distinguish a missing key from a key mapped to {@code null}.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class IntObjectMap<V> implements Map<Integer, V> {
+
+    /**
+     * Cached hash codes of the keys, {@code 0} for an empty slot.
+     */
+    private int[] hashes;
+    /**
+     * Core array instance which hold all the keys add into the {@link IntObjectMap}.
+     */
+    private int[] keys;
+    /**
+     * Core array instance which hold all the values add into the {@link IntObjectMap}.
+     * Index-aligned with {@link #keys}.
+     */
+    private Object[] vals;
+    /**
+     * Maximum fraction of the table slots allowed to be occupied before the table grows.
+     */
+    private final float loadFactor;
+    /**
+     * Number of entries the table can hold before it grows.
+     */
+    private int threshold;
+    /**
+     * Number of the entries in the table.
+     */
+    private int size;
+
+    /**
+     * Default constructor implementation initialize the table with default configuration.
+     * Which is {@code 16} slots with {@code 0.75} load factor.
+     */
+    public IntObjectMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, true);
+    }
+
+    /**
+     * Overloaded constructor implementation to presize the table, so {@code expectedSize}
+     * entries can be added without the table being rehashed.
+     *
+     * @param expectedSize number of entries expected to be added.
+     * @throws IllegalArgumentException if {@code expectedSize} is negative.
+     */
+    public IntObjectMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Overloaded constructor implementation to presize the table with a user defined load
+     * factor, so {@code expectedSize} entries can be added without the table being rehashed.
+     *
+     * @param expectedSize number of entries expected to be added.
+     * @param loadFactor   fraction of the slots allowed to be occupied, {@code (0, 1)} exclusive.
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or the
+     *                                  {@code loadFactor} is out of range.
+     */
+    public IntObjectMap(int expectedSize, float loadFactor) {
+        this(tableSizeFor(expectedSize, loadFactor), loadFactor, true);
+    }
+
+    /**
+     * Allocate the table arrays with given {@code capacity}.
+     *
+     * @param capacity   power of two slots count.
+     * @param loadFactor fraction of the slots allowed to be occupied.
+     * @param ignored    to distinguish from the public constructors.
+     */
+    private IntObjectMap(int capacity, float loadFactor, @SuppressWarnings("unused") boolean ignored) {
+        this.loadFactor = loadFactor;
+        allocate(capacity);
+    }
+
+    /**
+     * Removes all the mappings from this map. The map will be empty after this method returns.
+     */
+    @Override
+    public void clear() {
+        if (size != 0) {
+            Arrays.fill(hashes, 0);
+            Arrays.fill(vals, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns true if this map contains a mapping for the specified key.
+     *
+     * @param element key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean contains(@NotNull Integer element) {
+        return containsKey(element.intValue());
+    }
+
+    /**
+     * Returns true if this map contains a mapping for all the keys in the specified collection.
+     *
+     * @param elements collection of keys to be checked for containment in this map
+     * @return {@code true} if this map contains all the keys in the specified collection
+     * @throws NullPointerException if the specified collection is null or contains a null key.
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<Integer> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (Integer element : elements) {
+            if (!containsKey(element.intValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return an exact copy of this {@link IntObjectMap} with new reference details. Values
+     * themselves are not cloned.
+     *
+     * @return a new instance of this {@link IntObjectMap}.
+     */
+    @Override
+    public IntObjectMap<V> copy() {
+        final IntObjectMap<V> copy = new IntObjectMap<>(hashes.length, loadFactor, true);
+        System.arraycopy(hashes, 0, copy.hashes, 0, hashes.length);
+        System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+        System.arraycopy(vals, 0, copy.vals, 0, vals.length);
+        copy.size = size;
+
+        return copy;
+    }
+
+    /**
+     * Returns {@code true} if this map contains no mappings.
+     *
+     * @return {@code true} if this map contains no mappings.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of mappings in this map.
+     *
+     * @return the number of mappings in this map.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an array containing all the keys of this map, boxed, in slot order. Use
+     * {@link #keysToArray()} to copy the keys without boxing.
+     *
+     * @return an array, whose runtime component type is Object, containing all the keys
+     */
+    @Override
+    public Object[] toArray() {
+        final Object[] array = new Object[size];
+        for (int i = 0, j = 0; j < size; i++) {
+            if (hashes[i] != 0) {
+                array[j++] = keys[i];
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Returns an array containing all the keys of this map, boxed, in slot order; the runtime
+     * type of the returned array is that of the specified array.
+     *
+     * @param collector the array into which the keys are to be stored, if it is big enough;
+     *                  otherwise, a new array of the same runtime type is allocated for this purpose.
+     * @return an array containing all the keys of this map
+     * @throws ArrayStoreException  if {@code Integer} is not assignable to the runtime component
+     *                              type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T[] toArray(@NotNull T[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        if (size > collector.length) {
+            collector = (T[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        } else if (size < collector.length) {
+            collector[size] = null;
+        }
+
+        final Object[] array = collector;
+        for (int i = 0, j = 0; j < size; i++) {
+            if (hashes[i] != 0) {
+                array[j++] = keys[i];
+            }
+        }
+        return collector;
+    }
+
+    /**
+     * Returns a new {@code int[]} containing all the keys of this map in slot order.
+     *
+     * @return an array containing all the keys of this map.
+     */
+    public int[] keysToArray() {
+        final int[] array = new int[size];
+        for (int i = 0, j = 0; j < size; i++) {
+            if (hashes[i] != 0) {
+                array[j++] = keys[i];
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Returns an iterator over the keys of this map. Use
+     * {@link PrimitiveIterator.OfInt#nextInt()} to iterate without boxing.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < hashes.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= hashes.length) {
+                    throw new NoSuchElementException("IntObjectMap has no more keys to iterate.");
+                }
+
+                final int key = keys[index];
+                index = nextOccupied(index + 1);
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean containsKey(@NotNull Integer key) {
+        return containsKey(key.intValue());
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified {@code int} key.
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     */
+    public boolean containsKey(int key) {
+        return slotOf(hash(key), key) >= 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public V get(@NotNull Integer key) {
+        return get(key.intValue());
+    }
+
+    /**
+     * Returns the value to which the specified {@code int} key is mapped, or {@code null} if
+     * this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or {@code null}
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        final int slot = slotOf(hash(key), key);
+        return slot >= 0 ? (V) vals[slot] : null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public V getOrDefault(@NotNull Integer key, V defaultValue) {
+        return getOrDefault(key.intValue(), defaultValue);
+    }
+
+    /**
+     * Returns the value to which the specified {@code int} key is mapped, or
+     * {@code defaultValue} if this map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue}
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue) {
+        final int slot = slotOf(hash(key), key);
+        return slot >= 0 ? (V) vals[slot] : defaultValue;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public V put(@NotNull Integer key, V value) {
+        return put(key.intValue(), value);
+    }
+
+    /**
+     * Associates the specified value with the specified {@code int} key in this map.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or {@code null}
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot >= 0) {
+            final V old = (V) vals[slot];
+            vals[slot] = value;
+            return old;
+        }
+
+        insertNew(hash, key, value);
+        return null;
+    }
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to {@code null})
+     * associates it with the given value and returns {@code null}, else returns the current value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public V putIfAbsent(@NotNull Integer key, V value) {
+        return putIfAbsent(key.intValue(), value);
+    }
+
+    /**
+     * If the specified {@code int} key is not already associated with a value (or is mapped to
+     * {@code null}) associates it with the given value and returns {@code null}, else returns the
+     * current value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or {@code null}
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(int key, V value) {
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot < 0) {
+            insertNew(hash, key, value);
+            return null;
+        }
+
+        final V old = (V) vals[slot];
+        if (old == null) {
+            vals[slot] = value;
+        }
+        return old;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public V remove(@NotNull Integer key) {
+        return remove(key.intValue());
+    }
+
+    /**
+     * Removes the mapping for an {@code int} key from this map if it is present.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or {@code null}
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        final int slot = slotOf(hash(key), key);
+        if (slot < 0) {
+            return null;
+        }
+
+        final V old = (V) vals[slot];
+        deleteSlot(slot);
+        return old;
+    }
+
+    /**
+     * Attempts to compute a mapping for the specified key and its current mapped value (or
+     * {@code null} if there is no current mapping). If the remapping function returns
+     * {@code null}, the mapping is removed (or remains absent if initially absent).
+     *
+     * @param key               key with which the specified value is to be associated
+     * @param remappingFunction the remapping function to compute a value
+     * @return the new value associated with the specified key, or null if none
+     * @throws NullPointerException if the specified key or the remapping function is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V compute(@NotNull Integer key, @NotNull BiFunction<? super Integer, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+        final int k = key;
+        final int hash = hash(k);
+        final int slot = slotOf(hash, k);
+        final V value = remappingFunction.apply(key, slot >= 0 ? (V) vals[slot] : null);
+
+        if (slot >= 0) {
+            if (value == null) {
+                deleteSlot(slot);
+            } else {
+                vals[slot] = value;
+            }
+        } else if (value != null) {
+            insertNew(hash, k, value);
+        }
+        return value;
+    }
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to {@code null}),
+     * attempts to compute its value using the given mapping function and enters it into this map
+     * unless {@code null}.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the mapping function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or
+     * null if the computed value is null
+     * @throws NullPointerException if the specified key or the mapping function is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V computeIfAbsent(@NotNull Integer key, @NotNull Function<? super Integer, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction, "Mapping function is null");
+
+        final int k = key;
+        final int hash = hash(k);
+        final int slot = slotOf(hash, k);
+        if (slot >= 0 && vals[slot] != null) {
+            return (V) vals[slot];
+        }
+
+        final V value = mappingFunction.apply(key);
+        if (value != null) {
+            if (slot >= 0) {
+                vals[slot] = value;
+            } else {
+                insertNew(hash, k, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * If the specified key is not already associated with a value or is associated with
+     * {@code null}, associates it with the given non-null value. Otherwise, replaces the
+     * associated value with the results of the given remapping function, or removes it if the
+     * result is {@code null}.
+     *
+     * @param key               key with which the resulting value is to be associated
+     * @param value             the non-null value to be merged with the existing value
+     * @param remappingFunction the remapping function to recompute a value if present
+     * @return the new value associated with the specified key, or null if no value is associated
+     * with the key
+     * @throws NullPointerException if the specified key, value or remapping function is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    @Override
+    public V merge(@NotNull Integer key, @NotNull V value, @NotNull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value, "Merge value is null");
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+        final int k = key;
+        final int hash = hash(k);
+        final int slot = slotOf(hash, k);
+        if (slot < 0) {
+            insertNew(hash, k, value);
+            return value;
+        }
+
+        final V old = (V) vals[slot];
+        final V merged = old == null ? value : remappingFunction.apply(old, value);
+        if (merged == null) {
+            deleteSlot(slot);
+        } else {
+            vals[slot] = merged;
+        }
+        return merged;
+    }
+
+    /**
+     * Returns a new {@link IntObjectCursor} positioned before the first entry of this map. Use
+     * {@link IntObjectCursor#intKey()} to read the keys without boxing.
+     *
+     * @return a cursor over the entries of this map.
+     */
+    @NotNull
+    @Override
+    public IntObjectCursor<V> cursor() {
+        return new IntObjectCursor<>() {
+            private int index = -1;
+
+            @Override
+            public boolean advance() {
+                index = nextOccupied(index + 1);
+                return index < hashes.length;
+            }
+
+            @Override
+            public int intKey() {
+                return keys[checkIndex()];
+            }
+
+            @Override
+            public Integer key() {
+                return intKey();
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public V value() {
+                return (V) vals[checkIndex()];
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public V setValue(V value) {
+                final int slot = checkIndex();
+                final V old = (V) vals[slot];
+                vals[slot] = value;
+                return old;
+            }
+
+            @Override
+            public void reset() {
+                index = -1;
+            }
+
+            private int checkIndex() {
+                if (index < 0 || index >= hashes.length) {
+                    throw new IllegalStateException("Cursor is not positioned on an entry.");
+                }
+                return index;
+            }
+        };
+    }
+
+    /**
+     * Get the slot index of the specified {@code key} with its precomputed {@code hash}.
+     *
+     * @param hash of the {@code key}.
+     * @param key  to search for.
+     * @return slot index of the {@code key} or {@code -1} if the key is not present.
+     */
+    private int slotOf(int hash, int key) {
+        final int mask = hashes.length - 1;
+
+        for (int slot = hash & mask, distance = 0; ; slot = (slot + 1) & mask, distance++) {
+            final int h = hashes[slot];
+            if (h == 0 || probeDistance(h, slot, mask) < distance) {
+                CollectionStats.probed(distance + 1);
+                return -1;
+            } else if (h == hash && keys[slot] == key) {
+                CollectionStats.probed(distance + 1);
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Add an entry for a {@code key} known to be absent and grow the table if the
+     * {@link #threshold} is exceeded.
+     *
+     * @param hash  of the {@code key}.
+     * @param key   of the new entry.
+     * @param value of the new entry.
+     */
+    private void insertNew(int hash, int key, Object value) {
+        insert(hash, key, value);
+        if (++size > threshold) {
+            rehash(nextCapacity(hashes.length));
+        }
+    }
+
+    /**
+     * Place a new entry into the table, displacing the resident entries which are closer
+     * to their ideal slot than the one being placed. The key must not be present in the
+     * table already and the table must have at least one empty slot.
+     *
+     * @param hash  of the {@code key}.
+     * @param key   of the new entry.
+     * @param value of the new entry.
+     */
+    private void insert(int hash, int key, Object value) {
+        final int mask = hashes.length - 1;
+
+        for (int slot = hash & mask, distance = 0; ; slot = (slot + 1) & mask, distance++) {
+            final int h = hashes[slot];
+            if (h == 0) {
+                hashes[slot] = hash;
+                keys[slot] = key;
+                vals[slot] = value;
+                return;
+            }
+
+            final int residentDistance = probeDistance(h, slot, mask);
+            if (residentDistance < distance) {
+                final int k = keys[slot];
+                final Object v = vals[slot];
+
+                hashes[slot] = hash;
+                keys[slot] = key;
+                vals[slot] = value;
+
+                hash = h;
+                key = k;
+                value = v;
+                distance = residentDistance;
+            }
+        }
+    }
+
+    /**
+     * Empty the given {@code slot} and shift the following entries of the same probe run
+     * back by one slot.
+     *
+     * @param slot to be emptied.
+     */
+    private void deleteSlot(int slot) {
+        final int mask = hashes.length - 1;
+
+        for (int next = (slot + 1) & mask; ; slot = next, next = (next + 1) & mask) {
+            final int h = hashes[next];
+            if (h == 0 || probeDistance(h, next, mask) == 0) {
+                break;
+            }
+            hashes[slot] = h;
+            keys[slot] = keys[next];
+            vals[slot] = vals[next];
+        }
+
+        hashes[slot] = 0;
+        vals[slot] = null;
+        size--;
+    }
+
+    /**
+     * Grow the table to {@code capacity} slots and reinsert all the entries.
+     *
+     * @param capacity power of two new slots count.
+     */
+    private void rehash(int capacity) {
+        final int[] oldHashes = hashes;
+        final int[] oldKeys = keys;
+        final Object[] oldVals = vals;
+
+        CollectionStats.resized(size * (2L * Integer.BYTES + CollectionStats.REFERENCE_BYTES));
+        final RehashEvent event = new RehashEvent();
+        event.begin();
+        allocate(capacity);
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                insert(oldHashes[i], oldKeys[i], oldVals[i]);
+            }
+        }
+        event.commit(this, size, oldHashes.length, capacity);
+    }
+
+    /**
+     * Allocate new table arrays and recalculate the {@link #threshold}.
+     *
+     * @param capacity power of two slots count.
+     */
+    private void allocate(int capacity) {
+        hashes = new int[capacity];
+        keys = new int[capacity];
+        vals = new Object[capacity];
+        threshold = threshold(capacity, loadFactor);
+    }
+
+    /**
+     * Get the next occupied slot index starting from {@code index}.
+     *
+     * @param index to start the search from.
+     * @return the next occupied slot index or the table length if there isn't any.
+     */
+    private int nextOccupied(int index) {
+        while (index < hashes.length && hashes[index] == 0) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Hash the {@code key} with {@link HashTables#mix(int)}.
+     *
+     * @param key to be hashed.
+     * @return never zero hash code.
+     */
+    private static int hash(int key) {
+        return mix(key);
+    }
+
+    /**
+     * {@link Map.Cursor} over an {@link IntObjectMap} with an unboxed key accessor.
+     *
+     * @param <V> the type of mapped values
+     */
+    public interface IntObjectCursor<V> extends Map.Cursor<Integer, V> {
+
+        /**
+         * Returns the key of the entry the cursor is positioned on, without boxing.
+         *
+         * @return the key of the current entry.
+         * @throws IllegalStateException if the cursor is not positioned on an entry.
+         */
+        int intKey();
+    }
+}
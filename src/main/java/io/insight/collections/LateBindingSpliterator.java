@@ -0,0 +1,125 @@
+package io.insight.collections;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link Spliterator} over the {@link Iterable#iterator()} of a collection, which creates the
+ * iterator and reads the size on the first traversal, split or size estimate rather than on
+ * creation. Changes to the collection between the creation of a stream and its terminal
+ * operation are therefore seen by the stream.
+ * <p>
+ * Without a size supplier, the size is unknown. With one and without
+ * {@link Spliterator#CONCURRENT}, the size is exact and the spliterator reports
+ * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}. With {@link Spliterator#CONCURRENT},
+ * the size is used as an estimate only, so the collection may change during the traversal.
+ * A {@link Spliterator#SORTED} collection passes its comparator, or {@code null} for the
+ * natural ordering.
+ *
+ * @param <E> the type of the elements.
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+final class LateBindingSpliterator<E> implements Spliterator<E> {
+
+    /**
+     * The collection to bind to on first use.
+     */
+    private final Iterable<E> source;
+    /**
+     * Size of the collection, or {@code null} if unknown.
+     */
+    private final LongSupplier size;
+    /**
+     * Characteristics reported before and after binding.
+     */
+    private final int characteristics;
+    /**
+     * Comparator of a {@link Spliterator#SORTED} collection, or {@code null} for the natural
+     * ordering.
+     */
+    private final Comparator<? super E> comparator;
+    /**
+     * Spliterator over the iterator of the collection, {@code null} until bound.
+     */
+    private Spliterator<E> bound;
+
+    /**
+     * Create a spliterator over the elements of the given collection.
+     *
+     * @param source          the collection to traverse.
+     * @param size            the size of the collection, or {@code null} if unknown.
+     * @param characteristics of the collection.
+     */
+    LateBindingSpliterator(Iterable<E> source, LongSupplier size, int characteristics) {
+        this(source, size, characteristics, null);
+    }
+
+    /**
+     * Create a spliterator over the elements of the given sorted collection.
+     *
+     * @param source          the collection to traverse.
+     * @param size            the size of the collection, or {@code null} if unknown.
+     * @param characteristics of the collection.
+     * @param comparator      of the collection, or {@code null} for the natural ordering.
+     */
+    LateBindingSpliterator(Iterable<E> source, LongSupplier size, int characteristics,
+                           Comparator<? super E> comparator) {
+        this.source = source;
+        this.comparator = comparator;
+        this.size = size;
+        this.characteristics = size == null || (characteristics & Spliterator.CONCURRENT) != 0
+                ? characteristics
+                : characteristics | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+    /**
+     * Bind to the iterator and the size of the collection, if not bound yet.
+     *
+     * @return the spliterator over the iterator of the collection.
+     */
+    private Spliterator<E> bind() {
+        if (bound == null) {
+            bound = size == null
+                    ? Spliterators.spliteratorUnknownSize(source.iterator(), characteristics)
+                    : Spliterators.spliterator(source.iterator(), size.getAsLong(), characteristics);
+        }
+        return bound;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        return bind().trySplit();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        return bind().tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        bind().forEachRemaining(action);
+    }
+
+    @Override
+    public long estimateSize() {
+        return bind().estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    @Override
+    public Comparator<? super E> getComparator() {
+        if (hasCharacteristics(Spliterator.SORTED)) {
+            return comparator;
+        }
+        throw new IllegalStateException("Spliterator is not SORTED");
+    }
+}
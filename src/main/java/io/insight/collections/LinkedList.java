@@ -3,6 +3,12 @@ package io.insight.collections;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.UnaryOperator;
 
 import static java.lang.String.format;
 
@@ -24,6 +30,15 @@ public class LinkedList<T> implements List<T> {
      * Keep the current index of the latest value.
      */
     private int size;
+    /**
+     * Last node looked up by index, {@link #node(int)} walks from here when it is the nearest.
+     * Cleared when a structural change may have moved it to another index.
+     */
+    private Node<T> finger;
+    /**
+     * Index of the {@link #finger} node.
+     */
+    private int fingerIndex;
 
     /**
      *
@@ -91,13 +106,15 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public boolean add(int index, T element) {
-        if (!isIndexValid(index))
+        if (index != size && !isIndexValid(index))
             throw new IndexOutOfBoundsException(format("LinkedList index is out of bound: %d", index));
 
-        Node<T> node = node(index);
-        node.previous = new Node<>(node.previous, element, node);
+        if (index == size) {
+            return add(element);
+        }
 
-        size++; // TODO - Complete the method.
+        finger = linkBefore(element, node(index));
+        fingerIndex = index;
         return true;
     }
 
@@ -178,7 +195,13 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public int indexOf(T element) {
-        return 0;
+        int index = 0;
+        for (Node<T> node = head; node != null; node = node.next, index++) {
+            if (Objects.equals(element, node.value)) {
+                return index;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -194,7 +217,18 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T remove(int index) {
-        return null;
+        if (!isIndexValid(index))
+            throw new IndexOutOfBoundsException(format("LinkedList index is out of bound: %d", index));
+
+        Node<T> node = node(index);
+        Node<T> next = node.next;
+        T val = unlink(node);
+        if (next != null) {
+            finger = next;
+            fingerIndex = index;
+        }
+
+        return val;
     }
 
     /**
@@ -250,7 +284,88 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T set(int index, T element) {
-        return null;
+        if (!isIndexValid(index))
+            throw new IndexOutOfBoundsException(format("LinkedList index is out of bound: %d", index));
+
+        Node<T> node = node(index);
+        T val = node.value;
+        node.value = element;
+
+        return val;
+    }
+
+    /**
+     * Performs the given action for each element of this list, in order, walking the nodes
+     * from the head without an {@link Iterator}.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     */
+    @Override
+    public void forEach(@NotNull Consumer<? super T> action) {
+        Objects.requireNonNull(action, "Action is null");
+        for (Node<T> node = head; node != null; node = node.next) {
+            action.accept(node.value);
+        }
+    }
+
+    /**
+     * Performs the given action for each element of this list along with its index, in order,
+     * walking the nodes from the head.
+     *
+     * @param action the action to be performed for each element and its index
+     * @throws NullPointerException if the specified action is null
+     */
+    @Override
+    public void forEachIndexed(@NotNull ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action, "Action is null");
+        int index = 0;
+        for (Node<T> node = head; node != null; node = node.next) {
+            action.accept(node.value, index++);
+        }
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the operator to that
+     * element, in a single walk over the nodes.
+     *
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException if the specified operator is null
+     */
+    @Override
+    public void replaceAll(@NotNull UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator, "Operator is null");
+        for (Node<T> node = head; node != null; node = node.next) {
+            node.value = operator.apply(node.value);
+        }
+    }
+
+    /**
+     * Replaces the elements of this list from the {@code from} index on with the elements of
+     * the {@code source} array. Looks up the first node by index once, and walks forward from
+     * there.
+     *
+     * @param from   index of the first element to replace
+     * @param source array of the elements to be stored, from the {@code from} index on
+     * @throws NullPointerException      if the specified array is null
+     * @throws IndexOutOfBoundsException if the range is out of this list,
+     *                                   {@code (from < 0 || from + source.length > size())}
+     */
+    @Override
+    public void setRange(int from, @NotNull T[] source) {
+        Objects.requireNonNull(source, "Source array is null");
+        if (from < 0 || from > size - source.length) {
+            throw new IndexOutOfBoundsException(format("LinkedList range is out of bound: [%d, %d)", from, (long) from + source.length));
+        }
+        if (source.length == 0) {
+            return;
+        }
+
+        Node<T> node = node(from);
+        for (T element : source) {
+            node.value = element;
+            node = node.next;
+        }
     }
 
     /**
@@ -272,7 +387,7 @@ public class LinkedList<T> implements List<T> {
             node = n;
         }
 
-        head = tail = null;
+        head = tail = finger = null;
         size = 0;
     }
 
@@ -290,7 +405,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
-        return false;
+        return indexOf(element) >= 0;
     }
 
     /**
@@ -359,7 +474,12 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public Object[] toArray() {
-        return new Object[0];
+        Object[] array = new Object[size];
+        int index = 0;
+        for (Node<T> node = head; node != null; node = node.next) {
+            array[index++] = node.value;
+        }
+        return array;
     }
 
     /**
@@ -412,7 +532,147 @@ public class LinkedList<T> implements List<T> {
     @NotNull
     @Override
     public Iterator<T> iterator() {
-        return null;
+        return new Iterator<>() {
+            /**
+             * Node of the next element.
+             */
+            private Node<T> next = head;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null)
+                    throw new NoSuchElementException(format("LinkedList size %d exceeded", size));
+
+                T val = next.value;
+                next = next.next;
+                return val;
+            }
+        };
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, in proper sequence, starting at the
+     * head of the list.
+     *
+     * @return a list iterator over the elements in this list.
+     * @see #listIterator(int)
+     */
+    @NotNull
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over the elements in this list, in proper sequence, starting at the
+     * specified position. The iterator moves in both directions, and its {@code add}, {@code set}
+     * and {@code remove} operations relink the nodes around the cursor in constant time.
+     *
+     * @param index index of the first element to be returned from the list iterator by a call to
+     *              {@link ListIterator#next()}
+     * @return a list iterator over the elements in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index > size())}
+     */
+    @NotNull
+    public ListIterator<T> listIterator(int index) {
+        if (index != size && !isIndexValid(index))
+            throw new IndexOutOfBoundsException(format("LinkedList index is out of bound: %d", index));
+
+        return new ListIterator<>() {
+            /**
+             * Node returned by the last {@code next()} or {@code previous()} call, {@code null}
+             * after {@code add} or {@code remove}.
+             */
+            private Node<T> lastReturned;
+            /**
+             * Node to be returned by {@code next()}, {@code null} at the end of the list.
+             */
+            private Node<T> next = index == size ? null : node(index);
+            /**
+             * Index of the {@link #next} node.
+             */
+            private int nextIndex = index;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException(format("LinkedList size %d exceeded", size));
+
+                lastReturned = next;
+                next = next.next;
+                nextIndex++;
+                return lastReturned.value;
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return nextIndex > 0;
+            }
+
+            @Override
+            public T previous() {
+                if (!hasPrevious())
+                    throw new NoSuchElementException("LinkedList beginning reached");
+
+                next = next == null ? tail : next.previous;
+                lastReturned = next;
+                nextIndex--;
+                return lastReturned.value;
+            }
+
+            @Override
+            public int nextIndex() {
+                return nextIndex;
+            }
+
+            @Override
+            public int previousIndex() {
+                return nextIndex - 1;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null)
+                    throw new IllegalStateException("Neither next() nor previous() called after the last add or remove");
+
+                Node<T> lastNext = lastReturned.next;
+                unlink(lastReturned);
+                if (next == lastReturned) {
+                    next = lastNext;
+                } else {
+                    nextIndex--;
+                }
+                lastReturned = null;
+            }
+
+            @Override
+            public void set(T element) {
+                if (lastReturned == null)
+                    throw new IllegalStateException("Neither next() nor previous() called after the last add or remove");
+
+                lastReturned.value = element;
+            }
+
+            @Override
+            public void add(T element) {
+                lastReturned = null;
+                if (next == null) {
+                    LinkedList.this.add(element);
+                } else {
+                    linkBefore(element, next);
+                }
+                nextIndex++;
+            }
+        };
     }
 
     /**
@@ -449,23 +709,94 @@ public class LinkedList<T> implements List<T> {
      *
      */
     private boolean isIndexValid(int index) {
-        return index < size;
+        return index >= 0 && index < size;
     }
 
     /**
+     * Find the node at {@code index}, walking from the nearest of the head, the tail and the
+     * {@link #finger}. The found node becomes the new finger, so sequential and nearby lookups
+     * walk only a few nodes.
      *
+     * @param index of the node, {@code 0 <= index < size}.
+     * @return the node at the index.
      */
     private Node<T> node(int index) {
-        if (index > (size >> 1)) {
-            Node<T> t = tail;
-            for (int i = size - 1; i > index; i--)
-                t = t.previous;
-            return t;
+        Node<T> x = head;
+        int i = 0;
+        int distance = index;
+        if (size - 1 - index < distance) {
+            x = tail;
+            i = size - 1;
+            distance = size - 1 - index;
+        }
+        if (finger != null && Math.abs(index - fingerIndex) < distance) {
+            x = finger;
+            i = fingerIndex;
+        }
+
+        CollectionStats.walked(Math.abs(index - i));
+        while (i < index) {
+            x = x.next;
+            i++;
+        }
+        while (i > index) {
+            x = x.previous;
+            i--;
+        }
+
+        finger = x;
+        fingerIndex = index;
+        return x;
+    }
+
+    /**
+     * Link a new node with the {@code element} before the {@code successor} node. Clears the
+     * {@link #finger}, since the indices after the new node move.
+     *
+     * @param element   to be inserted.
+     * @param successor node to link before.
+     * @return the new node.
+     */
+    private Node<T> linkBefore(T element, Node<T> successor) {
+        Node<T> predecessor = successor.previous;
+        Node<T> newNode = new Node<>(predecessor, element, successor);
+        successor.previous = newNode;
+        if (predecessor == null) {
+            head = newNode;
+        } else {
+            predecessor.next = newNode;
+        }
+
+        size++;
+        finger = null;
+        return newNode;
+    }
+
+    /**
+     * Unlink the {@code node} from the list. Clears the {@link #finger}, since the indices after
+     * the node move.
+     *
+     * @param node to be unlinked.
+     * @return the element of the node.
+     */
+    private T unlink(Node<T> node) {
+        if (node.previous == null) {
+            head = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.previous;
         } else {
-            Node<T> h = head;
-            for (int i = 0; i < index; i++)
-                h = h.next;
-            return h;
+            node.next.previous = node.previous;
         }
+
+        T val = node.value;
+        node.value = null;
+        node.previous = node.next = null;
+        size--;
+        finger = null;
+
+        return val;
     }
 }
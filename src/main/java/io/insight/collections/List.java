@@ -1,5 +1,12 @@
 package io.insight.collections;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+import java.util.function.UnaryOperator;
+
 /**
  * @author Sachith Dickwella
  * @since 1.0
@@ -171,4 +178,58 @@ public interface List<T> extends Collection<T> {
      * @throws IndexOutOfBoundsException     if the index is out of range, {@code (index < 0 || index > size())}
      */
     T set(int index, T element);
+
+    /**
+     * Replaces each element of this list with the result of applying the operator to that
+     * element (optional operation). The default implementation calls {@link #get(int)} and
+     * {@link #set(int, Object)} for every index, implementations override it with a single
+     * loop over their own storage.
+     *
+     * @param operator the operator to apply to each element
+     * @throws UnsupportedOperationException if the set operation is not supported by this list
+     * @throws NullPointerException          if the specified operator is null
+     */
+    default void replaceAll(@NotNull UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator, "Operator is null");
+        for (int i = 0, size = size(); i < size; i++) {
+            set(i, operator.apply(get(i)));
+        }
+    }
+
+    /**
+     * Performs the given action for each element of this list along with its index, in order,
+     * until all the elements have been processed or the action throws an exception.
+     *
+     * @param action the action to be performed for each element and its index
+     * @throws NullPointerException if the specified action is null
+     */
+    default void forEachIndexed(@NotNull ObjIntConsumer<? super T> action) {
+        Objects.requireNonNull(action, "Action is null");
+        int index = 0;
+        for (Iterator<T> iterator = iterator(); iterator.hasNext(); ) {
+            action.accept(iterator.next(), index++);
+        }
+    }
+
+    /**
+     * Replaces the elements of this list from the {@code from} index on with the elements of
+     * the {@code source} array, in order (optional operation). The size of this list does not
+     * change, the whole range must be within it.
+     *
+     * @param from   index of the first element to replace
+     * @param source array of the elements to be stored, from the {@code from} index on
+     * @throws UnsupportedOperationException if the set operation is not supported by this list
+     * @throws NullPointerException          if the specified array is null
+     * @throws IndexOutOfBoundsException     if the range is out of this list,
+     *                                       {@code (from < 0 || from + source.length > size())}
+     */
+    default void setRange(int from, @NotNull T[] source) {
+        Objects.requireNonNull(source, "Source array is null");
+        if (from < 0 || from > size() - source.length) {
+            throw new IndexOutOfBoundsException(String.format("Range out of bounds: [%d, %d)", from, (long) from + source.length));
+        }
+        for (int i = 0; i < source.length; i++) {
+            set(from + i, source[i]);
+        }
+    }
 }
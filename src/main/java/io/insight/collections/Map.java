@@ -1,9 +1,222 @@
 package io.insight.collections;
 
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
+ * An object that maps keys to values. A map cannot contain duplicate keys; each key can map
+ * to at most one value. As a {@link Collection} the map is the collection of its keys.
+ * <p>
+ * Lookups and updates in this interface are defined so that a hit or a miss does not allocate,
+ * no {@link java.util.Optional} or entry instances are returned. Entries are traversed with a
+ * {@link Cursor}, which is one object positioned over every entry in turn.
+ *
  * @author Sachith Dickwella
  * @version 1.0.0
  */
 public interface Map<K, V> extends Collection<K> {
 
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @throws ClassCastException   if the key is of an inappropriate type for this map (optional)
+     * @throws NullPointerException if the specified key is null and this map does not permit
+     *                              null keys (optional)
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key. If this map permits null values, {@link #containsKey(K)}
+     * distinguishes a missing key from a key explicitly mapped to {@code null}.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key
+     * @throws ClassCastException   if the key is of an inappropriate type for this map (optional)
+     * @throws NullPointerException if the specified key is null and this map does not permit
+     *                              null keys (optional)
+     */
+    V get(K key);
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key
+     * @throws ClassCastException   if the key is of an inappropriate type for this map (optional)
+     * @throws NullPointerException if the specified key is null and this map does not permit
+     *                              null keys (optional)
+     */
+    V getOrDefault(K key, V defaultValue);
+
+    /**
+     * Associates the specified value with the specified key in this map (optional operation).
+     * If the map previously contained a mapping for the key, the old value is replaced by the
+     * specified value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or {@code null} if there was no
+     * mapping for {@code key}
+     * @throws UnsupportedOperationException if the put operation is not supported by this map
+     * @throws ClassCastException            if the class of the specified key or value prevents
+     *                                       it from being stored in this map
+     * @throws NullPointerException          if the specified key or value is null and this map
+     *                                       does not permit null keys or values
+     * @throws IllegalArgumentException      if some property of the specified key or value
+     *                                       prevents it from being stored in this map
+     */
+    V put(K key, V value);
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to {@code null})
+     * associates it with the given value and returns {@code null}, else returns the current value
+     * (optional operation).
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or {@code null} if there was
+     * no mapping for the key
+     * @throws UnsupportedOperationException if the put operation is not supported by this map
+     * @throws ClassCastException            if the class of the specified key or value prevents
+     *                                       it from being stored in this map
+     * @throws NullPointerException          if the specified key or value is null and this map
+     *                                       does not permit null keys or values
+     */
+    V putIfAbsent(K key, V value);
+
+    /**
+     * Removes the mapping for a key from this map if it is present (optional operation).
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or {@code null} if there was no
+     * mapping for {@code key}
+     * @throws UnsupportedOperationException if the remove operation is not supported by this map
+     * @throws ClassCastException            if the key is of an inappropriate type for this map
+     *                                       (optional)
+     * @throws NullPointerException          if the specified key is null and this map does not
+     *                                       permit null keys (optional)
+     */
+    V remove(K key);
+
+    /**
+     * Attempts to compute a mapping for the specified key and its current mapped value (or
+     * {@code null} if there is no current mapping). If the remapping function returns
+     * {@code null}, the mapping is removed (or remains absent if initially absent). The
+     * remapping function must not modify this map during computation.
+     *
+     * @param key               key with which the specified value is to be associated
+     * @param remappingFunction the remapping function to compute a value
+     * @return the new value associated with the specified key, or null if none
+     * @throws UnsupportedOperationException if the put operation is not supported by this map
+     * @throws NullPointerException          if the remapping function is null, or the specified
+     *                                       key is null and this map does not permit null keys
+     */
+    V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction);
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to {@code null}),
+     * attempts to compute its value using the given mapping function and enters it into this map
+     * unless {@code null}. The mapping function must not modify this map during computation.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the mapping function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or
+     * null if the computed value is null
+     * @throws UnsupportedOperationException if the put operation is not supported by this map
+     * @throws NullPointerException          if the mapping function is null, or the specified
+     *                                       key is null and this map does not permit null keys
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * If the specified key is not already associated with a value or is associated with
+     * {@code null}, associates it with the given non-null value. Otherwise, replaces the
+     * associated value with the results of the given remapping function, or removes it if the
+     * result is {@code null}. The remapping function must not modify this map during computation.
+     *
+     * @param key               key with which the resulting value is to be associated
+     * @param value             the non-null value to be merged with the existing value
+     * @param remappingFunction the remapping function to recompute a value if present
+     * @return the new value associated with the specified key, or null if no value is associated
+     * with the key
+     * @throws UnsupportedOperationException if the put operation is not supported by this map
+     * @throws NullPointerException          if the value or remapping function is null, or the
+     *                                       specified key is null and this map does not permit
+     *                                       null keys
+     */
+    V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction);
+
+    /**
+     * Returns a new {@link Cursor} positioned before the first entry of this map. The same
+     * cursor instance is positioned over every entry in turn, so the traversal does not
+     * allocate an entry object per mapping.
+     *
+     * @return a cursor over the entries of this map.
+     */
+    Cursor<K, V> cursor();
+
+    /**
+     * A reusable, mutable view over one map entry at a time. Unlike {@link java.util.Map.Entry}
+     * the key and value returned by a cursor are only valid until the next {@link #advance()}.
+     * <pre>{@code
+     *      Map.Cursor<K, V> cursor = map.cursor();
+     *      while (cursor.advance()) {
+     *          consume(cursor.key(), cursor.value());
+     *      }
+     * }</pre>
+     * The behavior of a cursor is undefined if the map is structurally modified, other than
+     * with {@link #setValue(V)}, while the traversal is in progress.
+     *
+     * @param <K> the type of keys maintained by the map
+     * @param <V> the type of mapped values
+     */
+    interface Cursor<K, V> {
+
+        /**
+         * Moves the cursor to the next entry of the map.
+         *
+         * @return {@code true} if the cursor is positioned on an entry, {@code false} if there
+         * are no more entries.
+         */
+        boolean advance();
+
+        /**
+         * Returns the key of the entry the cursor is positioned on.
+         *
+         * @return the key of the current entry.
+         * @throws IllegalStateException if the cursor is not positioned on an entry.
+         */
+        K key();
+
+        /**
+         * Returns the value of the entry the cursor is positioned on.
+         *
+         * @return the value of the current entry.
+         * @throws IllegalStateException if the cursor is not positioned on an entry.
+         */
+        V value();
+
+        /**
+         * Replaces the value of the entry the cursor is positioned on (optional operation).
+         *
+         * @param value new value to be stored in the current entry.
+         * @return the previous value of the current entry.
+         * @throws UnsupportedOperationException if the set operation is not supported.
+         * @throws IllegalStateException         if the cursor is not positioned on an entry.
+         */
+        V setValue(V value);
+
+        /**
+         * Moves the cursor back before the first entry, so the same instance can be used for
+         * another traversal.
+         */
+        void reset();
+    }
 }
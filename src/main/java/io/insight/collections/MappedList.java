@@ -0,0 +1,327 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Resizable list of fixed width records kept in a memory-mapped file, so the elements survive
+ * a restart of the process. Every element is encoded into its slot by an {@link ElementCodec}
+ * on the way in and decoded on the way out.
+ * <p>
+ * The file starts with a small header holding the element size, the chunk geometry, the
+ * current size and the capacity of the list, followed by the encoded elements. Reopening an
+ * existing file maps its header and every chunk, hence it takes time proportional to the
+ * capacity over the chunk size, the pages are loaded by the operating system on first access.
+ * <p>
+ * The file is extended and mapped in fixed size chunks (8 MiB by default) when the list runs
+ * out of capacity, existing chunks are never remapped or copied. Changes are written back to
+ * the file by the operating system in its own time, {@link #force()} writes them back
+ * straight away. The file is encoded in little endian byte order.
+ * <p>
+ * {@link #close()} unmaps the file, any access to a closed list throws
+ * {@link IllegalStateException}. The list is not thread safe, and a file must not be opened
+ * by more than one list at a time.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class MappedList<T> extends SegmentedList<T> {
+
+    /**
+     * Default size of a mapped chunk in bytes.
+     */
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 23;
+    /**
+     * Size of the file header in bytes, elements start right after it.
+     */
+    private static final int HEADER_BYTES = 32;
+    /**
+     * Identifies a {@link MappedList} file, ASCII {@code MLST}.
+     */
+    private static final int MAGIC = 0x4D4C5354;
+    /**
+     * Header offset of the {@link #MAGIC} number.
+     */
+    private static final int MAGIC_OFFSET = 0;
+    /**
+     * Header offset of the element size.
+     */
+    private static final int ELEMENT_SIZE_OFFSET = 4;
+    /**
+     * Header offset of the chunk size in bytes.
+     */
+    private static final int CHUNK_BYTES_OFFSET = 8;
+    /**
+     * Header offset of the number of elements.
+     */
+    private static final int SIZE_OFFSET = 12;
+    /**
+     * Header offset of the number of elements the mapped chunks can hold.
+     */
+    private static final int CAPACITY_OFFSET = 16;
+    /**
+     * Channel of the backing file.
+     */
+    private final FileChannel channel;
+    /**
+     * Mapped header of the backing file.
+     */
+    private final MappedByteBuffer header;
+
+    /**
+     * Private constructor to open the list on an already validated file.
+     *
+     * @param codec      to encode and decode the elements.
+     * @param channel    of the backing file.
+     * @param header     mapped header of the backing file.
+     * @param chunkBytes size of a mapped chunk in bytes, validated to fit an element.
+     * @throws IOException if the header is corrupted or the chunks cannot be mapped, the
+     *                     header and the chunks mapped so far are unmapped.
+     */
+    private MappedList(ElementCodec<T> codec, FileChannel channel, MappedByteBuffer header, int chunkBytes)
+            throws IOException {
+        super(codec, chunkBytes);
+        this.channel = channel;
+        this.header = header;
+
+        final int storedCapacity = header.getInt(CAPACITY_OFFSET);
+        final int storedSize = header.getInt(SIZE_OFFSET);
+        final int count = Math.max(1, chunkCount(storedCapacity));
+        final ByteBuffer[] chunks = new ByteBuffer[count];
+        try {
+            if (storedSize < 0 || storedSize > storedCapacity) {
+                throw new IOException("Corrupted header, size %d and capacity %d".formatted(storedSize, storedCapacity));
+            }
+            for (int i = 0; i < count; i++) {
+                chunks[i] = mapChunk(i);
+            }
+        } catch (IOException | RuntimeException ex) {
+            for (ByteBuffer chunk : chunks) {
+                DirectMemory.free(chunk);
+            }
+            DirectMemory.free(header);
+            throw ex;
+        }
+        this.segments = chunks;
+        this.capacity = capacityOf(count);
+        this.size = storedSize;
+        header.putInt(CAPACITY_OFFSET, capacity);
+    }
+
+    /**
+     * Open the list stored in {@code file} with the default chunk size, the file is created
+     * if it does not exist.
+     *
+     * @param file  to keep the elements in.
+     * @param codec to encode and decode the elements.
+     * @param <T>   the type of the elements.
+     * @return the list stored in the file.
+     * @throws NullPointerException     if the {@code file} or the {@code codec} is null.
+     * @throws IllegalArgumentException if the file holds elements of another size.
+     * @throws IOException              if the file cannot be opened or mapped, or is not a
+     *                                  {@link MappedList} file.
+     */
+    public static <T> MappedList<T> open(@NotNull Path file, @NotNull ElementCodec<T> codec) throws IOException {
+        return open(file, codec, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Open the list stored in {@code file}, the file is created if it does not exist. The
+     * {@code chunkBytes} applies to new files only, an existing file keeps the chunk size it
+     * was created with.
+     *
+     * @param file       to keep the elements in.
+     * @param codec      to encode and decode the elements.
+     * @param chunkBytes size of the chunks the file is extended and mapped by.
+     * @param <T>        the type of the elements.
+     * @return the list stored in the file.
+     * @throws NullPointerException     if the {@code file} or the {@code codec} is null.
+     * @throws IllegalArgumentException if the {@code chunkBytes} is not positive or does not fit
+     *                                  an element, or the file holds elements of another size.
+     * @throws IOException              if the file cannot be opened or mapped, or is not a
+     *                                  {@link MappedList} file.
+     */
+    public static <T> MappedList<T> open(@NotNull Path file, @NotNull ElementCodec<T> codec, int chunkBytes)
+            throws IOException {
+        Objects.requireNonNull(file, "File path is null");
+        Objects.requireNonNull(codec, "Element codec is null");
+        if (codec.byteSize() <= 0) {
+            throw new IllegalArgumentException("Invalid element size: %d".formatted(codec.byteSize()));
+        } else if (chunkBytes < codec.byteSize()) {
+            throw new IllegalArgumentException("Chunk size %d does not fit an element of %d bytes"
+                    .formatted(chunkBytes, codec.byteSize()));
+        }
+
+        final FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final boolean created = channel.size() == 0;
+            if (!created && channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a MappedList file: %s".formatted(file));
+            }
+
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (created) {
+                header.putInt(MAGIC_OFFSET, MAGIC)
+                        .putInt(ELEMENT_SIZE_OFFSET, codec.byteSize())
+                        .putInt(CHUNK_BYTES_OFFSET, chunkBytes)
+                        .putInt(SIZE_OFFSET, 0)
+                        .putInt(CAPACITY_OFFSET, 0);
+            } else if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+                DirectMemory.free(header);
+                throw new IOException("Not a MappedList file: %s".formatted(file));
+            } else if (header.getInt(ELEMENT_SIZE_OFFSET) != codec.byteSize()) {
+                final int stored = header.getInt(ELEMENT_SIZE_OFFSET);
+                DirectMemory.free(header);
+                throw new IllegalArgumentException("Element size %d does not match the file element size %d"
+                        .formatted(codec.byteSize(), stored));
+            } else if (header.getInt(CHUNK_BYTES_OFFSET) < codec.byteSize()) {
+                final int stored = header.getInt(CHUNK_BYTES_OFFSET);
+                DirectMemory.free(header);
+                throw new IOException("Corrupted header, chunk size %d".formatted(stored));
+            }
+
+            return new MappedList<>(codec, channel, header, header.getInt(CHUNK_BYTES_OFFSET));
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Write all the changes of the elements and the header back to the file, the header last.
+     * Returns once the data is on the storage device.
+     *
+     * @throws IllegalStateException if this list is closed
+     */
+    public void force() {
+        ensureOpen();
+        for (ByteBuffer segment : segments) {
+            ((MappedByteBuffer) segment).force();
+        }
+        header.force();
+    }
+
+    /**
+     * Return an exact copy of this {@link MappedList} in newly allocated native memory, detached
+     * from the file. The copy must be closed on its own.
+     *
+     * @return a new {@link OffHeapList} instance with the elements of this list.
+     * @throws IllegalStateException if this list is closed
+     */
+    @Override
+    public OffHeapList<T> copy() {
+        ensureOpen();
+
+        final OffHeapList<T> copy = new OffHeapList<>(codec, size);
+        for (int i = 0; i < size; i++) {
+            copy.add(read(i));
+        }
+        return copy;
+    }
+
+    /**
+     * Extend the file and map new chunks until the list can hold at least {@code minCapacity}
+     * elements. Already mapped chunks are left as they are.
+     *
+     * @param minCapacity minimum number of elements the list must hold.
+     * @throws UncheckedIOException if the file cannot be extended or mapped.
+     */
+    @Override
+    void grow(int minCapacity) {
+        final int count = chunkCount(minCapacity);
+        final int from = segments.length;
+
+        segments = Arrays.copyOf(segments, count);
+        for (int i = from; i < count; i++) {
+            try {
+                segments[i] = mapChunk(i);
+            } catch (IOException ex) {
+                segments = Arrays.copyOf(segments, i);
+                capacity = capacityOf(i);
+                header.putInt(CAPACITY_OFFSET, capacity);
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        capacity = capacityOf(count);
+        header.putInt(CAPACITY_OFFSET, capacity);
+    }
+
+    /**
+     * Unmap the chunks and the header and close the file.
+     *
+     * @param segs segments to be released.
+     * @throws UncheckedIOException if the file cannot be closed.
+     */
+    @Override
+    void release(ByteBuffer[] segs) {
+        for (ByteBuffer segment : segs) {
+            DirectMemory.free(segment);
+        }
+        DirectMemory.free(header);
+
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Update the number of elements in this list and in the file header.
+     *
+     * @param newSize new number of elements.
+     */
+    @Override
+    void setSize(int newSize) {
+        super.setSize(newSize);
+        header.putInt(SIZE_OFFSET, newSize);
+    }
+
+    /**
+     * Map the chunk at {@code index} of the file, the file is extended if it is shorter.
+     *
+     * @param index of the chunk.
+     * @return mapped chunk.
+     * @throws IOException if the chunk cannot be mapped.
+     */
+    private MappedByteBuffer mapChunk(int index) throws IOException {
+        final long chunkBytes = (long) (segmentMask + 1) * elementSize;
+        final MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE,
+                HEADER_BYTES + index * chunkBytes, chunkBytes);
+        chunk.order(ByteOrder.LITTLE_ENDIAN);
+        return chunk;
+    }
+
+    /**
+     * Number of chunks required to hold {@code elements} elements.
+     *
+     * @param elements number of elements.
+     * @return number of chunks.
+     */
+    private int chunkCount(int elements) {
+        return (int) (((long) elements + segmentMask) >>> segmentShift);
+    }
+
+    /**
+     * Number of elements {@code count} chunks can hold.
+     *
+     * @param count number of chunks.
+     * @return number of elements, at most {@link Integer#MAX_VALUE}.
+     */
+    private int capacityOf(int count) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) count << segmentShift);
+    }
+}
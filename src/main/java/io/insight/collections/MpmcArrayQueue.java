@@ -0,0 +1,528 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free {@link Queue} for many producer and many consumer threads, after Dmitry
+ * Vyukov's bounded MPMC queue.
+ * <p>
+ * The elements are kept in a power of two ring buffer, and every slot has a sequence number
+ * telling whose turn the slot is. The slot of position {@code p} is free for the producer of
+ * {@code p} when its sequence is {@code p}, holds an element for the consumer of {@code p} when
+ * its sequence is {@code p + 1}, and is freed for the producer of the next lap by setting its
+ * sequence to {@code p + capacity}. Producers and consumers claim positions with a compare and
+ * set of the {@link #producerIndex} and {@link #consumerIndex}, which are padded to cache lines
+ * of their own, so the producers and the consumers do not invalidate each other's line. The batch
+ * operations claim a run of ready slots with a single compare and set.
+ * <p>
+ * {@link #size()}, iterators and the other read-only methods are weakly consistent.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class MpmcArrayQueue<E> implements Queue<E> {
+
+    /**
+     * Ordered store and load of the slot sequences.
+     */
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+    /**
+     * Ordered load of the slot elements by the readers, which do not claim the slots.
+     */
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+    /**
+     * Compare and set of the {@link #producerIndex}.
+     */
+    private static final VarHandle PRODUCER_INDEX;
+    /**
+     * Compare and set of the {@link #consumerIndex}.
+     */
+    private static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(MpmcArrayQueue.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(MpmcArrayQueue.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /*
+     * HotSpot lays out the long fields of a class together and in declaration order, ahead of
+     * the int and reference fields. The padding keeps the two indices 64 bytes apart from each
+     * other and from the neighbouring objects.
+     */
+    @SuppressWarnings("unused")
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    /**
+     * Next position to produce to.
+     */
+    private volatile long producerIndex;
+    @SuppressWarnings("unused")
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+    /**
+     * Next position to consume from.
+     */
+    private volatile long consumerIndex;
+    @SuppressWarnings("unused")
+    private long p20, p21, p22, p23, p24, p25, p26, p27;
+
+    /**
+     * Ring buffer of the elements.
+     */
+    private final Object[] buffer;
+    /**
+     * Sequence numbers of the slots, index-aligned with the {@link #buffer}.
+     */
+    private final long[] sequences;
+    /**
+     * Mask of the positions into slot indices.
+     */
+    private final int mask;
+
+    /**
+     * Create a {@link MpmcArrayQueue} to hold at least {@code capacity} elements, the capacity is
+     * rounded up to a power of two.
+     *
+     * @param capacity minimum number of the elements to hold.
+     * @throws IllegalArgumentException if the {@code capacity} is less than {@code 2} or more
+     *                                  than {@code 2^30}.
+     */
+    public MpmcArrayQueue(int capacity) {
+        if (capacity < 2 || capacity > HashTables.MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity: %d".formatted(capacity));
+        }
+
+        final int length = Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[length];
+        this.sequences = new long[length];
+        this.mask = length - 1;
+        for (int i = 0; i < length; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    /**
+     * Inserts the specified element at the tail of this queue, if it is not full.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added to this queue, else {@code false}
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "Queue element is null");
+        long pos = producerIndex;
+        for (; ; ) {
+            final int index = (int) pos & mask;
+            final long dif = (long) SEQUENCE.getAcquire(sequences, index) - pos;
+            if (dif == 0) {
+                final long witness = (long) PRODUCER_INDEX.compareAndExchange(this, pos, pos + 1);
+                if (witness == pos) {
+                    buffer[index] = element;
+                    SEQUENCE.setRelease(sequences, index, pos + 1);
+                    return true;
+                }
+                pos = witness;
+            } else if (dif < 0) {
+                return false;
+            } else {
+                pos = producerIndex;
+            }
+        }
+    }
+
+    /**
+     * Inserts as many of the elements in the specified collection as there is room for. Each run
+     * of free slots is claimed with a single compare and set, so the elements of a run are never
+     * interleaved with the elements of the other producers.
+     *
+     * @param elements collection containing elements to be added to this queue
+     * @return number of the elements added, from the start of the collection
+     * @throws NullPointerException if the specified collection contains one or more null
+     *                              elements, or if the specified collection is null
+     */
+    @Override
+    public int offerAll(@NotNull Collection<? extends E> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        final Object[] els = elements.toArray();
+        for (Object e : els) {
+            Objects.requireNonNull(e, "Queue element is null");
+        }
+
+        int offered = 0;
+        while (offered < els.length) {
+            final long pos = producerIndex;
+            final int limit = Math.min(els.length - offered, buffer.length);
+            int n = 0;
+            while (n < limit && (long) SEQUENCE.getAcquire(sequences, (int) (pos + n) & mask) == pos + n) {
+                n++;
+            }
+
+            if (n == 0) {
+                if ((long) SEQUENCE.getAcquire(sequences, (int) pos & mask) < pos) {
+                    break;
+                }
+            } else if (PRODUCER_INDEX.compareAndSet(this, pos, pos + n)) {
+                for (int j = 0; j < n; j++) {
+                    final int index = (int) (pos + j) & mask;
+                    buffer[index] = els[offered + j];
+                    SEQUENCE.setRelease(sequences, index, pos + j + 1);
+                }
+                offered += n;
+            }
+        }
+        return offered;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns {@code null} if this queue is
+     * empty.
+     *
+     * @return the head of this queue, or {@code null} if this queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E poll() {
+        long pos = consumerIndex;
+        for (; ; ) {
+            final int index = (int) pos & mask;
+            final long dif = (long) SEQUENCE.getAcquire(sequences, index) - (pos + 1);
+            if (dif == 0) {
+                final long witness = (long) CONSUMER_INDEX.compareAndExchange(this, pos, pos + 1);
+                if (witness == pos) {
+                    final E element = (E) buffer[index];
+                    buffer[index] = null;
+                    SEQUENCE.setRelease(sequences, index, pos + mask + 1);
+                    return element;
+                }
+                pos = witness;
+            } else if (dif < 0) {
+                return null;
+            } else {
+                pos = consumerIndex;
+            }
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns {@code null} if this
+     * queue is empty. The head may have been taken by another consumer when this method returns.
+     *
+     * @return the head of this queue, or {@code null} if this queue is empty
+     */
+    @Override
+    public E peek() {
+        for (; ; ) {
+            final long pos = consumerIndex;
+            final long dif = (long) SEQUENCE.getAcquire(sequences, (int) pos & mask) - (pos + 1);
+            if (dif < 0) {
+                return null;
+            }
+
+            final E element = elementAt(pos);
+            if (element != null) {
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Removes up to {@code max} elements from the head of this queue, and passes them to the
+     * {@code consumer} in order. Each run of ready slots is claimed with a single compare and set.
+     *
+     * @param consumer to accept the elements
+     * @param max      maximum number of the elements to remove
+     * @return number of the elements passed to the {@code consumer}
+     * @throws NullPointerException if the specified consumer is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public int drain(@NotNull Consumer<? super E> consumer, int max) {
+        Objects.requireNonNull(consumer, "Consumer is null");
+        int drained = 0;
+        while (drained < max) {
+            final long pos = consumerIndex;
+            final int limit = Math.min(max - drained, buffer.length);
+            int n = 0;
+            while (n < limit && (long) SEQUENCE.getAcquire(sequences, (int) (pos + n) & mask) == pos + n + 1) {
+                n++;
+            }
+
+            if (n == 0) {
+                if ((long) SEQUENCE.getAcquire(sequences, (int) pos & mask) < pos + 1) {
+                    break;
+                }
+            } else if (CONSUMER_INDEX.compareAndSet(this, pos, pos + n)) {
+                int released = 0;
+                try {
+                    while (released < n) {
+                        final int index = (int) (pos + released) & mask;
+                        final E element = (E) buffer[index];
+                        buffer[index] = null;
+                        SEQUENCE.setRelease(sequences, index, pos + released + mask + 1);
+                        released++;
+                        consumer.accept(element);
+                    }
+                } finally {
+                    while (released < n) {
+                        final int index = (int) (pos + released) & mask;
+                        buffer[index] = null;
+                        SEQUENCE.setRelease(sequences, index, pos + released + mask + 1);
+                        released++;
+                    }
+                }
+                drained += n;
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Removes all the elements available in this queue.
+     */
+    @Override
+    public void clear() {
+        drain(e -> {
+        });
+    }
+
+    /**
+     * Returns true if this queue contains the specified element.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     */
+    @Override
+    public boolean contains(E element) {
+        if (element != null) {
+            for (E e : this) {
+                if (element.equals(e)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if this queue contains all the elements in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection is null
+     * @see #contains(E)
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<E> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (E element : elements) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return a new {@link MpmcArrayQueue} of the same capacity with the elements of this queue,
+     * in the same order.
+     *
+     * @return a new instance of this {@link MpmcArrayQueue}.
+     */
+    @Override
+    public MpmcArrayQueue<E> copy() {
+        final MpmcArrayQueue<E> copy = new MpmcArrayQueue<>(buffer.length);
+        for (E e : this) {
+            copy.offer(e);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns {@code true} if this queue contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in this queue, including the ones being added or removed
+     * at the moment.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        long after = consumerIndex;
+        for (; ; ) {
+            final long before = after;
+            final long pos = producerIndex;
+            after = consumerIndex;
+            if (before == after) {
+                return (int) Math.max(0L, Math.min(pos - after, buffer.length));
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of elements this queue holds.
+     *
+     * @return the capacity of this queue.
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns an array containing all the elements in this queue, in order.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return collect(new Object[size()], false);
+    }
+
+    /**
+     * Returns an array containing all the elements in this queue, in order; the runtime type of
+     * the returned array is that of the specified array. If the elements fit in the specified
+     * array, it is returned therein, with a {@code null} following the last element if there is
+     * room.
+     *
+     * @param collector the array into which the elements are to be stored, if it is big enough;
+     *                  otherwise, a new array of the same runtime type is allocated.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException  if the runtime type of any element in this queue is not
+     *                              assignable to the runtime component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @Override
+    public <T> T[] toArray(@NotNull T[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        return collect(collector, true);
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the positions between the consumer and the
+     * producer indices at the time of creation. It skips the elements removed meanwhile.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<E> iterator() {
+        final long end = producerIndex;
+        return new Iterator<>() {
+            private long pos = consumerIndex;
+            private E next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                final E element = next;
+                if (element == null) {
+                    throw new NoSuchElementException("MpmcArrayQueue has no more elements to iterate.");
+                }
+
+                next = advance();
+                return element;
+            }
+
+            private E advance() {
+                while (pos < end) {
+                    final E element = elementAt(pos++);
+                    if (element != null) {
+                        return element;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Creates a weakly consistent {@link Spliterator} over the elements of this queue, from the
+     * head to the tail. It reports {@link Spliterator#CONCURRENT}, {@link Spliterator#ORDERED}
+     * and {@link Spliterator#NONNULL}, but not {@link Spliterator#SIZED}, so streams over the
+     * queue never fail while producers and consumers update it. The {@link #size()} on first use
+     * is the size estimate.
+     *
+     * @return a {@link Spliterator} over the elements of this queue.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new LateBindingSpliterator<>(this, this::size,
+                Spliterator.CONCURRENT | Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Read the element of position {@code pos} without claiming it.
+     *
+     * @param pos position to read.
+     * @return the element, or {@code null} if the slot is not holding the element of the
+     * position.
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(long pos) {
+        final int index = (int) pos & mask;
+        if ((long) SEQUENCE.getAcquire(sequences, index) != pos + 1) {
+            return null;
+        }
+
+        final E element = (E) ELEMENT.getAcquire(buffer, index);
+        return (long) SEQUENCE.getAcquire(sequences, index) == pos + 1 ? element : null;
+    }
+
+    /**
+     * Copy the elements into the {@code collector} array, or a larger one of the same type if
+     * the queue has grown meanwhile.
+     *
+     * @param collector array to copy the elements into.
+     * @param keepType  whether a {@code collector} of a fitting length is returned as it is,
+     *                  otherwise the result is trimmed to the number of elements copied.
+     * @return an array with the elements.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T[] collect(T[] collector, boolean keepType) {
+        final int size = size();
+        T[] target = collector.length >= size
+                ? collector
+                : (T[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        int j = 0;
+        for (E e : this) {
+            if (j == target.length) {
+                target = Arrays.copyOf(target, GrowthPolicy.doubling().grow(j, j + 1));
+            }
+            target[j++] = (T) e;
+        }
+
+        if (keepType && target == collector) {
+            if (j < target.length) {
+                target[j] = null;
+            }
+            return target;
+        }
+        return j == target.length ? target : Arrays.copyOf(target, j);
+    }
+}
@@ -0,0 +1,443 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Unbounded lock-free {@link Queue} for many producer threads and a single consumer thread, after
+ * Dmitry Vyukov's non-intrusive MPSC node-based queue.
+ * <p>
+ * A producer links a new node with a single atomic swap of the {@link #tail}, and never fails or
+ * retries. The consumer owns the {@link #head}, a stub node whose successor holds the first
+ * element, and moves it without any atomic instruction. Between the swap and the link of a
+ * producer the queue looks shorter to the consumer, which then waits for the link to land only if
+ * the node being linked is the next one.
+ * <p>
+ * {@link #poll()}, {@link #peek()}, {@link #drain(Consumer, int)} and {@link #clear()} must be
+ * invoked by one consumer thread at a time. {@link #offer(Object)} and {@link #offerAll(Collection)}
+ * are safe from any number of threads. {@link #size()}, iterators and the other read-only methods
+ * are weakly consistent, safe from any thread, and traverse the queue in linear time.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class MpscLinkedQueue<E> implements Queue<E> {
+
+    /**
+     * Atomic swap of the {@link #tail}.
+     */
+    private static final VarHandle TAIL;
+    /**
+     * Ordered store and load of the {@link #head}.
+     */
+    private static final VarHandle HEAD;
+    /**
+     * Ordered store and load of the {@link Node#next}.
+     */
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(MpscLinkedQueue.class, "tail", Node.class);
+            HEAD = lookup.findVarHandle(MpscLinkedQueue.class, "head", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Stub node, the successor of which holds the first element. Written by the consumer only.
+     */
+    private Node<E> head;
+    /**
+     * Last node linked, swapped by the producers.
+     */
+    private volatile Node<E> tail;
+
+    /**
+     * Default constructor implementation initialize an empty {@link MpscLinkedQueue}.
+     */
+    public MpscLinkedQueue() {
+        final Node<E> stub = new Node<>(null);
+        this.head = stub;
+        this.tail = stub;
+    }
+
+    /**
+     * Inserts the specified element at the tail of this queue, always succeeds.
+     *
+     * @param element the element to add
+     * @return {@code true}
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "Queue element is null");
+        final Node<E> node = new Node<>(element);
+        link(node, node);
+        return true;
+    }
+
+    /**
+     * Inserts all the elements in the specified collection at the tail of this queue. The
+     * elements are chained privately first, and the chain is linked with a single atomic swap,
+     * so the elements are never interleaved with the elements of the other producers.
+     *
+     * @param elements collection containing elements to be added to this queue
+     * @return number of the elements added, the size of the collection
+     * @throws NullPointerException if the specified collection contains one or more null
+     *                              elements, or if the specified collection is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public int offerAll(@NotNull Collection<? extends E> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        final Object[] els = elements.toArray();
+        if (els.length == 0) {
+            return 0;
+        }
+
+        final Node<E> first = new Node<>((E) Objects.requireNonNull(els[0], "Queue element is null"));
+        Node<E> last = first;
+        for (int i = 1; i < els.length; i++) {
+            final Node<E> node = new Node<>((E) Objects.requireNonNull(els[i], "Queue element is null"));
+            last.next = node;
+            last = node;
+        }
+        link(first, last);
+        return els.length;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns {@code null} if this queue is
+     * empty. Consumer thread only.
+     *
+     * @return the head of this queue, or {@code null} if this queue is empty
+     */
+    @Override
+    public E poll() {
+        final Node<E> h = head;
+        final Node<E> next = nextOf(h);
+        if (next == null) {
+            return null;
+        }
+
+        final E value = next.value;
+        next.value = null;
+        HEAD.setRelease(this, next);
+        return value;
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns {@code null} if this
+     * queue is empty. Consumer thread only.
+     *
+     * @return the head of this queue, or {@code null} if this queue is empty
+     */
+    @Override
+    public E peek() {
+        final Node<E> next = nextOf(head);
+        return next != null ? next.value : null;
+    }
+
+    /**
+     * Removes up to {@code max} elements from the head of this queue, and passes them to the
+     * {@code consumer} in order. The {@link #head} is published once per batch. Consumer thread
+     * only.
+     *
+     * @param consumer to accept the elements
+     * @param max      maximum number of the elements to remove
+     * @return number of the elements passed to the {@code consumer}
+     * @throws NullPointerException if the specified consumer is null
+     */
+    @Override
+    public int drain(@NotNull Consumer<? super E> consumer, int max) {
+        Objects.requireNonNull(consumer, "Consumer is null");
+        Node<E> h = head;
+        int drained = 0;
+        try {
+            while (drained < max) {
+                final Node<E> next = nextOf(h);
+                if (next == null) {
+                    break;
+                }
+
+                final E value = next.value;
+                next.value = null;
+                h = next;
+                drained++;
+                consumer.accept(value);
+            }
+        } finally {
+            HEAD.setRelease(this, h);
+        }
+        return drained;
+    }
+
+    /**
+     * Removes all the elements from this queue. Consumer thread only.
+     */
+    @Override
+    public void clear() {
+        drain(e -> {
+        });
+    }
+
+    /**
+     * Returns true if this queue contains the specified element.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     */
+    @Override
+    public boolean contains(E element) {
+        if (element != null) {
+            for (E e : this) {
+                if (element.equals(e)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if this queue contains all the elements in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection is null
+     * @see #contains(E)
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<E> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (E element : elements) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return a new {@link MpscLinkedQueue} with the elements of this queue, in the same order.
+     *
+     * @return a new instance of this {@link MpscLinkedQueue}.
+     */
+    @Override
+    public MpscLinkedQueue<E> copy() {
+        final MpscLinkedQueue<E> copy = new MpscLinkedQueue<>();
+        for (E e : this) {
+            copy.offer(e);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns {@code true} if this queue contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return nextOf(head()) == null;
+    }
+
+    /**
+     * Returns the number of elements in this queue, counted in linear time. If this queue
+     * contains more than Integer.MAX_VALUE elements, returns Integer.MAX_VALUE.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<E> node = nextOf(head()); node != null && size < Integer.MAX_VALUE; node = nextOf(node)) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Returns an array containing all the elements in this queue, in order.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return collect(new Object[size()], false);
+    }
+
+    /**
+     * Returns an array containing all the elements in this queue, in order; the runtime type of
+     * the returned array is that of the specified array. If the elements fit in the specified
+     * array, it is returned therein, with a {@code null} following the last element if there is
+     * room.
+     *
+     * @param collector the array into which the elements are to be stored, if it is big enough;
+     *                  otherwise, a new array of the same runtime type is allocated.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException  if the runtime type of any element in this queue is not
+     *                              assignable to the runtime component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @Override
+    public <T> T[] toArray(@NotNull T[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        return collect(collector, true);
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements of this queue, from the head to the
+     * tail. It skips the elements the consumer removes meanwhile.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private Node<E> node = head();
+            private E next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                final E value = next;
+                if (value == null) {
+                    throw new NoSuchElementException("MpscLinkedQueue has no more elements to iterate.");
+                }
+
+                next = advance();
+                return value;
+            }
+
+            private E advance() {
+                while ((node = nextOf(node)) != null) {
+                    final E value = node.value;
+                    if (value != null) {
+                        return value;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Creates a weakly consistent {@link Spliterator} over the elements of this queue, from the
+     * head to the tail. It reports {@link Spliterator#CONCURRENT}, {@link Spliterator#ORDERED}
+     * and {@link Spliterator#NONNULL}, but not {@link Spliterator#SIZED}, so streams over the
+     * queue never fail while producers offer. The size is unknown, the list is not walked to
+     * count it.
+     *
+     * @return a {@link Spliterator} over the elements of this queue.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new LateBindingSpliterator<>(this, null,
+                Spliterator.CONCURRENT | Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Link the chain of nodes from {@code first} to {@code last} after the {@link #tail}.
+     *
+     * @param first node of the chain.
+     * @param last  node of the chain.
+     */
+    @SuppressWarnings("unchecked")
+    private void link(Node<E> first, Node<E> last) {
+        final Node<E> previous = (Node<E>) TAIL.getAndSet(this, last);
+        NEXT.setRelease(previous, first);
+    }
+
+    /**
+     * Successor of the {@code node}. If the {@code node} is not the {@link #tail}, a producer
+     * has swapped the tail and is about to link the successor, which is waited for.
+     *
+     * @param node to get the successor of.
+     * @return the successor, or {@code null} if the {@code node} is the tail.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<E> nextOf(Node<E> node) {
+        Node<E> next = (Node<E>) NEXT.getAcquire(node);
+        if (next == null && node != tail) {
+            while ((next = (Node<E>) NEXT.getAcquire(node)) == null) {
+                Thread.onSpinWait();
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Read the {@link #head} from any thread.
+     *
+     * @return the stub node.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<E> head() {
+        return (Node<E>) HEAD.getAcquire(this);
+    }
+
+    /**
+     * Copy the elements into the {@code collector} array, or a larger one of the same type if
+     * the queue has grown meanwhile.
+     *
+     * @param collector array to copy the elements into.
+     * @param keepType  whether a {@code collector} of a fitting length is returned as it is,
+     *                  otherwise the result is trimmed to the number of elements copied.
+     * @return an array with the elements.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T[] collect(T[] collector, boolean keepType) {
+        final int size = size();
+        T[] target = collector.length >= size
+                ? collector
+                : (T[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        int j = 0;
+        for (E e : this) {
+            if (j == target.length) {
+                target = Arrays.copyOf(target, GrowthPolicy.doubling().grow(j, j + 1));
+            }
+            target[j++] = (T) e;
+        }
+
+        if (keepType && target == collector) {
+            if (j < target.length) {
+                target[j] = null;
+            }
+            return target;
+        }
+        return j == target.length ? target : Arrays.copyOf(target, j);
+    }
+
+    /**
+     * Node of the queue. The value is cleared once the consumer takes it.
+     */
+    private static final class Node<E> {
+
+        E value;
+        Node<E> next;
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+}
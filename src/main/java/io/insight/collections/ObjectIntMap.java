@@ -0,0 +1,835 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.insight.collections.HashTables.DEFAULT_CAPACITY;
+import static io.insight.collections.HashTables.DEFAULT_LOAD_FACTOR;
+import static io.insight.collections.HashTables.mix;
+import static io.insight.collections.HashTables.nextCapacity;
+import static io.insight.collections.HashTables.probeDistance;
+import static io.insight.collections.HashTables.tableSizeFor;
+import static io.insight.collections.HashTables.threshold;
+
+/**
+ * {@link HashMap} specialization with {@code int} values. Values are stored unboxed in an
+ * {@code int[]}, the {@link Map} contract methods box the values on the way in and out and
+ * the {@code int} overloads access the table without boxing.
+ * <p>
+ * The {@code int} accessors return the {@link #noEntryValue()} for a missing key, which is
+ * {@code 0} unless defined at construction time. The boxed accessors return {@code null}
+ * for a missing key, as the {@link Map} contract defines. {@code null} keys and values are
+ * not permitted.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class ObjectIntMap<K> implements Map<K, Integer> {
+
+    /**
+     * Cached hash codes of the keys, {@code 0} for an empty slot.
+     */
+    private int[] hashes;
+    /**
+     * Core array instance which hold all the keys add into the {@link ObjectIntMap}.
+     */
+    private Object[] keys;
+    /**
+     * Core array instance which hold all the values add into the {@link ObjectIntMap}.
+     * Index-aligned with {@link #keys}.
+     */
+    private int[] vals;
+    /**
+     * Value returned by the {@code int} accessors for a missing key.
+     */
+    private final int noEntryValue;
+    /**
+     * Maximum fraction of the table slots allowed to be occupied before the table grows.
+     */
+    private final float loadFactor;
+    /**
+     * Number of entries the table can hold before it grows.
+     */
+    private int threshold;
+    /**
+     * Number of the entries in the table.
+     */
+    private int size;
+
+    /**
+     * Default constructor implementation initialize the table with default configuration.
+     * Which is {@code 16} slots with {@code 0.75} load factor and {@code 0} as the no entry
+     * value.
+     */
+    public ObjectIntMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, 0, true);
+    }
+
+    /**
+     * Overloaded constructor implementation to presize the table, so {@code expectedSize}
+     * entries can be added without the table being rehashed.
+     *
+     * @param expectedSize number of entries expected to be added.
+     * @throws IllegalArgumentException if {@code expectedSize} is negative.
+     */
+    public ObjectIntMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    /**
+     * Overloaded constructor implementation to presize the table with a user defined load
+     * factor and no entry value.
+     *
+     * @param expectedSize number of entries expected to be added.
+     * @param loadFactor   fraction of the slots allowed to be occupied, {@code (0, 1)} exclusive.
+     * @param noEntryValue value returned by the {@code int} accessors for a missing key.
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or the
+     *                                  {@code loadFactor} is out of range.
+     */
+    public ObjectIntMap(int expectedSize, float loadFactor, int noEntryValue) {
+        this(tableSizeFor(expectedSize, loadFactor), loadFactor, noEntryValue, true);
+    }
+
+    /**
+     * Allocate the table arrays with given {@code capacity}.
+     *
+     * @param capacity     power of two slots count.
+     * @param loadFactor   fraction of the slots allowed to be occupied.
+     * @param noEntryValue value returned by the {@code int} accessors for a missing key.
+     * @param ignored      to distinguish from the public constructors.
+     */
+    private ObjectIntMap(int capacity, float loadFactor, int noEntryValue, @SuppressWarnings("unused") boolean ignored) {
+        this.loadFactor = loadFactor;
+        this.noEntryValue = noEntryValue;
+        allocate(capacity);
+    }
+
+    /**
+     * Returns the value the {@code int} accessors return for a missing key.
+     *
+     * @return the no entry value of this map.
+     */
+    public int noEntryValue() {
+        return noEntryValue;
+    }
+
+    /**
+     * Removes all the mappings from this map. The map will be empty after this method returns.
+     */
+    @Override
+    public void clear() {
+        if (size != 0) {
+            Arrays.fill(hashes, 0);
+            Arrays.fill(keys, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns true if this map contains a mapping for the specified key.
+     *
+     * @param element key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean contains(K element) {
+        return containsKey(element);
+    }
+
+    /**
+     * Returns true if this map contains a mapping for all the keys in the specified collection.
+     *
+     * @param elements collection of keys to be checked for containment in this map
+     * @return {@code true} if this map contains all the keys in the specified collection
+     * @throws NullPointerException if the specified collection is null or contains a null key.
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<K> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (K element : elements) {
+            if (!containsKey(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return an exact copy of this {@link ObjectIntMap} with new reference details. Keys
+     * themselves are not cloned.
+     *
+     * @return a new instance of this {@link ObjectIntMap}.
+     */
+    @Override
+    public ObjectIntMap<K> copy() {
+        final ObjectIntMap<K> copy = new ObjectIntMap<>(hashes.length, loadFactor, noEntryValue, true);
+        System.arraycopy(hashes, 0, copy.hashes, 0, hashes.length);
+        System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+        System.arraycopy(vals, 0, copy.vals, 0, vals.length);
+        copy.size = size;
+
+        return copy;
+    }
+
+    /**
+     * Returns {@code true} if this map contains no mappings.
+     *
+     * @return {@code true} if this map contains no mappings.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of mappings in this map.
+     *
+     * @return the number of mappings in this map.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an array containing all the keys of this map in slot order.
+     *
+     * @return an array, whose runtime component type is Object, containing all the keys
+     */
+    @Override
+    public Object[] toArray() {
+        return collectKeys(new Object[size]);
+    }
+
+    /**
+     * Returns an array containing all the keys of this map in slot order; the runtime type of
+     * the returned array is that of the specified array.
+     *
+     * @param collector the array into which the keys are to be stored, if it is big enough;
+     *                  otherwise, a new array of the same runtime type is allocated for this purpose.
+     * @return an array containing all the keys of this map
+     * @throws ArrayStoreException  if the runtime type of any key is not assignable to the runtime
+     *                              component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T[] toArray(@NotNull T[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        if (size > collector.length) {
+            collector = (T[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        } else if (size < collector.length) {
+            collector[size] = null;
+        }
+        return collectKeys(collector);
+    }
+
+    /**
+     * Returns an iterator over the keys of this map.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<K> iterator() {
+        return new Iterator<>() {
+            private int index = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < hashes.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public K next() {
+                if (index >= hashes.length) {
+                    throw new NoSuchElementException("ObjectIntMap has no more keys to iterate.");
+                }
+
+                final K key = (K) keys[index];
+                index = nextOccupied(index + 1);
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the specified key.
+     *
+     * @param key key whose presence in this map is to be tested
+     * @return {@code true} if this map contains a mapping for the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return slotOf(hash(key), key) >= 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this map
+     * contains no mapping for the key. Use {@link #getInt(Object)} to read the value without
+     * boxing.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public Integer get(K key) {
+        final int slot = slotOf(hash(key), key);
+        return slot >= 0 ? vals[slot] : null;
+    }
+
+    /**
+     * Returns the {@code int} value to which the specified key is mapped, or the
+     * {@link #noEntryValue()} if this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or the no entry value
+     * @throws NullPointerException if the specified key is null
+     */
+    public int getInt(K key) {
+        final int slot = slotOf(hash(key), key);
+        return slot >= 0 ? vals[slot] : noEntryValue;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code defaultValue} if this
+     * map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Override
+    public Integer getOrDefault(K key, Integer defaultValue) {
+        final int slot = slotOf(hash(key), key);
+        return slot >= 0 ? vals[slot] : defaultValue;
+    }
+
+    /**
+     * Returns the {@code int} value to which the specified key is mapped, or
+     * {@code defaultValue} if this map contains no mapping for the key.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the default mapping of the key
+     * @return the value to which the specified key is mapped, or {@code defaultValue}
+     * @throws NullPointerException if the specified key is null
+     */
+    public int getOrDefault(K key, int defaultValue) {
+        final int slot = slotOf(hash(key), key);
+        return slot >= 0 ? vals[slot] : defaultValue;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key or value is null
+     */
+    @Nullable
+    @Override
+    public Integer put(K key, @NotNull Integer value) {
+        final int v = value;
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot >= 0) {
+            final int old = vals[slot];
+            vals[slot] = v;
+            return old;
+        }
+
+        insertNew(hash, key, v);
+        return null;
+    }
+
+    /**
+     * Associates the specified {@code int} value with the specified key in this map.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or the {@link #noEntryValue()}
+     * @throws NullPointerException if the specified key is null
+     */
+    public int put(K key, int value) {
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot >= 0) {
+            final int old = vals[slot];
+            vals[slot] = value;
+            return old;
+        }
+
+        insertNew(hash, key, value);
+        return noEntryValue;
+    }
+
+    /**
+     * If the specified key is not already associated with a value associates it with the given
+     * value and returns {@code null}, else returns the current value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or {@code null}
+     * @throws NullPointerException if the specified key or value is null
+     */
+    @Nullable
+    @Override
+    public Integer putIfAbsent(K key, @NotNull Integer value) {
+        final int v = value;
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot >= 0) {
+            return vals[slot];
+        }
+
+        insertNew(hash, key, v);
+        return null;
+    }
+
+    /**
+     * If the specified key is not already associated with a value associates it with the given
+     * {@code int} value and returns the {@link #noEntryValue()}, else returns the current value.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with the specified key, or the no entry value
+     * @throws NullPointerException if the specified key is null
+     */
+    public int putIfAbsent(K key, int value) {
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot >= 0) {
+            return vals[slot];
+        }
+
+        insertNew(hash, key, value);
+        return noEntryValue;
+    }
+
+    /**
+     * Adds {@code delta} to the value of the specified key, or associates the key with
+     * {@code delta} if this map contains no mapping for the key. Counters are kept with a
+     * single probe and without boxing.
+     *
+     * @param key   key whose value is to be incremented
+     * @param delta to be added to the current value
+     * @return the new value associated with the specified key
+     * @throws NullPointerException if the specified key is null
+     */
+    public int addTo(K key, int delta) {
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot >= 0) {
+            return vals[slot] += delta;
+        }
+
+        insertNew(hash, key, delta);
+        return delta;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present. Use {@link #removeInt(Object)}
+     * to read the removed value without boxing.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null
+     */
+    @Nullable
+    @Override
+    public Integer remove(K key) {
+        final int slot = slotOf(hash(key), key);
+        if (slot < 0) {
+            return null;
+        }
+
+        final int old = vals[slot];
+        deleteSlot(slot);
+        return old;
+    }
+
+    /**
+     * Removes the mapping for a key from this map if it is present.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return the previous value associated with {@code key}, or the {@link #noEntryValue()}
+     * @throws NullPointerException if the specified key is null
+     */
+    public int removeInt(K key) {
+        final int slot = slotOf(hash(key), key);
+        if (slot < 0) {
+            return noEntryValue;
+        }
+
+        final int old = vals[slot];
+        deleteSlot(slot);
+        return old;
+    }
+
+    /**
+     * Attempts to compute a mapping for the specified key and its current mapped value (or
+     * {@code null} if there is no current mapping). If the remapping function returns
+     * {@code null}, the mapping is removed (or remains absent if initially absent).
+     *
+     * @param key               key with which the specified value is to be associated
+     * @param remappingFunction the remapping function to compute a value
+     * @return the new value associated with the specified key, or null if none
+     * @throws NullPointerException if the specified key or the remapping function is null
+     */
+    @Nullable
+    @Override
+    public Integer compute(K key, @NotNull BiFunction<? super K, ? super Integer, ? extends Integer> remappingFunction) {
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        final Integer value = remappingFunction.apply(key, slot >= 0 ? vals[slot] : null);
+
+        if (slot >= 0) {
+            if (value == null) {
+                deleteSlot(slot);
+            } else {
+                vals[slot] = value;
+            }
+        } else if (value != null) {
+            insertNew(hash, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * If the specified key is not already associated with a value, attempts to compute its value
+     * using the given mapping function and enters it into this map unless {@code null}.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the mapping function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or
+     * null if the computed value is null
+     * @throws NullPointerException if the specified key or the mapping function is null
+     */
+    @Nullable
+    @Override
+    public Integer computeIfAbsent(K key, @NotNull Function<? super K, ? extends Integer> mappingFunction) {
+        Objects.requireNonNull(mappingFunction, "Mapping function is null");
+
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot >= 0) {
+            return vals[slot];
+        }
+
+        final Integer value = mappingFunction.apply(key);
+        if (value != null) {
+            insertNew(hash, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * If the specified key is not already associated with a value, associates it with the given
+     * value. Otherwise, replaces the associated value with the results of the given remapping
+     * function, or removes it if the result is {@code null}.
+     *
+     * @param key               key with which the resulting value is to be associated
+     * @param value             the non-null value to be merged with the existing value
+     * @param remappingFunction the remapping function to recompute a value if present
+     * @return the new value associated with the specified key, or null if no value is associated
+     * with the key
+     * @throws NullPointerException if the specified key, value or remapping function is null
+     */
+    @Nullable
+    @Override
+    public Integer merge(K key, @NotNull Integer value, @NotNull BiFunction<? super Integer, ? super Integer, ? extends Integer> remappingFunction) {
+        Objects.requireNonNull(value, "Merge value is null");
+        Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+        final int hash = hash(key);
+        final int slot = slotOf(hash, key);
+        if (slot < 0) {
+            insertNew(hash, key, value);
+            return value;
+        }
+
+        final Integer merged = remappingFunction.apply(vals[slot], value);
+        if (merged == null) {
+            deleteSlot(slot);
+        } else {
+            vals[slot] = merged;
+        }
+        return merged;
+    }
+
+    /**
+     * Returns a new {@link ObjectIntCursor} positioned before the first entry of this map. Use
+     * {@link ObjectIntCursor#intValue()} to read the values without boxing.
+     *
+     * @return a cursor over the entries of this map.
+     */
+    @NotNull
+    @Override
+    public ObjectIntCursor<K> cursor() {
+        return new ObjectIntCursor<>() {
+            private int index = -1;
+
+            @Override
+            public boolean advance() {
+                index = nextOccupied(index + 1);
+                return index < hashes.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public K key() {
+                return (K) keys[checkIndex()];
+            }
+
+            @Override
+            public int intValue() {
+                return vals[checkIndex()];
+            }
+
+            @Override
+            public int setIntValue(int value) {
+                final int slot = checkIndex();
+                final int old = vals[slot];
+                vals[slot] = value;
+                return old;
+            }
+
+            @Override
+            public Integer value() {
+                return intValue();
+            }
+
+            @Override
+            public Integer setValue(@NotNull Integer value) {
+                return setIntValue(value);
+            }
+
+            @Override
+            public void reset() {
+                index = -1;
+            }
+
+            private int checkIndex() {
+                if (index < 0 || index >= hashes.length) {
+                    throw new IllegalStateException("Cursor is not positioned on an entry.");
+                }
+                return index;
+            }
+        };
+    }
+
+    /**
+     * Get the slot index of the specified {@code key} with its precomputed {@code hash}.
+     *
+     * @param hash of the {@code key}.
+     * @param key  to search for.
+     * @return slot index of the {@code key} or {@code -1} if the key is not present.
+     */
+    private int slotOf(int hash, Object key) {
+        final int mask = hashes.length - 1;
+
+        for (int slot = hash & mask, distance = 0; ; slot = (slot + 1) & mask, distance++) {
+            final int h = hashes[slot];
+            if (h == 0 || probeDistance(h, slot, mask) < distance) {
+                CollectionStats.probed(distance + 1);
+                return -1;
+            } else if (h == hash && key.equals(keys[slot])) {
+                CollectionStats.probed(distance + 1);
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Add an entry for a {@code key} known to be absent and grow the table if the
+     * {@link #threshold} is exceeded.
+     *
+     * @param hash  of the {@code key}.
+     * @param key   of the new entry.
+     * @param value of the new entry.
+     */
+    private void insertNew(int hash, Object key, int value) {
+        insert(hash, key, value);
+        if (++size > threshold) {
+            rehash(nextCapacity(hashes.length));
+        }
+    }
+
+    /**
+     * Place a new entry into the table, displacing the resident entries which are closer
+     * to their ideal slot than the one being placed. The key must not be present in the
+     * table already and the table must have at least one empty slot.
+     *
+     * @param hash  of the {@code key}.
+     * @param key   of the new entry.
+     * @param value of the new entry.
+     */
+    private void insert(int hash, Object key, int value) {
+        final int mask = hashes.length - 1;
+
+        for (int slot = hash & mask, distance = 0; ; slot = (slot + 1) & mask, distance++) {
+            final int h = hashes[slot];
+            if (h == 0) {
+                hashes[slot] = hash;
+                keys[slot] = key;
+                vals[slot] = value;
+                return;
+            }
+
+            final int residentDistance = probeDistance(h, slot, mask);
+            if (residentDistance < distance) {
+                final Object k = keys[slot];
+                final int v = vals[slot];
+
+                hashes[slot] = hash;
+                keys[slot] = key;
+                vals[slot] = value;
+
+                hash = h;
+                key = k;
+                value = v;
+                distance = residentDistance;
+            }
+        }
+    }
+
+    /**
+     * Empty the given {@code slot} and shift the following entries of the same probe run
+     * back by one slot.
+     *
+     * @param slot to be emptied.
+     */
+    private void deleteSlot(int slot) {
+        final int mask = hashes.length - 1;
+
+        for (int next = (slot + 1) & mask; ; slot = next, next = (next + 1) & mask) {
+            final int h = hashes[next];
+            if (h == 0 || probeDistance(h, next, mask) == 0) {
+                break;
+            }
+            hashes[slot] = h;
+            keys[slot] = keys[next];
+            vals[slot] = vals[next];
+        }
+
+        hashes[slot] = 0;
+        keys[slot] = null;
+        size--;
+    }
+
+    /**
+     * Grow the table to {@code capacity} slots and reinsert all the entries.
+     *
+     * @param capacity power of two new slots count.
+     */
+    private void rehash(int capacity) {
+        final int[] oldHashes = hashes;
+        final Object[] oldKeys = keys;
+        final int[] oldVals = vals;
+
+        CollectionStats.resized(size * (2L * Integer.BYTES + CollectionStats.REFERENCE_BYTES));
+        final RehashEvent event = new RehashEvent();
+        event.begin();
+        allocate(capacity);
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                insert(oldHashes[i], oldKeys[i], oldVals[i]);
+            }
+        }
+        event.commit(this, size, oldHashes.length, capacity);
+    }
+
+    /**
+     * Allocate new table arrays and recalculate the {@link #threshold}.
+     *
+     * @param capacity power of two slots count.
+     */
+    private void allocate(int capacity) {
+        hashes = new int[capacity];
+        keys = new Object[capacity];
+        vals = new int[capacity];
+        threshold = threshold(capacity, loadFactor);
+    }
+
+    /**
+     * Copy all the keys in slot order into the {@code collector} array.
+     *
+     * @param collector array with at least {@link #size} length.
+     * @return the same {@code collector} array.
+     */
+    private <T> T[] collectKeys(T[] collector) {
+        final Object[] target = collector;
+        for (int i = 0, j = 0; j < size; i++) {
+            if (hashes[i] != 0) {
+                target[j++] = keys[i];
+            }
+        }
+        return collector;
+    }
+
+    /**
+     * Get the next occupied slot index starting from {@code index}.
+     *
+     * @param index to start the search from.
+     * @return the next occupied slot index or the table length if there isn't any.
+     */
+    private int nextOccupied(int index) {
+        while (index < hashes.length && hashes[index] == 0) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Hash the {@code key} with {@link HashTables#mix(int)}.
+     *
+     * @param key to be hashed.
+     * @return never zero hash code.
+     * @throws NullPointerException if the {@code key} is null.
+     */
+    private static int hash(Object key) {
+        return mix(Objects.requireNonNull(key, "ObjectIntMap key is null").hashCode());
+    }
+
+    /**
+     * {@link Map.Cursor} over an {@link ObjectIntMap} with unboxed value accessors.
+     *
+     * @param <K> the type of keys maintained by the map
+     */
+    public interface ObjectIntCursor<K> extends Map.Cursor<K, Integer> {
+
+        /**
+         * Returns the value of the entry the cursor is positioned on, without boxing.
+         *
+         * @return the value of the current entry.
+         * @throws IllegalStateException if the cursor is not positioned on an entry.
+         */
+        int intValue();
+
+        /**
+         * Replaces the value of the entry the cursor is positioned on, without boxing.
+         *
+         * @param value new value to be stored in the current entry.
+         * @return the previous value of the current entry.
+         * @throws IllegalStateException if the cursor is not positioned on an entry.
+         */
+        int setIntValue(int value);
+    }
+}
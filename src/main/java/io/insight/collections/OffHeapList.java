@@ -0,0 +1,148 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Resizable list of fixed width records kept in native memory, outside the Java heap. Every
+ * element is encoded into its slot by an {@link ElementCodec} on the way in and decoded on
+ * the way out, so the garbage collector never sees the stored elements.
+ * <p>
+ * The memory is allocated as direct {@link ByteBuffer} segments. The first segment grows
+ * the same way {@link ArrayList} backing array does, by doubling, until it reaches the
+ * maximum segment size (1 GiB), after that further segments of the same size are appended
+ * without copying the existing ones. Hence the list can hold more than 2 GiB of data.
+ * <p>
+ * The native memory is released by {@link #close()}, any access to a closed list throws
+ * {@link IllegalStateException}. The list is not thread safe.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class OffHeapList<T> extends SegmentedList<T> {
+
+    /**
+     * Default capacity of the list if an initial size is not defined.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Maximum size of a single memory segment in bytes.
+     */
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+    /**
+     * Constructor implementation initialize the list with default capacity of {@code 10}
+     * elements.
+     *
+     * @param codec to encode and decode the elements.
+     * @throws NullPointerException if the {@code codec} is null.
+     */
+    public OffHeapList(@NotNull ElementCodec<T> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Overloaded constructor implementation with the parameter to initialize the list with
+     * user defined capacity.
+     *
+     * @param codec       to encode and decode the elements.
+     * @param initialSize the initial capacity in elements.
+     * @throws NullPointerException     if the {@code codec} is null.
+     * @throws IllegalArgumentException if the {@code initialSize} is negative.
+     */
+    public OffHeapList(@NotNull ElementCodec<T> codec, int initialSize) {
+        this(codec, initialSize, MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Create the list with user defined maximum segment size.
+     *
+     * @param codec           to encode and decode the elements.
+     * @param initialSize     the initial capacity in elements.
+     * @param maxSegmentBytes maximum size of a single memory segment in bytes.
+     */
+    OffHeapList(@NotNull ElementCodec<T> codec, int initialSize, int maxSegmentBytes) {
+        super(codec, maxSegmentBytes);
+        if (initialSize < 0) {
+            throw new IllegalArgumentException("Invalid initial size: %d".formatted(initialSize));
+        }
+
+        this.segments = new ByteBuffer[]{DirectMemory.allocate(Math.min(initialSize, 1 << segmentShift) * elementSize)};
+        this.capacity = segments[0].capacity() / elementSize;
+        if (initialSize > capacity) {
+            grow(initialSize);
+        }
+    }
+
+    /**
+     * Return an exact copy of this {@link OffHeapList} in newly allocated native memory. The
+     * copy must be closed on its own.
+     *
+     * @return a new instance of this {@link OffHeapList}.
+     * @throws IllegalStateException if this list is closed
+     */
+    @Override
+    public OffHeapList<T> copy() {
+        ensureOpen();
+
+        final OffHeapList<T> copy = new OffHeapList<>(codec, size, (1 << segmentShift) * elementSize);
+        for (int done = 0; done < size; ) {
+            final int piece = Math.min(size - done, (1 << segmentShift) - (done & segmentMask));
+            copy.segments[done >>> segmentShift]
+                    .put(0, segments[done >>> segmentShift], 0, piece * elementSize);
+            done += piece;
+        }
+        copy.size = size;
+
+        return copy;
+    }
+
+    /**
+     * Grow the native memory to hold at least {@code minCapacity} elements. The first segment is
+     * reallocated with doubled size, the same way {@link ArrayList} grows its array, until it
+     * reaches the maximum segment size. After that, new full-size segments are appended.
+     *
+     * @param minCapacity minimum number of elements the memory must hold.
+     */
+    @Override
+    void grow(int minCapacity) {
+        final int perSegment = segmentMask + 1;
+
+        if (capacity < perSegment) {
+            final int newCapacity = (int) Math.min(perSegment,
+                    Math.max(Math.max((long) capacity << 1, DEFAULT_CAPACITY), minCapacity));
+            final ByteBuffer old = segments[0];
+            final ByteBuffer segment = DirectMemory.allocate(newCapacity * elementSize);
+
+            segment.put(0, old, 0, size * elementSize);
+            segments[0] = segment;
+            capacity = newCapacity;
+            DirectMemory.free(old);
+        }
+
+        if (capacity < minCapacity) {
+            final int count = (int) (((long) minCapacity + perSegment - 1) >>> segmentShift);
+            final int from = segments.length;
+
+            segments = Arrays.copyOf(segments, count);
+            for (int i = from; i < count; i++) {
+                segments[i] = DirectMemory.allocate(perSegment * elementSize);
+            }
+            capacity = (int) Math.min(Integer.MAX_VALUE, (long) count << segmentShift);
+        }
+    }
+
+    /**
+     * Release the native memory of the segments straight away.
+     *
+     * @param segs segments to be released.
+     */
+    @Override
+    void release(ByteBuffer[] segs) {
+        for (ByteBuffer segment : segs) {
+            DirectMemory.free(segment);
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Immutable {@link Map} on a compressed hash array mapped trie, whose versions share structure
+ * with each other. {@link #copy()} returns the same instance in constant time, so a snapshot can
+ * be handed to any number of readers on any thread without copying.
+ * <p>
+ * {@link #updated(Object, Object)} and {@link #removed(Object)} return a new version, which
+ * copies the path from the root to the updated node only, at most {@code 8} nodes of bitmap
+ * compressed content arrays. For bulk construction, {@link #toBuilder()} returns a mutable
+ * {@link Builder}, which updates the nodes it has created in place, and {@link Builder#build()}
+ * freezes them into a new version in constant time.
+ * <p>
+ * This implementation does not permit {@code null} keys, {@code null} values are permitted. The
+ * mutating methods of the {@link Map} interface are not supported, and throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class PersistentHashMap<K, V> extends HashTrie<K, V> {
+
+    /**
+     * Shared empty map instance.
+     */
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(EMPTY_NODE, 0);
+
+    /**
+     * Root node of the trie, never modified.
+     */
+    private final Node root;
+    /**
+     * Number of the entries in the map.
+     */
+    private final int size;
+
+    /**
+     * Create a new {@link PersistentHashMap} over the {@code root}.
+     *
+     * @param root of the trie, not to be modified afterwards.
+     * @param size number of the entries.
+     */
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty {@link PersistentHashMap}.
+     *
+     * @return the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a new empty {@link Builder}.
+     *
+     * @return a new builder.
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>(EMPTY_NODE, 0);
+    }
+
+    /**
+     * Returns a new version of this map with the {@code key} mapped to the {@code value}.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return a new map, or this one if the key is mapped to the same value already.
+     * @throws NullPointerException if the specified key is null.
+     */
+    public PersistentHashMap<K, V> updated(K key, V value) {
+        final Change change = new Change();
+        final Node newRoot = root.put(null, key, value, hash(key), 0, change);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, change.found ? size : size + 1);
+    }
+
+    /**
+     * Returns a new version of this map without the mapping of the {@code key}.
+     *
+     * @param key key whose mapping is to be removed.
+     * @return a new map, or this one if the key is not present.
+     * @throws NullPointerException if the specified key is null.
+     */
+    public PersistentHashMap<K, V> removed(K key) {
+        final Node newRoot = root.remove(null, key, hash(key), 0, new Change());
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Returns a new {@link Builder} with the entries of this map, in constant time. This map is
+     * not affected by the updates of the builder.
+     *
+     * @return a new builder.
+     */
+    public Builder<K, V> toBuilder() {
+        return new Builder<>(root, size);
+    }
+
+    /**
+     * Returns this map, in constant time. A {@link PersistentHashMap} is never modified, so the
+     * same instance serves as its own copy.
+     *
+     * @return this instance.
+     */
+    @Override
+    public PersistentHashMap<K, V> copy() {
+        return this;
+    }
+
+    /**
+     * Returns the number of elements in this collection.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Not supported, {@link PersistentHashMap} is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     * @see #empty()
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("PersistentHashMap is immutable, use empty()");
+    }
+
+    /**
+     * Not supported, {@link PersistentHashMap} is immutable.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     * @see #updated(Object, Object)
+     */
+    @Override
+    public V put(K key, V value) {
+        throw new UnsupportedOperationException("PersistentHashMap is immutable, use updated(K, V)");
+    }
+
+    /**
+     * Not supported, {@link PersistentHashMap} is immutable.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public V putIfAbsent(K key, V value) {
+        throw new UnsupportedOperationException("PersistentHashMap is immutable, use toBuilder()");
+    }
+
+    /**
+     * Not supported, {@link PersistentHashMap} is immutable.
+     *
+     * @param key key whose mapping is to be removed from the map
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     * @see #removed(Object)
+     */
+    @Override
+    public V remove(K key) {
+        throw new UnsupportedOperationException("PersistentHashMap is immutable, use removed(K)");
+    }
+
+    /**
+     * Not supported, {@link PersistentHashMap} is immutable.
+     *
+     * @param key               key with which the specified value is to be associated
+     * @param remappingFunction the remapping function to compute a value
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw new UnsupportedOperationException("PersistentHashMap is immutable, use toBuilder()");
+    }
+
+    /**
+     * Not supported, {@link PersistentHashMap} is immutable.
+     *
+     * @param key             key with which the specified value is to be associated
+     * @param mappingFunction the mapping function to compute a value
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        throw new UnsupportedOperationException("PersistentHashMap is immutable, use toBuilder()");
+    }
+
+    /**
+     * Not supported, {@link PersistentHashMap} is immutable.
+     *
+     * @param key               key with which the resulting value is to be associated
+     * @param value             the non-null value to be merged with the existing value
+     * @param remappingFunction the remapping function to recompute a value if present
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        throw new UnsupportedOperationException("PersistentHashMap is immutable, use toBuilder()");
+    }
+
+    @Override
+    Node root() {
+        return root;
+    }
+
+    /**
+     * Mutable {@link Map} to build a {@link PersistentHashMap} with, the transient mode of the
+     * trie. The builder tags the nodes it creates with an owner token, and updates those nodes in
+     * place instead of copying them again. The nodes it starts with, or has handed over to a
+     * {@link PersistentHashMap}, are copied once when they are first updated.
+     * <p>
+     * {@link #build()} and {@link #copy()} replace the owner token, so the nodes shared with the
+     * result are never updated in place afterwards, and both take constant time. A builder is not
+     * thread-safe.
+     *
+     * @author Sachith Dickwella
+     * @since 1.0
+     */
+    public static class Builder<K, V> extends HashTrie<K, V> {
+
+        /**
+         * Result of the last update, reused.
+         */
+        private final Change change = new Change();
+        /**
+         * Token of the nodes this builder may update in place.
+         */
+        private Object owner = new Object();
+        /**
+         * Root node of the trie.
+         */
+        private Node root;
+        /**
+         * Number of the entries in the map.
+         */
+        private int size;
+
+        /**
+         * Create a new {@link Builder} over the {@code root}, which it does not own.
+         *
+         * @param root of the trie.
+         * @param size number of the entries.
+         */
+        private Builder(Node root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        /**
+         * Returns a {@link PersistentHashMap} with the entries of this builder, in constant time.
+         * The builder remains usable, and its later updates do not affect the map.
+         *
+         * @return a new map.
+         */
+        public PersistentHashMap<K, V> build() {
+            owner = new Object();
+            return new PersistentHashMap<>(root, size);
+        }
+
+        /**
+         * Associates the specified value with the specified key in this map. If the map
+         * previously contained a mapping for the key, the old value is replaced by the
+         * specified value.
+         *
+         * @param key   key with which the specified value is to be associated
+         * @param value value to be associated with the specified key
+         * @return the previous value associated with {@code key}, or {@code null} if there was
+         * no mapping for {@code key}
+         * @throws NullPointerException if the specified key is null
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        @Override
+        public V put(K key, V value) {
+            update(key, value, hash(key));
+            return (V) change.oldValue;
+        }
+
+        /**
+         * If the specified key is not already associated with a value (or is mapped to {@code null})
+         * associates it with the given value and returns {@code null}, else returns the current value.
+         *
+         * @param key   key with which the specified value is to be associated
+         * @param value value to be associated with the specified key
+         * @return the previous value associated with the specified key, or {@code null} if there was
+         * no mapping for the key
+         * @throws NullPointerException if the specified key is null
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        @Override
+        public V putIfAbsent(K key, V value) {
+            final int hash = hash(key);
+            final Object old = root.find(key, hash, 0);
+            if (old == NOT_FOUND || old == null) {
+                update(key, value, hash);
+                return null;
+            }
+            return (V) old;
+        }
+
+        /**
+         * Removes the mapping for a key from this map if it is present.
+         *
+         * @param key key whose mapping is to be removed from the map
+         * @return the previous value associated with {@code key}, or {@code null} if there was
+         * no mapping for {@code key}
+         * @throws NullPointerException if the specified key is null
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        @Override
+        public V remove(K key) {
+            delete(key, hash(key));
+            return (V) change.oldValue;
+        }
+
+        /**
+         * Attempts to compute a mapping for the specified key and its current mapped value (or
+         * {@code null} if there is no current mapping). If the remapping function returns
+         * {@code null}, the mapping is removed (or remains absent if initially absent). The
+         * remapping function must not modify this map during computation.
+         *
+         * @param key               key with which the specified value is to be associated
+         * @param remappingFunction the remapping function to compute a value
+         * @return the new value associated with the specified key, or null if none
+         * @throws NullPointerException if the specified key or the remapping function is null
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        @Override
+        public V compute(K key, @NotNull BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+            final int hash = hash(key);
+            final Object old = root.find(key, hash, 0);
+            final V value = remappingFunction.apply(key, old != NOT_FOUND ? (V) old : null);
+            if (value != null) {
+                update(key, value, hash);
+            } else if (old != NOT_FOUND) {
+                delete(key, hash);
+            }
+            return value;
+        }
+
+        /**
+         * If the specified key is not already associated with a value (or is mapped to {@code null}),
+         * attempts to compute its value using the given mapping function and enters it into this map
+         * unless {@code null}. The mapping function must not modify this map during computation.
+         *
+         * @param key             key with which the specified value is to be associated
+         * @param mappingFunction the mapping function to compute a value
+         * @return the current (existing or computed) value associated with the specified key, or
+         * null if the computed value is null
+         * @throws NullPointerException if the specified key or the mapping function is null
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        @Override
+        public V computeIfAbsent(K key, @NotNull Function<? super K, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction, "Mapping function is null");
+
+            final int hash = hash(key);
+            final Object old = root.find(key, hash, 0);
+            if (old != NOT_FOUND && old != null) {
+                return (V) old;
+            }
+
+            final V value = mappingFunction.apply(key);
+            if (value != null) {
+                update(key, value, hash);
+            }
+            return value;
+        }
+
+        /**
+         * If the specified key is not already associated with a value or is associated with
+         * {@code null}, associates it with the given non-null value. Otherwise, replaces the
+         * associated value with the results of the given remapping function, or removes it if the
+         * result is {@code null}. The remapping function must not modify this map during computation.
+         *
+         * @param key               key with which the resulting value is to be associated
+         * @param value             the non-null value to be merged with the existing value
+         * @param remappingFunction the remapping function to recompute a value if present
+         * @return the new value associated with the specified key, or null if no value is associated
+         * with the key
+         * @throws NullPointerException if the specified key, value or remapping function is null
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        @Override
+        public V merge(K key, @NotNull V value, @NotNull BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+            Objects.requireNonNull(value, "Merge value is null");
+            Objects.requireNonNull(remappingFunction, "Remapping function is null");
+
+            final int hash = hash(key);
+            final Object old = root.find(key, hash, 0);
+            final V merged = old == NOT_FOUND || old == null ? value : remappingFunction.apply((V) old, value);
+            if (merged != null) {
+                update(key, merged, hash);
+            } else {
+                delete(key, hash);
+            }
+            return merged;
+        }
+
+        /**
+         * Removes all the entries from this builder. Maps built before are not affected.
+         */
+        @Override
+        public void clear() {
+            root = EMPTY_NODE;
+            size = 0;
+        }
+
+        /**
+         * Returns a new {@link Builder} with the entries of this builder, in constant time. The
+         * two builders share the nodes, and each copies them once when it first updates them.
+         *
+         * @return a new builder.
+         */
+        @Override
+        public Builder<K, V> copy() {
+            owner = new Object();
+            return new Builder<>(root, size);
+        }
+
+        /**
+         * Returns the number of elements in this collection.
+         *
+         * @return the number of elements in this collection.
+         */
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        Node root() {
+            return root;
+        }
+
+        /**
+         * Map the {@code key} to the {@code value}, and count the new entry.
+         *
+         * @param key   to map.
+         * @param value to map the key to.
+         * @param hash  of the {@code key}.
+         */
+        private void update(K key, V value, int hash) {
+            root = root.put(owner, key, value, hash, 0, change.reset());
+            if (!change.found) {
+                size++;
+            }
+        }
+
+        /**
+         * Remove the mapping of the {@code key}, and uncount the entry.
+         *
+         * @param key  to remove.
+         * @param hash of the {@code key}.
+         */
+        private void delete(K key, int hash) {
+            root = root.remove(owner, key, hash, 0, change.reset());
+            if (change.found) {
+                size--;
+            }
+        }
+    }
+}
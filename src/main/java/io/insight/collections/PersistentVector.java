@@ -0,0 +1,1137 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Immutable {@link List} on a relaxed radix balanced tree (RRB-tree), whose versions share
+ * structure with each other. {@link #copy()} returns the same instance in constant time, and
+ * every "modification" returns a new version, leaving this one untouched.
+ * <p>
+ * The elements are kept in leaf arrays of up to 32 elements under 32-way branch nodes, plus a
+ * separate tail array of up to 32 elements at the end. {@link #appended(Object)} copies only the
+ * tail, and pushes it down to the tree once every 32 elements; {@link #updated(int, Object)}
+ * copies the path from the root to one leaf. {@link #concat(PersistentVector)} merges the right
+ * edge of one tree with the left edge of the other and redistributes the nodes there, and
+ * {@link #slice(int, int)} cuts the edges of the tree, both in logarithmic time.
+ * <p>
+ * Every branch node keeps the cumulative sizes of its children, so the nodes which concatenation
+ * and slicing leave less than full can still be indexed. A lookup guesses the child with the
+ * radix of the index, which is exact for the nodes {@link #appended(Object)} builds, and scans
+ * forward from there otherwise.
+ * <p>
+ * The mutating methods of the {@link List} interface are not supported, and throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class PersistentVector<T> implements List<T> {
+
+    /**
+     * {@code log2} of the branching factor.
+     */
+    private static final int BITS = 5;
+    /**
+     * Maximum number of children of a node, and of elements of a leaf.
+     */
+    private static final int WIDTH = 1 << BITS;
+    /**
+     * Mask to get the index of an element within a full leaf.
+     */
+    private static final int MASK = WIDTH - 1;
+    /**
+     * Number of nodes over the optimal a concatenation may leave without redistributing them.
+     */
+    private static final int EXTRA = 2;
+    /**
+     * Shared empty array instance used for empty leaves and tails.
+     */
+    private static final Object[] EMPTY_LEAF = {};
+    /**
+     * Shared root of the vectors whose elements all fit in the tail.
+     */
+    private static final Node EMPTY_NODE = new Node(EMPTY_LEAF, new int[0]);
+    /**
+     * Shared empty vector instance.
+     */
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(EMPTY_NODE, BITS, EMPTY_LEAF, 0);
+
+    /**
+     * Root of the tree with all the elements but the {@link #tail}.
+     */
+    private final Node root;
+    /**
+     * Shift of the {@link #root}, {@link #BITS} times the number of branch levels.
+     */
+    private final int shift;
+    /**
+     * Last elements of the vector, not empty unless the vector is.
+     */
+    private final Object[] tail;
+    /**
+     * Number of elements in the vector.
+     */
+    private final int size;
+
+    /**
+     * Create a new {@link PersistentVector} from its parts, shared as they are.
+     *
+     * @param root  of the tree.
+     * @param shift of the {@code root}.
+     * @param tail  last elements.
+     * @param size  number of elements.
+     */
+    private PersistentVector(Node root, int shift, Object[] tail, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty {@link PersistentVector}.
+     *
+     * @return the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Returns a {@link PersistentVector} with the specified elements, in order.
+     *
+     * @param elements of the vector.
+     * @return a new vector.
+     * @throws NullPointerException if the specified array is null.
+     */
+    @SafeVarargs
+    public static <T> PersistentVector<T> of(@NotNull T... elements) {
+        Objects.requireNonNull(elements, "Elements array is null");
+        return build(elements);
+    }
+
+    /**
+     * Returns a {@link PersistentVector} with the elements of the specified collection, in the
+     * order that they are returned by the collection's iterator. Returns the collection itself if
+     * it is a {@link PersistentVector} already.
+     *
+     * @param elements of the vector.
+     * @return a vector with the elements.
+     * @throws NullPointerException if the specified collection is null.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> copyOf(@NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        if (elements instanceof PersistentVector<?>) {
+            return (PersistentVector<T>) elements;
+        }
+        return build(elements.toArray());
+    }
+
+    /**
+     * Returns a new version of this vector with the specified element appended to the end.
+     *
+     * @param element element to be appended.
+     * @return a new vector.
+     */
+    public PersistentVector<T> appended(T element) {
+        if (tail.length < WIDTH) {
+            final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(root, shift, newTail, size + 1);
+        }
+        return pushTail(new Object[]{element}, size + 1);
+    }
+
+    /**
+     * Returns a new version of this vector with all the elements in the specified collection
+     * appended to the end, in the order that they are returned by the collection's iterator.
+     *
+     * @param elements collection containing elements to be appended.
+     * @return a new vector, or this one if the collection is empty.
+     * @throws NullPointerException if the specified collection is null.
+     */
+    public PersistentVector<T> appendedAll(@NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        if (elements instanceof PersistentVector<? extends T> other) {
+            return concat(other);
+        }
+
+        final Object[] els = elements.toArray();
+        if (els.length <= WIDTH - tail.length) {
+            if (els.length == 0) {
+                return this;
+            }
+
+            final Object[] newTail = Arrays.copyOf(tail, tail.length + els.length);
+            System.arraycopy(els, 0, newTail, tail.length, els.length);
+            return new PersistentVector<>(root, shift, newTail, size + els.length);
+        }
+        return concat(build(els));
+    }
+
+    /**
+     * Returns a new version of this vector with the element at the specified position replaced
+     * by the specified element. Copies the path from the root to the leaf only.
+     *
+     * @param index   index of the element to replace.
+     * @param element element to be stored at the specified position.
+     * @return a new vector.
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    public PersistentVector<T> updated(int index, T element) {
+        checkIndex(index);
+        final int tailOffset = size - tail.length;
+        if (index >= tailOffset) {
+            final Object[] newTail = tail.clone();
+            newTail[index - tailOffset] = element;
+            return new PersistentVector<>(root, shift, newTail, size);
+        }
+        return new PersistentVector<>(update(root, shift, index, element), shift, tail, size);
+    }
+
+    /**
+     * Returns a new version of this vector with the specified element inserted at the specified
+     * position, in logarithmic time.
+     *
+     * @param index   index at which the specified element is to be inserted.
+     * @param element element to be inserted.
+     * @return a new vector.
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index > size())}
+     */
+    public PersistentVector<T> inserted(int index, T element) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+        }
+
+        if (index == size) {
+            return appended(element);
+        }
+        return take(index).appended(element).concat(drop(index));
+    }
+
+    /**
+     * Returns a new version of this vector without the element at the specified position, in
+     * logarithmic time.
+     *
+     * @param index the index of the element to be removed.
+     * @return a new vector.
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    public PersistentVector<T> removed(int index) {
+        checkIndex(index);
+        if (index == size - 1) {
+            return take(index);
+        }
+        return take(index).concat(drop(index + 1));
+    }
+
+    /**
+     * Returns a new vector with the elements of this vector followed by the elements of the
+     * specified vector. The trees are merged along the edges where they meet, in logarithmic
+     * time, and share every other node with both vectors.
+     *
+     * @param other vector to be appended to this one.
+     * @return a new vector, or either of the vectors if the other is empty.
+     * @throws NullPointerException if the specified vector is null.
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentVector<T> concat(@NotNull PersistentVector<? extends T> other) {
+        Objects.requireNonNull(other, "Vector instance is null");
+        if (other.size == 0) {
+            return this;
+        } else if (size == 0) {
+            return (PersistentVector<T>) other;
+        }
+
+        final int newSize = size + other.size;
+        if (other.size == other.tail.length && other.size <= WIDTH - tail.length) {
+            final Object[] newTail = Arrays.copyOf(tail, newSize - (size - tail.length));
+            System.arraycopy(other.tail, 0, newTail, tail.length, other.size);
+            return new PersistentVector<>(root, shift, newTail, newSize);
+        }
+
+        final PersistentVector<T> left = pushTail(EMPTY_LEAF, size);
+        if (other.root.children.length == 0) {
+            return create(left.root, left.shift, other.tail, newSize);
+        }
+
+        final Node merged = concat(left.root, left.shift, other.root, other.shift);
+        return create(merged, Math.max(left.shift, other.shift) + BITS, other.tail, newSize);
+    }
+
+    /**
+     * Returns the vector of the elements between the specified {@code from}, inclusive, and
+     * {@code to}, exclusive, in logarithmic time. The slice shares all but the nodes on its
+     * edges with this vector.
+     *
+     * @param from index of the first element of the slice, inclusive.
+     * @param to   index of the last element of the slice, exclusive.
+     * @return a new vector, or this one if the range covers all the elements.
+     * @throws IndexOutOfBoundsException if the range is out of bounds, {@code (from < 0 || to > size() || from > to)}
+     */
+    public PersistentVector<T> slice(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException(String.format("Range out of bounds: [%d, %d)", from, to));
+        }
+        return take(to).drop(from);
+    }
+
+    /**
+     * Not supported, {@link PersistentVector} is immutable.
+     *
+     * @param element element to be appended to this list
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     * @see #appended(Object)
+     */
+    @Override
+    public boolean add(T element) {
+        throw new UnsupportedOperationException("PersistentVector is immutable, use appended(T)");
+    }
+
+    /**
+     * Not supported, {@link PersistentVector} is immutable.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     * @see #inserted(int, Object)
+     */
+    @Override
+    public boolean add(int index, T element) {
+        throw new UnsupportedOperationException("PersistentVector is immutable, use inserted(int, T)");
+    }
+
+    /**
+     * Not supported, {@link PersistentVector} is immutable.
+     *
+     * @param elements collection containing elements to be added to this list
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     * @see #appendedAll(Collection)
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        throw new UnsupportedOperationException("PersistentVector is immutable, use appendedAll(Collection)");
+    }
+
+    /**
+     * Not supported, {@link PersistentVector} is immutable.
+     *
+     * @param index    index at which to insert the first element from the specified collection
+     * @param elements collection containing elements to be added to this list
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     * @see #slice(int, int)
+     * @see #concat(PersistentVector)
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        throw new UnsupportedOperationException("PersistentVector is immutable, use slice(int, int) and concat(PersistentVector)");
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        final int tailOffset = size - tail.length;
+        if (index >= tailOffset) {
+            return (T) tail[index - tailOffset];
+        }
+
+        Node node = root;
+        int i = index;
+        for (int s = shift; s > BITS; s -= BITS) {
+            final int slot = node.slot(i, s);
+            i -= node.offset(slot);
+            node = (Node) node.children[slot];
+        }
+
+        final int slot = node.slot(i, BITS);
+        return (T) ((Object[]) node.children[slot])[i - node.offset(slot)];
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or
+     * {@code -1} if this list does not contain the element.
+     *
+     * @param element element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if
+     * this list does not contain the element
+     */
+    @Override
+    public int indexOf(T element) {
+        for (int start = 0; start < size; ) {
+            final Object[] leaf = leafAt(start);
+            for (int i = 0; i < leaf.length; i++) {
+                if (Objects.equals(element, leaf[i])) {
+                    return start + i;
+                }
+            }
+            start += leaf.length;
+        }
+        return -1;
+    }
+
+    /**
+     * Not supported, {@link PersistentVector} is immutable.
+     *
+     * @param index the index of the element to be removed
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     * @see #removed(int)
+     */
+    @Override
+    public T remove(int index) {
+        throw new UnsupportedOperationException("PersistentVector is immutable, use removed(int)");
+    }
+
+    /**
+     * Not supported, {@link PersistentVector} is immutable.
+     *
+     * @param element to be removed
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public int remove(T element) {
+        throw new UnsupportedOperationException("PersistentVector is immutable");
+    }
+
+    /**
+     * Not supported, {@link PersistentVector} is immutable.
+     *
+     * @param elements collection containing elements to be removed from this list
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean removeAll(Collection<? extends T> elements) {
+        throw new UnsupportedOperationException("PersistentVector is immutable");
+    }
+
+    /**
+     * Not supported, {@link PersistentVector} is immutable.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return never returns normally
+     * @throws UnsupportedOperationException always
+     * @see #updated(int, Object)
+     */
+    @Override
+    public T set(int index, T element) {
+        throw new UnsupportedOperationException("PersistentVector is immutable, use updated(int, T)");
+    }
+
+    /**
+     * Not supported, {@link PersistentVector} is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     * @see #empty()
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("PersistentVector is immutable, use empty()");
+    }
+
+    /**
+     * Returns true if this collection contains the specified element.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     */
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Returns true if this collection contains all the elements in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (T element : elements) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns this vector, in constant time. A {@link PersistentVector} is never modified, so
+     * the same instance serves as its own copy.
+     *
+     * @return this instance.
+     */
+    @Override
+    public PersistentVector<T> copy() {
+        return this;
+    }
+
+    /**
+     * Returns true if this collection contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this collection.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an array containing all the elements in this vector, in the same order. Copies a
+     * leaf at a time.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return collect(new Object[size]);
+    }
+
+    /**
+     * Returns an array containing all the elements in this vector; the runtime type of the
+     * returned array is that of the specified array. If the vector fits in the specified array,
+     * it is returned therein, with a {@code null} following the last element if there is room.
+     * Otherwise, a new array is allocated with the runtime type of the specified array and the
+     * size of this vector.
+     *
+     * @param collector the array into which the elements of this collection are to be stored, if it
+     *                  is big enough; otherwise, a new array of the same runtime type is allocated.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException  if the runtime type of any element in this collection is not
+     *                              assignable to the runtime component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @Override
+    public <E> E[] toArray(@NotNull E[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        if (collector.length < size) {
+            return collect(Arrays.copyOf(collector, size));
+        }
+
+        if (collector.length > size) {
+            collector[size] = null;
+        }
+        return collect(collector);
+    }
+
+    /**
+     * Returns an iterator over the elements in this vector, which walks a leaf at a time.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Pointer to current index.
+             */
+            private int index = 0;
+            /**
+             * Leaf of the current index.
+             */
+            private Object[] leaf = EMPTY_LEAF;
+            /**
+             * Index of the first element of the {@link #leaf}.
+             */
+            private int leafStart = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException("List size %d exceeded, cannot access %d index."
+                            .formatted(size, index));
+                }
+
+                if (index - leafStart == leaf.length) {
+                    leaf = leafAt(index);
+                    leafStart = index;
+                }
+                return (T) leaf[index++ - leafStart];
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the elements in this vector. It reports
+     * {@link Spliterator#IMMUTABLE}, {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and
+     * {@link Spliterator#SUBSIZED}.
+     *
+     * @return a {@link Spliterator} over the elements in this list.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    /**
+     * Check the {@code index} against the bounds of this vector.
+     *
+     * @param index to check.
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+        }
+    }
+
+    /**
+     * Leaf, or tail, which starts at the specified index.
+     *
+     * @param start index of the first element of the leaf.
+     * @return the leaf.
+     */
+    private Object[] leafAt(int start) {
+        if (start >= size - tail.length) {
+            return tail;
+        }
+
+        Node node = root;
+        int i = start;
+        for (int s = shift; s > BITS; s -= BITS) {
+            final int slot = node.slot(i, s);
+            i -= node.offset(slot);
+            node = (Node) node.children[slot];
+        }
+        return (Object[]) node.children[node.slot(i, BITS)];
+    }
+
+    /**
+     * Copy the elements into the {@code collector}, a leaf at a time.
+     *
+     * @param collector array at least as long as this vector.
+     * @return the {@code collector}.
+     */
+    @SuppressWarnings("SuspiciousSystemArraycopy")
+    private <E> E[] collect(E[] collector) {
+        for (int start = 0; start < size; ) {
+            final Object[] leaf = leafAt(start);
+            System.arraycopy(leaf, 0, collector, start, leaf.length);
+            start += leaf.length;
+        }
+        return collector;
+    }
+
+    /**
+     * Returns a new vector with the {@link #tail} pushed into the tree, and the specified tail.
+     *
+     * @param newTail tail of the new vector.
+     * @param newSize size of the new vector.
+     * @return a new vector.
+     */
+    private PersistentVector<T> pushTail(Object[] newTail, int newSize) {
+        final Node pushed = pushLeaf(root, shift, tail);
+        if (pushed != null) {
+            return new PersistentVector<>(pushed, shift, newTail, newSize);
+        }
+
+        final int rootSize = root.size();
+        final Node newRoot = new Node(new Object[]{root, newPath(shift, tail)},
+                new int[]{rootSize, rootSize + tail.length});
+        return new PersistentVector<>(newRoot, shift + BITS, newTail, newSize);
+    }
+
+    /**
+     * Returns the first {@code n} elements of this vector.
+     *
+     * @param n number of elements to keep.
+     * @return a new vector, or this one.
+     */
+    private PersistentVector<T> take(int n) {
+        if (n == size) {
+            return this;
+        } else if (n == 0) {
+            return empty();
+        }
+
+        final int tailOffset = size - tail.length;
+        if (n > tailOffset) {
+            return new PersistentVector<>(root, shift, Arrays.copyOf(tail, n - tailOffset), n);
+        }
+        return create(trimRight(root, shift, n), shift, EMPTY_LEAF, n);
+    }
+
+    /**
+     * Returns this vector without the first {@code n} elements.
+     *
+     * @param n number of elements to drop.
+     * @return a new vector, or this one.
+     */
+    private PersistentVector<T> drop(int n) {
+        if (n == 0) {
+            return this;
+        } else if (n == size) {
+            return empty();
+        }
+
+        final int tailOffset = size - tail.length;
+        if (n >= tailOffset) {
+            return new PersistentVector<>(EMPTY_NODE, BITS, Arrays.copyOfRange(tail, n - tailOffset, tail.length), size - n);
+        }
+        return create(trimLeft(root, shift, n), shift, tail, size - n);
+    }
+
+    /**
+     * Create a vector from parts which may not satisfy its invariants yet. Moves the rightmost
+     * leaf of the tree to the tail if the tail is empty, and removes the branch nodes with a
+     * single child from the top of the tree.
+     *
+     * @param root  of the tree.
+     * @param shift of the {@code root}.
+     * @param tail  last elements, or an empty array.
+     * @param size  number of elements.
+     * @return a new vector.
+     */
+    private static <T> PersistentVector<T> create(Node root, int shift, Object[] tail, int size) {
+        if (tail.length == 0) {
+            Node node = root;
+            for (int s = shift; s > BITS; s -= BITS) {
+                node = (Node) node.children[node.children.length - 1];
+            }
+
+            tail = (Object[]) node.children[node.children.length - 1];
+            root = popLeaf(root, shift, tail.length);
+            if (root == null) {
+                root = EMPTY_NODE;
+                shift = BITS;
+            }
+        }
+
+        while (shift > BITS && root.children.length == 1) {
+            root = (Node) root.children[0];
+            shift -= BITS;
+        }
+        return new PersistentVector<>(root, shift, tail, size);
+    }
+
+    /**
+     * Build a vector from the {@code elements}, with full leaves and nodes bottom up. Takes the
+     * elements as varargs, so {@link #of(Object[])} passes its generic array on as it is, without
+     * a heap pollution warning.
+     *
+     * @param elements of the vector, not modified.
+     * @return a new vector.
+     */
+    private static <T> PersistentVector<T> build(Object... elements) {
+        if (elements.length == 0) {
+            return empty();
+        }
+
+        final int treeSize = elements.length - (((elements.length - 1) & MASK) + 1);
+        final Object[] tail = Arrays.copyOfRange(elements, treeSize, elements.length);
+        if (treeSize == 0) {
+            return new PersistentVector<>(EMPTY_NODE, BITS, tail, elements.length);
+        }
+
+        Object[] level = new Object[treeSize >>> BITS];
+        for (int i = 0; i < level.length; i++) {
+            level[i] = Arrays.copyOfRange(elements, i << BITS, (i + 1) << BITS);
+        }
+
+        for (int s = BITS; ; s += BITS) {
+            final Object[] parents = new Object[(level.length + MASK) >>> BITS];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = branch(Arrays.copyOfRange(level, i << BITS, Math.min(level.length, (i + 1) << BITS)), s);
+            }
+
+            if (parents.length == 1) {
+                return new PersistentVector<>((Node) parents[0], s, tail, elements.length);
+            }
+            level = parents;
+        }
+    }
+
+    /**
+     * Create a branch node with the {@code children}, and their cumulative sizes.
+     *
+     * @param children of the node.
+     * @param shift    of the node.
+     * @return a new node.
+     */
+    private static Node branch(Object[] children, int shift) {
+        final int[] sizes = new int[children.length];
+        int total = 0;
+        for (int i = 0; i < children.length; i++) {
+            total += sizeOf(children[i], shift - BITS);
+            sizes[i] = total;
+        }
+        return new Node(children, sizes);
+    }
+
+    /**
+     * Number of elements under the {@code node}.
+     *
+     * @param node  leaf or branch node.
+     * @param shift of the {@code node}, zero for a leaf.
+     * @return number of elements.
+     */
+    private static int sizeOf(Object node, int shift) {
+        return shift == 0 ? ((Object[]) node).length : ((Node) node).size();
+    }
+
+    /**
+     * Elements of the leaf, or children of the branch node.
+     *
+     * @param node  leaf or branch node.
+     * @param shift of the {@code node}, zero for a leaf.
+     * @return the slots of the {@code node}.
+     */
+    private static Object[] slotsOf(Object node, int shift) {
+        return shift == 0 ? (Object[]) node : ((Node) node).children;
+    }
+
+    /**
+     * Copy the path to the element at the {@code index}, and replace the element.
+     *
+     * @param node    root of the subtree.
+     * @param shift   of the {@code node}.
+     * @param index   of the element, relative to the {@code node}.
+     * @param element new element.
+     * @return a new node, which shares the sizes of the {@code node}.
+     */
+    private static Node update(Node node, int shift, int index, Object element) {
+        final int slot = node.slot(index, shift);
+        final int i = index - node.offset(slot);
+        final Object[] children = node.children.clone();
+        if (shift == BITS) {
+            final Object[] leaf = ((Object[]) children[slot]).clone();
+            leaf[i] = element;
+            children[slot] = leaf;
+        } else {
+            children[slot] = update((Node) children[slot], shift - BITS, i, element);
+        }
+        return new Node(children, node.sizes);
+    }
+
+    /**
+     * Append the {@code leaf} to the rightmost path of the subtree.
+     *
+     * @param node  root of the subtree.
+     * @param shift of the {@code node}.
+     * @param leaf  to append.
+     * @return a new node, or {@code null} if the subtree has no room left on its right.
+     */
+    private static Node pushLeaf(Node node, int shift, Object[] leaf) {
+        final int n = node.children.length;
+        if (shift > BITS && n != 0) {
+            final Node last = pushLeaf((Node) node.children[n - 1], shift - BITS, leaf);
+            if (last != null) {
+                final Object[] children = node.children.clone();
+                final int[] sizes = node.sizes.clone();
+                children[n - 1] = last;
+                sizes[n - 1] += leaf.length;
+                return new Node(children, sizes);
+            }
+        }
+
+        if (n == WIDTH) {
+            return null;
+        }
+
+        final Object[] children = Arrays.copyOf(node.children, n + 1);
+        final int[] sizes = Arrays.copyOf(node.sizes, n + 1);
+        children[n] = shift == BITS ? leaf : newPath(shift - BITS, leaf);
+        sizes[n] = node.size() + leaf.length;
+        return new Node(children, sizes);
+    }
+
+    /**
+     * Create a path of single child nodes down to the {@code leaf}.
+     *
+     * @param shift of the top node.
+     * @param leaf  at the bottom.
+     * @return the top node.
+     */
+    private static Node newPath(int shift, Object[] leaf) {
+        final Object child = shift == BITS ? leaf : newPath(shift - BITS, leaf);
+        return new Node(new Object[]{child}, new int[]{leaf.length});
+    }
+
+    /**
+     * Remove the rightmost leaf of the subtree.
+     *
+     * @param node   root of the subtree.
+     * @param shift  of the {@code node}.
+     * @param length of the rightmost leaf.
+     * @return a new node, or {@code null} if the subtree has no other leaf.
+     */
+    private static Node popLeaf(Node node, int shift, int length) {
+        final int n = node.children.length;
+        if (shift > BITS) {
+            final Node last = popLeaf((Node) node.children[n - 1], shift - BITS, length);
+            if (last != null) {
+                final Object[] children = node.children.clone();
+                final int[] sizes = node.sizes.clone();
+                children[n - 1] = last;
+                sizes[n - 1] -= length;
+                return new Node(children, sizes);
+            }
+        }
+        return n == 1 ? null : new Node(Arrays.copyOf(node.children, n - 1), Arrays.copyOf(node.sizes, n - 1));
+    }
+
+    /**
+     * Keep the first {@code n} elements of the subtree.
+     *
+     * @param node  root of the subtree.
+     * @param shift of the {@code node}.
+     * @param n     number of elements to keep, at least one.
+     * @return a new node.
+     */
+    private static Node trimRight(Node node, int shift, int n) {
+        final int slot = node.slot(n - 1, shift);
+        final int rest = n - node.offset(slot);
+        final Object[] children = Arrays.copyOf(node.children, slot + 1);
+        final int[] sizes = Arrays.copyOf(node.sizes, slot + 1);
+        children[slot] = shift == BITS
+                ? Arrays.copyOf((Object[]) children[slot], rest)
+                : trimRight((Node) children[slot], shift - BITS, rest);
+        sizes[slot] = n;
+        return new Node(children, sizes);
+    }
+
+    /**
+     * Drop the first {@code n} elements of the subtree.
+     *
+     * @param node  root of the subtree.
+     * @param shift of the {@code node}.
+     * @param n     number of elements to drop, less than the size of the subtree.
+     * @return a new node.
+     */
+    private static Node trimLeft(Node node, int shift, int n) {
+        final int slot = node.slot(n, shift);
+        final int rest = n - node.offset(slot);
+        final Object[] children = Arrays.copyOfRange(node.children, slot, node.children.length);
+        final int[] sizes = new int[children.length];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = node.sizes[slot + i] - n;
+        }
+
+        if (rest != 0) {
+            children[0] = shift == BITS
+                    ? Arrays.copyOfRange((Object[]) children[0], rest, ((Object[]) children[0]).length)
+                    : trimLeft((Node) children[0], shift - BITS, rest);
+        }
+        return new Node(children, sizes);
+    }
+
+    /**
+     * Concatenate two subtrees. Descends along the right edge of the {@code left} and the left
+     * edge of the {@code right} to the leaves, and merges the nodes on the way back up.
+     *
+     * @param left       leaf or branch node.
+     * @param leftShift  of the {@code left}, zero for a leaf.
+     * @param right      leaf or branch node.
+     * @param rightShift of the {@code right}, zero for a leaf.
+     * @return a node one level above the taller subtree, with one or two children.
+     */
+    private static Node concat(Object left, int leftShift, Object right, int rightShift) {
+        if (leftShift > rightShift) {
+            final Node l = (Node) left;
+            final Node center = concat(l.children[l.children.length - 1], leftShift - BITS, right, rightShift);
+            return rebalance(l, center, null, leftShift);
+        } else if (leftShift < rightShift) {
+            final Node r = (Node) right;
+            final Node center = concat(left, leftShift, r.children[0], rightShift - BITS);
+            return rebalance(null, center, r, rightShift);
+        } else if (leftShift == 0) {
+            final Object[] l = (Object[]) left;
+            final Object[] r = (Object[]) right;
+            if (l.length + r.length <= WIDTH) {
+                final Object[] merged = Arrays.copyOf(l, l.length + r.length);
+                System.arraycopy(r, 0, merged, l.length, r.length);
+                return branch(new Object[]{merged}, BITS);
+            }
+            return branch(new Object[]{l, r}, BITS);
+        }
+
+        final Node l = (Node) left;
+        final Node r = (Node) right;
+        final Node center = concat(l.children[l.children.length - 1], leftShift - BITS, r.children[0], rightShift - BITS);
+        return rebalance(l, center, r, leftShift);
+    }
+
+    /**
+     * Merge the children of the {@code left} but its last, of the {@code center}, and of the
+     * {@code right} but its first, into as few nodes as the search step invariant requires.
+     * Runs of children are shifted to the left over the first less than nearly full child until
+     * no more than {@link #EXTRA} nodes over the optimal remain, the untouched children are
+     * shared as they are.
+     *
+     * @param left   node on the left, or {@code null}.
+     * @param center node with the merged edges.
+     * @param right  node on the right, or {@code null}.
+     * @param shift  of the three nodes.
+     * @return a node one level above the three, with one or two children.
+     */
+    private static Node rebalance(Node left, Node center, Node right, int shift) {
+        final int ln = left == null ? 0 : left.children.length - 1;
+        final int cn = center.children.length;
+        final int rn = right == null ? 0 : right.children.length - 1;
+        final Object[] all = new Object[ln + cn + rn];
+        if (left != null) {
+            System.arraycopy(left.children, 0, all, 0, ln);
+        }
+        System.arraycopy(center.children, 0, all, ln, cn);
+        if (right != null) {
+            System.arraycopy(right.children, 1, all, ln + cn, rn);
+        }
+
+        final int childShift = shift - BITS;
+        final int[] counts = new int[all.length];
+        int total = 0;
+        for (int i = 0; i < all.length; i++) {
+            counts[i] = slotsOf(all[i], childShift).length;
+            total += counts[i];
+        }
+
+        final int optimal = (total + MASK) >>> BITS;
+        int n = all.length;
+        while (n > optimal + EXTRA) {
+            int i = 0;
+            while (counts[i] >= WIDTH - EXTRA / 2) {
+                i++;
+            }
+
+            int rest = counts[i];
+            while (rest > 0) {
+                final int filled = Math.min(rest + counts[i + 1], WIDTH);
+                rest += counts[i + 1] - filled;
+                counts[i++] = filled;
+            }
+            System.arraycopy(counts, i + 1, counts, i, n - i - 1);
+            n--;
+        }
+
+        final Object[] nodes = new Object[n];
+        for (int k = 0, a = 0, offset = 0; k < n; k++) {
+            if (offset == 0 && slotsOf(all[a], childShift).length == counts[k]) {
+                nodes[k] = all[a++];
+                continue;
+            }
+
+            final Object[] slots = new Object[counts[k]];
+            for (int filled = 0; filled < slots.length; ) {
+                final Object[] source = slotsOf(all[a], childShift);
+                final int length = Math.min(slots.length - filled, source.length - offset);
+                System.arraycopy(source, offset, slots, filled, length);
+                filled += length;
+                offset += length;
+                if (offset == source.length) {
+                    a++;
+                    offset = 0;
+                }
+            }
+            nodes[k] = childShift == 0 ? slots : branch(slots, childShift);
+        }
+
+        if (n <= WIDTH) {
+            return branch(new Object[]{branch(nodes, shift)}, shift + BITS);
+        }
+        return branch(new Object[]{
+                branch(Arrays.copyOf(nodes, WIDTH), shift),
+                branch(Arrays.copyOfRange(nodes, WIDTH, n), shift)
+        }, shift + BITS);
+    }
+
+    /**
+     * Branch node of the tree. The children are the leaves at the lowest level, and branch nodes
+     * otherwise. Neither array is modified once the node is created, so nodes are shared by all
+     * the versions which contain them.
+     */
+    private static final class Node {
+
+        /**
+         * Leaves or branch nodes.
+         */
+        final Object[] children;
+        /**
+         * Cumulative number of elements under the children.
+         */
+        final int[] sizes;
+
+        Node(Object[] children, int[] sizes) {
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        /**
+         * Number of elements under this node.
+         *
+         * @return number of elements.
+         */
+        int size() {
+            return sizes.length == 0 ? 0 : sizes[sizes.length - 1];
+        }
+
+        /**
+         * Child which holds the element at the {@code index}. No child holds more than
+         * {@code 1 << shift} elements, so the radix of the {@code index} is the first candidate.
+         *
+         * @param index of the element, relative to this node.
+         * @param shift of this node.
+         * @return index of the child.
+         */
+        int slot(int index, int shift) {
+            int slot = index >>> shift;
+            while (sizes[slot] <= index) {
+                slot++;
+            }
+            return slot;
+        }
+
+        /**
+         * Number of elements under the children before the {@code slot}.
+         *
+         * @param slot index of the child.
+         * @return number of elements.
+         */
+        int offset(int slot) {
+            return slot == 0 ? 0 : sizes[slot - 1];
+        }
+    }
+}
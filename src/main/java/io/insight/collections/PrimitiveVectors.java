@@ -0,0 +1,390 @@
+package io.insight.collections;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Search and aggregation kernels of the primitive lists over their backing arrays, with the
+ * Vector API. Every kernel runs over the first {@code size} elements a vector at a time, in the
+ * preferred species of the platform, and finishes the tail shorter than a vector with a scalar
+ * loop. The results are the same as the scalar loops of the lists, except the rounding of the
+ * floating point sums, which add the elements in a different order.
+ * <p>
+ * Referencing this class loads the {@code jdk.incubator.vector} module, it must be called only
+ * if {@link VectorSupport#ENABLED} is set.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+final class PrimitiveVectors {
+
+    /**
+     * Preferred species of the {@code int} vectors.
+     */
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    /**
+     * Preferred species of the {@code long} vectors.
+     */
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    /**
+     * Preferred species of the {@code double} vectors, the same shape as {@link #LONG_SPECIES}.
+     */
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Not to be instantiated.
+     */
+    private PrimitiveVectors() {
+    }
+
+    /**
+     * Returns the index of the first occurrence of the {@code element} in the array.
+     *
+     * @param values  to search.
+     * @param size    number of the elements to search, from the start.
+     * @param element to search for.
+     * @return the index of the first occurrence, or {@code -1} if there is none.
+     */
+    static int indexOf(int[] values, int size, int element) {
+        final IntVector key = IntVector.broadcast(INT_SPECIES, element);
+        final int bound = INT_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += INT_SPECIES.length()) {
+            final VectorMask<Integer> hits = IntVector.fromArray(INT_SPECIES, values, i).eq(key);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < size; i++) {
+            if (values[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the {@code element} in the array.
+     *
+     * @param values  to search.
+     * @param size    number of the elements to search, from the start.
+     * @param element to search for.
+     * @return the index of the first occurrence, or {@code -1} if there is none.
+     */
+    static int indexOf(long[] values, int size, long element) {
+        final LongVector key = LongVector.broadcast(LONG_SPECIES, element);
+        final int bound = LONG_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            final VectorMask<Long> hits = LongVector.fromArray(LONG_SPECIES, values, i).eq(key);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < size; i++) {
+            if (values[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the {@code element} in the array, compared
+     * the same way as {@link Double#compare(double, double)} does. The elements are compared
+     * by their bits, which agrees with {@link Double#compare(double, double)} for every
+     * {@code element} but a {@code NaN}, a {@code NaN} is searched by the scalar loop alone.
+     *
+     * @param values  to search.
+     * @param size    number of the elements to search, from the start.
+     * @param element to search for.
+     * @return the index of the first occurrence, or {@code -1} if there is none.
+     */
+    static int indexOf(double[] values, int size, double element) {
+        final LongVector key = LongVector.broadcast(LONG_SPECIES, Double.doubleToRawLongBits(element));
+        final int bound = Double.isNaN(element) ? 0 : DOUBLE_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            final VectorMask<Long> hits = DoubleVector.fromArray(DOUBLE_SPECIES, values, i).reinterpretAsLongs().eq(key);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < size; i++) {
+            if (Double.compare(values[i], element) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of the occurrences of the {@code element} in the array.
+     *
+     * @param values  to search.
+     * @param size    number of the elements to search, from the start.
+     * @param element to count.
+     * @return the number of the occurrences.
+     */
+    static int count(int[] values, int size, int element) {
+        final IntVector key = IntVector.broadcast(INT_SPECIES, element);
+        final int bound = INT_SPECIES.loopBound(size);
+        int count = 0;
+        int i = 0;
+        for (; i < bound; i += INT_SPECIES.length()) {
+            count += IntVector.fromArray(INT_SPECIES, values, i).eq(key).trueCount();
+        }
+        for (; i < size; i++) {
+            if (values[i] == element) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of the occurrences of the {@code element} in the array.
+     *
+     * @param values  to search.
+     * @param size    number of the elements to search, from the start.
+     * @param element to count.
+     * @return the number of the occurrences.
+     */
+    static int count(long[] values, int size, long element) {
+        final LongVector key = LongVector.broadcast(LONG_SPECIES, element);
+        final int bound = LONG_SPECIES.loopBound(size);
+        int count = 0;
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            count += LongVector.fromArray(LONG_SPECIES, values, i).eq(key).trueCount();
+        }
+        for (; i < size; i++) {
+            if (values[i] == element) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of the occurrences of the {@code element} in the array, compared the
+     * same way as {@link Double#compare(double, double)} does, by their bits as
+     * {@link #indexOf(double[], int, double)} does.
+     *
+     * @param values  to search.
+     * @param size    number of the elements to search, from the start.
+     * @param element to count.
+     * @return the number of the occurrences.
+     */
+    static int count(double[] values, int size, double element) {
+        final LongVector key = LongVector.broadcast(LONG_SPECIES, Double.doubleToRawLongBits(element));
+        final int bound = Double.isNaN(element) ? 0 : DOUBLE_SPECIES.loopBound(size);
+        int count = 0;
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            count += DoubleVector.fromArray(DOUBLE_SPECIES, values, i).reinterpretAsLongs().eq(key).trueCount();
+        }
+        for (; i < size; i++) {
+            if (Double.compare(values[i], element) == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the smallest of the elements in the array.
+     *
+     * @param values to aggregate.
+     * @param size   number of the elements to aggregate, from the start, one at least.
+     * @return the smallest element.
+     */
+    static int min(int[] values, int size) {
+        IntVector acc = IntVector.broadcast(INT_SPECIES, Integer.MAX_VALUE);
+        final int bound = INT_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += INT_SPECIES.length()) {
+            acc = acc.min(IntVector.fromArray(INT_SPECIES, values, i));
+        }
+        int min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the smallest of the elements in the array.
+     *
+     * @param values to aggregate.
+     * @param size   number of the elements to aggregate, from the start, one at least.
+     * @return the smallest element.
+     */
+    static long min(long[] values, int size) {
+        LongVector acc = LongVector.broadcast(LONG_SPECIES, Long.MAX_VALUE);
+        final int bound = LONG_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            acc = acc.min(LongVector.fromArray(LONG_SPECIES, values, i));
+        }
+        long min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the smallest of the elements in the array, the same as {@link Math#min(double, double)}
+     * does, a {@code NaN} if any element is a {@code NaN}.
+     *
+     * @param values to aggregate.
+     * @param size   number of the elements to aggregate, from the start, one at least.
+     * @return the smallest element.
+     */
+    static double min(double[] values, int size) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLE_SPECIES, Double.POSITIVE_INFINITY);
+        final int bound = DOUBLE_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            acc = acc.min(DoubleVector.fromArray(DOUBLE_SPECIES, values, i));
+        }
+        double min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the largest of the elements in the array.
+     *
+     * @param values to aggregate.
+     * @param size   number of the elements to aggregate, from the start, one at least.
+     * @return the largest element.
+     */
+    static int max(int[] values, int size) {
+        IntVector acc = IntVector.broadcast(INT_SPECIES, Integer.MIN_VALUE);
+        final int bound = INT_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += INT_SPECIES.length()) {
+            acc = acc.max(IntVector.fromArray(INT_SPECIES, values, i));
+        }
+        int max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Returns the largest of the elements in the array.
+     *
+     * @param values to aggregate.
+     * @param size   number of the elements to aggregate, from the start, one at least.
+     * @return the largest element.
+     */
+    static long max(long[] values, int size) {
+        LongVector acc = LongVector.broadcast(LONG_SPECIES, Long.MIN_VALUE);
+        final int bound = LONG_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            acc = acc.max(LongVector.fromArray(LONG_SPECIES, values, i));
+        }
+        long max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Returns the largest of the elements in the array, the same as {@link Math#max(double, double)}
+     * does, a {@code NaN} if any element is a {@code NaN}.
+     *
+     * @param values to aggregate.
+     * @param size   number of the elements to aggregate, from the start, one at least.
+     * @return the largest element.
+     */
+    static double max(double[] values, int size) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLE_SPECIES, Double.NEGATIVE_INFINITY);
+        final int bound = DOUBLE_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            acc = acc.max(DoubleVector.fromArray(DOUBLE_SPECIES, values, i));
+        }
+        double max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Returns the sum of the elements in the array, wrapped around on overflow.
+     *
+     * @param values to aggregate.
+     * @param size   number of the elements to aggregate, from the start.
+     * @return the sum of the elements.
+     */
+    static int sum(int[] values, int size) {
+        IntVector acc = IntVector.zero(INT_SPECIES);
+        final int bound = INT_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += INT_SPECIES.length()) {
+            acc = acc.add(IntVector.fromArray(INT_SPECIES, values, i));
+        }
+        int sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the sum of the elements in the array, wrapped around on overflow.
+     *
+     * @param values to aggregate.
+     * @param size   number of the elements to aggregate, from the start.
+     * @return the sum of the elements.
+     */
+    static long sum(long[] values, int size) {
+        LongVector acc = LongVector.zero(LONG_SPECIES);
+        final int bound = LONG_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += LONG_SPECIES.length()) {
+            acc = acc.add(LongVector.fromArray(LONG_SPECIES, values, i));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the sum of the elements in the array. Every lane adds its own share of the
+     * elements, so the result may differ in rounding from a sum in order.
+     *
+     * @param values to aggregate.
+     * @param size   number of the elements to aggregate, from the start.
+     * @return the sum of the elements.
+     */
+    static double sum(double[] values, int size) {
+        DoubleVector acc = DoubleVector.zero(DOUBLE_SPECIES);
+        final int bound = DOUBLE_SPECIES.loopBound(size);
+        int i = 0;
+        for (; i < bound; i += DOUBLE_SPECIES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLE_SPECIES, values, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,82 @@
+package io.insight.collections;
+
+import java.util.function.Consumer;
+
+/**
+ * A collection to hand elements over from producers to consumers in first-in-first-out order.
+ * Queues do not permit {@code null} elements, {@code null} marks an empty queue on retrieval.
+ * <p>
+ * The batch operations {@link #offerAll(Collection)} and {@link #drain(Consumer, int)} move many
+ * elements for the synchronization cost of one, and should be preferred whenever the producer
+ * or the consumer has more than one element at hand.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public interface Queue<E> extends Collection<E> {
+
+    /**
+     * Inserts the specified element at the tail of this queue, if it is possible to do so
+     * immediately without violating the capacity restrictions.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added to this queue, else {@code false}
+     * @throws NullPointerException if the specified element is null
+     */
+    boolean offer(E element);
+
+    /**
+     * Inserts as many of the elements in the specified collection as it is possible to do so
+     * immediately without violating the capacity restrictions, in the order that they are
+     * returned by the specified collection's iterator.
+     *
+     * @param elements collection containing elements to be added to this queue
+     * @return number of the elements added, from the start of the collection
+     * @throws NullPointerException if the specified collection contains one or more null
+     *                              elements, or if the specified collection is null
+     */
+    int offerAll(Collection<? extends E> elements);
+
+    /**
+     * Retrieves and removes the head of this queue, or returns {@code null} if this queue is
+     * empty.
+     *
+     * @return the head of this queue, or {@code null} if this queue is empty
+     */
+    E poll();
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns {@code null} if this
+     * queue is empty.
+     *
+     * @return the head of this queue, or {@code null} if this queue is empty
+     */
+    E peek();
+
+    /**
+     * Removes up to {@code max} elements from the head of this queue, and passes them to the
+     * {@code consumer} in order. Stops early when the queue is empty.
+     * <p>
+     * If the {@code consumer} throws, the exception is relayed, and the elements removed in the
+     * same batch but not passed to the {@code consumer} yet are discarded.
+     *
+     * @param consumer to accept the elements
+     * @param max      maximum number of the elements to remove
+     * @return number of the elements passed to the {@code consumer}
+     * @throws NullPointerException if the specified consumer is null
+     */
+    int drain(Consumer<? super E> consumer, int max);
+
+    /**
+     * Removes all the elements available in this queue, and passes them to the
+     * {@code consumer} in order.
+     *
+     * @param consumer to accept the elements
+     * @return number of the elements passed to the {@code consumer}
+     * @throws NullPointerException if the specified consumer is null
+     * @see #drain(Consumer, int)
+     */
+    default int drain(Consumer<? super E> consumer) {
+        return drain(consumer, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,67 @@
+package io.insight.collections;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event of a rehash of an open addressing hash map into a bigger table, timed
+ * over the allocation of the new table and the reinsertion of the entries.
+ * <p>
+ * Recorded by default only if the rehash took {@code 10 ms} or more. Lower the
+ * {@code threshold} setting of the event to see the smaller ones.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+@Name("io.insight.collections.Rehash")
+@Label("Collection Rehash")
+@Category("Insight Collections")
+@Description("Rehash of a hash map into a new table")
+@StackTrace
+@Threshold("10 ms")
+final class RehashEvent extends Event {
+
+    /**
+     * Class of the map which rehashed.
+     */
+    @Label("Collection Class")
+    Class<?> collectionClass;
+    /**
+     * Number of the entries reinserted.
+     */
+    @Label("Entries")
+    int entries;
+    /**
+     * Number of the slots of the old table.
+     */
+    @Label("Old Capacity")
+    int oldCapacity;
+    /**
+     * Number of the slots of the new table.
+     */
+    @Label("New Capacity")
+    int newCapacity;
+
+    /**
+     * Commit this event, if it's enabled and lasted over its threshold.
+     *
+     * @param collection  which rehashed.
+     * @param entries     number of the entries reinserted.
+     * @param oldCapacity number of the slots of the old table.
+     * @param newCapacity number of the slots of the new table.
+     */
+    void commit(Object collection, int entries, int oldCapacity, int newCapacity) {
+        if (shouldCommit()) {
+            this.collectionClass = collection.getClass();
+            this.entries = entries;
+            this.oldCapacity = oldCapacity;
+            this.newCapacity = newCapacity;
+            commit();
+        }
+    }
+}
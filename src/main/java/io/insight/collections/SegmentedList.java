@@ -0,0 +1,572 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Common implementation of the lists which keep fixed width records in {@link ByteBuffer}
+ * segments instead of a Java array. Every element is encoded into its slot by an
+ * {@link ElementCodec} on the way in and decoded on the way out.
+ * <p>
+ * Every segment holds the same power of two number of elements, so an index is split into the
+ * segment and the slot with a shift and a mask. Subclasses decide where the segments live
+ * through {@link #grow(int)} and {@link #release(ByteBuffer[])}.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+abstract class SegmentedList<T> implements List<T>, AutoCloseable {
+
+    /**
+     * Shared empty array instance used for closed instances.
+     */
+    static final ByteBuffer[] EMPTY_SEGMENTS = {};
+    /**
+     * Codec to encode and decode the elements.
+     */
+    final ElementCodec<T> codec;
+    /**
+     * Number of bytes every element occupies.
+     */
+    final int elementSize;
+    /**
+     * {@code log2} of the number of elements a full-size segment holds.
+     */
+    final int segmentShift;
+    /**
+     * Mask to get the index of an element within its segment.
+     */
+    final int segmentMask;
+    /**
+     * Memory segments which hold all the data add into the list.
+     */
+    ByteBuffer[] segments = EMPTY_SEGMENTS;
+    /**
+     * Number of elements the current {@link #segments} can hold.
+     */
+    int capacity;
+    /**
+     * Keep the current index of the latest value.
+     */
+    int size;
+
+    /**
+     * Constructor implementation validates the {@code codec} and derives the segment geometry.
+     * Subclasses must allocate the first segment.
+     *
+     * @param codec           to encode and decode the elements.
+     * @param maxSegmentBytes maximum size of a single segment in bytes.
+     * @throws NullPointerException     if the {@code codec} is null.
+     * @throws IllegalArgumentException if an element does not fit into a segment.
+     */
+    SegmentedList(@NotNull ElementCodec<T> codec, int maxSegmentBytes) {
+        this.codec = Objects.requireNonNull(codec, "Element codec is null");
+        this.elementSize = codec.byteSize();
+        if (elementSize <= 0 || elementSize > maxSegmentBytes) {
+            throw new IllegalArgumentException("Invalid element size: %d".formatted(elementSize));
+        }
+
+        this.segmentShift = 31 - Integer.numberOfLeadingZeros(maxSegmentBytes / elementSize);
+        this.segmentMask = (1 << segmentShift) - 1;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element element to be appended to this list
+     * @return {@code true} if append success
+     * @throws NullPointerException  if the specified element is null and the codec does not
+     *                               permit null elements
+     * @throws IllegalStateException if this list is closed
+     */
+    @Override
+    public boolean add(T element) {
+        ensureOpen();
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        write(size, element);
+        setSize(size + 1);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. Shifts the element
+     * currently at that position (if any) and any subsequent elements to the right (adds one to
+     * their indices).
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index > size())}
+     * @throws IllegalStateException     if this list is closed
+     */
+    @Override
+    public boolean add(int index, T element) {
+        ensureOpen();
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+        }
+
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        moveElements(index, index + 1, size - index);
+        write(index, element);
+        setSize(size + 1);
+
+        return true;
+    }
+
+    /**
+     * Appends all the elements in the specified collection to the end of this list, in the order
+     * that they are returned by the specified collection's iterator.
+     *
+     * @param elements collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException  if the specified collection is null
+     * @throws IllegalStateException if this list is closed
+     */
+    @Override
+    public boolean addAll(@NotNull Collection<? extends T> elements) {
+        return addAll(size, elements);
+    }
+
+    /**
+     * Inserts all the elements in the specified collection into this list at the specified
+     * position. Grows the memory at most once and shifts the tail with a single move.
+     *
+     * @param index    index at which to insert the first element from the specified collection
+     * @param elements collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException      if the specified collection is null
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index > size())}
+     * @throws IllegalStateException     if this list is closed
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean addAll(int index, @NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        ensureOpen();
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+        }
+
+        final Object[] els = elements.toArray();
+        if (els.length == 0) {
+            return false;
+        }
+        if (size + els.length > capacity) {
+            grow(size + els.length);
+        }
+
+        moveElements(index, index + els.length, size - index);
+        for (int i = 0; i < els.length; i++) {
+            write(index + i, (T) els[i]);
+        }
+        setSize(size + els.length);
+
+        return true;
+    }
+
+    /**
+     * Returns the element at the specified position in this list, decoded from its segment.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     * @throws IllegalStateException     if this list is closed
+     */
+    @Override
+    public T get(int index) {
+        ensureOpen();
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException(String.format("Index out of range: %d", index));
+        }
+        return read(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or
+     * {@code -1} if this list does not contain the element.
+     *
+     * @param element element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if
+     * this list does not contain the element
+     * @throws IllegalStateException if this list is closed
+     */
+    @Override
+    public int indexOf(T element) {
+        ensureOpen();
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, read(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the element at the specified position in this list. Shifts any subsequent elements
+     * to the left (subtracts one from their indices).
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     * @throws IllegalStateException     if this list is closed
+     */
+    @Override
+    public T remove(int index) {
+        final T val = get(index);
+
+        moveElements(index + 1, index, size - (index + 1));
+        setSize(size - 1);
+
+        return val;
+    }
+
+    /**
+     * Removes the matching instances in this list. Shifts any subsequent elements to the left
+     * (subtracts one from their indices).
+     *
+     * @param element the element to be removed
+     * @return number of elements removed
+     * @throws IllegalStateException if this list is closed
+     */
+    @Override
+    public int remove(T element) {
+        ensureOpen();
+
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(element, read(i))) {
+                if (i != j) {
+                    moveElements(i, j, 1);
+                }
+                j++;
+            }
+        }
+
+        final int removed = size - j;
+        setSize(j);
+        return removed;
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained in the specified collection.
+     *
+     * @param elements collection containing elements to be removed from this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException  if the specified collection is null.
+     * @throws IllegalStateException if this list is closed
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean removeAll(@NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        ensureOpen();
+
+        final Collection<T> others = (Collection<T>) elements;
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            if (!others.contains(read(i))) {
+                if (i != j) {
+                    moveElements(i, j, 1);
+                }
+                j++;
+            }
+        }
+
+        final boolean changed = j != size;
+        setSize(j);
+        return changed;
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     * @throws IllegalStateException     if this list is closed
+     */
+    @Override
+    public T set(int index, T element) {
+        final T val = get(index);
+        write(index, element);
+
+        return val;
+    }
+
+    /**
+     * Removes all the elements from this collection. The memory is retained, use
+     * {@link #close()} to release it.
+     *
+     * @throws IllegalStateException if this list is closed
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        setSize(0);
+    }
+
+    /**
+     * Returns true if this collection contains the specified element.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     * @throws IllegalStateException if this list is closed
+     */
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Returns true if this collection contains all the elements in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException  if the specified collection is null.
+     * @throws IllegalStateException if this list is closed
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (T element : elements) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if this collection contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this collection.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an array containing all the elements in this collection, decoded, in list order.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     * @throws IllegalStateException if this list is closed
+     */
+    @Override
+    public Object[] toArray() {
+        ensureOpen();
+
+        final Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = read(i);
+        }
+        return array;
+    }
+
+    /**
+     * Returns an array containing all the elements in this collection, decoded, in list order;
+     * the runtime type of the returned array is that of the specified array.
+     *
+     * @param collector the array into which the elements of this collection are to be stored, if
+     *                  it is big enough; otherwise, a new array of the same runtime type is
+     *                  allocated for this purpose.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException   if the runtime type of any element in this collection is not
+     *                               assignable to the runtime component type of the specified array
+     * @throws NullPointerException  if the specified array is null.
+     * @throws IllegalStateException if this list is closed
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <E> E[] toArray(@NotNull E[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        ensureOpen();
+        if (size > collector.length) {
+            collector = (E[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        }
+
+        final Object[] array = collector;
+        for (int i = 0; i < size; i++) {
+            array[i] = read(i);
+        }
+        return collector;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence, decoding each
+     * element on {@link Iterator#next()}.
+     *
+     * @return an Iterator.
+     * @throws IllegalStateException if this list is closed
+     */
+    @NotNull
+    @Override
+    public Iterator<T> iterator() {
+        ensureOpen();
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                ensureOpen();
+                if (index < size) return read(index++);
+                else throw new NoSuchElementException("List size %d exceeded, cannot access %d index."
+                        .formatted(size, index));
+            }
+        };
+    }
+
+    /**
+     * Release the memory of this list. Closing an already closed list has no effect.
+     */
+    @Override
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+
+        final ByteBuffer[] segs = segments;
+        segments = EMPTY_SEGMENTS;
+        capacity = 0;
+        size = 0;
+        release(segs);
+    }
+
+    /**
+     * Returns {@code true} if the memory of this list has been released.
+     *
+     * @return {@code true} if this list is closed.
+     */
+    public boolean isClosed() {
+        return segments.length == 0;
+    }
+
+    /**
+     * Encode the {@code element} into the slot at {@code index}.
+     *
+     * @param index   of the slot.
+     * @param element to be encoded.
+     */
+    void write(int index, T element) {
+        codec.write(segments[index >>> segmentShift], (index & segmentMask) * elementSize, element);
+    }
+
+    /**
+     * Decode the element in the slot at {@code index}.
+     *
+     * @param index of the slot.
+     * @return the decoded element.
+     */
+    T read(int index) {
+        return codec.read(segments[index >>> segmentShift], (index & segmentMask) * elementSize);
+    }
+
+    /**
+     * Move {@code count} encoded elements from index {@code from} to index {@code to}. The ranges
+     * may overlap, the move is split at the segment boundaries.
+     *
+     * @param from  index of the first element to be moved.
+     * @param to    index the first element to be moved to.
+     * @param count number of elements to be moved.
+     */
+    private void moveElements(int from, int to, int count) {
+        if (from == to || count <= 0) {
+            return;
+        }
+
+        final int perSegment = segmentMask + 1;
+        if (to > from) {
+            for (int remaining = count; remaining > 0; ) {
+                final int src = from + remaining - 1;
+                final int dst = to + remaining - 1;
+                final int piece = Math.min(remaining, Math.min((src & segmentMask) + 1, (dst & segmentMask) + 1));
+
+                copyElements(src - piece + 1, dst - piece + 1, piece);
+                remaining -= piece;
+            }
+        } else {
+            for (int done = 0; done < count; ) {
+                final int src = from + done;
+                final int dst = to + done;
+                final int piece = Math.min(count - done,
+                        Math.min(perSegment - (src & segmentMask), perSegment - (dst & segmentMask)));
+
+                copyElements(src, dst, piece);
+                done += piece;
+            }
+        }
+    }
+
+    /**
+     * Copy {@code count} encoded elements within a single source and a single target segment.
+     *
+     * @param from  index of the first element to be copied.
+     * @param to    index the first element to be copied to.
+     * @param count number of elements to be copied.
+     */
+    private void copyElements(int from, int to, int count) {
+        segments[to >>> segmentShift].put((to & segmentMask) * elementSize,
+                segments[from >>> segmentShift], (from & segmentMask) * elementSize, count * elementSize);
+    }
+
+    /**
+     * Grow the memory to hold at least {@code minCapacity} elements, updating {@link #segments}
+     * and {@link #capacity}.
+     *
+     * @param minCapacity minimum number of elements the memory must hold.
+     */
+    abstract void grow(int minCapacity);
+
+    /**
+     * Release the memory of the given segments. Invoked once, by {@link #close()}.
+     *
+     * @param segs segments to be released.
+     */
+    abstract void release(ByteBuffer[] segs);
+
+    /**
+     * Update the number of elements in this list. Invoked after the elements have been written.
+     *
+     * @param newSize new number of elements.
+     */
+    void setSize(int newSize) {
+        size = newSize;
+    }
+
+    /**
+     * Check whether this list is still open.
+     *
+     * @throws IllegalStateException if this list is closed.
+     */
+    void ensureOpen() {
+        if (segments.length == 0) {
+            throw new IllegalStateException("%s is closed".formatted(getClass().getSimpleName()));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.insight.collections;
+
+import java.util.Comparator;
+
+/**
+ * A {@link Map} that further provides a total ordering on its keys, by their natural ordering
+ * or by a {@link Comparator} provided at creation time. The keys, {@link #cursor()} and
+ * {@link #toArray()} follow the ascending key order.
+ * <p>
+ * The range views returned by {@link #subMap(Object, boolean, Object, boolean)},
+ * {@link #headMap(Object, boolean)} and {@link #tailMap(Object, boolean)} are backed by this
+ * map, so changes in either are reflected in the other. A view rejects the keys outside of its
+ * range with {@link IllegalArgumentException} on insertion.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public interface SortedMap<K, V> extends Map<K, V> {
+
+    /**
+     * Returns the comparator used to order the keys in this map, or {@code null} if this map
+     * uses the natural ordering of its keys.
+     *
+     * @return the comparator used to order the keys in this map, or {@code null}
+     */
+    Comparator<? super K> comparator();
+
+    /**
+     * Returns the first (lowest) key currently in this map.
+     *
+     * @return the first (lowest) key currently in this map
+     * @throws java.util.NoSuchElementException if this map is empty
+     */
+    K firstKey();
+
+    /**
+     * Returns the last (highest) key currently in this map.
+     *
+     * @return the last (highest) key currently in this map
+     * @throws java.util.NoSuchElementException if this map is empty
+     */
+    K lastKey();
+
+    /**
+     * Returns the greatest key less than or equal to the given key, or {@code null} if there is
+     * no such key.
+     *
+     * @param key the key
+     * @return the greatest key less than or equal to {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null and this map does not permit
+     *                              null keys
+     */
+    K floorKey(K key);
+
+    /**
+     * Returns the least key greater than or equal to the given key, or {@code null} if there is
+     * no such key.
+     *
+     * @param key the key
+     * @return the least key greater than or equal to {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null and this map does not permit
+     *                              null keys
+     */
+    K ceilingKey(K key);
+
+    /**
+     * Returns the greatest key strictly less than the given key, or {@code null} if there is no
+     * such key.
+     *
+     * @param key the key
+     * @return the greatest key less than {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null and this map does not permit
+     *                              null keys
+     */
+    K lowerKey(K key);
+
+    /**
+     * Returns the least key strictly greater than the given key, or {@code null} if there is no
+     * such key.
+     *
+     * @param key the key
+     * @return the least key greater than {@code key}, or {@code null}
+     * @throws NullPointerException if the specified key is null and this map does not permit
+     *                              null keys
+     */
+    K higherKey(K key);
+
+    /**
+     * Returns a view of the portion of this map whose keys range from {@code fromKey} to
+     * {@code toKey}.
+     *
+     * @param fromKey       low endpoint of the keys in the returned map
+     * @param fromInclusive {@code true} if the low endpoint is to be included in the returned view
+     * @param toKey         high endpoint of the keys in the returned map
+     * @param toInclusive   {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys range from {@code fromKey} to {@code toKey}
+     * @throws NullPointerException     if {@code fromKey} or {@code toKey} is null and this map
+     *                                  does not permit null keys
+     * @throws IllegalArgumentException if {@code fromKey} is greater than {@code toKey}, or if this
+     *                                  map has a restricted range and the endpoints lie outside it
+     */
+    SortedMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive);
+
+    /**
+     * Returns a view of the portion of this map whose keys are less than (or equal to, if
+     * {@code inclusive} is true) {@code toKey}.
+     *
+     * @param toKey     high endpoint of the keys in the returned map
+     * @param inclusive {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys are less than {@code toKey}
+     * @throws NullPointerException     if {@code toKey} is null and this map does not permit
+     *                                  null keys
+     * @throws IllegalArgumentException if this map has a restricted range and {@code toKey} lies
+     *                                  outside it
+     */
+    SortedMap<K, V> headMap(K toKey, boolean inclusive);
+
+    /**
+     * Returns a view of the portion of this map whose keys are greater than (or equal to, if
+     * {@code inclusive} is true) {@code fromKey}.
+     *
+     * @param fromKey   low endpoint of the keys in the returned map
+     * @param inclusive {@code true} if the low endpoint is to be included in the returned view
+     * @return a view of the portion of this map whose keys are greater than {@code fromKey}
+     * @throws NullPointerException     if {@code fromKey} is null and this map does not permit
+     *                                  null keys
+     * @throws IllegalArgumentException if this map has a restricted range and {@code fromKey}
+     *                                  lies outside it
+     */
+    SortedMap<K, V> tailMap(K fromKey, boolean inclusive);
+
+    /**
+     * Returns a view of the portion of this map whose keys range from {@code fromKey},
+     * inclusive, to {@code toKey}, exclusive.
+     *
+     * @param fromKey low endpoint (inclusive) of the keys in the returned map
+     * @param toKey   high endpoint (exclusive) of the keys in the returned map
+     * @return a view of the portion of this map whose keys range from {@code fromKey} to {@code toKey}
+     * @see #subMap(Object, boolean, Object, boolean)
+     */
+    default SortedMap<K, V> subMap(K fromKey, K toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys are strictly less than {@code toKey}.
+     *
+     * @param toKey high endpoint (exclusive) of the keys in the returned map
+     * @return a view of the portion of this map whose keys are strictly less than {@code toKey}
+     * @see #headMap(Object, boolean)
+     */
+    default SortedMap<K, V> headMap(K toKey) {
+        return headMap(toKey, false);
+    }
+
+    /**
+     * Returns a view of the portion of this map whose keys are greater than or equal to
+     * {@code fromKey}.
+     *
+     * @param fromKey low endpoint (inclusive) of the keys in the returned map
+     * @return a view of the portion of this map whose keys are greater than or equal to {@code fromKey}
+     * @see #tailMap(Object, boolean)
+     */
+    default SortedMap<K, V> tailMap(K fromKey) {
+        return tailMap(fromKey, true);
+    }
+}
@@ -0,0 +1,141 @@
+package io.insight.collections;
+
+import java.util.Comparator;
+
+/**
+ * A {@link Collection} without duplicate elements, which provides a total ordering on its
+ * elements, by their natural ordering or by a {@link Comparator} provided at creation time. The
+ * iterator and {@link #toArray()} follow the ascending order.
+ * <p>
+ * The range views returned by {@link #subSet(Object, boolean, Object, boolean)},
+ * {@link #headSet(Object, boolean)} and {@link #tailSet(Object, boolean)} are backed by this
+ * set, so changes in either are reflected in the other. A view rejects the elements outside of
+ * its range with {@link IllegalArgumentException} on insertion.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public interface SortedSet<E> extends Collection<E> {
+
+    /**
+     * Adds the specified element to this set if it is not already present.
+     *
+     * @param element element to be added to this set
+     * @return {@code true} if this set did not already contain the specified element
+     * @throws NullPointerException     if the specified element is null and this set does not
+     *                                  permit null elements
+     * @throws IllegalArgumentException if this set has a restricted range and the element lies
+     *                                  outside it
+     */
+    boolean add(E element);
+
+    /**
+     * Removes the specified element from this set if it is present.
+     *
+     * @param element element to be removed from this set, if present
+     * @return {@code true} if this set contained the specified element
+     * @throws NullPointerException if the specified element is null and this set does not
+     *                              permit null elements
+     */
+    boolean remove(E element);
+
+    /**
+     * Returns the comparator used to order the elements in this set, or {@code null} if this
+     * set uses the natural ordering of its elements.
+     *
+     * @return the comparator used to order the elements in this set, or {@code null}
+     */
+    Comparator<? super E> comparator();
+
+    /**
+     * Returns the first (lowest) element currently in this set.
+     *
+     * @return the first (lowest) element currently in this set
+     * @throws java.util.NoSuchElementException if this set is empty
+     */
+    E first();
+
+    /**
+     * Returns the last (highest) element currently in this set.
+     *
+     * @return the last (highest) element currently in this set
+     * @throws java.util.NoSuchElementException if this set is empty
+     */
+    E last();
+
+    /**
+     * Returns the greatest element in this set less than or equal to the given element, or
+     * {@code null} if there is no such element.
+     *
+     * @param element the value to match
+     * @return the greatest element less than or equal to {@code element}, or {@code null}
+     */
+    E floor(E element);
+
+    /**
+     * Returns the least element in this set greater than or equal to the given element, or
+     * {@code null} if there is no such element.
+     *
+     * @param element the value to match
+     * @return the least element greater than or equal to {@code element}, or {@code null}
+     */
+    E ceiling(E element);
+
+    /**
+     * Returns the greatest element in this set strictly less than the given element, or
+     * {@code null} if there is no such element.
+     *
+     * @param element the value to match
+     * @return the greatest element less than {@code element}, or {@code null}
+     */
+    E lower(E element);
+
+    /**
+     * Returns the least element in this set strictly greater than the given element, or
+     * {@code null} if there is no such element.
+     *
+     * @param element the value to match
+     * @return the least element greater than {@code element}, or {@code null}
+     */
+    E higher(E element);
+
+    /**
+     * Returns a view of the portion of this set whose elements range from {@code fromElement}
+     * to {@code toElement}.
+     *
+     * @param fromElement   low endpoint of the returned set
+     * @param fromInclusive {@code true} if the low endpoint is to be included in the returned view
+     * @param toElement     high endpoint of the returned set
+     * @param toInclusive   {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this set whose elements range from {@code fromElement} to
+     * {@code toElement}
+     * @throws IllegalArgumentException if {@code fromElement} is greater than {@code toElement},
+     *                                  or if this set has a restricted range and the endpoints lie
+     *                                  outside it
+     */
+    SortedSet<E> subSet(E fromElement, boolean fromInclusive, E toElement, boolean toInclusive);
+
+    /**
+     * Returns a view of the portion of this set whose elements are less than (or equal to, if
+     * {@code inclusive} is true) {@code toElement}.
+     *
+     * @param toElement high endpoint of the returned set
+     * @param inclusive {@code true} if the high endpoint is to be included in the returned view
+     * @return a view of the portion of this set whose elements are less than {@code toElement}
+     * @throws IllegalArgumentException if this set has a restricted range and {@code toElement}
+     *                                  lies outside it
+     */
+    SortedSet<E> headSet(E toElement, boolean inclusive);
+
+    /**
+     * Returns a view of the portion of this set whose elements are greater than (or equal to,
+     * if {@code inclusive} is true) {@code fromElement}.
+     *
+     * @param fromElement low endpoint of the returned set
+     * @param inclusive   {@code true} if the low endpoint is to be included in the returned view
+     * @return a view of the portion of this set whose elements are greater than {@code fromElement}
+     * @throws IllegalArgumentException if this set has a restricted range and {@code fromElement}
+     *                                  lies outside it
+     */
+    SortedSet<E> tailSet(E fromElement, boolean inclusive);
+}
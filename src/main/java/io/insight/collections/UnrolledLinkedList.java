@@ -0,0 +1,679 @@
+package io.insight.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+
+/**
+ * Doubly linked list of small arrays, an unrolled linked list. Every node holds up to
+ * {@code nodeCapacity} elements (32 by default) next to each other, so a traversal touches one
+ * node per {@code nodeCapacity} elements instead of one per element, and the per-element memory
+ * overhead is a fraction of a {@link LinkedList} node.
+ * <p>
+ * Adding to and removing from either end stay constant time. A full node is split in halves on
+ * insert, and a node less than half full is refilled from, or merged with, its successor on
+ * remove, so every node but the last stays at least half full.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+
+    /**
+     * Default number of elements a node holds.
+     */
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+    /**
+     * Number of elements a node holds.
+     */
+    private final int nodeCapacity;
+    /**
+     * First node, {@code null} if the list is empty.
+     */
+    private Node head;
+    /**
+     * Last node, {@code null} if the list is empty.
+     */
+    private Node tail;
+    /**
+     * Keep the current index of the latest value.
+     */
+    private int size;
+    /**
+     * Offset of the element within the node returned by the last {@link #node(int)} call.
+     */
+    private int nodeOffset;
+
+    /**
+     * Default constructor implementation, the nodes hold {@code 32} elements each.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Overloaded constructor implementation with the number of elements a node holds.
+     *
+     * @param nodeCapacity number of elements a node holds, 32 to 64 fits a couple of cache lines
+     *                     of references.
+     * @throws IllegalArgumentException if the {@code nodeCapacity} is less than {@code 4}.
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 4) {
+            throw new IllegalArgumentException(format("Invalid node capacity: %d", nodeCapacity));
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Overloaded constructor implementation with {@link Collection} to initialize an
+     * {@link UnrolledLinkedList} instance with default dataset provided.
+     * <p>
+     * If the {@code elements} parameter value is null, still creates the {@link UnrolledLinkedList}
+     * with empty collection.
+     *
+     * @param elements to initialize an {@link UnrolledLinkedList} with data.
+     */
+    public UnrolledLinkedList(@Nullable Collection<T> elements) {
+        this(DEFAULT_NODE_CAPACITY);
+        if (elements != null) {
+            addAll(elements);
+        }
+    }
+
+    /**
+     * Appends the specified element to the end of this list. A new node is linked when the last
+     * node is full, the existing elements are not moved.
+     *
+     * @param element element to be appended to this list
+     * @return {@code true} if append success
+     */
+    @Override
+    public boolean add(T element) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail);
+        }
+        tail.values[tail.count++] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. Shifts the elements of
+     * the same node after that position to the right, a full node is split in halves first.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @return {@code true} if insert success
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index > size())}
+     */
+    @Override
+    public boolean add(int index, T element) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(format("UnrolledLinkedList index is out of bound: %d", index));
+        }
+        if (index == size) {
+            return add(element);
+        }
+
+        Node node = node(index);
+        int offset = nodeOffset;
+
+        if (node.count == nodeCapacity) {
+            final Node split = linkAfter(node);
+            final int half = nodeCapacity >> 1;
+            System.arraycopy(node.values, half, split.values, 0, nodeCapacity - half);
+            Arrays.fill(node.values, half, nodeCapacity, null);
+            split.count = nodeCapacity - half;
+            node.count = half;
+
+            if (offset > half) {
+                node = split;
+                offset -= half;
+            }
+        }
+
+        System.arraycopy(node.values, offset, node.values, offset + 1, node.count - offset);
+        node.values[offset] = element;
+        node.count++;
+        size++;
+
+        return true;
+    }
+
+    /**
+     * Appends all the elements in the specified collection to the end of this list, in the order
+     * that they are returned by the specified collection's iterator.
+     *
+     * @param elements collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean addAll(@NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (T element : elements) {
+            add(element);
+        }
+        return !elements.isEmpty();
+    }
+
+    /**
+     * Inserts all the elements in the specified collection into this list at the specified
+     * position, in the order that they are returned by the specified collection's iterator.
+     *
+     * @param index    index at which to insert the first element from the specified collection
+     * @param elements collection containing elements to be added to this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException      if the specified collection is null
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index > size())}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean addAll(int index, @NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(format("UnrolledLinkedList index is out of bound: %d", index));
+        }
+
+        final Object[] els = elements.toArray();
+        for (int i = 0; i < els.length; i++) {
+            add(index + i, (T) els[i]);
+        }
+        return els.length != 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list. Walks node by node from the
+     * nearer end.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        final Node node = node(index);
+        return (T) node.values[nodeOffset];
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or
+     * {@code -1} if this list does not contain the element.
+     *
+     * @param element element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if
+     * this list does not contain the element
+     */
+    @Override
+    public int indexOf(T element) {
+        int start = 0;
+        for (Node node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(element, node.values[i])) {
+                    return start + i;
+                }
+            }
+            start += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the element at the specified position in this list. Shifts the elements of the same
+     * node after that position to the left, and refills or merges the node if it falls below half
+     * full.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T remove(int index) {
+        checkIndex(index);
+
+        Node node = node(index);
+        int offset = nodeOffset;
+
+        final T val = (T) node.values[offset];
+        System.arraycopy(node.values, offset + 1, node.values, offset, node.count - offset - 1);
+        node.values[--node.count] = null;
+        size--;
+        rebalance(node);
+
+        return val;
+    }
+
+    /**
+     * Removes all the instances of the specified element from this list, compacting the nodes in
+     * a single pass.
+     *
+     * @param element the element to be removed
+     * @return number of elements removed
+     */
+    @Override
+    public int remove(T element) {
+        final int before = size;
+        removeMatching(e -> Objects.equals(element, e));
+        return before - size;
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained in the specified collection.
+     *
+     * @param elements collection containing elements to be removed from this list
+     * @return {@code true} if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean removeAll(@NotNull Collection<? extends T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        final Collection<T> others = (Collection<T>) elements;
+        final int before = size;
+        removeMatching(others::contains);
+        return before != size;
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range, {@code (index < 0 || index >= size())}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T set(int index, T element) {
+        checkIndex(index);
+
+        final Node node = node(index);
+        final T val = (T) node.values[nodeOffset];
+        node.values[nodeOffset] = element;
+        return val;
+    }
+
+    /**
+     * Removes all the elements from this collection.
+     */
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+    }
+
+    /**
+     * Returns true if this collection contains the specified element.
+     *
+     * @param element whose presence in this collection is to be tested
+     * @return {@code true} if this collection contains the specified element
+     */
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Returns true if this collection contains all the elements in the specified collection.
+     *
+     * @param elements collection to be checked for containment in this collection
+     * @return {@code true} if this collection contains all the elements in the specified collection
+     * @throws NullPointerException if the specified collection is null
+     */
+    @Override
+    public boolean containsAll(@NotNull Collection<T> elements) {
+        Objects.requireNonNull(elements, "Collection instance is null");
+        for (T element : elements) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return an exact copy of this {@link UnrolledLinkedList} with new references, the nodes of
+     * the copy are full.
+     *
+     * @return a new instance of this {@link UnrolledLinkedList}.
+     */
+    @Override
+    public UnrolledLinkedList<T> copy() {
+        final UnrolledLinkedList<T> copy = new UnrolledLinkedList<>(nodeCapacity);
+        for (T element : this) {
+            copy.add(element);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns {@code true} if this collection contains no elements.
+     *
+     * @return {@code true} if this collection contains no elements.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this collection.
+     *
+     * @return the number of elements in this collection.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an array containing all the elements in this collection, in list order.
+     *
+     * @return an array, whose runtime component type is Object, containing all the elements in
+     * this collection
+     */
+    @Override
+    public Object[] toArray() {
+        return copyInto(new Object[size]);
+    }
+
+    /**
+     * Returns an array containing all the elements in this collection, in list order; the runtime
+     * type of the returned array is that of the specified array.
+     *
+     * @param collector the array into which the elements of this collection are to be stored, if
+     *                  it is big enough; otherwise, a new array of the same runtime type is
+     *                  allocated for this purpose.
+     * @return an array containing all the elements in this collection
+     * @throws ArrayStoreException  if the runtime type of any element in this collection is not
+     *                              assignable to the runtime component type of the specified array
+     * @throws NullPointerException if the specified array is null.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <E> E[] toArray(@NotNull E[] collector) {
+        Objects.requireNonNull(collector, "Runtime type array is null");
+        if (size > collector.length) {
+            collector = (E[]) Array.newInstance(collector.getClass().getComponentType(), size);
+        }
+        return copyInto(collector);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     *
+     * @return an Iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Node of the next element.
+             */
+            private Node node = head;
+            /**
+             * Offset of the next element within the {@link #node}.
+             */
+            private int offset = 0;
+
+            @Override
+            public boolean hasNext() {
+                return node != null && offset < node.count;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException(format("UnrolledLinkedList size %d exceeded", size));
+
+                final T val = (T) node.values[offset++];
+                if (offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+                return val;
+            }
+        };
+    }
+
+    /**
+     * Check whether the index points to an existing element.
+     *
+     * @param index to be checked.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    private void checkIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException(format("UnrolledLinkedList index is out of bound: %d", index));
+        }
+    }
+
+    /**
+     * Find the node of the element at {@code index}, walking node by node from the nearer end,
+     * and keep the offset of the element within it in {@link #nodeOffset}.
+     *
+     * @param index of the element, {@code 0 <= index < size}.
+     * @return the node holding the element.
+     */
+    private Node node(int index) {
+        Node node;
+        int offset;
+        if (index > (size >> 1)) {
+            node = tail;
+            offset = index - (size - tail.count);
+            while (offset < 0) {
+                node = node.previous;
+                offset += node.count;
+            }
+        } else {
+            node = head;
+            offset = index;
+            while (offset >= node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+        }
+
+        nodeOffset = offset;
+        return node;
+    }
+
+    /**
+     * Link a new empty node after the given one, or as the first node if {@code previous} is null.
+     *
+     * @param previous node to link after.
+     * @return the new node.
+     */
+    private Node linkAfter(Node previous) {
+        final Node node = new Node(nodeCapacity);
+        node.previous = previous;
+        if (previous == null) {
+            node.next = head;
+            head = node;
+        } else {
+            node.next = previous.next;
+            previous.next = node;
+        }
+
+        if (node.next == null) {
+            tail = node;
+        } else {
+            node.next.previous = node;
+        }
+        return node;
+    }
+
+    /**
+     * Unlink the given node.
+     *
+     * @param node to be unlinked.
+     */
+    private void unlink(Node node) {
+        if (node.previous == null) {
+            head = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+    }
+
+    /**
+     * Restore the half full invariant of a node after a removal. An empty node is unlinked, a node
+     * below half full is merged with its successor if they fit in one node, and refilled from its
+     * successor otherwise.
+     *
+     * @param node the node an element has been removed from.
+     */
+    private void rebalance(Node node) {
+        if (node.count == 0) {
+            unlink(node);
+            return;
+        }
+
+        final int half = nodeCapacity >> 1;
+        final Node next = node.next;
+        if (node.count >= half || next == null) {
+            return;
+        }
+
+        final int moved = next.count + node.count <= nodeCapacity ? next.count : half - node.count;
+        System.arraycopy(next.values, 0, node.values, node.count, moved);
+        node.count += moved;
+
+        System.arraycopy(next.values, moved, next.values, 0, next.count - moved);
+        Arrays.fill(next.values, next.count - moved, next.count, null);
+        next.count -= moved;
+        if (next.count == 0) {
+            unlink(next);
+        }
+    }
+
+    /**
+     * Remove all the elements matching the {@code filter}, compacting the surviving elements
+     * towards the head in a single pass and unlinking the emptied nodes at the tail. The nodes
+     * before the first match are left as they are, and the list is not modified at all if no
+     * element matches.
+     *
+     * @param filter to match the elements to be removed.
+     */
+    @SuppressWarnings("unchecked")
+    private void removeMatching(Predicate<? super T> filter) {
+        Node target = head;
+        int targetCount = -1;
+        int before = 0;
+        for (; target != null; target = target.next) {
+            for (int i = 0; i < target.count; i++) {
+                if (filter.test((T) target.values[i])) {
+                    targetCount = i;
+                    break;
+                }
+            }
+            if (targetCount >= 0) {
+                break;
+            }
+            before += target.count;
+        }
+        if (target == null) {
+            return;
+        }
+
+        int kept = before + targetCount;
+        Node node = target;
+        int start = targetCount + 1;
+        for (; node != null; node = node.next, start = 0) {
+            for (int i = start; i < node.count; i++) {
+                final T element = (T) node.values[i];
+                if (!filter.test(element)) {
+                    if (targetCount == nodeCapacity) {
+                        target.count = targetCount;
+                        target = target.next;
+                        targetCount = 0;
+                    }
+                    target.values[targetCount++] = element;
+                    kept++;
+                }
+            }
+        }
+
+        if (kept == 0) {
+            clear();
+            return;
+        }
+        if (targetCount == 0) {
+            target = target.previous;
+            targetCount = target.count;
+        }
+
+        Arrays.fill(target.values, targetCount, nodeCapacity, null);
+        target.count = targetCount;
+        target.next = null;
+        tail = target;
+        size = kept;
+    }
+
+    /**
+     * Copy the elements into the given array, in list order.
+     *
+     * @param array to copy into, at least {@link #size} long.
+     * @param <E>   the component type of the array.
+     * @return the given array.
+     */
+    private <E> E[] copyInto(E[] array) {
+        int start = 0;
+        for (Node node = head; node != null; node = node.next) {
+            System.arraycopy(node.values, 0, array, start, node.count);
+            start += node.count;
+        }
+        return array;
+    }
+
+    /**
+     * Node of an {@link UnrolledLinkedList}, holds up to {@code nodeCapacity} elements.
+     */
+    private static final class Node {
+
+        /**
+         * Elements of this node, the first {@link #count} slots are occupied.
+         */
+        private final Object[] values;
+        /**
+         * Number of elements in this node.
+         */
+        private int count;
+        /**
+         * Previous node, {@code null} for the head.
+         */
+        private Node previous;
+        /**
+         * Next node, {@code null} for the tail.
+         */
+        private Node next;
+
+        /**
+         * Create an empty node.
+         *
+         * @param capacity number of elements the node holds.
+         */
+        private Node(int capacity) {
+            this.values = new Object[capacity];
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.insight.collections;
+
+/**
+ * Switch of the SIMD code paths of the primitive lists, {@link IntArrayList},
+ * {@link LongArrayList} and {@link DoubleArrayList}. With the switch on, their searches and
+ * aggregations scan the backing array with the incubating Vector API, a full vector of
+ * elements per step, instead of an element per step.
+ * <p>
+ * The vector paths are taken only if the {@code jdk.incubator.vector} module is resolved at
+ * runtime, by starting the JVM with {@code --add-modules jdk.incubator.vector}, and the
+ * {@value #PROPERTY} system property is not {@code false}. Otherwise, the primitive lists run
+ * their scalar loops, and the vector classes are never loaded. The decision is read once into
+ * the static final {@link #ENABLED} flag, so the JIT compiler folds away the path not taken.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0
+ */
+public final class VectorSupport {
+
+    /**
+     * System property to set to {@code false} to switch the vector paths off.
+     */
+    public static final String PROPERTY = "io.insight.collections.vector";
+    /**
+     * Name of the module of the Vector API.
+     */
+    public static final String MODULE = "jdk.incubator.vector";
+    /**
+     * Whether the vector paths are switched on, fixed at class initialization.
+     */
+    public static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty(PROPERTY))
+            && ModuleLayer.boot().findModule(MODULE).isPresent();
+
+    /**
+     * Not to be instantiated.
+     */
+    private VectorSupport() {
+    }
+}
@@ -1,5 +1,8 @@
 module com.traviard.collections {
 
     requires java.base;
+    requires jdk.jfr;
+    requires jdk.unsupported;
     requires org.jetbrains.annotations;
+    requires static jdk.incubator.vector;
 }
\ No newline at end of file
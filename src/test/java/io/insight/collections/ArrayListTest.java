@@ -3,6 +3,8 @@ package io.insight.collections;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.function.ThrowingSupplier;
 
+import java.util.Spliterator;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -264,4 +266,126 @@ public class ArrayListTest {
         //}
 
     }
+
+    @Order(10)
+    @Test
+    @DisplayName("addAll(int, Collection<T>) function test")
+    void addAll2Test() {
+        final ArrayList<Integer> target = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            target.add(i * 100);
+        }
+
+        final ArrayList<Integer> batch = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            batch.add(i);
+        }
+
+        assertTrue(target.addAll(1, batch), "addAll with not empty ArrayList, hasn't made any effect");
+        assertTrue(target.addAll(target.size(), new IntArrayList(7, 8)), "addAll at the end, hasn't made any effect");
+        assertFalse(target.addAll(0, new ArrayList<>()), "addAll with empty Collection, has made an effect");
+        assertThrows(IndexOutOfBoundsException.class, () -> target.addAll(target.size() + 1, batch));
+
+        final Integer[] expected = {0, 1, 2, 3, 100, 200, 300, 7, 8};
+        assertArrayEquals(expected, target.toArray(new Integer[0]), "Elements are not matching, after addAll");
+
+        assertTrue(target.addAll(2, target), "addAll with the same list, hasn't made any effect");
+        assertEquals(expected.length * 2, target.size(), "ArrayList size is invalid, after addAll itself");
+        assertEquals(0, target.get(2), "First self-inserted element is invalid");
+        assertEquals(8, target.get(expected.length + 1), "Last self-inserted element is invalid");
+        assertEquals(2, target.get(expected.length + 2), "Shifted element is invalid");
+    }
+
+    @Order(11)
+    @Test
+    @DisplayName("spliterator(), stream() and parallelStream() function test")
+    void spliteratorTest() {
+        final ArrayList<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(i);
+        }
+
+        final Spliterator<Integer> spliterator = numbers.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED),
+                "Spliterator characteristics are invalid");
+        numbers.add(10_000);
+        assertEquals(10_001, spliterator.estimateSize(), "Spliterator is not late-binding");
+
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        assertNotNull(prefix, "Spliterator is not split");
+        assertEquals(5_000, prefix.estimateSize(), "Prefix size is invalid");
+        assertEquals(5_001, spliterator.estimateSize(), "Suffix size is invalid");
+        assertTrue(prefix.tryAdvance(i -> assertEquals(0, i, "First element is invalid")));
+        assertTrue(spliterator.tryAdvance(i -> assertEquals(5_000, i, "First suffix element is invalid")));
+
+        assertEquals(10_001, numbers.stream().count(), "Stream count is invalid");
+        assertEquals(50_005_000L, numbers.parallelStream().mapToLong(Integer::longValue).sum(),
+                "Parallel stream sum is invalid");
+        assertEquals(java.util.List.of(0, 2, 4), numbers.parallelStream().filter(i -> i % 2 == 0).limit(3).toList(),
+                "Parallel stream encounter order is not kept");
+    }
+
+    @Order(12)
+    @Test
+    @DisplayName("remove(T), removeAll(Collection), retainAll(Collection) and removeIf(Predicate) function test")
+    void removeAllTest() {
+        final ArrayList<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(i % 10 == 0 ? null : i);
+        }
+
+        assertEquals(1_000, numbers.remove((Integer) null), "Removed null elements count is invalid");
+        assertEquals(9_000, numbers.size(), "ArrayList size is invalid, after remove(T)");
+        assertFalse(numbers.contains(null), "Removed null element is still found");
+
+        final ArrayList<Integer> evens = new ArrayList<>();
+        for (int i = 0; i < 10_000; i += 2) {
+            evens.add(i);
+        }
+        assertTrue(numbers.removeAll(evens), "removeAll() with a hashed list returns false");
+        assertEquals(5_000, numbers.size(), "ArrayList size is invalid, after removeAll()");
+        assertEquals(1, numbers.get(0), "First survivor is invalid");
+        assertEquals(3, numbers.get(1), "Survivor order is not kept");
+        assertFalse(numbers.removeAll(evens), "removeAll() without a match returns true");
+
+        final ArrayList<Integer> small = new ArrayList<>();
+        small.add(1);
+        small.add(9_999);
+        small.add(-1);
+        assertTrue(numbers.retainAll(small), "retainAll() returns false");
+        assertArrayEquals(new Object[]{1, 9_999}, numbers.toArray(), "Retained elements are invalid");
+
+        assertThrows(ArithmeticException.class, () -> numbers.removeIf(i -> i / (i - 9_999) > 0));
+        assertEquals(2, numbers.size(), "ArrayList is modified by a failed removeIf()");
+        assertTrue(numbers.removeIf(i -> i > 1), "removeIf() returns false");
+        assertArrayEquals(new Object[]{1}, numbers.toArray(), "Elements are invalid, after removeIf()");
+        assertThrows(NullPointerException.class, () -> numbers.removeAll(null));
+    }
+
+    @Order(13)
+    @Test
+    @DisplayName("forEach(Consumer), forEachIndexed(ObjIntConsumer), replaceAll(UnaryOperator) and setRange(int, T[]) function test")
+    void bulkMutatorTest() {
+        final ArrayList<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            numbers.add(i);
+        }
+
+        final long[] sum = {0};
+        numbers.forEach(i -> sum[0] += i);
+        assertEquals(499_500, sum[0], "forEach() did not visit every element");
+        numbers.forEachIndexed((element, index) -> assertEquals(index, element, "Element index is invalid"));
+
+        numbers.replaceAll(i -> i * 2);
+        assertEquals(1_998, numbers.get(999), "Replaced element is invalid");
+        assertEquals(1_000, numbers.size(), "ArrayList size is changed by replaceAll()");
+
+        numbers.setRange(997, new Integer[]{-1, -2, -3});
+        assertEquals(1_992, numbers.get(996), "Element before the range is replaced");
+        assertArrayEquals(new Integer[]{-1, -2, -3}, new Integer[]{numbers.get(997), numbers.get(998), numbers.get(999)},
+                "Range elements are invalid");
+        assertThrows(IndexOutOfBoundsException.class, () -> numbers.setRange(998, new Integer[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> numbers.setRange(-1, new Integer[0]));
+        assertThrows(NullPointerException.class, () -> numbers.replaceAll(null));
+    }
 }
@@ -0,0 +1,193 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BTreeMap functionality unit tests")
+public class BTreeMapTest {
+
+    /**
+     * Elements count to insert to new {@link BTreeMap}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10_000;
+    /**
+     * New {@link BTreeMap} instance to use across this test class.
+     */
+    private static BTreeMap<Integer, String> map;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        map = new BTreeMap<>();
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(map, "BTreeMap instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("put(K, V), get(K), remove(K) and firstKey() function test")
+    void putTest() {
+        assertTrue(map.isEmpty(), "BTreeMap is not empty before put(K, V) invoke first time");
+        assertThrows(NoSuchElementException.class, map::firstKey);
+
+        for (int i = INIT_ELEMENT_COUNT - 1; i >= 0; i--) {
+            assertNull(map.put(i * 2, String.valueOf(i * 2)), "Previous value of a new key is not null");
+        }
+        assertEquals(INIT_ELEMENT_COUNT, map.size(), "BTreeMap size is invalid");
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(String.valueOf(i * 2), map.get(i * 2), "Mapped value is invalid");
+            assertFalse(map.containsKey(i * 2 + 1), "Absent key is found");
+        }
+        assertEquals(0, map.firstKey(), "First key is invalid");
+        assertEquals((INIT_ELEMENT_COUNT - 1) * 2, map.lastKey(), "Last key is invalid");
+
+        assertEquals("10", map.put(10, "ten"), "Previous value is invalid");
+        assertEquals("ten", map.remove(10), "Removed value is invalid");
+        assertNull(map.remove(10), "Removed key is still found");
+        assertEquals("11!", map.merge(11, "11!", (a, b) -> a + b), "Merged value is invalid");
+        assertEquals("10", map.computeIfAbsent(10, String::valueOf), "Computed absent value is invalid");
+        assertNull(map.compute(11, (k, v) -> null), "Computed value is not null");
+        assertEquals(INIT_ELEMENT_COUNT, map.size(), "BTreeMap size is invalid, after remove");
+
+        assertThrows(NullPointerException.class, () -> map.put(null, "null"));
+        assertThrows(NullPointerException.class, () -> map.get(null));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("floorKey(K), ceilingKey(K), lowerKey(K) and higherKey(K) function test")
+    void relativeKeyTest() {
+        assertEquals(100, map.floorKey(101), "Floor key is invalid");
+        assertEquals(100, map.floorKey(100), "Floor key is invalid");
+        assertEquals(102, map.ceilingKey(101), "Ceiling key is invalid");
+        assertEquals(98, map.lowerKey(100), "Lower key is invalid");
+        assertEquals(102, map.higherKey(100), "Higher key is invalid");
+        assertNull(map.lowerKey(0), "Lower key of the first key is not null");
+        assertNull(map.higherKey(map.lastKey()), "Higher key of the last key is not null");
+        assertEquals(0, map.ceilingKey(-5), "Ceiling key below the first key is invalid");
+
+        final BTreeMap<Integer, String> reversed = new BTreeMap<>(Comparator.reverseOrder());
+        for (int i = 0; i < 1_000; i++) {
+            reversed.put(i, String.valueOf(i));
+        }
+        assertEquals(999, reversed.firstKey(), "First key of the reversed map is invalid");
+        assertEquals(499, reversed.higherKey(500), "Higher key of the reversed map is invalid");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("subMap(K, boolean, K, boolean), headMap(K) and tailMap(K) function test")
+    void rangeViewTest() {
+        final BTreeMap<Integer, String> sub = map.subMap(1_000, true, 2_000, false);
+        assertEquals(500, sub.size(), "Sub map size is invalid");
+        assertEquals(1_000, sub.firstKey(), "Sub map first key is invalid");
+        assertEquals(1_998, sub.lastKey(), "Sub map last key is invalid");
+        assertEquals(1_000, sub.ceilingKey(0), "Sub map ceiling key below the range is invalid");
+        assertNull(sub.floorKey(0), "Sub map floor key below the range is not null");
+        assertNull(sub.get(2_000), "Sub map key out of range is found");
+        assertThrows(IllegalArgumentException.class, () -> sub.put(2_000, "2000"));
+        assertThrows(IllegalArgumentException.class, () -> sub.subMap(0, 1_500));
+
+        sub.put(1_001, "1001");
+        assertEquals("1001", map.get(1_001), "Sub map put is not visible in the map");
+        map.remove(1_002);
+        assertEquals(500, sub.size(), "Map remove is not visible in the sub map");
+
+        int count = 0;
+        int previous = Integer.MIN_VALUE;
+        for (int key : sub) {
+            assertTrue(key > previous, "Sub map keys are not in ascending order");
+            previous = key;
+            count++;
+        }
+        assertEquals(sub.size(), count, "Sub map iterated keys count is invalid");
+
+        assertEquals(50, map.headMap(100).size(), "Head map size is invalid");
+        assertEquals(51, map.headMap(100, true).size(), "Inclusive head map size is invalid");
+        assertEquals(INIT_ELEMENT_COUNT - 50, map.tailMap(100).size(), "Tail map size is invalid");
+
+        sub.clear();
+        assertTrue(sub.isEmpty(), "Sub map is not empty after clear()");
+        assertEquals(INIT_ELEMENT_COUNT - 500, map.size(), "Map size is invalid, after sub map clear()");
+        assertEquals(998, map.lowerKey(2_000), "Lower key across the cleared range is invalid");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("fromSorted(Comparator, K[], V[]), copy() and cursor() function test")
+    void bulkLoadTest() {
+        final Integer[] keys = new Integer[INIT_ELEMENT_COUNT];
+        final String[] values = new String[INIT_ELEMENT_COUNT];
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            keys[i] = i;
+            values[i] = String.valueOf(i);
+        }
+        final BTreeMap<Integer, String> loaded = BTreeMap.fromSorted(null, keys, values);
+        assertEquals(INIT_ELEMENT_COUNT, loaded.size(), "Bulk loaded map size is invalid");
+        assertArrayEquals(keys, loaded.toArray(new Integer[0]), "Bulk loaded keys are invalid");
+
+        final TreeMap<Integer, String> expected = new TreeMap<>();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            expected.put(i, String.valueOf(i));
+        }
+        final Random random = new Random(INIT_ELEMENT_COUNT);
+        for (int i = 0; i < INIT_ELEMENT_COUNT * 2; i++) {
+            final int key = random.nextInt(INIT_ELEMENT_COUNT * 2);
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, "v" + i), loaded.put(key, "v" + i), "Previous value is invalid");
+            } else {
+                assertEquals(expected.remove(key), loaded.remove(key), "Removed value is invalid");
+            }
+        }
+        assertArrayEquals(expected.keySet().toArray(), loaded.toArray(), "Keys are invalid, after updates");
+
+        final BTreeMap<Integer, String> copy = loaded.tailMap(5_000, true).copy();
+        assertEquals(expected.tailMap(5_000).size(), copy.size(), "Copied view size is invalid");
+        copy.put(-1, "-1");
+        assertFalse(loaded.containsKey(-1), "Copy put is visible in the original map");
+
+        final Map.Cursor<Integer, String> cursor = copy.cursor();
+        assertThrows(IllegalStateException.class, cursor::key);
+        while (cursor.advance()) {
+            cursor.setValue(String.valueOf(cursor.key()));
+        }
+        for (int key : copy) {
+            assertEquals(String.valueOf(key), copy.get(key), "Cursor setValue(V) is not visible");
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> BTreeMap.fromSorted(null, new Integer[]{2, 1}, new String[2]));
+        assertThrows(IllegalArgumentException.class, () -> BTreeMap.fromSorted(null, new Integer[]{1}, new String[2]));
+    }
+}
@@ -0,0 +1,104 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("BTreeSet functionality unit tests")
+public class BTreeSetTest {
+
+    /**
+     * Elements count to insert to new {@link BTreeSet}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10_000;
+    /**
+     * New {@link BTreeSet} instance to use across this test class.
+     */
+    private static BTreeSet<String> set;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        set = new BTreeSet<>();
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(set, "BTreeSet instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("add(E), remove(E) and contains(E) function test")
+    void addTest() {
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertTrue(set.add("%05d".formatted(i)), "New element is not added");
+        }
+        assertFalse(set.add("00000"), "Duplicate element is added");
+        assertEquals(INIT_ELEMENT_COUNT, set.size(), "BTreeSet size is invalid");
+
+        assertTrue(set.remove("00500"), "Existing element is not removed");
+        assertFalse(set.remove("00500"), "Absent element is removed");
+        assertFalse(set.contains("00500"), "Removed element is found");
+        assertTrue(set.contains("00501"), "Existing element is not found");
+        assertThrows(NullPointerException.class, () -> set.add(null));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("first(), floor(E), higher(E) and subSet(E, boolean, E, boolean) function test")
+    void navigationTest() {
+        assertEquals("00000", set.first(), "First element is invalid");
+        assertEquals("09999", set.last(), "Last element is invalid");
+        assertEquals("00499", set.floor("00500"), "Floor element is invalid");
+        assertEquals("00501", set.higher("00499"), "Higher element is invalid");
+        assertNull(set.lower("00000"), "Lower element of the first element is not null");
+
+        final BTreeSet<String> sub = set.subSet("00100", true, "00200", true);
+        assertEquals(101, sub.size(), "Sub set size is invalid");
+        assertThrows(IllegalArgumentException.class, () -> sub.add("00300"));
+        sub.clear();
+        assertEquals(INIT_ELEMENT_COUNT - 102, set.size(), "Set size is invalid, after sub set clear()");
+        assertEquals("00201", set.ceiling("00100"), "Ceiling element across the cleared range is invalid");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("fromSorted(Comparator, E[]) and copy() function test")
+    void bulkLoadTest() {
+        final String[] elements = set.toArray(new String[0]);
+        final BTreeSet<String> loaded = BTreeSet.fromSorted(null, elements);
+        assertEquals(set.size(), loaded.size(), "Bulk loaded set size is invalid");
+
+        int count = 0;
+        for (String element : loaded) {
+            assertEquals(elements[count++], element, "Bulk loaded element is invalid");
+        }
+
+        final BTreeSet<String> copy = loaded.headSet("01000", false).copy();
+        assertEquals(1_000 - 101 - 1, copy.size(), "Copied view size is invalid");
+        assertThrows(IllegalArgumentException.class, () -> BTreeSet.fromSorted(null, new String[]{"b", "a"}));
+    }
+}
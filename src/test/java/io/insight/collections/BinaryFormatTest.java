@@ -0,0 +1,170 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("Binary format functionality unit tests")
+public class BinaryFormatTest {
+
+    /**
+     * Elements count to insert to new {@link ArrayList}, more than a staging buffer holds.
+     */
+    private static final int INIT_ELEMENT_COUNT = 100_000;
+    /**
+     * New {@link ArrayList} instance to use across this test class.
+     */
+    private static ArrayList<Long> list;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        list = new ArrayList<>();
+        for (long i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            list.add(i * i - i);
+        }
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(list, "ArrayList instance is null");
+        assertEquals(INIT_ELEMENT_COUNT, list.size(), "ArrayList size is invalid");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("ArrayList writeTo(WritableByteChannel, ElementCodec) and readFrom(ByteBuffer, ElementCodec) function test")
+    void arrayListTest() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (WritableByteChannel channel = Channels.newChannel(out)) {
+            list.writeTo(channel, ElementCodec.LONG);
+            new ArrayList<Long>().writeTo(channel, ElementCodec.LONG);
+        }
+        assertEquals(1 + 1 + 3 + INIT_ELEMENT_COUNT * Long.BYTES + 3, out.size(), "Encoded size is invalid");
+
+        final ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        final ArrayList<Long> read = ArrayList.readFrom(buffer, ElementCodec.LONG);
+        assertArrayEquals(list.toArray(), read.toArray(), "Read elements are invalid");
+        assertTrue(ArrayList.readFrom(buffer, ElementCodec.LONG).isEmpty(), "Second read list is not empty");
+        assertFalse(buffer.hasRemaining(), "Buffer is not consumed");
+
+        read.add(-1L);
+        assertEquals(INIT_ELEMENT_COUNT + 1, read.size(), "Read list is not modifiable");
+        assertThrows(IllegalArgumentException.class, () -> ArrayList.readFrom(buffer.rewind(), ElementCodec.INT));
+        assertThrows(BufferUnderflowException.class,
+                () -> ArrayList.readFrom(ByteBuffer.wrap(out.toByteArray(), 0, 1_000), ElementCodec.LONG));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("HashMap writeTo(WritableByteChannel, ElementCodec, ElementCodec) and readFrom(ByteBuffer, ElementCodec, ElementCodec) function test")
+    void hashMapTest() throws IOException {
+        final HashMap<Integer, Double> map = new HashMap<>();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            map.put(i * 31, i / 2.0);
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (WritableByteChannel channel = Channels.newChannel(out)) {
+            map.writeTo(channel, ElementCodec.INT, ElementCodec.DOUBLE);
+        }
+        final HashMap<Integer, Double> read = HashMap.readFrom(ByteBuffer.wrap(out.toByteArray()), ElementCodec.INT, ElementCodec.DOUBLE);
+        assertEquals(map.size(), read.size(), "Read map size is invalid");
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(i / 2.0, read.get(i * 31), "Read value is invalid");
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> ArrayList.readFrom(ByteBuffer.wrap(out.toByteArray()), ElementCodec.INT));
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("LongArrayList writeTo(WritableByteChannel) and readFrom(ByteBuffer) function test")
+    void primitiveTest() throws IOException {
+        final LongArrayList primitives = new LongArrayList(list);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (WritableByteChannel channel = Channels.newChannel(out)) {
+            primitives.writeTo(channel);
+            list.writeTo(channel, ElementCodec.LONG);
+            new IntArrayList().writeTo(channel);
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        final ArrayList<Long> boxed = ArrayList.readFrom(buffer, ElementCodec.LONG);
+        final LongArrayList unboxed = LongArrayList.readFrom(buffer);
+        assertArrayEquals(list.toArray(), boxed.toArray(), "Primitive list read as boxed is invalid");
+        assertArrayEquals(primitives.toLongArray(), unboxed.toLongArray(), "Boxed list read as primitive is invalid");
+        assertEquals(0, IntArrayList.readFrom(buffer).size(), "Empty list read is not empty");
+        assertFalse(buffer.hasRemaining(), "Buffer is not consumed");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("BinaryListView over a mapped file function test")
+    void viewTest() throws IOException {
+        final Path file = Files.createTempFile("binary-list", ".bin");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                list.writeTo(channel, ElementCodec.LONG);
+            }
+
+            final MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            final BinaryListView<Long> view = new BinaryListView<>(buffer, ElementCodec.LONG);
+            assertEquals(INIT_ELEMENT_COUNT, view.size(), "View size is invalid");
+            assertEquals(list.get(12_345), view.get(12_345), "Viewed element is invalid");
+            assertEquals(777, view.indexOf(777L * 777 - 777), "Viewed element index is invalid");
+            assertArrayEquals(list.toArray(new Long[0]), view.toArray(new Long[0]), "Viewed elements are invalid");
+
+            long expected = 0;
+            for (long element : view) {
+                assertEquals(expected * expected - expected, element, "Iterated element is invalid");
+                expected++;
+            }
+            assertEquals(INIT_ELEMENT_COUNT, expected, "Iterated elements count is invalid");
+
+            assertThrows(UnsupportedOperationException.class, () -> view.add(1L));
+            assertThrows(UnsupportedOperationException.class, () -> view.set(0, 1L));
+            assertThrows(IndexOutOfBoundsException.class, () -> view.get(INIT_ELEMENT_COUNT));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs with the {@value CollectionStats#PROPERTY} system property set by the build, skipped
+ * otherwise.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("CollectionStats functionality unit tests")
+public class CollectionStatsTest {
+
+    /**
+     * Elements count to insert to the maps under test.
+     */
+    private static final int INIT_ELEMENT_COUNT = 1_000;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        assumeTrue(CollectionStats.ENABLED, "CollectionStats is not enabled");
+    }
+
+    /**
+     * Reset the counters left by the other tests.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        CollectionStats.reset();
+        assertEquals(0, CollectionStats.snapshot().resizes(), "Resizes count is not reset");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("ArrayList resizes and shifts count test")
+    void arrayListTest() {
+        final ArrayList<Integer> list = new ArrayList<>(2, GrowthPolicy.doubling());
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.remove(0);
+
+        final CollectionStats stats = CollectionStats.snapshot();
+        assertEquals(1, stats.resizes(), "Resizes count is invalid");
+        assertEquals(2, stats.shifts(), "Shifts count is invalid");
+        assertEquals(16, stats.shiftDistance(), "Shift distance is invalid");
+        assertEquals(18L * CollectionStats.REFERENCE_BYTES, stats.bytesCopied(), "Bytes copied is invalid");
+
+        list.add(list.size(), 8);
+        final ArrayList<Integer> tail = new ArrayList<>();
+        tail.add(9);
+        tail.add(10);
+        list.addAll(list.size(), tail);
+        list.remove(list.size() - 1);
+        list.removeIf(i -> i >= 8);
+        assertEquals(8, list.size(), "ArrayList size is invalid");
+        assertEquals(2, CollectionStats.snapshot().shifts(), "Appends and tail removals are counted as shifts");
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("LinkedList node hops count test")
+    void linkedListTest() {
+        final LinkedList<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        CollectionStats.reset();
+
+        assertEquals(50, list.get(50), "Element is invalid");
+        assertEquals(52, list.get(52), "Element is invalid");
+
+        final CollectionStats stats = CollectionStats.snapshot();
+        assertEquals(2, stats.nodeWalks(), "Node walks count is invalid");
+        assertEquals(51, stats.nodeHops(), "Node hops count is invalid");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("HashMap and LongLongMap probes and rehashes count test")
+    void hashMapTest() {
+        final HashMap<Integer, Integer> map = new HashMap<>();
+        final LongLongMap primitives = new LongLongMap();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            map.put(i, i);
+            primitives.put(i, i);
+        }
+        assertTrue(CollectionStats.snapshot().resizes() >= 2, "Rehashes are not counted");
+
+        CollectionStats.reset();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(i, map.get(i), "Mapped value is invalid");
+        }
+        assertFalse(primitives.containsKey(-1), "Absent key is found");
+
+        final CollectionStats stats = CollectionStats.snapshot();
+        assertEquals(INIT_ELEMENT_COUNT + 1, stats.probes(), "Probes count is invalid");
+        assertTrue(stats.averageProbeLength() >= 1 && stats.averageProbeLength() < 4,
+                "Average probe length is invalid: %f".formatted(stats.averageProbeLength()));
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("forEach(ObjLongConsumer) and toString() function test")
+    void exportTest() {
+        final ArrayList<Integer> list = new ArrayList<>(1, GrowthPolicy.doubling());
+        list.add(1);
+        list.add(2);
+
+        final java.util.Map<String, Long> registry = new java.util.LinkedHashMap<>();
+        final CollectionStats stats = CollectionStats.snapshot();
+        stats.forEach(registry::put);
+        assertEquals(8, registry.size(), "Exported counters count is invalid");
+        assertEquals(1, registry.get("resizes"), "Exported resizes count is invalid");
+        assertEquals(0, registry.get("probe.length"), "Exported probe length is invalid");
+        assertTrue(stats.toString().startsWith("CollectionStats{resizes=1, bytes.copied="),
+                "String representation is invalid: " + stats);
+        assertThrows(NullPointerException.class, () -> stats.forEach(null));
+    }
+}
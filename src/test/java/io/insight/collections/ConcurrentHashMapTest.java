@@ -0,0 +1,212 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("ConcurrentHashMap functionality unit tests")
+public class ConcurrentHashMapTest {
+
+    /**
+     * Elements count to insert to new {@link ConcurrentHashMap}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10_000;
+    /**
+     * Number of threads to update the map concurrently.
+     */
+    private static final int THREAD_COUNT = 4;
+    /**
+     * New {@link ConcurrentHashMap} instance to use across this test class.
+     */
+    private static ConcurrentHashMap<Integer, String> map;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        map = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(map, "ConcurrentHashMap instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("put(K, V), get(K) and remove(K) function test")
+    void putTest() {
+        assertTrue(map.isEmpty(), "ConcurrentHashMap is not empty before put(K, V) invoke first time");
+
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertNull(map.put(i, String.valueOf(i)), "Previous value of a new key is not null");
+        }
+        assertEquals(INIT_ELEMENT_COUNT, map.size(), "ConcurrentHashMap size is invalid");
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(String.valueOf(i), map.get(i), "Mapped value is invalid");
+        }
+
+        assertEquals("5", map.put(5, "five"), "Previous value of an existing key is invalid");
+        assertEquals("five", map.putIfAbsent(5, "5"), "putIfAbsent replaced an existing value");
+        assertEquals("five", map.remove(5), "Removed value is invalid");
+        assertNull(map.remove(5), "Removed key is still mapped");
+        assertFalse(map.containsKey(5), "Removed key is still found");
+        assertEquals("none", map.getOrDefault(5, "none"), "Default value is invalid");
+        assertNull(map.putIfAbsent(5, "5"), "putIfAbsent of an absent key returned a value");
+        assertEquals(INIT_ELEMENT_COUNT, map.size(), "ConcurrentHashMap size is invalid, after remove");
+
+        assertThrows(NullPointerException.class, () -> map.put(null, "null"));
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("compute(K, BiFunction), computeIfAbsent(K, Function) and merge(K, V, BiFunction) function test")
+    void computeTest() {
+        assertEquals("1!", map.compute(1, (k, v) -> v + "!"), "Computed value is invalid");
+        assertNull(map.compute(1, (k, v) -> null), "Computed removal returned a value");
+        assertFalse(map.containsKey(1), "Computed removal kept the key");
+        assertEquals("one", map.computeIfAbsent(1, k -> "one"), "Computed absent value is invalid");
+        assertEquals("one", map.computeIfAbsent(1, k -> "uno"), "computeIfAbsent replaced an existing value");
+        assertEquals("one+1", map.merge(1, "1", (a, b) -> a + "+" + b), "Merged value is invalid");
+        assertEquals("x", map.merge(-1, "x", (a, b) -> a + b), "Merged absent value is invalid");
+        assertEquals(INIT_ELEMENT_COUNT + 1, map.size(), "ConcurrentHashMap size is invalid, after compute");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("iterator(), cursor(), toArray() and copy() function test")
+    void traverseTest() {
+        long sum = 0;
+        int count = 0;
+        for (int key : map) {
+            sum += key;
+            count++;
+        }
+        assertEquals(map.size(), count, "Iterated keys count is invalid");
+        assertEquals((long) INIT_ELEMENT_COUNT * (INIT_ELEMENT_COUNT - 1) / 2 - 1, sum, "Iterated keys are invalid");
+        assertEquals(map.size(), map.toArray().length, "Invalid array size");
+        assertEquals(map.size(), map.toArray(new Integer[0]).length, "Invalid typed array size");
+
+        final Map.Cursor<Integer, String> cursor = map.cursor();
+        assertThrows(IllegalStateException.class, cursor::key);
+        while (cursor.advance()) {
+            if (cursor.key() == 2) {
+                assertEquals("2", cursor.setValue("two"), "Previous value from the cursor is invalid");
+            }
+        }
+        assertEquals("two", map.get(2), "Value set through the cursor is invalid");
+
+        final ConcurrentHashMap<Integer, String> copy = map.copy();
+        assertEquals(map.size(), copy.size(), "Copy size is invalid");
+        copy.remove(2);
+        assertTrue(map.containsKey(2), "Copy modification affected the original map");
+
+        map.clear();
+        assertTrue(map.isEmpty(), "ConcurrentHashMap is not empty after clear()");
+        assertFalse(map.iterator().hasNext(), "Iterator of an empty map has next");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("Concurrent put(K, V), merge(K, V, BiFunction) and remove(K) function test")
+    void concurrentTest() throws InterruptedException {
+        final ConcurrentHashMap<Integer, Integer> counters = new ConcurrentHashMap<>();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread[] threads = new Thread[THREAD_COUNT];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t * INIT_ELEMENT_COUNT;
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+                        map.put(offset + i, String.valueOf(offset + i));
+                        counters.merge(i % 100, 1, Integer::sum);
+                        if ((i & 1) == 1) {
+                            assertEquals(String.valueOf(offset + i - 1), map.remove(offset + i - 1),
+                                    "Removed value is invalid");
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get(), "Concurrent access failed");
+        assertEquals(THREAD_COUNT * INIT_ELEMENT_COUNT / 2, map.size(), "Concurrent updates are lost");
+        for (int i = 1; i < THREAD_COUNT * INIT_ELEMENT_COUNT; i += 2) {
+            assertEquals(String.valueOf(i), map.get(i), "Mapped value is invalid, after concurrent updates");
+        }
+        assertEquals(100, counters.size(), "Merged keys count is invalid");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(THREAD_COUNT * INIT_ELEMENT_COUNT / 100, counters.get(i), "Merged count is invalid");
+        }
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("stream() and parallelStream() while a writer inserts function test")
+    void streamTest() throws InterruptedException {
+        final ConcurrentHashMap<Integer, Integer> numbers = new ConcurrentHashMap<>();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            numbers.put(i, i);
+        }
+        final Spliterator<Integer> spliterator = numbers.spliterator();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED), "Spliterator is SIZED");
+        assertTrue(spliterator.hasCharacteristics(Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL),
+                "Spliterator characteristics are invalid");
+
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread writer = new Thread(() -> {
+            try {
+                for (int i = INIT_ELEMENT_COUNT; i < 20 * INIT_ELEMENT_COUNT; i++) {
+                    numbers.put(i, i);
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            final Stream<Integer> stream = numbers.stream();
+            numbers.remove(0);
+            numbers.put(0, 0);
+            assertTrue(stream.toArray().length >= INIT_ELEMENT_COUNT - 1, "Stream misses the initial keys");
+            assertTrue(numbers.parallelStream().filter(i -> i < INIT_ELEMENT_COUNT).count() >= INIT_ELEMENT_COUNT - 1,
+                    "Parallel stream misses the initial keys");
+        }
+        writer.join();
+
+        assertNull(failure.get(), "Concurrent insert failed");
+        assertEquals(20 * INIT_ELEMENT_COUNT, numbers.stream().distinct().count(), "Stream keys are not distinct");
+    }
+}
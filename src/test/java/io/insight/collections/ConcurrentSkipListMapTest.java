@@ -0,0 +1,251 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("ConcurrentSkipListMap functionality unit tests")
+public class ConcurrentSkipListMapTest {
+
+    /**
+     * Elements count to insert to new {@link ConcurrentSkipListMap}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10_000;
+    /**
+     * Number of threads updating the map at once.
+     */
+    private static final int THREAD_COUNT = 4;
+    /**
+     * New {@link ConcurrentSkipListMap} instance to use across this test class.
+     */
+    private static ConcurrentSkipListMap<Integer, String> map;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        map = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(map, "ConcurrentSkipListMap instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("put(K, V), get(K), remove(K), merge(K, V, BiFunction) and floorKey(K) function test")
+    void putTest() {
+        assertTrue(map.isEmpty(), "ConcurrentSkipListMap is not empty before put(K, V) invoke first time");
+        assertThrows(NoSuchElementException.class, map::lastKey);
+
+        for (int i = INIT_ELEMENT_COUNT - 1; i >= 0; i--) {
+            assertNull(map.put(i * 2, String.valueOf(i * 2)), "Previous value of a new key is not null");
+        }
+        assertEquals(INIT_ELEMENT_COUNT, map.size(), "ConcurrentSkipListMap size is invalid");
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(String.valueOf(i * 2), map.get(i * 2), "Mapped value is invalid");
+            assertNull(map.get(i * 2 + 1), "Absent key is found");
+        }
+
+        assertEquals("10", map.remove(10), "Removed value is invalid");
+        assertNull(map.remove(10), "Removed key is still found");
+        assertEquals("11!", map.merge(11, "11!", (a, b) -> a + b), "Merged value is invalid");
+        assertEquals("11!?", map.compute(11, (k, v) -> v + "?"), "Computed value is invalid");
+        assertNull(map.compute(11, (k, v) -> null), "Computed value is not null");
+        assertEquals("10", map.computeIfAbsent(10, String::valueOf), "Computed absent value is invalid");
+
+        assertEquals(0, map.firstKey(), "First key is invalid");
+        assertEquals((INIT_ELEMENT_COUNT - 1) * 2, map.lastKey(), "Last key is invalid");
+        assertEquals(100, map.floorKey(101), "Floor key is invalid");
+        assertEquals(102, map.ceilingKey(101), "Ceiling key is invalid");
+        assertEquals(98, map.lowerKey(100), "Lower key is invalid");
+        assertEquals(102, map.higherKey(100), "Higher key is invalid");
+        assertNull(map.higherKey(map.lastKey()), "Higher key of the last key is not null");
+
+        assertThrows(NullPointerException.class, () -> map.put(null, "null"));
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("subMap(K, boolean, K, boolean), pollFirst() and pollLast() function test")
+    void rangeViewTest() {
+        final ConcurrentSkipListMap<Integer, String> sub = map.subMap(1_000, false, 2_000, true);
+        assertEquals(500, sub.size(), "Sub map size is invalid");
+        assertEquals(1_002, sub.firstKey(), "Sub map first key is invalid");
+        assertEquals(2_000, sub.lastKey(), "Sub map last key is invalid");
+        assertEquals(2_000, sub.floorKey(5_000), "Sub map floor key above the range is invalid");
+        assertThrows(IllegalArgumentException.class, () -> sub.put(2_002, "2002"));
+        assertThrows(IllegalArgumentException.class, () -> sub.tailMap(999, true));
+
+        final java.util.Map.Entry<Integer, String> first = sub.pollFirst();
+        assertNotNull(first, "Polled first entry is null");
+        assertEquals(1_002, first.getKey(), "Polled first key is invalid");
+        assertEquals("1002", first.getValue(), "Polled first value is invalid");
+        assertFalse(map.containsKey(1_002), "Polled key is still found in the map");
+        assertEquals(2_000, sub.pollLast().getKey(), "Polled last key is invalid");
+
+        sub.clear();
+        assertTrue(sub.isEmpty(), "Sub map is not empty after clear()");
+        assertNull(sub.pollFirst(), "Poll of an empty sub map is not null");
+        assertEquals(INIT_ELEMENT_COUNT - 500, map.size(), "Map size is invalid, after sub map clear()");
+        assertEquals(2_002, map.higherKey(1_000), "Higher key across the cleared range is invalid");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("iterator(), cursor(), toArray() and copy() with IndexLevelPolicy function test")
+    void traverseTest() {
+        int previous = Integer.MIN_VALUE;
+        int count = 0;
+        for (int key : map) {
+            assertTrue(key > previous, "Keys are not in ascending order");
+            previous = key;
+            count++;
+        }
+        assertEquals(map.size(), count, "Iterated keys count is invalid");
+        assertEquals(map.size(), map.toArray(new Integer[0]).length, "Invalid typed array size");
+
+        final Map.Cursor<Integer, String> cursor = map.headMap(100, false).cursor();
+        assertThrows(IllegalStateException.class, cursor::key);
+        count = 0;
+        while (cursor.advance()) {
+            assertEquals(String.valueOf(cursor.key()), cursor.value(), "Cursor value is invalid");
+            count++;
+        }
+        assertEquals(50, count, "Cursor entries count is invalid");
+
+        for (IndexLevelPolicy policy : new IndexLevelPolicy[]{
+                IndexLevelPolicy.none(), IndexLevelPolicy.geometric(2), IndexLevelPolicy.geometric(16).withMaxLevels(2)}) {
+            final ConcurrentSkipListMap<Integer, String> other = new ConcurrentSkipListMap<>(null, policy);
+            for (int key : map) {
+                other.put(key, map.get(key));
+            }
+            assertEquals(map.size(), other.size(), "Map size with a level policy is invalid");
+            assertEquals(map.floorKey(4_321), other.floorKey(4_321), "Floor key with a level policy is invalid");
+        }
+        assertThrows(IllegalArgumentException.class, () -> IndexLevelPolicy.geometric(3));
+
+        final ConcurrentSkipListMap<Integer, String> copy = map.copy();
+        copy.put(-1, "-1");
+        assertEquals(map.size() + 1, copy.size(), "Copied map size is invalid");
+        assertFalse(map.containsKey(-1), "Copy put is visible in the original map");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("Concurrent put(K, V), pollFirst() and range scan function test")
+    void concurrentTest() throws InterruptedException {
+        map.clear();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final AtomicBoolean done = new AtomicBoolean();
+        final java.util.Set<Integer> polled = java.util.concurrent.ConcurrentHashMap.newKeySet();
+
+        final Thread scanner = new Thread(() -> {
+            try {
+                while (!done.get()) {
+                    int previous = Integer.MIN_VALUE;
+                    for (int key : map.subMap(INIT_ELEMENT_COUNT, true, INIT_ELEMENT_COUNT * 2, false)) {
+                        assertTrue(key >= INIT_ELEMENT_COUNT && key < INIT_ELEMENT_COUNT * 2, "Key out of range is scanned");
+                        assertTrue(key > previous, "Scanned keys are not in ascending order");
+                        previous = key;
+                    }
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        scanner.start();
+
+        final Thread[] threads = new Thread[THREAD_COUNT];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+                        final int key = i * THREAD_COUNT + offset;
+                        map.put(key, String.valueOf(key));
+                        if ((i & 3) == 3) {
+                            final java.util.Map.Entry<Integer, String> entry = map.pollFirst();
+                            assertNotNull(entry, "Polled entry is null");
+                            assertTrue(polled.add(entry.getKey()), "Entry is polled twice");
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        done.set(true);
+        scanner.join();
+
+        assertNull(failure.get(), "Concurrent access failed");
+        assertEquals(THREAD_COUNT * INIT_ELEMENT_COUNT * 3 / 4, map.size(), "Concurrent updates are lost");
+        for (int i = 0; i < THREAD_COUNT * INIT_ELEMENT_COUNT; i++) {
+            assertTrue(polled.contains(i) != map.containsKey(i), "Key is both polled and present, or neither");
+        }
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("spliterator() and stream() while inserting and removing function test")
+    void streamTest() {
+        final ConcurrentSkipListMap<Integer, Integer> numbers = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+        for (int i = 0; i < 10; i++) {
+            numbers.put(i, i);
+        }
+
+        final Spliterator<Integer> spliterator = numbers.spliterator();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED), "Spliterator is SIZED");
+        assertTrue(spliterator.hasCharacteristics(Spliterator.CONCURRENT | Spliterator.ORDERED | Spliterator.SORTED
+                | Spliterator.DISTINCT | Spliterator.NONNULL), "Spliterator characteristics are invalid");
+        assertEquals(Comparator.reverseOrder(), spliterator.getComparator(), "Spliterator comparator is invalid");
+        assertEquals(10, spliterator.estimateSize(), "Spliterator size estimate is invalid");
+        assertEquals(Long.MAX_VALUE, numbers.headMap(5, true).spliterator().estimateSize(),
+                "View spliterator size estimate is not unknown");
+
+        final Stream<Integer> stream = numbers.stream();
+        numbers.put(99, 99);
+        numbers.remove(0);
+        assertArrayEquals(new Object[]{99, 9, 8, 7, 6, 5, 4, 3, 2, 1}, stream.toArray(),
+                "Stream is not bound on the terminal operation");
+        assertEquals(java.util.List.of(1, 2, 3), numbers.stream().sorted().limit(3).toList(),
+                "Stream sorted() by the natural ordering is skipped");
+        assertEquals(java.util.List.of(99, 9, 8), numbers.parallelStream().limit(3).toList(),
+                "Parallel stream encounter order is not kept");
+    }
+}
@@ -0,0 +1,194 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("CopyOnWriteArrayList functionality unit tests")
+public class CopyOnWriteArrayListTest {
+
+    /**
+     * Elements count to insert to new {@link CopyOnWriteArrayList}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10;
+    /**
+     * New {@link CopyOnWriteArrayList} instance to use across this test class.
+     */
+    private static CopyOnWriteArrayList<Integer> list;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        list = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(list, "CopyOnWriteArrayList instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("add(T), add(int, T), set(int, T) and remove(int) function test")
+    void addTest() {
+        assertTrue(list.isEmpty(), "CopyOnWriteArrayList is not empty before add(T) invoke first time");
+
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertTrue(list.add(i), "Invalid return value (false)");
+        }
+        assertEquals(INIT_ELEMENT_COUNT, list.size(), "CopyOnWriteArrayList size is invalid");
+
+        assertTrue(list.add(0, -1));
+        assertTrue(list.add(list.size(), 100));
+        assertEquals(-1, list.get(0), "Inserted element is invalid");
+        assertEquals(100, list.get(list.size() - 1), "Appended element is invalid");
+
+        assertEquals(-1, list.remove(0));
+        assertEquals(100, list.remove(list.size() - 1));
+        assertEquals(5, list.set(5, 50));
+        assertEquals(50, list.get(5), "Replaced element is invalid");
+        assertEquals(5, list.indexOf(50), "indexOf returns an invalid index");
+        list.set(5, 5);
+
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i), "Elements are not matching");
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(list.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(list.size()));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("addAll(int, Collection), remove(T) and removeAll(Collection) function test")
+    void bulkTest() {
+        final CopyOnWriteArrayList<Integer> batch = new CopyOnWriteArrayList<>();
+        batch.add(7);
+        batch.add(8);
+        assertTrue(list.addAll(2, batch), "addAll hasn't made any effect");
+        assertTrue(list.addAll(list), "addAll of itself hasn't made any effect");
+        assertFalse(list.addAll(new CopyOnWriteArrayList<>()), "addAll of empty collection made an effect");
+        assertEquals(2 * (INIT_ELEMENT_COUNT + 2), list.size(), "CopyOnWriteArrayList size is invalid, after addAll");
+        assertEquals(7, list.get(2), "Inserted element is invalid, after addAll");
+        assertEquals(8, list.get(3), "Inserted element is invalid, after addAll");
+
+        assertEquals(4, list.remove(Integer.valueOf(7)), "Removed elements count is invalid");
+        assertFalse(list.contains(7), "Removed element is still found");
+        assertTrue(list.removeAll(batch), "removeAll hasn't made any effect");
+        assertFalse(list.removeAll(batch), "removeAll made an effect without matches");
+
+        final java.util.List<Integer> expected = java.util.List.of(0, 1, 2, 3, 4, 5, 6, 9, 0, 1, 2, 3, 4, 5, 6, 9);
+        assertArrayEquals(expected.toArray(), list.toArray(), "Elements are not matching, after removeAll");
+        assertArrayEquals(expected.toArray(), list.toArray(new Integer[0]), "Elements are not matching, after removeAll");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("iterator() and copy() snapshot function test")
+    void snapshotTest() {
+        final Iterator<Integer> iterator = list.iterator();
+        final List<Integer> copy = list.copy();
+        final int size = list.size();
+
+        list.clear();
+        assertTrue(list.isEmpty(), "CopyOnWriteArrayList is not empty after clear()");
+
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertNotNull(iterator.next(), "Iterated value is invalid");
+            count++;
+        }
+        assertEquals(size, count, "Iterator did not keep the snapshot");
+        assertEquals(size, copy.size(), "Copy did not keep the snapshot");
+
+        copy.add(100);
+        assertTrue(list.isEmpty(), "Copy modification affected the original list");
+        assertEquals(size + 1, copy.stream().count(), "Stream size is invalid");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("Concurrent readers and writers function test")
+    void concurrentTest() throws InterruptedException {
+        final int writes = 1_000;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final boolean writer = t < 2;
+            threads[t] = new Thread(() -> {
+                try {
+                    int previous = 0;
+                    for (int i = 0; i < writes; i++) {
+                        if (writer) {
+                            list.add(i);
+                        } else {
+                            for (Integer value : list) {
+                                assertNotNull(value, "Published snapshot has an unset slot");
+                            }
+                            final int size = list.size();
+                            assertTrue(size >= previous, "Size decreased without removals");
+                            previous = size;
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get(), "Concurrent access failed");
+        assertEquals(2 * writes, list.size(), "Concurrent appends are lost");
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("forEach(Consumer), replaceAll(UnaryOperator) and setRange(int, T[]) function test")
+    void bulkMutatorTest() {
+        final CopyOnWriteArrayList<Integer> numbers = new CopyOnWriteArrayList<>(list);
+        final Iterator<Integer> snapshot = numbers.iterator();
+
+        numbers.replaceAll(i -> i + 1);
+        numbers.setRange(0, new Integer[]{-1});
+        assertEquals(-1, numbers.get(0), "Range element is invalid");
+        assertEquals(snapshot.next(), list.get(0), "Snapshot taken before replaceAll() is modified");
+
+        assertThrows(ArithmeticException.class, () -> numbers.replaceAll(i -> {
+            throw new ArithmeticException("/ by zero");
+        }));
+        numbers.forEachIndexed((element, index) ->
+                assertEquals(index == 0 ? -1 : list.get(index) + 1, element, "Element is changed by a failed replaceAll()"));
+        final int[] visited = {0};
+        numbers.forEach(i -> visited[0]++);
+        assertEquals(list.size(), visited[0], "forEach() did not visit every element");
+    }
+}
@@ -0,0 +1,180 @@
+package io.insight.collections;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("Flight Recorder events functionality unit tests")
+public class FlightRecorderEventsTest {
+
+    /**
+     * Elements count of a bulk operation over the {@link BulkOperationEvent#THRESHOLD}.
+     */
+    private static final int BULK_ELEMENT_COUNT = BulkOperationEvent.THRESHOLD * 2;
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assumeTrue(FlightRecorder.isAvailable(), "Flight Recorder is not available");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("ArrayList growth event test")
+    void arrayGrowthTest() throws IOException {
+        final java.util.List<RecordedEvent> events = record("io.insight.collections.ArrayGrowth", () -> {
+            final ArrayList<Integer> list = new ArrayList<>(2);
+            for (int i = 0; i < 3; i++) {
+                list.add(i);
+            }
+        });
+
+        assertEquals(1, events.size(), "Growth events count is invalid");
+        final RecordedEvent event = events.get(0);
+        assertEquals(ArrayList.class.getName(), event.getClass("collectionClass").getName(), "Collection class is invalid");
+        assertEquals(2, event.getInt("oldCapacity"), "Old capacity is invalid");
+        assertEquals(12, event.getInt("newCapacity"), "New capacity is invalid");
+        assertTrue(calledFrom(event, "lambda$arrayGrowthTest$"), "Stack trace does not reach the call site");
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("HashMap and LongLongMap rehash event test")
+    void rehashTest() throws IOException {
+        final java.util.List<RecordedEvent> events = record("io.insight.collections.Rehash", () -> {
+            final HashMap<Integer, Integer> map = new HashMap<>();
+            final LongLongMap primitives = new LongLongMap();
+            for (int i = 0; i < 1_000; i++) {
+                map.put(i, i);
+                primitives.put(i, i);
+            }
+        });
+
+        assertTrue(events.stream().anyMatch(e -> e.getClass("collectionClass").getName().equals(HashMap.class.getName())),
+                "HashMap rehash is not recorded");
+        assertTrue(events.stream().anyMatch(e -> e.getClass("collectionClass").getName().equals(LongLongMap.class.getName())),
+                "LongLongMap rehash is not recorded");
+        for (RecordedEvent event : events) {
+            assertTrue(event.getInt("newCapacity") > event.getInt("oldCapacity"), "Table did not grow");
+            assertTrue(event.getInt("entries") > 0, "Reinserted entries count is invalid");
+        }
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("ArrayList addAll(Collection) and toArray() bulk operation event test")
+    void bulkOperationTest() throws IOException {
+        final ArrayList<Integer> source = new ArrayList<>(BULK_ELEMENT_COUNT);
+        for (int i = 0; i < BULK_ELEMENT_COUNT; i++) {
+            source.add(i);
+        }
+
+        final java.util.List<RecordedEvent> events = record("io.insight.collections.BulkOperation", () -> {
+            final ArrayList<Integer> list = new ArrayList<>();
+            list.addAll(source);
+            list.toArray(new Integer[0]);
+            new ArrayList<>(2).toArray();
+        });
+
+        assertEquals(2, events.size(), "Bulk operation events count is invalid");
+        assertEquals("addAll", events.get(0).getString("operation"), "Operation name is invalid");
+        assertEquals("toArray", events.get(1).getString("operation"), "Operation name is invalid");
+        for (RecordedEvent event : events) {
+            assertEquals(BULK_ELEMENT_COUNT, event.getInt("elements"), "Elements count is invalid");
+            assertTrue(calledFrom(event, "lambda$bulkOperationTest$"), "Stack trace does not reach the call site");
+        }
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("Default threshold events test")
+    void thresholdTest() throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.start();
+            final ArrayList<Integer> list = new ArrayList<>(2);
+            for (int i = 0; i < BulkOperationEvent.THRESHOLD - 1; i++) {
+                list.add(i);
+            }
+            list.toArray();
+            new HashMap<Integer, Integer>().put(1, 1);
+            recording.stop();
+
+            final Path file = Files.createTempFile("collections", ".jfr");
+            try {
+                recording.dump(file);
+                assertFalse(RecordingFile.readAllEvents(file).stream()
+                                .anyMatch(e -> e.getEventType().getName().startsWith("io.insight.collections.")),
+                        "Collection event is recorded under the thresholds");
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Record the events of the {@code action}, with only the event named {@code eventName}
+     * enabled, without a duration threshold.
+     *
+     * @param eventName of the event to enable.
+     * @param action    to record the events of.
+     * @return the recorded events, in the order of their start time.
+     * @throws IOException if the recording can't be written or read.
+     */
+    private static java.util.List<RecordedEvent> record(String eventName, Runnable action) throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withStackTrace().withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+
+            final Path file = Files.createTempFile("collections", ".jfr");
+            try {
+                recording.dump(file);
+                final java.util.List<RecordedEvent> events = new java.util.ArrayList<>(RecordingFile.readAllEvents(file));
+                events.removeIf(e -> !e.getEventType().getName().equals(eventName));
+                events.sort(java.util.Comparator.comparing(RecordedEvent::getStartTime));
+                return events;
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if a frame of the stack trace of the {@code event} is a method of this
+     * class with the {@code methodPrefix}.
+     */
+    private static boolean calledFrom(RecordedEvent event, String methodPrefix) {
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod().getType().getName().equals(FlightRecorderEventsTest.class.getName())
+                    && frame.getMethod().getName().startsWith(methodPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
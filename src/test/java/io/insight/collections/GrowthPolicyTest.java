@@ -0,0 +1,82 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("GrowthPolicy functionality unit tests")
+public class GrowthPolicyTest {
+
+    @Order(1)
+    @Test
+    @DisplayName("grow(int, int) of the built-in policies function test")
+    void growTest() {
+        assertEquals(200, GrowthPolicy.doubling().grow(100, 101), "Doubling capacity is invalid");
+        assertEquals(10, GrowthPolicy.doubling().grow(0, 1), "Doubling minimum growth is invalid");
+        assertEquals(150, GrowthPolicy.oneAndHalf().grow(100, 101), "1.5x capacity is invalid");
+        assertEquals(164, GrowthPolicy.fixedChunk(64).grow(100, 101), "Fixed-chunk capacity is invalid");
+        assertEquals(200, GrowthPolicy.cappedDoubling(1_000).grow(100, 101), "Capped-doubling capacity is invalid");
+        assertEquals(11_000, GrowthPolicy.cappedDoubling(1_000).grow(10_000, 10_001), "Capped-doubling cap is invalid");
+
+        assertEquals(5_000, GrowthPolicy.oneAndHalf().grow(100, 5_000), "Minimum capacity is not honoured");
+        assertEquals(GrowthPolicy.MAX_ARRAY_LENGTH, GrowthPolicy.doubling().grow(1 << 30, (1 << 30) + 1),
+                "Maximum array length is not honoured");
+        assertThrows(OutOfMemoryError.class, () -> GrowthPolicy.doubling().grow(Integer.MAX_VALUE, Integer.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.fixedChunk(0));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.doubling().withAutoShrink(0.5f));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("ArrayList ensureCapacity(int) and trimToSize() function test")
+    void capacityTest() {
+        final ArrayList<Integer> list = new ArrayList<>(0, GrowthPolicy.fixedChunk(16));
+        list.ensureCapacity(1_000);
+        assertEquals(1_000, list.capacity(), "Capacity is invalid, after ensureCapacity(int)");
+
+        for (int i = 0; i < 1_001; i++) {
+            list.add(i);
+        }
+        assertEquals(1_016, list.capacity(), "Capacity is invalid, after fixed-chunk growth");
+
+        list.trimToSize();
+        assertEquals(1_001, list.capacity(), "Capacity is invalid, after trimToSize()");
+        assertEquals(1_000, list.get(1_000), "Last element is invalid, after trimToSize()");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("ArrayList automatic shrink with hysteresis function test")
+    void shrinkTest() {
+        final ArrayList<Integer> list = new ArrayList<>(0, GrowthPolicy.doubling().withAutoShrink(0.25f));
+        for (int i = 0; i < 160; i++) {
+            list.add(i);
+        }
+        assertEquals(160, list.capacity(), "Capacity is invalid, before remove(int)");
+
+        while (list.size() > 40) {
+            list.remove(list.size() - 1);
+        }
+        assertEquals(160, list.capacity(), "Shrunk before the occupancy dropped below the threshold");
+
+        list.remove(list.size() - 1);
+        assertEquals(78, list.capacity(), "Capacity is invalid, after shrink");
+
+        list.add(39);
+        list.remove(list.size() - 1);
+        assertEquals(78, list.capacity(), "Capacity is invalid, on alternating add and remove");
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i), "Elements are not matching, after shrink");
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("HashMap functionality unit tests")
+public class HashMapTest {
+
+    /**
+     * Elements count to insert to new {@link HashMap}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10_000;
+    /**
+     * New {@link HashMap} instance to use across this test class.
+     */
+    private static HashMap<Integer, String> map;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        map = new HashMap<>();
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(map, "HashMap instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("put(K, V) function test")
+    void putTest() {
+        assertTrue(map.isEmpty(), "HashMap is not empty before put(K, V) invoke first time");
+
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertNull(map.put(i, String.valueOf(i)), "Previous value of a new key is not null");
+        }
+
+        assertFalse(map.isEmpty(), "HashMap is empty after put(K, V) invoke first time");
+        assertEquals(INIT_ELEMENT_COUNT, map.size(), "HashMap size is invalid");
+
+        assertEquals("5", map.put(5, "five"), "Previous value of an existing key is invalid");
+        assertEquals(INIT_ELEMENT_COUNT, map.size(), "HashMap size is invalid, after a value replaced");
+        assertEquals("five", map.put(5, "5"));
+
+        assertThrows(NullPointerException.class, () -> map.put(null, "null"));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("get(K) and contains(K) function test")
+    void getTest() {
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(String.valueOf(i), map.get(i), "Mapped value is invalid");
+            assertTrue(map.contains(i), "Existing key is not found");
+        }
+
+        assertNull(map.get(-1), "Missing key returns a value");
+        assertFalse(map.containsKey(INIT_ELEMENT_COUNT), "Missing key is found");
+
+        map.put(-1, null);
+        assertTrue(map.containsKey(-1), "Key mapped to null is not found");
+        assertNull(map.remove(-1));
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("remove(K) function test")
+    void removeTest() {
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i += 2) {
+            assertEquals(String.valueOf(i), map.remove(i), "Removed value is invalid");
+        }
+
+        assertEquals(INIT_ELEMENT_COUNT / 2, map.size(), "HashMap size is invalid, after remove(K)");
+        assertNull(map.remove(0), "Removed key returns a value");
+
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(i % 2 != 0, map.containsKey(i), "Key presence is invalid, after remove(K)");
+        }
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("iterator() and toArray() function test")
+    void iteratorTest() {
+        int count = 0;
+        for (int key : map) {
+            assertEquals(1, key % 2, "Iterated key is invalid");
+            count++;
+        }
+        assertEquals(map.size(), count, "Iterated keys count is invalid");
+
+        final Object[] keys = map.toArray();
+        assertEquals(map.size(), keys.length, "Invalid array size");
+
+        final Integer[] larger = map.toArray(new Integer[map.size() + 2]);
+        assertNull(larger[map.size()], "Element following the keys is not null");
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("copy() function test")
+    void copyTest() {
+        final HashMap<Integer, String> copy = map.copy();
+
+        assertNotSame(map, copy, "Copied map is the same instance");
+        assertEquals(map.size(), copy.size(), "Copied map size is invalid");
+        assertTrue(copy.containsAll(map), "Copied map does not contain all the keys");
+
+        copy.remove(1);
+        assertTrue(map.containsKey(1), "Removing from the copy affected the original map");
+    }
+
+    @Order(6)
+    @Test
+    @DisplayName("HashMap(int, float) constructor and clear() function test")
+    void constructorTest() {
+        final HashMap<String, Integer> presized = new HashMap<>(1_000, 0.9f);
+        for (int i = 0; i < 1_000; i++) {
+            presized.put("key-" + i, i);
+        }
+        assertEquals(1_000, presized.size(), "Presized map size is invalid");
+
+        presized.clear();
+        assertTrue(presized.isEmpty(), "HashMap is not empty after clear()");
+        assertNull(presized.get("key-1"), "Cleared map returns a value");
+
+        assertThrows(IllegalArgumentException.class, () -> new HashMap<>(10, 1.0f));
+        assertThrows(IllegalArgumentException.class, () -> new HashMap<>(-1));
+    }
+
+    @Order(7)
+    @Test
+    @DisplayName("compute(K, BiFunction), merge(K, V, BiFunction) and getOrDefault(K, V) function test")
+    void computeTest() {
+        final HashMap<String, Integer> counters = new HashMap<>();
+
+        for (int i = 0; i < 100; i++) {
+            counters.merge("key-" + (i % 10), 1, Integer::sum);
+        }
+        assertEquals(10, counters.size(), "Merged map size is invalid");
+        assertEquals(10, counters.get("key-3"), "Merged value is invalid");
+
+        assertEquals(11, counters.compute("key-3", (k, v) -> v == null ? 0 : v + 1));
+        assertNull(counters.compute("key-3", (k, v) -> null), "Computed null value is not returned");
+        assertFalse(counters.containsKey("key-3"), "Computed null value did not remove the mapping");
+
+        assertEquals(-1, counters.getOrDefault("key-3", -1), "Default value is not returned");
+        assertEquals(5, counters.computeIfAbsent("key-3", String::length));
+        assertEquals(5, counters.putIfAbsent("key-3", 100), "Existing value is not returned");
+        assertEquals(5, counters.get("key-3"), "putIfAbsent(K, V) replaced an existing value");
+    }
+
+    @Order(8)
+    @Test
+    @DisplayName("cursor() function test")
+    void cursorTest() {
+        final Map.Cursor<Integer, String> cursor = map.cursor();
+        assertThrows(IllegalStateException.class, cursor::key);
+
+        int count = 0;
+        while (cursor.advance()) {
+            assertEquals(String.valueOf(cursor.key()), cursor.value(), "Cursor entry is invalid");
+            cursor.setValue("#" + cursor.key());
+            count++;
+        }
+        assertEquals(map.size(), count, "Cursor entries count is invalid");
+        assertFalse(cursor.advance(), "Exhausted cursor advanced");
+
+        cursor.reset();
+        assertTrue(cursor.advance(), "Reset cursor did not advance");
+        assertEquals("#" + cursor.key(), cursor.value(), "Value set through the cursor is invalid");
+    }
+}
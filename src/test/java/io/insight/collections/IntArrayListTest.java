@@ -0,0 +1,153 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of the {@code int} specialization generated from {@code PrimitiveArrayList.java.template}.
+ * The {@code long} and {@code double} specializations share the same source.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("IntArrayList functionality unit tests")
+public class IntArrayListTest {
+
+    /**
+     * Elements count to insert to new {@link IntArrayList}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10;
+    /**
+     * New {@link IntArrayList} instance to use across this test class.
+     */
+    private static IntArrayList list;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        list = new IntArrayList(0);
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(list, "IntArrayList instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("addInt(int) and add(Integer) function test")
+    void addTest() {
+        assertTrue(list.isEmpty(), "IntArrayList is not empty before addInt(int) invoke first time");
+
+        for (int i = 0; i <= INIT_ELEMENT_COUNT; i++) {
+            assertTrue(i % 2 == 0 ? list.addInt(i) : list.add(Integer.valueOf(i)), "Invalid return value (false)");
+        }
+
+        assertEquals(INIT_ELEMENT_COUNT + 1, list.size(), "IntArrayList size is invalid");
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.getInt(i), "Elements are not matching");
+            assertEquals(i, list.get(i), "Boxed elements are not matching");
+        }
+        assertThrows(NullPointerException.class, () -> list.add(null));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("addInt(int, int) and removeInt(int) function test")
+    void insertTest() {
+        assertTrue(list.addInt(5, -456));
+        assertEquals(INIT_ELEMENT_COUNT + 2, list.size(), "IntArrayList size() is invalid");
+        assertEquals(-456, list.getInt(5), "Inserted element is invalid");
+        assertEquals(5, list.getInt(6), "Shifted element is invalid");
+
+        assertTrue(list.addInt(list.size(), 99), "Insert at the end failed");
+        assertEquals(99, list.removeInt(list.size() - 1));
+        assertEquals(-456, list.remove(5));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addInt(-1, 100));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(list.size()));
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("addAll(int[]) and addAll(int, Collection) function test")
+    void addAllTest() {
+        final IntArrayList other = new IntArrayList(100, 101, 102);
+
+        assertTrue(other.addAll(new int[]{103, 104}));
+        assertFalse(other.addAll(new int[0]), "addAll with empty array, has made an effect");
+        assertArrayEquals(new int[]{100, 101, 102, 103, 104}, other.toIntArray());
+
+        assertTrue(other.addAll(1, list), "addAll with not empty Collection, hasn't made any effect");
+        assertEquals(list.size() + 5, other.size(), "IntArrayList size is invalid, after addAll(int, Collection)");
+        assertEquals(100, other.getInt(0));
+        assertEquals(0, other.getInt(1));
+        assertEquals(101, other.getInt(list.size() + 1));
+
+        final ArrayList<Integer> boxed = new ArrayList<>();
+        boxed.add(7);
+        boxed.add(8);
+        assertTrue(other.addAll(boxed));
+        assertEquals(8, other.getInt(other.size() - 1));
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("indexOf(int), remove(Integer) and removeAll(Collection) function test")
+    void searchTest() {
+        final IntArrayList copy = list.copy();
+
+        assertEquals(4, copy.indexOfInt(4), "Index of the element is invalid");
+        assertEquals(-1, copy.indexOfInt(400), "Index of missing element is invalid");
+        assertTrue(copy.containsInt(10));
+        assertTrue(copy.contains(10));
+
+        copy.addInt(4);
+        assertEquals(2, copy.remove(Integer.valueOf(4)), "Removed elements count is invalid");
+        assertFalse(copy.containsInt(4));
+
+        assertTrue(copy.removeAll(new IntArrayList(0, 1, 2)));
+        assertEquals(list.size() - 4, copy.size(), "IntArrayList size is invalid, after removeAll(Collection)");
+        assertEquals(list.size(), list.toIntArray().length, "Copy modification affected the original list");
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("iterator() and toArray(T[]) function test")
+    void iteratorTest() {
+        int idx = 0;
+        for (PrimitiveIterator.OfInt it = list.iterator(); it.hasNext(); ) {
+            assertEquals(idx++, it.nextInt(), "Iterated value is invalid");
+        }
+        assertEquals(list.size(), idx, "Iterated elements count is invalid");
+
+        final Integer[] boxed = list.toArray(new Integer[0]);
+        assertEquals(list.size(), boxed.length, "Invalid array size");
+        assertEquals(list.get(3), boxed[3], "Array element is invalid");
+        assertThrows(ArrayStoreException.class, () -> list.toArray(new Long[list.size()]));
+
+        list.clear();
+        assertTrue(list.isEmpty(), "IntArrayList is not empty after clear()");
+    }
+}
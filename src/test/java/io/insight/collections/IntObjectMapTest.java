@@ -0,0 +1,53 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@DisplayName("IntObjectMap functionality unit tests")
+public class IntObjectMapTest {
+
+    @Test
+    @DisplayName("put(int, V), putIfAbsent(int, V), get(int) and remove(int) function test")
+    void putGetRemoveTest() {
+        final IntObjectMap<String> map = new IntObjectMap<>(4);
+
+        for (int i = -500; i < 500; i++) {
+            assertNull(map.put(i, "v" + i), "Previous value of a new key is not null");
+        }
+        assertEquals(1_000, map.size(), "IntObjectMap size is invalid");
+        assertEquals("v-3", map.get(-3), "Mapped value is invalid");
+        assertEquals("v0", map.get(Integer.valueOf(0)), "Boxed key lookup is invalid");
+
+        assertEquals("v7", map.putIfAbsent(7, "other"), "Existing value is not returned");
+        assertNull(map.putIfAbsent(1_000, "v1000"));
+        assertEquals("v1000", map.remove(1_000));
+
+        for (int i = -500; i < 500; i += 3) {
+            assertEquals("v" + i, map.remove(i), "Removed value is invalid");
+        }
+        for (int i = -500; i < 500; i++) {
+            assertEquals((i + 500) % 3 != 0, map.containsKey(i), "Key presence is invalid, after remove(int)");
+        }
+
+        final IntObjectMap.IntObjectCursor<String> cursor = map.cursor();
+        int count = 0;
+        while (cursor.advance()) {
+            assertEquals("v" + cursor.intKey(), cursor.value(), "Cursor entry is invalid");
+            count++;
+        }
+        assertEquals(map.size(), count, "Cursor entries count is invalid");
+
+        map.clear();
+        assertTrue(map.isEmpty(), "IntObjectMap is not empty after clear()");
+        assertFalse(map.containsKey(1), "Cleared map contains a key");
+    }
+}
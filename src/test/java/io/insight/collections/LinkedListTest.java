@@ -9,10 +9,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.function.ThrowingSupplier;
 
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -73,4 +79,117 @@ public class LinkedListTest {
 
         list.clear();
     }
+
+    @Order(2)
+    @Test
+    @DisplayName("add(int, T), remove(int) and iterator() function test")
+    void insertTest() {
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            list.add(i);
+        }
+
+        assertTrue(list.add(0, -1), "Invalid return value (false)");
+        assertTrue(list.add(5, -456), "Invalid return value (false)");
+        assertTrue(list.add(list.size(), 100), "Invalid return value (false)");
+        assertEquals(INIT_ELEMENT_COUNT + 3, list.size(), "LinkedList size is invalid");
+        assertEquals(5, list.indexOf(-456), "Inserted element index is invalid");
+        assertTrue(list.contains(100), "Appended element is not found");
+
+        assertEquals(-456, list.remove(5));
+        assertEquals(-1, list.remove(0));
+        assertEquals(100, list.remove(list.size() - 1));
+        assertEquals(-1, list.indexOf(-456), "Removed element is still found");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(list.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+
+        int idx = 0;
+        for (int i : list) {
+            assertEquals(idx++, i, "Iterated value is invalid");
+        }
+        assertEquals(INIT_ELEMENT_COUNT, list.toArray().length, "Invalid array size");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("listIterator(int) and finger get(int) function test")
+    void listIteratorTest() {
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i), "Elements are not matching, on sequential get(int)");
+        }
+        for (int i = list.size() - 1; i >= 0; i--) {
+            assertEquals(i, list.get(i), "Elements are not matching, on reverse get(int)");
+        }
+
+        final ListIterator<Integer> iterator = list.listIterator(2);
+        assertEquals(1, iterator.previousIndex(), "Previous index is invalid");
+        assertEquals(2, iterator.next(), "Next element is invalid");
+        iterator.set(20);
+        iterator.add(25);
+        assertEquals(3, iterator.next(), "Next element is invalid, after add(T)");
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(25, iterator.previous(), "Previous element is invalid, after remove()");
+        iterator.remove();
+        assertEquals(20, iterator.previous(), "Previous element is invalid");
+        assertEquals(2, iterator.nextIndex(), "Next index is invalid");
+
+        final ListIterator<Integer> tail = list.listIterator(list.size());
+        assertFalse(tail.hasNext(), "Iterator at the end has next");
+        tail.add(10);
+        assertEquals(10, tail.previous(), "Appended element is invalid");
+
+        final int[] expected = {0, 1, 20, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(expected.length, list.size(), "LinkedList size is invalid, after listIterator");
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i), "Elements are not matching, after listIterator");
+        }
+        assertEquals(5, list.remove(4));
+        assertEquals(6, list.get(4), "Element after remove(int) is invalid");
+        assertEquals(4, list.get(3), "Element before remove(int) is invalid");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(list.size() + 1));
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("forEach(Consumer), forEachIndexed(ObjIntConsumer), replaceAll(UnaryOperator) and setRange(int, T[]) function test")
+    void bulkMutatorTest() {
+        final LinkedList<Integer> numbers = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            numbers.add(i);
+        }
+
+        final int[] visited = {0};
+        numbers.forEach(i -> assertEquals(visited[0]++, i, "forEach() order is invalid"));
+        assertEquals(100, visited[0], "forEach() did not visit every element");
+        numbers.forEachIndexed((element, index) -> assertEquals(index, element, "Element index is invalid"));
+
+        numbers.replaceAll(i -> -i);
+        assertEquals(-99, numbers.get(99), "Replaced element is invalid");
+
+        numbers.setRange(50, new Integer[]{500, 510});
+        assertEquals(-49, numbers.get(49), "Element before the range is replaced");
+        assertEquals(500, numbers.get(50), "First range element is invalid");
+        assertEquals(510, numbers.get(51), "Last range element is invalid");
+        assertEquals(-52, numbers.get(52), "Element after the range is replaced");
+        assertEquals(100, numbers.size(), "LinkedList size is changed by setRange()");
+        assertThrows(IndexOutOfBoundsException.class, () -> numbers.setRange(99, new Integer[2]));
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("spliterator() and stream() late-binding function test")
+    void streamTest() {
+        final LinkedList<Integer> numbers = new LinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            numbers.add(i);
+        }
+
+        final Spliterator<Integer> spliterator = numbers.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED), "Spliterator is not SIZED");
+        final Stream<Integer> stream = numbers.stream();
+        numbers.add(99);
+        assertEquals(11, spliterator.estimateSize(), "Spliterator size is not bound on first use");
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 99}, stream.toArray(),
+                "Stream is not bound on the terminal operation");
+    }
 }
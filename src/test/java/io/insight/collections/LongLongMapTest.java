@@ -0,0 +1,109 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("LongLongMap functionality unit tests")
+public class LongLongMapTest {
+
+    /**
+     * Elements count to insert to new {@link LongLongMap}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10_000;
+    /**
+     * Value returned for the missing keys.
+     */
+    private static final long NO_ENTRY = -1L;
+    /**
+     * New {@link LongLongMap} instance to use across this test class.
+     */
+    private static LongLongMap map;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        map = new LongLongMap(0, 0.75f, NO_ENTRY);
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(map, "LongLongMap instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("put(long, long) and get(long) function test")
+    void putTest() {
+        for (long i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(NO_ENTRY, map.put(i << 32, i), "Previous value of a new key is not the no entry value");
+        }
+
+        assertEquals(INIT_ELEMENT_COUNT, map.size(), "LongLongMap size is invalid");
+        for (long i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(i, map.get(i << 32), "Mapped value is invalid");
+        }
+
+        assertEquals(NO_ENTRY, map.get(1L), "Missing key does not return the no entry value");
+        assertNull(map.get(Long.valueOf(1L)), "Missing boxed key does not return null");
+        assertTrue(map.containsKey(0L), "Zero key is not found");
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("addTo(long, long) and putIfAbsent(long, long) function test")
+    void addToTest() {
+        assertEquals(5L, map.addTo(7L, 5L), "New counter value is invalid");
+        assertEquals(8L, map.addTo(7L, 3L), "Incremented counter value is invalid");
+        assertEquals(8L, map.putIfAbsent(7L, 100L), "Existing value is not returned");
+        assertEquals(NO_ENTRY, map.putIfAbsent(9L, 100L));
+        assertEquals(100L, map.get(9L));
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("remove(long) and cursor() function test")
+    void removeTest() {
+        assertEquals(8L, map.remove(7L));
+        assertEquals(100L, map.remove(Long.valueOf(9L)));
+        assertEquals(NO_ENTRY, map.remove(7L), "Removed key does not return the no entry value");
+
+        for (long i = 0; i < INIT_ELEMENT_COUNT; i += 2) {
+            assertEquals(i, map.remove(i << 32), "Removed value is invalid");
+        }
+        assertEquals(INIT_ELEMENT_COUNT / 2, map.size(), "LongLongMap size is invalid, after remove(long)");
+
+        final LongLongMap.LongLongCursor cursor = map.cursor();
+        long sum = 0;
+        while (cursor.advance()) {
+            assertEquals(cursor.longKey() >>> 32, cursor.longValue(), "Cursor entry is invalid");
+            sum += cursor.longValue();
+        }
+        assertEquals((long) INIT_ELEMENT_COUNT * INIT_ELEMENT_COUNT / 4, sum, "Sum of the values is invalid");
+
+        map.clear();
+        assertTrue(map.isEmpty(), "LongLongMap is not empty after clear()");
+        assertFalse(map.containsKey(1L << 32), "Cleared map contains a key");
+    }
+}
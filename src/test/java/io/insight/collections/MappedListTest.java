@@ -0,0 +1,175 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("MappedList functionality unit tests")
+public class MappedListTest {
+
+    /**
+     * Elements count to insert to new {@link MappedList}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 100;
+    /**
+     * Small chunk size, so the elements span several chunks.
+     */
+    private static final int CHUNK_BYTES = 64;
+    /**
+     * Backing file of the list.
+     */
+    private static Path file;
+    /**
+     * New {@link MappedList} instance to use across this test class.
+     */
+    private static MappedList<Long> list;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() throws IOException {
+        file = Files.createTempFile("mapped-list", ".bin");
+        Files.delete(file);
+        list = MappedList.open(file, ElementCodec.LONG, CHUNK_BYTES);
+    }
+
+    /**
+     * Unmap and delete the backing file after all the tests.
+     */
+    @AfterAll
+    public static void destroy() throws IOException {
+        list.close();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(list, "MappedList instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("add(T) across chunks function test")
+    void addTest() {
+        assertTrue(list.isEmpty(), "MappedList is not empty before add(T) invoke first time");
+
+        for (long i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertTrue(list.add(i), "Invalid return value (false)");
+        }
+
+        assertEquals(INIT_ELEMENT_COUNT, list.size(), "MappedList size is invalid");
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i), "Elements are not matching");
+        }
+        assertTrue(Files.exists(file), "Backing file is not created");
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("close() and open(Path, ElementCodec) function test")
+    void reopenTest() throws IOException {
+        assertTrue(list.add(3, -3L));
+        assertEquals(1, list.remove(Long.valueOf(50)), "Removed elements count is invalid");
+        list.force();
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+
+        list = MappedList.open(file, ElementCodec.LONG);
+        assertEquals(INIT_ELEMENT_COUNT, list.size(), "MappedList size is invalid, after reopen");
+        assertEquals(-3L, list.get(3), "Inserted element is invalid, after reopen");
+        assertEquals(49L, list.get(50), "Shifted element is invalid, after reopen");
+        assertEquals(INIT_ELEMENT_COUNT - 1, list.get(list.size() - 1), "Last element is invalid, after reopen");
+
+        list.remove(3);
+        list.add(50, 50L);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i), "Elements are not matching, after reopen");
+        }
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("copy() and clear() function test")
+    void copyTest() {
+        try (OffHeapList<Long> copy = list.copy()) {
+            assertEquals(list.size(), copy.size(), "Copied list size is invalid");
+            assertEquals(list.get(99), copy.get(99), "Copied element is invalid");
+        }
+
+        list.clear();
+        assertTrue(list.isEmpty(), "MappedList is not empty after clear()");
+        assertTrue(list.add(7L));
+        assertEquals(7L, list.get(0));
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("open(Path, ElementCodec) with invalid file function test")
+    void invalidFileTest() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> MappedList.open(file, ElementCodec.INT));
+
+        final Path other = Files.createTempFile("mapped-list", ".txt");
+        try {
+            Files.writeString(other, "not a list");
+            assertThrows(IOException.class, () -> MappedList.open(other, ElementCodec.LONG));
+
+            final ByteBuffer header = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(0x4D4C5354).putInt(8).putInt(CHUNK_BYTES).putInt(5).putInt(0);
+            Files.write(other, header.array());
+            assertThrows(IOException.class, () -> MappedList.open(other, ElementCodec.LONG));
+            Files.write(other, header.putInt(8, 4).putInt(12, 0).array());
+            assertThrows(IOException.class, () -> MappedList.open(other, ElementCodec.LONG));
+        } finally {
+            Files.delete(other);
+        }
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("open(Path, ElementCodec, int) with invalid chunk size function test")
+    void invalidChunkSizeTest() throws IOException {
+        final Path other = Files.createTempFile("mapped-list", ".bin");
+        Files.delete(other);
+        try {
+            final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> MappedList.open(other, ElementCodec.INT, 2));
+            assertTrue(ex.getMessage().startsWith("Chunk size 2"), "Exception message is invalid");
+            assertThrows(IllegalArgumentException.class, () -> MappedList.open(other, ElementCodec.INT, 0));
+            assertFalse(Files.exists(other), "Backing file is created for an invalid chunk size");
+
+            try (MappedList<Integer> ints = MappedList.open(other, ElementCodec.INT)) {
+                assertTrue(ints.add(7));
+                assertEquals(7, ints.get(0));
+            }
+        } finally {
+            Files.deleteIfExists(other);
+        }
+    }
+}
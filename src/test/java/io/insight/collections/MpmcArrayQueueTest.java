@@ -0,0 +1,201 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("MpmcArrayQueue functionality unit tests")
+public class MpmcArrayQueueTest {
+
+    /**
+     * Capacity of the new {@link MpmcArrayQueue}.
+     */
+    private static final int CAPACITY = 16;
+    /**
+     * Number of producer and of consumer threads.
+     */
+    private static final int THREAD_COUNT = 3;
+    /**
+     * New {@link MpmcArrayQueue} instance to use across this test class.
+     */
+    private static MpmcArrayQueue<Integer> queue;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        queue = new MpmcArrayQueue<>(CAPACITY - 3);
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(queue, "MpmcArrayQueue instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("offer(E), peek() and poll() function test")
+    void offerTest() {
+        assertEquals(CAPACITY, queue.capacity(), "Capacity is not rounded up to a power of two");
+        assertTrue(queue.isEmpty(), "MpmcArrayQueue is not empty before offer(E) invoke first time");
+        assertNull(queue.poll(), "Empty queue returned an element");
+        assertNull(queue.peek(), "Empty queue returned a head element");
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(queue.offer(i), "Invalid return value (false)");
+        }
+        assertFalse(queue.offer(CAPACITY), "Full queue accepted an element");
+        assertEquals(CAPACITY, queue.size(), "MpmcArrayQueue size is invalid");
+        assertTrue(queue.contains(5), "Offered element is not found");
+        assertEquals(0, queue.peek(), "Head element is invalid");
+
+        for (int i = 0; i < CAPACITY / 2; i++) {
+            assertEquals(i, queue.poll(), "Polled element is invalid");
+        }
+        assertEquals(CAPACITY / 2, queue.size(), "MpmcArrayQueue size is invalid, after poll()");
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+        assertThrows(IllegalArgumentException.class, () -> new MpmcArrayQueue<>(1));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("offerAll(Collection), drain(Consumer, int) and copy() function test")
+    void batchTest() {
+        final ArrayList<Integer> batch = new ArrayList<>();
+        for (int i = CAPACITY; i < 2 * CAPACITY; i++) {
+            batch.add(i);
+        }
+        assertEquals(CAPACITY / 2, queue.offerAll(batch), "Offered elements count is invalid, on a full queue");
+        assertEquals(CAPACITY, queue.size(), "MpmcArrayQueue size is invalid, after offerAll");
+        assertEquals(CAPACITY, queue.toArray().length, "Invalid array size");
+
+        final MpmcArrayQueue<Integer> copy = queue.copy();
+        final ArrayList<Integer> drained = new ArrayList<>();
+        assertEquals(10, queue.drain(drained::add, 10), "Drained elements count is invalid");
+        assertArrayEquals(new Integer[]{8, 9, 10, 11, 12, 13, 14, 15, 16, 17}, drained.toArray(new Integer[0]),
+                "Drained elements are invalid");
+        assertEquals(18, queue.peek(), "Head element is invalid, after drain");
+
+        queue.clear();
+        assertTrue(queue.isEmpty(), "MpmcArrayQueue is not empty after clear()");
+        assertEquals(CAPACITY, copy.size(), "Copy modification affected the original queue");
+        assertFalse(queue.iterator().hasNext(), "Iterator of an empty queue has next");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("Concurrent producers and consumers function test")
+    void concurrentTest() throws InterruptedException {
+        final int perProducer = 50_000;
+        final int total = THREAD_COUNT * perProducer;
+        final AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        final AtomicLong received = new AtomicLong();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread[] threads = new Thread[2 * THREAD_COUNT];
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            final int offset = t * perProducer;
+            threads[t] = new Thread(() -> {
+                try {
+                    final ArrayList<Integer> batch = new ArrayList<>();
+                    for (int i = 0; i < perProducer && failure.get() == null; ) {
+                        final int offered;
+                        if ((i & 1) == 0) {
+                            offered = queue.offer(offset + i) ? 1 : 0;
+                        } else {
+                            batch.clear();
+                            for (int j = i; j < Math.min(i + 7, perProducer); j++) {
+                                batch.add(offset + j);
+                            }
+                            offered = queue.offerAll(batch);
+                        }
+                        if (offered == 0) {
+                            Thread.yield();
+                        }
+                        i += offered;
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[THREAD_COUNT + t] = new Thread(() -> {
+                try {
+                    while (received.get() < total && failure.get() == null) {
+                        final Integer element = queue.poll();
+                        if (element != null) {
+                            assertEquals(0, seen.getAndIncrement(element), "Element received twice");
+                            received.incrementAndGet();
+                        }
+                        final int drained = queue.drain(e -> assertEquals(0, seen.getAndIncrement(e),
+                                "Element received twice"), 5);
+                        if (element == null && drained == 0) {
+                            Thread.yield();
+                        }
+                        received.addAndGet(drained);
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get(), "Concurrent access failed");
+        assertEquals(total, received.get(), "Elements are lost");
+        assertTrue(queue.isEmpty(), "MpmcArrayQueue is not empty after draining all");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("spliterator() and stream() while offering and polling function test")
+    void streamTest() {
+        final MpmcArrayQueue<Integer> numbers = new MpmcArrayQueue<>(CAPACITY);
+        for (int i = 0; i < 10; i++) {
+            numbers.offer(i);
+        }
+
+        final Spliterator<Integer> spliterator = numbers.spliterator();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED), "Spliterator is SIZED");
+        assertTrue(spliterator.hasCharacteristics(Spliterator.CONCURRENT | Spliterator.ORDERED | Spliterator.NONNULL),
+                "Spliterator characteristics are invalid");
+
+        final Stream<Integer> stream = numbers.stream();
+        numbers.offer(99);
+        numbers.poll();
+        assertArrayEquals(new Object[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 99}, stream.toArray(),
+                "Stream is not bound on the terminal operation");
+        assertEquals(10, numbers.spliterator().estimateSize(), "Spliterator size estimate is invalid");
+    }
+}
@@ -0,0 +1,186 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("MpscLinkedQueue functionality unit tests")
+public class MpscLinkedQueueTest {
+
+    /**
+     * Elements count to insert to new {@link MpscLinkedQueue}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10;
+    /**
+     * Number of producer threads.
+     */
+    private static final int PRODUCER_COUNT = 4;
+    /**
+     * New {@link MpscLinkedQueue} instance to use across this test class.
+     */
+    private static MpscLinkedQueue<Integer> queue;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        queue = new MpscLinkedQueue<>();
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(queue, "MpscLinkedQueue instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("offer(E), peek() and poll() function test")
+    void offerTest() {
+        assertTrue(queue.isEmpty(), "MpscLinkedQueue is not empty before offer(E) invoke first time");
+        assertNull(queue.poll(), "Empty queue returned an element");
+
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertTrue(queue.offer(i), "Invalid return value (false)");
+        }
+        assertEquals(INIT_ELEMENT_COUNT, queue.size(), "MpscLinkedQueue size is invalid");
+        assertTrue(queue.contains(5), "Offered element is not found");
+        assertEquals(0, queue.peek(), "Head element is invalid");
+
+        for (int i = 0; i < INIT_ELEMENT_COUNT / 2; i++) {
+            assertEquals(i, queue.poll(), "Polled element is invalid");
+        }
+        assertEquals(INIT_ELEMENT_COUNT / 2, queue.size(), "MpscLinkedQueue size is invalid, after poll()");
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("offerAll(Collection), drain(Consumer, int) and copy() function test")
+    void batchTest() {
+        final ArrayList<Integer> batch = new ArrayList<>();
+        for (int i = INIT_ELEMENT_COUNT; i < 2 * INIT_ELEMENT_COUNT; i++) {
+            batch.add(i);
+        }
+        assertEquals(INIT_ELEMENT_COUNT, queue.offerAll(batch), "Offered elements count is invalid");
+        assertArrayEquals(new Integer[]{5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19},
+                queue.toArray(new Integer[0]), "Elements are not matching, after offerAll");
+
+        final MpscLinkedQueue<Integer> copy = queue.copy();
+        final ArrayList<Integer> drained = new ArrayList<>();
+        assertEquals(5, queue.drain(drained::add, 5), "Drained elements count is invalid");
+        assertEquals(5, drained.get(0), "Drained element is invalid");
+        assertEquals(9, drained.get(4), "Drained element is invalid");
+        assertEquals(10, queue.peek(), "Head element is invalid, after drain");
+
+        queue.clear();
+        assertTrue(queue.isEmpty(), "MpscLinkedQueue is not empty after clear()");
+        assertEquals(15, copy.size(), "Copy modification affected the original queue");
+        assertFalse(queue.iterator().hasNext(), "Iterator of an empty queue has next");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("Concurrent producers and single consumer function test")
+    void concurrentTest() throws InterruptedException {
+        final int perProducer = 100_000;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread[] producers = new Thread[PRODUCER_COUNT];
+        for (int t = 0; t < producers.length; t++) {
+            final int producer = t;
+            producers[t] = new Thread(() -> {
+                try {
+                    final ArrayList<Integer> batch = new ArrayList<>();
+                    for (int i = 0; i < perProducer; i++) {
+                        final int element = i * PRODUCER_COUNT + producer;
+                        if ((i & 0xF) == 0) {
+                            queue.offer(element);
+                        } else {
+                            batch.add(element);
+                            if (batch.size() == 15) {
+                                queue.offerAll(batch);
+                                batch.clear();
+                            }
+                        }
+                    }
+                    queue.offerAll(batch);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            producers[t].start();
+        }
+
+        final int[] last = new int[PRODUCER_COUNT];
+        Arrays.fill(last, -1);
+        int received = 0;
+        while (received < PRODUCER_COUNT * perProducer && failure.get() == null) {
+            received += queue.drain(element -> {
+                final int producer = element % PRODUCER_COUNT;
+                assertTrue(element / PRODUCER_COUNT > last[producer], "Elements of a producer are out of order");
+                last[producer] = element / PRODUCER_COUNT;
+            }, 64);
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertNull(failure.get(), "Concurrent access failed");
+        assertEquals(PRODUCER_COUNT * perProducer, received, "Elements are lost");
+        for (int value : last) {
+            assertEquals(perProducer - 1, value, "Last element of a producer is invalid");
+        }
+        assertTrue(queue.isEmpty(), "MpscLinkedQueue is not empty after draining all");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("spliterator() and stream() while offering function test")
+    void streamTest() {
+        final MpscLinkedQueue<Integer> numbers = new MpscLinkedQueue<>();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            numbers.offer(i);
+        }
+
+        final Spliterator<Integer> spliterator = numbers.spliterator();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED), "Spliterator is SIZED");
+        assertTrue(spliterator.hasCharacteristics(Spliterator.CONCURRENT | Spliterator.ORDERED | Spliterator.NONNULL),
+                "Spliterator characteristics are invalid");
+
+        final Stream<Integer> stream = numbers.stream();
+        numbers.offer(99);
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 99}, stream.toArray(),
+                "Stream is not bound on the terminal operation");
+
+        final Stream<Integer> drained = numbers.stream();
+        numbers.poll();
+        numbers.offer(100);
+        assertEquals(11, drained.count(), "Stream count is invalid, after poll() and offer(E)");
+    }
+}
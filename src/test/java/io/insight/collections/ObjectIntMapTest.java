@@ -0,0 +1,45 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@DisplayName("ObjectIntMap functionality unit tests")
+public class ObjectIntMapTest {
+
+    @Test
+    @DisplayName("addTo(K, int), getInt(K) and removeInt(K) function test")
+    void countersTest() {
+        final ObjectIntMap<String> counters = new ObjectIntMap<>(0, 0.5f, Integer.MIN_VALUE);
+
+        for (int i = 0; i < 1_000; i++) {
+            counters.addTo("key-" + (i % 100), 1);
+        }
+        assertEquals(100, counters.size(), "ObjectIntMap size is invalid");
+        assertEquals(10, counters.getInt("key-42"), "Counter value is invalid");
+        assertEquals(Integer.MIN_VALUE, counters.getInt("missing"), "Missing key does not return the no entry value");
+        assertNull(counters.get("missing"), "Missing key does not return null");
+
+        assertEquals(10, counters.put("key-42", 0));
+        assertEquals(0, counters.putIfAbsent("key-42", 5));
+        assertEquals(0, counters.removeInt("key-42"));
+        assertEquals(Integer.MIN_VALUE, counters.removeInt("key-42"));
+
+        final ObjectIntMap.ObjectIntCursor<String> cursor = counters.cursor();
+        int total = 0;
+        while (cursor.advance()) {
+            total += cursor.setIntValue(cursor.intValue() * 2);
+        }
+        assertEquals(990, total, "Sum of the counters is invalid");
+        assertEquals(20, counters.getInt("key-1"), "Value set through the cursor is invalid");
+
+        assertThrows(NullPointerException.class, () -> counters.addTo(null, 1));
+    }
+}
@@ -0,0 +1,175 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("OffHeapList functionality unit tests")
+public class OffHeapListTest {
+
+    /**
+     * Elements count to insert to new {@link OffHeapList}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 100;
+    /**
+     * Small segment size, so the elements span several segments.
+     */
+    private static final int SEGMENT_BYTES = 64;
+    /**
+     * New {@link OffHeapList} instance to use across this test class.
+     */
+    private static OffHeapList<Integer> list;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        list = new OffHeapList<>(ElementCodec.INT, 0, SEGMENT_BYTES);
+    }
+
+    /**
+     * Release the native memory after all the tests.
+     */
+    @AfterAll
+    public static void destroy() {
+        list.close();
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(list, "OffHeapList instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("add(T) function test")
+    void addTest() {
+        assertTrue(list.isEmpty(), "OffHeapList is not empty before add(T) invoke first time");
+
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertTrue(list.add(i), "Invalid return value (false)");
+        }
+
+        assertEquals(INIT_ELEMENT_COUNT, list.size(), "OffHeapList size is invalid");
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i), "Elements are not matching");
+        }
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("add(int, T) and remove(int) across segments function test")
+    void insertTest() {
+        assertTrue(list.add(5, -456));
+        assertEquals(INIT_ELEMENT_COUNT + 1, list.size(), "OffHeapList size() is invalid");
+        assertEquals(-456, list.get(5), "Inserted element is invalid");
+        assertEquals(INIT_ELEMENT_COUNT - 1, list.get(INIT_ELEMENT_COUNT), "Shifted last element is invalid");
+
+        assertEquals(-456, list.remove(5));
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i), "Elements are not matching, after remove(int)");
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, 100));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(list.size()));
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("addAll(int, Collection) and removeAll(Collection) function test")
+    void bulkTest() {
+        final IntArrayList batch = new IntArrayList();
+        for (int i = 0; i < 40; i++) {
+            batch.addInt(1_000 + i);
+        }
+
+        assertTrue(list.addAll(10, batch), "addAll with not empty Collection, hasn't made any effect");
+        assertEquals(INIT_ELEMENT_COUNT + 40, list.size(), "OffHeapList size is invalid, after addAll");
+        assertEquals(9, list.get(9));
+        assertEquals(1_000, list.get(10));
+        assertEquals(1_039, list.get(49));
+        assertEquals(10, list.get(50));
+
+        assertTrue(list.removeAll(batch));
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i), "Elements are not matching, after removeAll(Collection)");
+        }
+        assertEquals(1, list.remove(Integer.valueOf(3)), "Removed elements count is invalid");
+        assertTrue(list.add(3, 3));
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("copy(), iterator() and toArray(T[]) function test")
+    void copyTest() {
+        try (OffHeapList<Integer> copy = list.copy()) {
+            assertEquals(list.size(), copy.size(), "Copied list size is invalid");
+
+            int idx = 0;
+            for (int i : copy) {
+                assertEquals(idx++, i, "Iterated value is invalid");
+            }
+
+            copy.set(0, 42);
+            assertEquals(0, list.get(0), "Copy modification affected the original list");
+            assertEquals(42, copy.toArray(new Integer[0])[0], "Array element is invalid");
+        }
+    }
+
+    @Order(5)
+    @Test
+    @DisplayName("custom ElementCodec and close() function test")
+    void closeTest() {
+        final ElementCodec<int[]> pointCodec = new ElementCodec<>() {
+            @Override
+            public int byteSize() {
+                return 2 * Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, int[] element) {
+                buffer.putInt(offset, element[0]).putInt(offset + Integer.BYTES, element[1]);
+            }
+
+            @Override
+            public int[] read(ByteBuffer buffer, int offset) {
+                return new int[]{buffer.getInt(offset), buffer.getInt(offset + Integer.BYTES)};
+            }
+        };
+
+        final OffHeapList<int[]> points = new OffHeapList<>(pointCodec);
+        for (int i = 0; i < 1_000; i++) {
+            points.add(new int[]{i, -i});
+        }
+        assertEquals(-999, points.get(999)[1], "Decoded record is invalid");
+
+        points.close();
+        assertTrue(points.isClosed(), "OffHeapList is not closed after close()");
+        assertThrows(IllegalStateException.class, () -> points.get(0));
+        points.close();
+        assertFalse(list.isClosed(), "Another list is closed");
+    }
+}
@@ -0,0 +1,185 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("PersistentHashMap functionality unit tests")
+public class PersistentHashMapTest {
+
+    /**
+     * Elements count to insert to new {@link PersistentHashMap}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10_000;
+    /**
+     * New {@link PersistentHashMap} instance to use across this test class.
+     */
+    private static PersistentHashMap<Integer, String> map;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        map = PersistentHashMap.empty();
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(map, "PersistentHashMap instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("updated(K, V), removed(K), get(K) and copy() function test")
+    void updatedTest() {
+        assertTrue(map.isEmpty(), "PersistentHashMap is not empty before updated(K, V) invoke first time");
+
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            map = map.updated(i, String.valueOf(i));
+        }
+        assertEquals(INIT_ELEMENT_COUNT, map.size(), "PersistentHashMap size is invalid");
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(String.valueOf(i), map.get(i), "Mapped value is invalid");
+        }
+
+        final PersistentHashMap<Integer, String> snapshot = map.copy();
+        assertSame(map, snapshot, "copy() of a persistent map is not the same instance");
+
+        final PersistentHashMap<Integer, String> updated = map.updated(5, "five").removed(6).updated(-1, null);
+        assertEquals("five", updated.get(5), "Updated value is invalid");
+        assertFalse(updated.containsKey(6), "Removed key is still found");
+        assertTrue(updated.containsKey(-1), "Key mapped to null is not found");
+        assertEquals("none", updated.getOrDefault(6, "none"), "Default value is invalid");
+        assertEquals(INIT_ELEMENT_COUNT, updated.size(), "Updated map size is invalid");
+        assertEquals("5", map.get(5), "Update modified the original map");
+        assertEquals("6", map.get(6), "Remove modified the original map");
+        assertSame(map, map.removed(-2), "Removing an absent key created a new version");
+
+        assertThrows(NullPointerException.class, () -> map.updated(null, "null"));
+        assertThrows(UnsupportedOperationException.class, () -> map.put(1, "1"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(1));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("toBuilder(), Builder.put(K, V), Builder.merge(K, V, BiFunction) and Builder.build() function test")
+    void builderTest() {
+        final PersistentHashMap.Builder<Integer, String> builder = map.toBuilder();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i += 2) {
+            assertEquals(String.valueOf(i), builder.remove(i), "Removed value is invalid");
+        }
+        assertEquals("1!", builder.merge(1, "!", (a, b) -> a + b), "Merged value is invalid");
+        assertEquals("x", builder.computeIfAbsent(-1, k -> "x"), "Computed absent value is invalid");
+        assertNull(builder.putIfAbsent(-2, "y"), "putIfAbsent of an absent key returned a value");
+        assertEquals(INIT_ELEMENT_COUNT / 2 + 2, builder.size(), "Builder size is invalid");
+        assertEquals(INIT_ELEMENT_COUNT, map.size(), "Builder modified the original map");
+        assertEquals("0", map.get(0), "Builder modified the original map");
+
+        final PersistentHashMap<Integer, String> built = builder.build();
+        assertEquals("3", builder.put(3, "three"), "Previous value from the builder is invalid");
+        assertEquals("3", built.get(3), "Builder modified a built map");
+        assertEquals("three", builder.get(3), "Builder value is invalid after build()");
+        assertEquals(INIT_ELEMENT_COUNT / 2 + 2, built.size(), "Built map size is invalid");
+
+        final PersistentHashMap.Builder<Integer, String> copy = builder.copy();
+        copy.put(3, "drei");
+        assertEquals("three", builder.get(3), "Builder copy modified the original builder");
+        builder.clear();
+        assertTrue(builder.isEmpty(), "Builder is not empty after clear()");
+        assertEquals("drei", copy.get(3), "Builder clear() modified the copy");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("Colliding keys updated(K, V) and removed(K) function test")
+    void collisionTest() {
+        PersistentHashMap<CollidingKey, Integer> colliding = PersistentHashMap.empty();
+        for (int i = 0; i < 100; i++) {
+            colliding = colliding.updated(new CollidingKey(i), i);
+        }
+        assertEquals(100, colliding.size(), "Colliding keys map size is invalid");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, colliding.get(new CollidingKey(i)), "Colliding key value is invalid");
+        }
+
+        for (int i = 0; i < 99; i++) {
+            colliding = colliding.removed(new CollidingKey(i));
+        }
+        assertEquals(1, colliding.size(), "Colliding keys map size is invalid, after remove");
+        assertEquals(99, colliding.get(new CollidingKey(99)), "Remaining colliding key value is invalid");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("iterator(), cursor() and toArray() function test")
+    void traverseTest() {
+        long sum = 0;
+        int count = 0;
+        for (int key : map) {
+            sum += key;
+            count++;
+        }
+        assertEquals(map.size(), count, "Iterated keys count is invalid");
+        assertEquals((long) INIT_ELEMENT_COUNT * (INIT_ELEMENT_COUNT - 1) / 2, sum, "Iterated keys are invalid");
+        assertEquals(map.size(), map.toArray().length, "Invalid array size");
+        assertEquals(map.size(), map.toArray(new Integer[0]).length, "Invalid typed array size");
+
+        final Map.Cursor<Integer, String> cursor = map.cursor();
+        assertThrows(IllegalStateException.class, cursor::key);
+        count = 0;
+        while (cursor.advance()) {
+            assertEquals(String.valueOf(cursor.key()), cursor.value(), "Cursor value is invalid");
+            count++;
+        }
+        assertEquals(map.size(), count, "Cursor entries count is invalid");
+        assertThrows(UnsupportedOperationException.class, () -> {
+            cursor.reset();
+            cursor.advance();
+            cursor.setValue("value");
+        });
+    }
+
+    /**
+     * Key with a constant hash code, to fill collision nodes.
+     */
+    private static final class CollidingKey {
+
+        private final int value;
+
+        CollidingKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollidingKey key && key.value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
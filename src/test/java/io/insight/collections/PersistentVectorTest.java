@@ -0,0 +1,169 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("PersistentVector functionality unit tests")
+public class PersistentVectorTest {
+
+    /**
+     * Elements count to insert to new {@link PersistentVector}, enough for a three level tree.
+     */
+    private static final int INIT_ELEMENT_COUNT = 40_000;
+    /**
+     * New {@link PersistentVector} instance to use across this test class.
+     */
+    private static PersistentVector<Integer> vector;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        vector = PersistentVector.empty();
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(vector, "PersistentVector instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("appended(T), updated(int, T), get(int) and copy() function test")
+    void appendedTest() {
+        assertTrue(vector.isEmpty(), "PersistentVector is not empty before appended(T) invoke first time");
+
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            vector = vector.appended(i);
+        }
+        assertEquals(INIT_ELEMENT_COUNT, vector.size(), "PersistentVector size is invalid");
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertEquals(i, vector.get(i), "Elements are not matching");
+        }
+
+        final PersistentVector<Integer> updated = vector.updated(1234, -1).updated(INIT_ELEMENT_COUNT - 1, -2);
+        assertEquals(-1, updated.get(1234), "Updated element is invalid");
+        assertEquals(-2, updated.get(INIT_ELEMENT_COUNT - 1), "Updated tail element is invalid");
+        assertEquals(1234, vector.get(1234), "Update modified the original vector");
+        assertEquals(INIT_ELEMENT_COUNT - 1, vector.get(INIT_ELEMENT_COUNT - 1), "Update modified the original tail");
+
+        assertSame(vector, vector.copy(), "copy() of a persistent vector is not the same instance");
+        assertEquals(3, PersistentVector.of(1, 2, 3).toArray().length, "Invalid array size");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(INIT_ELEMENT_COUNT));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.updated(-1, 0));
+        assertThrows(UnsupportedOperationException.class, () -> vector.add(0));
+        assertThrows(UnsupportedOperationException.class, () -> vector.set(0, 0));
+        assertThrows(UnsupportedOperationException.class, vector::clear);
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("concat(PersistentVector), slice(int, int), inserted(int, T) and removed(int) function test")
+    void concatTest() {
+        final PersistentVector<Integer> head = vector.slice(0, 1000);
+        final PersistentVector<Integer> middle = vector.slice(1000, 1017);
+        final PersistentVector<Integer> rest = vector.slice(1017, INIT_ELEMENT_COUNT);
+        assertEquals(1000, head.size(), "Slice size is invalid");
+        assertEquals(1000, middle.get(0), "Slice element is invalid");
+        assertEquals(INIT_ELEMENT_COUNT - 1, rest.get(rest.size() - 1), "Slice element is invalid");
+
+        final PersistentVector<Integer> joined = head.concat(middle).concat(rest);
+        assertArrayEquals(vector.toArray(), joined.toArray(), "Concatenated slices are not matching");
+
+        PersistentVector<Integer> small = PersistentVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            small = small.concat(PersistentVector.of(3 * i, 3 * i + 1, 3 * i + 2));
+        }
+        for (int i = 0; i < small.size(); i++) {
+            assertEquals(i, small.get(i), "Concatenated elements are not matching");
+        }
+
+        final PersistentVector<Integer> inserted = vector.inserted(5000, -1);
+        assertEquals(INIT_ELEMENT_COUNT + 1, inserted.size(), "Inserted vector size is invalid");
+        assertEquals(-1, inserted.get(5000), "Inserted element is invalid");
+        assertEquals(5000, inserted.get(5001), "Element after the inserted one is invalid");
+        assertArrayEquals(vector.toArray(), inserted.removed(5000).toArray(), "Removed vector is not matching");
+        assertEquals(INIT_ELEMENT_COUNT, vector.size(), "Insert modified the original vector");
+
+        assertSame(vector, vector.slice(0, INIT_ELEMENT_COUNT), "Slice of all the elements is not the same instance");
+        assertTrue(vector.slice(7, 7).isEmpty(), "Empty slice is not empty");
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.slice(10, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.inserted(INIT_ELEMENT_COUNT + 1, 0));
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("Random concat(PersistentVector) and slice(int, int) against java.util.ArrayList function test")
+    void randomTest() {
+        final Random random = new Random(42);
+        PersistentVector<Integer> current = PersistentVector.empty();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for (int round = 0; round < 500; round++) {
+            final int from = random.nextInt(expected.size() + 1);
+            final int to = from + random.nextInt(expected.size() - from + 1);
+            if (random.nextBoolean()) {
+                current = current.slice(from, to);
+                expected = new java.util.ArrayList<>(expected.subList(from, to));
+            }
+
+            final int count = random.nextInt(300);
+            PersistentVector<Integer> other = PersistentVector.empty();
+            for (int i = 0; i < count; i++) {
+                other = other.appended(round * 1000 + i);
+                expected.add(round * 1000 + i);
+            }
+            current = current.concat(other);
+        }
+
+        assertEquals(expected.size(), current.size(), "PersistentVector size is invalid");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), current.get(i), "Elements are not matching");
+        }
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("iterator(), indexOf(T), contains(T) and stream() function test")
+    void iteratorTest() {
+        final Iterator<Integer> iterator = vector.iterator();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertTrue(iterator.hasNext(), "Iterator has no next element");
+            assertEquals(i, iterator.next(), "Iterated element is invalid");
+        }
+        assertFalse(iterator.hasNext(), "Iterator has more elements");
+
+        assertEquals(39_999, vector.indexOf(39_999), "indexOf returns an invalid index");
+        assertEquals(-1, vector.indexOf(-1), "indexOf returns an invalid index");
+        assertTrue(vector.contains(20_000), "Element is not found");
+        assertEquals((long) INIT_ELEMENT_COUNT * (INIT_ELEMENT_COUNT - 1) / 2,
+                vector.stream().mapToLong(Integer::longValue).sum(), "Stream sum is invalid");
+        assertEquals(INIT_ELEMENT_COUNT, vector.toArray(new Integer[0]).length, "Invalid typed array size");
+    }
+}
@@ -0,0 +1,192 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("UnrolledLinkedList functionality unit tests")
+public class UnrolledLinkedListTest {
+
+    /**
+     * Elements count to insert to new {@link UnrolledLinkedList}.
+     */
+    private static final int INIT_ELEMENT_COUNT = 100;
+    /**
+     * Small node capacity, so the elements span many nodes.
+     */
+    private static final int NODE_CAPACITY = 4;
+    /**
+     * New {@link UnrolledLinkedList} instance to use across this test class.
+     */
+    private static UnrolledLinkedList<Integer> list;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        list = new UnrolledLinkedList<>(NODE_CAPACITY);
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(list, "UnrolledLinkedList instance is null");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("add(T) and get(int) function test")
+    void addTest() {
+        assertTrue(list.isEmpty(), "UnrolledLinkedList is not empty before add(T) invoke first time");
+
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            assertTrue(list.add(i), "Invalid return value (false)");
+        }
+
+        assertEquals(INIT_ELEMENT_COUNT, list.size(), "UnrolledLinkedList size is invalid");
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i), "Elements are not matching");
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(list.size()));
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("add(int, T), remove(int) and set(int, T) against java.util.ArrayList function test")
+    void randomTest() {
+        final java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            expected.add(i);
+        }
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            final int op = random.nextInt(3);
+            if (op == 0 || expected.isEmpty()) {
+                final int index = random.nextInt(expected.size() + 1);
+                expected.add(index, -i);
+                list.add(index, -i);
+            } else if (op == 1) {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index), "Removed element is invalid");
+            } else {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, i), list.set(index, i), "Replaced element is invalid");
+            }
+        }
+
+        assertEquals(expected.size(), list.size(), "UnrolledLinkedList size is invalid");
+        assertArrayEquals(expected.toArray(), list.toArray(), "Elements are not matching");
+
+        int idx = 0;
+        for (int value : list) {
+            assertEquals(expected.get(idx++), value, "Iterated value is invalid");
+        }
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("remove(T), removeAll(Collection) and copy() function test")
+    void removeTest() {
+        list.clear();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            list.add(i % 10);
+        }
+
+        assertEquals(10, list.remove(Integer.valueOf(3)), "Removed elements count is invalid");
+        assertFalse(list.contains(3), "Removed element is still found");
+
+        final UnrolledLinkedList<Integer> batch = new UnrolledLinkedList<>();
+        batch.add(0);
+        batch.add(9);
+        assertTrue(list.removeAll(batch), "removeAll hasn't made any effect");
+        assertEquals(70, list.size(), "UnrolledLinkedList size is invalid, after removeAll");
+        assertEquals(1, list.get(0), "First element is invalid, after removeAll");
+        assertEquals(8, list.get(69), "Last element is invalid, after removeAll");
+
+        final UnrolledLinkedList<Integer> copy = list.copy();
+        assertArrayEquals(list.toArray(new Integer[0]), copy.toArray(new Integer[0]), "Copy is not matching");
+        assertTrue(copy.add(0, 100));
+        assertEquals(1, list.get(0), "Copy modification affected the original list");
+        assertEquals(2, list.indexOf(4), "indexOf returns an invalid index");
+
+        assertTrue(list.addAll(1, batch), "addAll hasn't made any effect");
+        assertEquals(0, list.get(1), "Inserted element is invalid, after addAll");
+        assertEquals(9, list.get(2), "Inserted element is invalid, after addAll");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("remove(T) and removeAll(Collection) over partly filled nodes against java.util.ArrayList function test")
+    void removeMatchingTest() {
+        final Random random = new Random(7);
+        for (int capacity : new int[]{NODE_CAPACITY, 32}) {
+            final UnrolledLinkedList<Integer> numbers = new UnrolledLinkedList<>(capacity);
+            final java.util.List<Integer> expected = new java.util.ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                final int op = random.nextInt(4);
+                if (op < 2 || expected.isEmpty()) {
+                    final int index = random.nextInt(expected.size() + 1);
+                    final int value = random.nextInt(50);
+                    expected.add(index, value);
+                    numbers.add(index, value);
+                } else if (op == 2) {
+                    final int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), numbers.remove(index), "Removed element is invalid");
+                } else {
+                    final Integer value = random.nextInt(60);
+                    final boolean absent = !expected.contains(value);
+                    expected.removeIf(value::equals);
+                    assertEquals(absent ? 0 : 1, Math.min(1, numbers.remove(value)), "Removed elements count is invalid");
+                }
+                assertEquals(expected.size(), numbers.size(), "UnrolledLinkedList size is invalid");
+            }
+            assertArrayEquals(expected.toArray(), numbers.toArray(), "Elements are not matching, after remove(T)");
+
+            final UnrolledLinkedList<Integer> absent = new UnrolledLinkedList<>();
+            absent.add(-1);
+            assertFalse(numbers.removeAll(absent), "removeAll without a match returns true");
+            assertArrayEquals(expected.toArray(), numbers.toArray(), "Elements are modified by removeAll without a match");
+
+            final UnrolledLinkedList<Integer> odds = new UnrolledLinkedList<>();
+            for (int i = 1; i < 60; i += 2) {
+                odds.add(i);
+            }
+            expected.removeIf(i -> i % 2 == 1);
+            assertTrue(numbers.removeAll(odds), "removeAll hasn't made any effect");
+            assertArrayEquals(expected.toArray(), numbers.toArray(), "Elements are not matching, after removeAll");
+            int idx = 0;
+            for (int value : numbers) {
+                assertEquals(expected.get(idx), value, "Iterated value is invalid");
+                assertEquals(expected.get(idx), numbers.get(idx), "Element is invalid");
+                idx++;
+            }
+            assertEquals(expected.size(), idx, "Iterated elements count is invalid");
+            numbers.add(-1);
+            assertEquals(-1, numbers.get(expected.size()), "Appended element is invalid, after removeAll");
+        }
+    }
+}
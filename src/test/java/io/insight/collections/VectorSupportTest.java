@@ -0,0 +1,240 @@
+package io.insight.collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests of the searches and aggregations of the primitive lists, on the path the runtime
+ * takes, and of the vector kernels against the scalar loops if the Vector API is available.
+ *
+ * @author Sachith Dickwella
+ * @since 1.0.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("Vector support functionality unit tests")
+public class VectorSupportTest {
+
+    /**
+     * Elements count to insert to new {@link IntArrayList}, not a multiple of any vector length.
+     */
+    private static final int INIT_ELEMENT_COUNT = 10_007;
+    /**
+     * New {@link IntArrayList} instance to use across this test class.
+     */
+    private static IntArrayList list;
+
+    /**
+     * Init method invoke before unit test begins. Annotated with {@link BeforeAll}
+     * annotation achieve the requirement.
+     */
+    @BeforeAll
+    public static void init() {
+        list = new IntArrayList();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            list.addInt(i % 100 - 50);
+        }
+    }
+
+    /**
+     * Common assertion for almost all test cases.
+     */
+    @BeforeEach
+    private void commonAssert() {
+        assertNotNull(list, "IntArrayList instance is null");
+        assertEquals(INIT_ELEMENT_COUNT, list.size(), "IntArrayList size is invalid");
+    }
+
+    @Order(1)
+    @Test
+    @DisplayName("IntArrayList indexOfInt(int), countInt(int), minInt(), maxInt() and sumInt() function test")
+    void intTest() {
+        assertEquals(0, list.indexOfInt(-50), "First element index is invalid");
+        assertEquals(57, list.indexOfInt(7), "Element index is invalid");
+        assertEquals(-1, list.indexOfInt(50), "Absent element is found");
+        assertTrue(list.containsInt(49), "Element is not found");
+        assertEquals(101, list.countInt(-50), "Element count is invalid");
+        assertEquals(100, list.countInt(-43), "Element count is invalid, for an element out of the tail");
+        assertEquals(-50, list.minInt(), "Smallest element is invalid");
+        assertEquals(49, list.maxInt(), "Largest element is invalid");
+        assertEquals(100 * -50 + (-50 - 49 - 48 - 47 - 46 - 45 - 44), list.sumInt(), "Sum is invalid");
+
+        final IntArrayList empty = new IntArrayList();
+        assertEquals(0, empty.sumInt(), "Sum of an empty list is invalid");
+        assertEquals(0, empty.countInt(0), "Element count of an empty list is invalid");
+        assertThrows(NoSuchElementException.class, empty::minInt);
+        assertThrows(NoSuchElementException.class, empty::maxInt);
+    }
+
+    @Order(2)
+    @Test
+    @DisplayName("LongArrayList indexOfLong(long), countLong(long), minLong(), maxLong() and sumLong() function test")
+    void longTest() {
+        final LongArrayList longs = new LongArrayList();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            longs.addLong(list.getInt(i) * (1L << 40));
+        }
+        longs.addLong(Long.MAX_VALUE);
+        longs.addLong(Long.MAX_VALUE);
+
+        assertEquals(INIT_ELEMENT_COUNT, longs.indexOfLong(Long.MAX_VALUE), "Element index is invalid");
+        assertEquals(2, longs.countLong(Long.MAX_VALUE), "Element count is invalid");
+        assertEquals(-50L << 40, longs.minLong(), "Smallest element is invalid");
+        assertEquals(Long.MAX_VALUE, longs.maxLong(), "Largest element is invalid");
+        assertEquals(list.sumInt() * (1L << 40) - 2, longs.sumLong(), "Overflowed sum is not wrapped around");
+    }
+
+    @Order(3)
+    @Test
+    @DisplayName("DoubleArrayList indexOfDouble(double), countDouble(double), minDouble(), maxDouble() and sumDouble() function test")
+    void doubleTest() {
+        final DoubleArrayList doubles = new DoubleArrayList();
+        for (int i = 0; i < INIT_ELEMENT_COUNT; i++) {
+            doubles.addDouble(list.getInt(i) / 4.0);
+        }
+        assertEquals(-12.5, doubles.minDouble(), "Smallest element is invalid");
+        assertEquals(12.25, doubles.maxDouble(), "Largest element is invalid");
+        assertEquals(list.sumInt() / 4.0, doubles.sumDouble(), "Sum is invalid");
+
+        doubles.setDouble(5_000, -0.0);
+        doubles.setDouble(9_000, Double.NaN);
+        assertEquals(5_000, doubles.indexOfDouble(-0.0), "Negative zero index is invalid");
+        assertEquals(50, doubles.indexOfDouble(0.0), "Positive zero matches the negative zero");
+        assertEquals(100, doubles.countDouble(0.0), "Positive zero count is invalid");
+        assertEquals(9_000, doubles.indexOfDouble(Double.NaN), "NaN index is invalid");
+        assertEquals(1, doubles.countDouble(Double.NaN), "NaN count is invalid");
+        assertTrue(Double.isNaN(doubles.minDouble()), "Smallest element is not NaN");
+        assertTrue(Double.isNaN(doubles.maxDouble()), "Largest element is not NaN");
+    }
+
+    @Order(4)
+    @Test
+    @DisplayName("PrimitiveVectors kernels against the scalar loops function test")
+    void kernelTest() {
+        assumeTrue(VectorSupport.ENABLED, "Vector API is not available, run with --add-modules " + VectorSupport.MODULE);
+
+        final Random random = new Random(42);
+        for (int size = 0; size <= 130; size++) {
+            final int[] ints = new int[size + 7];
+            final long[] longs = new long[size + 7];
+            final double[] doubles = new double[size + 7];
+            for (int i = 0; i < ints.length; i++) {
+                ints[i] = random.nextInt(16);
+                longs[i] = random.nextLong() % 16;
+                doubles[i] = random.nextInt(16) - 7.5;
+            }
+            // Elements past the size must be ignored
+            ints[size] = -1;
+            longs[size] = -1;
+            doubles[size] = 100.0;
+
+            for (int key = -1; key < 16; key++) {
+                assertEquals(scalarIndexOf(ints, size, key), PrimitiveVectors.indexOf(ints, size, key), "int index is invalid");
+                assertEquals(scalarCount(ints, size, key), PrimitiveVectors.count(ints, size, key), "int count is invalid");
+                assertEquals(scalarIndexOf(longs, size, key), PrimitiveVectors.indexOf(longs, size, key), "long index is invalid");
+                assertEquals(scalarCount(longs, size, key), PrimitiveVectors.count(longs, size, key), "long count is invalid");
+                assertEquals(scalarIndexOf(doubles, size, key - 7.5), PrimitiveVectors.indexOf(doubles, size, key - 7.5), "double index is invalid");
+            }
+
+            int intSum = 0;
+            long longSum = 0;
+            double doubleSum = 0;
+            int intMin = Integer.MAX_VALUE;
+            long longMax = Long.MIN_VALUE;
+            double doubleMin = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                intSum += ints[i];
+                longSum += longs[i];
+                doubleSum += doubles[i];
+                intMin = Math.min(intMin, ints[i]);
+                longMax = Math.max(longMax, longs[i]);
+                doubleMin = Math.min(doubleMin, doubles[i]);
+            }
+            assertEquals(intSum, PrimitiveVectors.sum(ints, size), "int sum is invalid");
+            assertEquals(longSum, PrimitiveVectors.sum(longs, size), "long sum is invalid");
+            assertEquals(doubleSum, PrimitiveVectors.sum(doubles, size), "double sum of halves is inexact");
+            if (size > 0) {
+                assertEquals(intMin, PrimitiveVectors.min(ints, size), "int min is invalid");
+                assertEquals(longMax, PrimitiveVectors.max(longs, size), "long max is invalid");
+                assertEquals(doubleMin, PrimitiveVectors.min(doubles, size), "double min is invalid");
+            }
+        }
+        assertFalse(PrimitiveVectors.indexOf(new double[]{Double.NaN, 0.0}, 2, -0.0) >= 0, "Negative zero matches the positive zero");
+    }
+
+    /**
+     * Scalar reference of {@link PrimitiveVectors#indexOf(int[], int, int)}.
+     */
+    private static int scalarIndexOf(int[] values, int size, int element) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Scalar reference of {@link PrimitiveVectors#indexOf(long[], int, long)}.
+     */
+    private static int scalarIndexOf(long[] values, int size, long element) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Scalar reference of {@link PrimitiveVectors#indexOf(double[], int, double)}.
+     */
+    private static int scalarIndexOf(double[] values, int size, double element) {
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(values[i], element) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Scalar reference of {@link PrimitiveVectors#count(int[], int, int)}.
+     */
+    private static int scalarCount(int[] values, int size, int element) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] == element) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Scalar reference of {@link PrimitiveVectors#count(long[], int, long)}.
+     */
+    private static int scalarCount(long[] values, int size, long element) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] == element) {
+                count++;
+            }
+        }
+        return count;
+    }
+}